@@ -59,6 +59,18 @@ public enum ConfigKey implements Config.Key {
     DATABASE_RUN_MIGRATIONS_ONLY("database.run.migrations.only", false),
     INIT_TASKS_ENABLED("init.tasks.enabled", true),
     INIT_AND_EXIT("init.and.exit", false),
+    WORKFLOW_TOKEN_WATCHER_POLL_INTERVAL("workflow.token.watcher.poll.interval", "PT1S"),
+    VULN_SCAN_FOLLOWUP_POLL_INTERVAL("vuln.scan.followup.poll.interval", "PT5S"),
+    VULN_SCAN_FOLLOWUP_LOCK_DURATION("vuln.scan.followup.lock.duration", "PT15M"),
+    VULN_SCAN_FOLLOWUP_BATCH_SIZE("vuln.scan.followup.batch.size", 10),
+    INTEGRATIONS_FINDINGS_UPLOAD_CONCURRENCY("integrations.findings.upload.concurrency", 4),
+    POLICY_EVALUATION_CHUNK_SIZE("policy.evaluation.chunk.size", 1000),
+    PROJECT_DELETION_BATCH_SIZE("project.deletion.batch.size", 1000),
+    MAINTENANCE_ORPHAN_DELETION_BATCH_SIZE("maintenance.orphan.deletion.batch.size", 5000),
+    MAINTENANCE_ORPHAN_DELETION_TIME_BUDGET("maintenance.orphan.deletion.time.budget", "PT10M"),
+    NOTIFICATION_RULE_INDEX_ENABLED("notification.rule.index.enabled", true),
+    NOTIFICATION_RULE_INDEX_TTL("notification.rule.index.ttl", "PT30S"),
+    REPO_META_ANALYSIS_FRESHNESS_WINDOW("repo.meta.analysis.freshness.window", "PT12H"),
 
     DEV_SERVICES_ENABLED("dev.services.enabled", false),
     DEV_SERVICES_IMAGE_FRONTEND("dev.services.image.frontend", "ghcr.io/dependencytrack/hyades-frontend:snapshot"),
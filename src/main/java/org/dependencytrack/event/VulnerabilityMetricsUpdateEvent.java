@@ -26,4 +26,24 @@ import alpine.event.framework.Event;
  * @since 4.6.0
  */
 public class VulnerabilityMetricsUpdateEvent implements Event {
+
+    private final boolean incremental;
+
+    public VulnerabilityMetricsUpdateEvent() {
+        this(true);
+    }
+
+    /**
+     * @param incremental Whether to only recount months affected by vulnerabilities that were
+     *                    created, modified, or deleted since the last update, rather than all months
+     * @since 5.6.0
+     */
+    public VulnerabilityMetricsUpdateEvent(final boolean incremental) {
+        this.incremental = incremental;
+    }
+
+    public boolean isIncremental() {
+        return incremental;
+    }
+
 }
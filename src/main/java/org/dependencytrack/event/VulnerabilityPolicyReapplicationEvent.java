@@ -0,0 +1,45 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event;
+
+import alpine.event.framework.AbstractChainableEvent;
+
+import java.util.Set;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Defines an event triggered when vulnerability policies have been created or modified,
+ * and should be applied to existing findings.
+ *
+ * @since 5.6.0
+ */
+public class VulnerabilityPolicyReapplicationEvent extends AbstractChainableEvent {
+
+    private final Set<String> policyNames;
+
+    public VulnerabilityPolicyReapplicationEvent(final Set<String> policyNames) {
+        this.policyNames = Set.copyOf(requireNonNull(policyNames, "policyNames must not be null"));
+    }
+
+    public Set<String> getPolicyNames() {
+        return policyNames;
+    }
+
+}
@@ -0,0 +1,206 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event;
+
+import alpine.Config;
+import alpine.common.logging.Logger;
+import org.dependencytrack.common.ConfigKey;
+import org.dependencytrack.metrics.Metrics;
+import org.dependencytrack.model.WorkflowStatus;
+import org.dependencytrack.model.WorkflowStep;
+import org.dependencytrack.persistence.jdbi.VulnerabilityScanFollowUpDao;
+import org.dependencytrack.persistence.jdbi.VulnerabilityScanFollowUpDao.FollowUp;
+import org.dependencytrack.persistence.jdbi.WorkflowDao;
+import org.dependencytrack.policy.cel.CelPolicyEngine;
+import org.slf4j.MDC;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.dependencytrack.common.MdcKeys.MDC_COMPONENT_UUID;
+import static org.dependencytrack.common.MdcKeys.MDC_PROJECT_UUID;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.inJdbiTransaction;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiTransaction;
+
+/**
+ * Performs follow-up work for completed vulnerability scans, namely policy evaluation and metrics update.
+ * <p>
+ * Follow-ups are enqueued durably via {@link VulnerabilityScanFollowUpDao}, in the same transaction
+ * that records the completion of a scan. Every instance runs a worker that claims follow-ups
+ * from the queue, such that work is distributed across the cluster, and is not lost
+ * when an instance is restarted.
+ *
+ * @since 5.6.0
+ */
+public final class VulnerabilityScanFollowUpWorker {
+
+    private static final Logger LOGGER = Logger.getLogger(VulnerabilityScanFollowUpWorker.class);
+    private static final VulnerabilityScanFollowUpWorker INSTANCE = new VulnerabilityScanFollowUpWorker(
+            Duration.parse(Config.getInstance().getProperty(ConfigKey.VULN_SCAN_FOLLOWUP_POLL_INTERVAL)),
+            Duration.parse(Config.getInstance().getProperty(ConfigKey.VULN_SCAN_FOLLOWUP_LOCK_DURATION)),
+            Config.getInstance().getPropertyAsInt(ConfigKey.VULN_SCAN_FOLLOWUP_BATCH_SIZE));
+
+    private final Duration pollInterval;
+    private final Duration lockDuration;
+    private final int batchSize;
+    private ScheduledExecutorService executor;
+
+    VulnerabilityScanFollowUpWorker(final Duration pollInterval, final Duration lockDuration, final int batchSize) {
+        this.pollInterval = pollInterval;
+        this.lockDuration = lockDuration;
+        this.batchSize = batchSize;
+    }
+
+    public static VulnerabilityScanFollowUpWorker getInstance() {
+        return INSTANCE;
+    }
+
+    public synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "VulnerabilityScanFollowUpWorker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::pollSafely, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Request an immediate poll of the queue, e.g. because follow-ups have just been enqueued.
+     * <p>
+     * Has no effect when the worker is not running.
+     */
+    public synchronized void wakeUp() {
+        if (executor == null) {
+            return;
+        }
+
+        executor.execute(this::pollSafely);
+    }
+
+    public synchronized void shutdown() {
+        if (executor == null) {
+            return;
+        }
+
+        executor.shutdownNow();
+        executor = null;
+    }
+
+    private void pollSafely() {
+        try {
+            poll();
+        } catch (RuntimeException e) {
+            LOGGER.error("Failed to process vulnerability scan follow-ups", e);
+        }
+    }
+
+    /**
+     * Claim and process follow-ups until the queue is drained.
+     *
+     * @return Number of processed follow-ups
+     */
+    int poll() {
+        int numProcessed = 0;
+
+        List<FollowUp> followUps;
+        do {
+            followUps = inJdbiTransaction(handle -> handle.attach(VulnerabilityScanFollowUpDao.class)
+                    .claim(lockDuration, batchSize));
+
+            for (final FollowUp followUp : followUps) {
+                process(followUp);
+                numProcessed++;
+            }
+        } while (followUps.size() == batchSize && !Thread.currentThread().isInterrupted());
+
+        return numProcessed;
+    }
+
+    private void process(final FollowUp followUp) {
+        if (followUp.attempts() > 1) {
+            LOGGER.warn("Processing follow-up for %s %s (attempt %d)"
+                    .formatted(followUp.targetType(), followUp.targetIdentifier(), followUp.attempts()));
+        }
+
+        final UUID targetUuid = followUp.targetIdentifier();
+        switch (followUp.targetType()) {
+            case COMPONENT -> {
+                try (var ignoredMdcComponentUuid = MDC.putCloseable(MDC_COMPONENT_UUID, targetUuid.toString())) {
+                    executeStep(WorkflowStep.POLICY_EVALUATION, followUp.workflowTokens(),
+                            () -> new CelPolicyEngine().evaluateComponent(targetUuid));
+                    executeStep(WorkflowStep.METRICS_UPDATE, followUp.workflowTokens(),
+                            () -> Metrics.updateComponentMetrics(targetUuid));
+                }
+            }
+            case PROJECT -> {
+                try (var ignoredMdcProjectUuid = MDC.putCloseable(MDC_PROJECT_UUID, targetUuid.toString())) {
+                    executeStep(WorkflowStep.POLICY_EVALUATION, followUp.workflowTokens(),
+                            () -> new CelPolicyEngine().evaluateProject(targetUuid));
+                    executeStep(WorkflowStep.METRICS_UPDATE, followUp.workflowTokens(),
+                            () -> Metrics.updateProjectMetrics(targetUuid));
+                }
+            }
+        }
+
+        useJdbiTransaction(handle -> {
+            final var followUpDao = handle.attach(VulnerabilityScanFollowUpDao.class);
+            if (!followUpDao.complete(followUp.id(), followUp.revision())) {
+                // More scans completed for the same target while we were busy.
+                // Make the follow-up available again, so they are accounted for.
+                LOGGER.debug("Follow-up for %s %s was modified during processing; Releasing it"
+                        .formatted(followUp.targetType(), targetUuid));
+                followUpDao.release(followUp.id(), followUp.workflowTokens());
+            }
+        });
+    }
+
+    private static void executeStep(final WorkflowStep step, final List<UUID> workflowTokens, final Runnable runnable) {
+        useJdbiTransaction(handle -> {
+            final var workflowDao = handle.attach(WorkflowDao.class);
+            for (final UUID token : workflowTokens) {
+                workflowDao.startState(step, token);
+            }
+        });
+
+        WorkflowStatus status = WorkflowStatus.COMPLETED;
+        String failureReason = null;
+        try {
+            runnable.run();
+        } catch (RuntimeException e) {
+            LOGGER.error("An unexpected error occurred during %s".formatted(step), e);
+            status = WorkflowStatus.FAILED;
+            failureReason = e.getMessage();
+        }
+
+        final List<WorkflowStatus> statuses = Collections.nCopies(workflowTokens.size(), status);
+        final List<String> failureReasons = Collections.nCopies(workflowTokens.size(), failureReason);
+        useJdbiTransaction(handle -> handle.attach(WorkflowDao.class)
+                .updateAllStates(step, workflowTokens, statuses, failureReasons));
+    }
+
+}
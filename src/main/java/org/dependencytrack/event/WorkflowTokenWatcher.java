@@ -0,0 +1,240 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event;
+
+import alpine.Config;
+import alpine.common.logging.Logger;
+import alpine.event.framework.Event;
+import org.dependencytrack.common.ConfigKey;
+import org.dependencytrack.model.WorkflowState;
+import org.dependencytrack.model.WorkflowStatus;
+import org.dependencytrack.model.WorkflowStep;
+import org.dependencytrack.persistence.jdbi.WorkflowDao;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+
+/**
+ * Watches workflow states of tokens on behalf of clients waiting for their processing to complete.
+ * <p>
+ * Instead of every waiting client querying {@code WORKFLOW_STATE} on its own, states of all watched
+ * tokens are fetched with a single query per poll interval, and changes are pushed to the registered
+ * {@link Listener}s.
+ *
+ * @since 5.6.0
+ */
+public final class WorkflowTokenWatcher {
+
+    /**
+     * A listener for workflow state changes of a token.
+     */
+    public interface Listener {
+
+        /**
+         * Invoked initially, and whenever the workflow states of the watched token changed.
+         *
+         * @param token  The watched token
+         * @param states The current workflow states of the token
+         */
+        void onStatesChanged(UUID token, List<WorkflowState> states);
+
+        /**
+         * Invoked once when no more processing is occurring for the watched token.
+         * <p>
+         * The listener is unregistered automatically afterward.
+         *
+         * @param token The watched token
+         */
+        void onProcessingCompleted(UUID token);
+
+    }
+
+    private record StateSnapshot(WorkflowStep step, WorkflowStatus status, Date updatedAt) {
+    }
+
+    /**
+     * Tracks the snapshots last seen by a {@link Listener}, such that listeners registered
+     * for an already watched token still receive their initial notification.
+     */
+    private static final class ListenerState {
+
+        private volatile List<StateSnapshot> lastSnapshots;
+
+    }
+
+    private static final Logger LOGGER = Logger.getLogger(WorkflowTokenWatcher.class);
+    private static final WorkflowTokenWatcher INSTANCE = new WorkflowTokenWatcher(
+            Duration.parse(Config.getInstance().getProperty(ConfigKey.WORKFLOW_TOKEN_WATCHER_POLL_INTERVAL)));
+
+    private final Duration pollInterval;
+    private final Map<UUID, Map<Listener, ListenerState>> listenersByToken = new ConcurrentHashMap<>();
+    private ScheduledExecutorService executor;
+
+    WorkflowTokenWatcher(final Duration pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    public static WorkflowTokenWatcher getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Register a {@link Listener} for a given token.
+     *
+     * @param token    The token to watch
+     * @param listener The {@link Listener} to notify
+     * @return A {@link Runnable} that unregisters the {@link Listener} when executed
+     */
+    public Runnable watch(final UUID token, final Listener listener) {
+        listenersByToken.computeIfAbsent(token, ignored -> new ConcurrentHashMap<>()).put(listener, new ListenerState());
+        ensureStarted();
+        return () -> unwatch(token, listener);
+    }
+
+    /**
+     * Wait for processing of a given token to complete.
+     * <p>
+     * Callers are expected to cancel the returned {@link CompletableFuture} when they
+     * are no longer interested in its result, e.g. because a timeout elapsed.
+     *
+     * @param token The token to wait for
+     * @return A {@link CompletableFuture} that completes once no more processing
+     * is occurring for {@code token}
+     */
+    public CompletableFuture<Void> awaitCompletion(final UUID token) {
+        final var future = new CompletableFuture<Void>();
+        final Runnable unwatch = watch(token, new Listener() {
+
+            @Override
+            public void onStatesChanged(final UUID token, final List<WorkflowState> states) {
+            }
+
+            @Override
+            public void onProcessingCompleted(final UUID token) {
+                future.complete(null);
+            }
+
+        });
+        future.whenComplete((ignored, throwable) -> unwatch.run());
+        return future;
+    }
+
+    private void unwatch(final UUID token, final Listener listener) {
+        listenersByToken.computeIfPresent(token, (ignored, listeners) -> {
+            listeners.remove(listener);
+            return listeners.isEmpty() ? null : listeners;
+        });
+    }
+
+    private synchronized void ensureStarted() {
+        if (executor != null) {
+            return;
+        }
+
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "WorkflowTokenWatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::pollSafely, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void shutdown() {
+        if (executor == null) {
+            return;
+        }
+
+        executor.shutdownNow();
+        executor = null;
+    }
+
+    private void pollSafely() {
+        try {
+            poll();
+        } catch (RuntimeException e) {
+            LOGGER.error("Failed to poll workflow states", e);
+        }
+    }
+
+    void poll() {
+        final Set<UUID> tokens = Set.copyOf(listenersByToken.keySet());
+        if (tokens.isEmpty()) {
+            return;
+        }
+
+        final List<WorkflowState> states = withJdbiHandle(
+                handle -> handle.attach(WorkflowDao.class).getAllStatesByTokenAnyOf(tokens));
+
+        final var statesByToken = new HashMap<UUID, List<WorkflowState>>(tokens.size());
+        for (final WorkflowState state : states) {
+            statesByToken.computeIfAbsent(state.getToken(), ignored -> new ArrayList<>()).add(state);
+        }
+
+        for (final UUID token : tokens) {
+            final List<WorkflowState> tokenStates = statesByToken.getOrDefault(token, Collections.emptyList());
+            final Map<Listener, ListenerState> listeners = listenersByToken.get(token);
+            if (listeners == null) {
+                continue;
+            }
+
+            final List<StateSnapshot> snapshots = tokenStates.stream()
+                    .map(state -> new StateSnapshot(state.getStep(), state.getStatus(), state.getUpdatedAt()))
+                    .toList();
+            listeners.forEach((listener, listenerState) -> {
+                if (!Objects.equals(snapshots, listenerState.lastSnapshots)) {
+                    listenerState.lastSnapshots = snapshots;
+                    notifySafely(() -> listener.onStatesChanged(token, tokenStates));
+                }
+            });
+
+            final boolean isProcessing = Event.isEventBeingProcessed(token)
+                    || tokenStates.stream().anyMatch(state -> !state.getStatus().isTerminal());
+            if (!isProcessing) {
+                listeners.keySet().forEach(listener -> {
+                    unwatch(token, listener);
+                    notifySafely(() -> listener.onProcessingCompleted(token));
+                });
+            }
+        }
+    }
+
+    private static void notifySafely(final Runnable notification) {
+        try {
+            notification.run();
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to notify listener", e);
+        }
+    }
+
+}
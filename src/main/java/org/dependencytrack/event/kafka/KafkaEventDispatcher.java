@@ -27,6 +27,7 @@ import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
 import org.apache.kafka.common.serialization.Serde;
+import org.dependencytrack.notification.NotificationRuleIndex;
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -46,6 +47,7 @@ public class KafkaEventDispatcher {
     private static final Logger LOGGER = Logger.getLogger(KafkaEventDispatcher.class);
 
     private final Producer<byte[], byte[]> producer;
+    private final NotificationRuleIndex notificationRuleIndex;
 
     public KafkaEventDispatcher() {
         this(KafkaProducerInitializer.getProducer());
@@ -53,7 +55,13 @@ public class KafkaEventDispatcher {
 
     @VisibleForTesting
     KafkaEventDispatcher(final Producer<byte[], byte[]> producer) {
+        this(producer, NotificationRuleIndex.getInstance());
+    }
+
+    @VisibleForTesting
+    KafkaEventDispatcher(final Producer<byte[], byte[]> producer, final NotificationRuleIndex notificationRuleIndex) {
         this.producer = producer;
+        this.notificationRuleIndex = notificationRuleIndex;
     }
 
     public CompletableFuture<RecordMetadata> dispatchEvent(final Event event) {
@@ -69,13 +77,21 @@ public class KafkaEventDispatcher {
         if (notification == null) {
             return completedFuture(null);
         }
+        if (!notificationRuleIndex.isSubscribed(notification)) {
+            LOGGER.debug("No notification rule subscribes to %s notifications of scope %s and level %s; Dropping it"
+                    .formatted(notification.getGroup(), notification.getScope(), notification.getLevel()));
+            return completedFuture(null);
+        }
 
         final KafkaEvent<?, ?> kafkaEvent = KafkaEventConverter.convert(notification);
         return dispatchAll(List.of(kafkaEvent)).getFirst();
     }
 
     public List<CompletableFuture<RecordMetadata>> dispatchAllNotificationProtos(final Collection<org.dependencytrack.proto.notification.v1.Notification> notifications) {
-        final List<KafkaEvent<?, ?>> kafkaEvents = KafkaEventConverter.convertAllNotificationProtos(notifications);
+        final List<org.dependencytrack.proto.notification.v1.Notification> subscribedNotifications = notifications.stream()
+                .filter(notificationRuleIndex::isSubscribed)
+                .toList();
+        final List<KafkaEvent<?, ?>> kafkaEvents = KafkaEventConverter.convertAllNotificationProtos(subscribedNotifications);
         return dispatchAll(kafkaEvents);
     }
 
@@ -20,15 +20,10 @@ package org.dependencytrack.event.kafka.processor;
 
 import alpine.Config;
 import alpine.common.logging.Logger;
-import alpine.event.framework.ChainableEvent;
-import alpine.event.framework.Event;
 import com.google.protobuf.Any;
 import com.google.protobuf.util.Timestamps;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
-import org.dependencytrack.event.ComponentMetricsUpdateEvent;
-import org.dependencytrack.event.ComponentPolicyEvaluationEvent;
-import org.dependencytrack.event.ProjectMetricsUpdateEvent;
-import org.dependencytrack.event.ProjectPolicyEvaluationEvent;
+import org.dependencytrack.event.VulnerabilityScanFollowUpWorker;
 import org.dependencytrack.event.kafka.KafkaEvent;
 import org.dependencytrack.event.kafka.KafkaEventConverter;
 import org.dependencytrack.event.kafka.KafkaEventDispatcher;
@@ -41,6 +36,7 @@ import org.dependencytrack.model.WorkflowStep;
 import org.dependencytrack.notification.NotificationConstants;
 import org.dependencytrack.persistence.jdbi.NotificationSubjectDao;
 import org.dependencytrack.persistence.jdbi.VulnerabilityScanDao;
+import org.dependencytrack.persistence.jdbi.VulnerabilityScanFollowUpDao;
 import org.dependencytrack.persistence.jdbi.WorkflowDao;
 import org.dependencytrack.proto.notification.v1.BomConsumedOrProcessedSubject;
 import org.dependencytrack.proto.notification.v1.Notification;
@@ -51,6 +47,7 @@ import org.jdbi.v3.core.Handle;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -98,6 +95,7 @@ public class ProcessedVulnerabilityScanResultProcessor implements BatchProcessor
         useJdbiTransaction(handle -> {
             completedVulnScans.addAll(processScanResults(handle, records));
             notifications.addAll(createVulnAnalysisCompleteNotifications(handle, completedVulnScans));
+            enqueueFollowUps(handle, completedVulnScans);
 
             if (shouldDispatchBomProcessedNotification) {
                 notifications.addAll(createBomProcessedNotifications(handle, completedVulnScans));
@@ -107,35 +105,9 @@ public class ProcessedVulnerabilityScanResultProcessor implements BatchProcessor
         eventDispatcher.dispatchAll(notifications);
         LOGGER.debug("Dispatched %d notifications".formatted(notifications.size()));
 
-        for (final VulnerabilityScan completedVulnScan : completedVulnScans) {
-            if (completedVulnScan.getStatus() != VulnerabilityScan.Status.COMPLETED) {
-                continue;
-            }
-
-            final ChainableEvent metricsUpdateEvent;
-            final ChainableEvent policyEvalEvent;
-
-            switch (completedVulnScan.getTargetType()) {
-                case COMPONENT -> {
-                    LOGGER.debug("Triggering policy evaluation for component %s".formatted(completedVulnScan.getTargetIdentifier()));
-                    metricsUpdateEvent = new ComponentMetricsUpdateEvent(completedVulnScan.getTargetIdentifier());
-                    policyEvalEvent = new ComponentPolicyEvaluationEvent(completedVulnScan.getTargetIdentifier());
-                }
-                case PROJECT -> {
-                    LOGGER.debug("Triggering policy evaluation for project %s".formatted(completedVulnScan.getTargetIdentifier()));
-                    metricsUpdateEvent = new ProjectMetricsUpdateEvent(completedVulnScan.getTargetIdentifier());
-                    policyEvalEvent = new ProjectPolicyEvaluationEvent(completedVulnScan.getTargetIdentifier());
-                }
-                default -> throw new IllegalStateException("""
-                        Unexpected vulnerability scan status %s""".formatted(completedVulnScan.getStatus()));
-            }
-
-            final UUID workflowToken = completedVulnScan.getToken();
-            metricsUpdateEvent.setChainIdentifier(workflowToken);
-            policyEvalEvent.setChainIdentifier(workflowToken);
-            policyEvalEvent.onFailure(metricsUpdateEvent);
-            policyEvalEvent.onSuccess(metricsUpdateEvent);
-            Event.dispatch(policyEvalEvent);
+        if (completedVulnScans.stream().anyMatch(vulnScan -> vulnScan.getStatus() == VulnerabilityScan.Status.COMPLETED)) {
+            // Follow-ups are claimed by any instance, but chances are that this one has capacity right now.
+            VulnerabilityScanFollowUpWorker.getInstance().wakeUp();
         }
     }
 
@@ -149,6 +121,34 @@ public class ProcessedVulnerabilityScanResultProcessor implements BatchProcessor
         return completedVulnScans;
     }
 
+    private static void enqueueFollowUps(final Handle jdbiHandle, final List<VulnerabilityScan> completedVulnScans) {
+        // Policy evaluation and metrics update are only performed for successful scans.
+        // Order by target to prevent deadlocks with concurrent transactions enqueueing for the same targets.
+        final List<VulnerabilityScan> successfulVulnScans = completedVulnScans.stream()
+                .filter(vulnScan -> vulnScan.getStatus() == VulnerabilityScan.Status.COMPLETED)
+                .sorted(Comparator.comparing(VulnerabilityScan::getTargetType)
+                        .thenComparing(VulnerabilityScan::getTargetIdentifier))
+                .toList();
+        if (successfulVulnScans.isEmpty()) {
+            return;
+        }
+
+        final int numScans = successfulVulnScans.size();
+        final var targetTypes = new ArrayList<VulnerabilityScan.TargetType>(numScans);
+        final var targetIdentifiers = new ArrayList<UUID>(numScans);
+        final var tokens = new ArrayList<UUID>(numScans);
+        for (final VulnerabilityScan vulnScan : successfulVulnScans) {
+            LOGGER.debug("Enqueueing policy evaluation and metrics update for %s %s"
+                    .formatted(vulnScan.getTargetType(), vulnScan.getTargetIdentifier()));
+            targetTypes.add(vulnScan.getTargetType());
+            targetIdentifiers.add(vulnScan.getTargetIdentifier());
+            tokens.add(vulnScan.getToken());
+        }
+
+        final var followUpDao = jdbiHandle.attach(VulnerabilityScanFollowUpDao.class);
+        followUpDao.enqueueAll(targetTypes, targetIdentifiers, tokens);
+    }
+
     private static List<VulnerabilityScan> recordScanResults(final Handle jdbiHandle, final List<ConsumerRecord<String, ScanResult>> records) {
         final Map<String, Aggregate> aggregatesByToken = aggregateScanResults(records);
         LOGGER.debug("Aggregated %d records down to %d unique scans".formatted(records.size(), aggregatesByToken.size()));
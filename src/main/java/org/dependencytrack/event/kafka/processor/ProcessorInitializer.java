@@ -19,6 +19,7 @@
 package org.dependencytrack.event.kafka.processor;
 
 import alpine.common.logging.Logger;
+import org.dependencytrack.event.VulnerabilityScanFollowUpWorker;
 import org.dependencytrack.event.kafka.KafkaTopics;
 import org.dependencytrack.event.kafka.processor.api.ProcessorManager;
 
@@ -47,12 +48,18 @@ public class ProcessorInitializer implements ServletContextListener {
                 KafkaTopics.VULN_ANALYSIS_RESULT_PROCESSED, new ProcessedVulnerabilityScanResultProcessor());
 
         PROCESSOR_MANAGER.startAll();
+
+        LOGGER.info("Starting vulnerability scan follow-up worker");
+        VulnerabilityScanFollowUpWorker.getInstance().start();
     }
 
     @Override
     public void contextDestroyed(final ServletContextEvent event) {
         LOGGER.info("Stopping processors");
         PROCESSOR_MANAGER.close();
+
+        LOGGER.info("Stopping vulnerability scan follow-up worker");
+        VulnerabilityScanFollowUpWorker.getInstance().shutdown();
     }
 
 }
@@ -45,7 +45,9 @@ import org.dependencytrack.model.VulnerabilityAnalysisLevel;
 import org.dependencytrack.model.mapping.PolicyProtoMapper;
 import org.dependencytrack.notification.NotificationConstants;
 import org.dependencytrack.notification.NotificationGroup;
+import org.dependencytrack.notification.NotificationRuleIndex;
 import org.dependencytrack.notification.NotificationScope;
+import org.dependencytrack.observability.ProcessingStageTimer;
 import org.dependencytrack.persistence.QueryManager;
 import org.dependencytrack.persistence.jdbi.NotificationSubjectDao;
 import org.dependencytrack.policy.vulnerability.VulnerabilityPolicy;
@@ -128,6 +130,11 @@ public class VulnerabilityScanResultProcessor implements Processor<ScanKey, Scan
     static String PROCESSOR_NAME = "vuln.scan.result";
 
     private static final Logger LOGGER = Logger.getLogger(VulnerabilityScanResultProcessor.class);
+    private static final ProcessingStageTimer STAGE_TIMER = new ProcessingStageTimer("vuln_scan_result");
+    private static final String STAGE_VULN_SYNCHRONIZATION = "vuln_synchronization";
+    private static final String STAGE_POLICY_EVALUATION = "policy_evaluation";
+    private static final String STAGE_FINDING_RECONCILIATION = "finding_reconciliation";
+    private static final String STAGE_KAFKA_DISPATCH = "kafka_dispatch";
 
     private final ThreadLocal<List<KafkaEvent<?, ?>>> eventsToDispatch = ThreadLocal.withInitial(ArrayList::new);
     private final KafkaEventDispatcher eventDispatcher = new KafkaEventDispatcher();
@@ -139,7 +146,7 @@ public class VulnerabilityScanResultProcessor implements Processor<ScanKey, Scan
                 : null);
     }
 
-    VulnerabilityScanResultProcessor(final VulnerabilityPolicyEvaluator vulnPolicyEvaluator) {
+    public VulnerabilityScanResultProcessor(final VulnerabilityPolicyEvaluator vulnPolicyEvaluator) {
         this.vulnPolicyEvaluator = vulnPolicyEvaluator;
     }
 
@@ -158,6 +165,31 @@ public class VulnerabilityScanResultProcessor implements Processor<ScanKey, Scan
 
             // NB: Dispatching asynchronously here as blocking comes with a latency penalty
             // that is too high, given the frequency at which records are processed.
+            STAGE_TIMER.run(STAGE_KAFKA_DISPATCH, () -> eventDispatcher.dispatchAll(eventsToDispatch.get()));
+        } finally {
+            eventsToDispatch.get().clear();
+        }
+    }
+
+    /**
+     * Re-evaluate {@link VulnerabilityPolicy}s for existing findings of a given {@link Component},
+     * and apply the resulting analyses. Used to apply changed policies without re-scanning.
+     * <p>
+     * Contrary to {@link #process(ConsumerRecord)}, no findings are created.
+     *
+     * @param component The {@link Component} to re-evaluate policies for
+     * @param vulns     {@link Vulnerability}s that are already associated with the {@link Component}
+     * @since 5.6.0
+     */
+    public void reapplyPolicies(final Component component, final Collection<Vulnerability> vulns) {
+        try (final var qm = new QueryManager()) {
+            final Map<UUID, VulnerabilityPolicy> actionablePolicies = maybeEvaluateVulnPolicies(component, vulns).entrySet().stream()
+                    .filter(policy -> policy.getValue().getOperationMode() == VulnerabilityPolicyOperation.APPLY)
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+
+            inJdbiTransaction(handle -> maybeApplyPolicyAnalyses(qm, handle.attach(Dao.class),
+                    component, vulns, new ArrayList<>(), actionablePolicies));
+
             eventDispatcher.dispatchAll(eventsToDispatch.get());
         } finally {
             eventsToDispatch.get().clear();
@@ -206,11 +238,13 @@ public class VulnerabilityScanResultProcessor implements Processor<ScanKey, Scan
             return;
         }
 
-        final Set<Vulnerability> syncedVulns = syncVulnerabilities(qm, component, scanKey, scannerResult);
+        final Set<Vulnerability> syncedVulns = STAGE_TIMER.time(STAGE_VULN_SYNCHRONIZATION,
+                () -> syncVulnerabilities(qm, component, scanKey, scannerResult));
         LOGGER.debug("Synchronized %d vulnerabilities reported by %s for %s (scanKey: %s)"
                 .formatted(syncedVulns.size(), scannerResult.getScanner(), scanKey.getComponentUuid(), prettyPrint(scanKey)));
 
-        final Map<UUID, VulnerabilityPolicy> matchedPoliciesByVulnUuid = maybeEvaluateVulnPolicies(component, syncedVulns);
+        final Map<UUID, VulnerabilityPolicy> matchedPoliciesByVulnUuid = STAGE_TIMER.time(STAGE_POLICY_EVALUATION,
+                () -> maybeEvaluateVulnPolicies(component, syncedVulns));
         LOGGER.debug("Identified policy matches for %d/%d vulnerabilities (scanKey: %s)"
                 .formatted(matchedPoliciesByVulnUuid.size(), syncedVulns.size(), prettyPrint(scanKey)));
 
@@ -227,8 +261,8 @@ public class VulnerabilityScanResultProcessor implements Processor<ScanKey, Scan
                 .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
 
         // Perform analysis for only actionable policies.
-        final List<Vulnerability> newVulnUuids = synchronizeFindingsAndAnalyses(qm, component, syncedVulns,
-                scannerResult.getScanner(), actionablePolicies);
+        final List<Vulnerability> newVulnUuids = STAGE_TIMER.time(STAGE_FINDING_RECONCILIATION,
+                () -> synchronizeFindingsAndAnalyses(qm, component, syncedVulns, scannerResult.getScanner(), actionablePolicies));
         LOGGER.debug("Identified %d new vulnerabilities for %s with %s (scanKey: %s)"
                 .formatted(newVulnUuids.size(), scanKey.getComponentUuid(), scannerResult.getScanner(), prettyPrint(scanKey)));
 
@@ -690,6 +724,9 @@ public class VulnerabilityScanResultProcessor implements Processor<ScanKey, Scan
         if (!analysisStateChange && !suppressionChange) {
             return;
         }
+        if (!isSubscribed(NotificationGroup.PROJECT_AUDIT_CHANGE, component)) {
+            return;
+        }
 
         withJdbiHandle(handle -> handle.attach(NotificationSubjectDao.class).getForProjectAuditChange(component.uuid(), vuln.getUuid(), policyAnalysis.state, policyAnalysis.suppressed))
                 .map(subject -> org.dependencytrack.proto.notification.v1.Notification.newBuilder()
@@ -746,11 +783,18 @@ public class VulnerabilityScanResultProcessor implements Processor<ScanKey, Scan
             return;
         }
 
+        final boolean isNewVulnerableDependencySubscribed =
+                isNewComponent && isSubscribed(NotificationGroup.NEW_VULNERABLE_DEPENDENCY, component);
+        final boolean isNewVulnerabilitySubscribed = isSubscribed(NotificationGroup.NEW_VULNERABILITY, component);
+        if (!isNewVulnerableDependencySubscribed && !isNewVulnerabilitySubscribed) {
+            return;
+        }
+
         final Timestamp notificationTimestamp = Timestamps.now();
         useJdbiHandle(handle -> {
             final var dao = handle.attach(NotificationSubjectDao.class);
 
-            if (isNewComponent) {
+            if (isNewVulnerableDependencySubscribed) {
                 dao.getForNewVulnerableDependency(component.uuid())
                         .map(subject -> org.dependencytrack.proto.notification.v1.Notification.newBuilder()
                                 .setScope(SCOPE_PORTFOLIO)
@@ -765,21 +809,28 @@ public class VulnerabilityScanResultProcessor implements Processor<ScanKey, Scan
                         .ifPresent(eventsToDispatch.get()::add);
             }
 
-            dao.getForNewVulnerabilities(component.uuid(), newVulns.stream().map(Vulnerability::getUuid).toList(), analysisLevel).stream()
-                    .map(subject -> org.dependencytrack.proto.notification.v1.Notification.newBuilder()
-                            .setScope(SCOPE_PORTFOLIO)
-                            .setGroup(GROUP_NEW_VULNERABILITY)
-                            .setLevel(LEVEL_INFORMATIONAL)
-                            .setTimestamp(notificationTimestamp)
-                            .setTitle(generateNotificationTitle(NotificationConstants.Title.NEW_VULNERABILITY, subject.getProject()))
-                            .setContent(generateNotificationContent(subject.getVulnerability()))
-                            .setSubject(Any.pack(subject))
-                            .build())
-                    .map(KafkaEventConverter::convert)
-                    .forEach(eventsToDispatch.get()::add);
+            if (isNewVulnerabilitySubscribed) {
+                dao.getForNewVulnerabilities(component.uuid(), newVulns.stream().map(Vulnerability::getUuid).toList(), analysisLevel).stream()
+                        .map(subject -> org.dependencytrack.proto.notification.v1.Notification.newBuilder()
+                                .setScope(SCOPE_PORTFOLIO)
+                                .setGroup(GROUP_NEW_VULNERABILITY)
+                                .setLevel(LEVEL_INFORMATIONAL)
+                                .setTimestamp(notificationTimestamp)
+                                .setTitle(generateNotificationTitle(NotificationConstants.Title.NEW_VULNERABILITY, subject.getProject()))
+                                .setContent(generateNotificationContent(subject.getVulnerability()))
+                                .setSubject(Any.pack(subject))
+                                .build())
+                        .map(KafkaEventConverter::convert)
+                        .forEach(eventsToDispatch.get()::add);
+            }
         });
     }
 
+    private static boolean isSubscribed(final NotificationGroup group, final Component component) {
+        return NotificationRuleIndex.getInstance().isSubscribed(
+                NotificationScope.PORTFOLIO, group, NotificationLevel.INFORMATIONAL, component.projectUuid());
+    }
+
     private boolean canUpdateVulnerability(final Vulnerability vuln, final Scanner scanner) {
         var canUpdate = true;
 
@@ -19,6 +19,7 @@
 package org.dependencytrack.integrations;
 
 import alpine.common.logging.Logger;
+import alpine.model.ConfigProperty;
 import alpine.notification.Notification;
 import alpine.notification.NotificationLevel;
 import org.dependencytrack.event.kafka.KafkaEventDispatcher;
@@ -30,15 +31,33 @@ import org.dependencytrack.persistence.QueryManager;
 public abstract class AbstractIntegrationPoint implements IntegrationPoint {
 
     protected QueryManager qm;
+    private int errorCount;
 
     public void setQueryManager(final QueryManager qm) {
         this.qm = qm;
     }
 
+    /**
+     * @since 5.6.0
+     */
+    public int getErrorCount() {
+        return errorCount;
+    }
+
+    /**
+     * @return Value of the given global config property, or {@code null} when it is not set
+     * @since 5.6.0
+     */
+    protected String getConfigPropertyValue(final String groupName, final String propertyName) {
+        final ConfigProperty property = qm.getConfigProperty(groupName, propertyName);
+        return property != null ? property.getPropertyValue() : null;
+    }
+
     public void handleUnexpectedHttpResponse(final Logger logger, final String url, final int statusCode, final String statusText) {
         logger.error("An error occurred while communicating with the " + name() + " integration point");
         logger.error("HTTP Status : " + statusCode + " " + statusText);
         logger.error("Request URL : " + url);
+        errorCount++;
 
         final var notification = new Notification()
                 .scope(NotificationScope.SYSTEM)
@@ -53,6 +72,7 @@ public abstract class AbstractIntegrationPoint implements IntegrationPoint {
 
     public void handleException(final Logger logger, final Exception e) {
         logger.error("An error occurred with the " + name() + " integration point", e);
+        errorCount++;
 
         final var notification = new Notification()
                 .scope(NotificationScope.SYSTEM)
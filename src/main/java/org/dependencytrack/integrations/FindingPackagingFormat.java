@@ -25,7 +25,9 @@ import org.dependencytrack.model.Project;
 import org.dependencytrack.persistence.QueryManager;
 import org.dependencytrack.util.DateUtil;
 import org.json.JSONObject;
+import org.json.JSONWriter;
 
+import java.io.Writer;
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
@@ -51,17 +53,51 @@ public class FindingPackagingFormat {
     private static final String FIELD_PROJECT = "project";
     private static final String FIELD_FINDINGS = "findings";
 
-    private final JSONObject payload;
+    private final List<Finding> findings;
+    private JSONObject meta;
+    private JSONObject projectJson;
 
     public FindingPackagingFormat(final UUID projectUuid, final List<Finding> findings) {
-        payload = initialize(projectUuid, findings);
+        this.findings = findings;
+        initialize(projectUuid);
     }
 
     public JSONObject getDocument() {
-        return payload;
+        /*
+            Add the meta and project objects along with the findings array
+            to a root json object and return.
+         */
+        final JSONObject root = new JSONObject();
+        root.put(FIELD_VERSION, FPF_VERSION);
+        root.put(FIELD_META, meta);
+        root.put(FIELD_PROJECT, projectJson);
+        root.put(FIELD_FINDINGS, findings);
+        return root;
     }
 
-    private JSONObject initialize(final UUID projectUuid, final List<Finding> findings) {
+    /**
+     * Write the document to a {@link Writer}.
+     * <p>
+     * Unlike {@link #getDocument()}, findings are serialized one at a time,
+     * such that the document as a whole never has to be held in memory.
+     *
+     * @param writer The {@link Writer} to write to
+     * @since 5.6.0
+     */
+    public void write(final Writer writer) {
+        final var jsonWriter = new JSONWriter(writer);
+        jsonWriter.object()
+                .key(FIELD_VERSION).value(FPF_VERSION)
+                .key(FIELD_META).value(meta)
+                .key(FIELD_PROJECT).value(projectJson)
+                .key(FIELD_FINDINGS).array();
+        for (final Finding finding : findings) {
+            jsonWriter.value(new JSONObject(finding));
+        }
+        jsonWriter.endArray().endObject();
+    }
+
+    private void initialize(final UUID projectUuid) {
         try (QueryManager qm = new QueryManager()) {
             final Project project = qm.getObjectByUuid(Project.class, projectUuid);
             final About about = new About();
@@ -72,7 +108,7 @@ public class FindingPackagingFormat {
                 This is useful for file-based parsing systems that needs to be able to
                 identify what type of file it is, and what type of system generated it.
              */
-            final JSONObject meta = new JSONObject();
+            meta = new JSONObject();
             meta.put(FIELD_APPLICATION, about.getApplication());
             meta.put(FIELD_VERSION, about.getVersion());
             meta.put(FIELD_TIMESTAMP, DateUtil.toISO8601(new Date()));
@@ -87,7 +123,7 @@ public class FindingPackagingFormat {
                 well as not have to perform additional queries back to Dependency-Track
                 to discover basic project information.
              */
-            final JSONObject projectJson = new JSONObject();
+            projectJson = new JSONObject();
             projectJson.put(FIELD_UUID, project.getUuid());
             projectJson.put(FIELD_NAME, project.getName());
             if (project.getVersion() != null) {
@@ -102,18 +138,6 @@ public class FindingPackagingFormat {
             if (project.getCpe() != null) {
                 projectJson.put(FIELD_CPE, project.getCpe());
             }
-
-
-            /*
-                Add the meta and project objects along with the findings array
-                to a root json object and return.
-             */
-            final JSONObject root = new JSONObject();
-            root.put(FIELD_VERSION, FPF_VERSION);
-            root.put(FIELD_META, meta);
-            root.put(FIELD_PROJECT, projectJson);
-            root.put(FIELD_FINDINGS, findings);
-            return root;
         }
     }
 }
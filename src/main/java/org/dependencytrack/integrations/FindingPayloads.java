@@ -0,0 +1,80 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.integrations;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+/**
+ * Utilities for building payloads of {@link FindingUploader}s.
+ *
+ * @since 5.6.0
+ */
+public final class FindingPayloads {
+
+    private FindingPayloads() {
+    }
+
+    /**
+     * Write a payload to a temporary file, and open an {@link InputStream} to read it.
+     * <p>
+     * Payloads of large projects or portfolios can grow to hundreds of megabytes.
+     * Spooling them to disk avoids having to hold them in memory as a whole.
+     * The file is deleted when the returned {@link InputStream} is closed.
+     *
+     * @param payloadWriter {@link Consumer} to write the payload with
+     * @return An {@link InputStream} of the written payload
+     */
+    public static InputStream spool(final Consumer<Writer> payloadWriter) {
+        Path payloadFilePath = null;
+        try {
+            payloadFilePath = Files.createTempFile("dtrack-findings-", ".json");
+            try (final Writer writer = Files.newBufferedWriter(payloadFilePath, StandardCharsets.UTF_8)) {
+                payloadWriter.accept(writer);
+            }
+
+            return Files.newInputStream(payloadFilePath, StandardOpenOption.DELETE_ON_CLOSE);
+        } catch (IOException e) {
+            deleteQuietly(payloadFilePath);
+            throw new UncheckedIOException("Failed to spool payload", e);
+        } catch (RuntimeException e) {
+            deleteQuietly(payloadFilePath);
+            throw e;
+        }
+    }
+
+    private static void deleteQuietly(final Path path) {
+        if (path == null) {
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+        }
+    }
+
+}
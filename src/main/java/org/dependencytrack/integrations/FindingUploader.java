@@ -26,4 +26,12 @@ public interface FindingUploader extends IntegrationPoint {
 
     boolean isEnabled();
 
+    /**
+     * @return Number of errors this instance encountered while communicating with the integration
+     * @since 5.6.0
+     */
+    default int getErrorCount() {
+        return 0;
+    }
+
 }
@@ -30,5 +30,21 @@ public interface ProjectFindingUploader extends FindingUploader {
 
     InputStream process(Project project, List<Finding> findings);
 
-    void upload(Project project, InputStream payload);
+    /**
+     * @return {@code true} when the findings were uploaded successfully, otherwise {@code false}
+     */
+    boolean upload(Project project, InputStream payload);
+
+    /**
+     * Global configuration values that determine where and how findings are uploaded.
+     * <p>
+     * Findings are uploaded again when any of them changes, e.g. because the integration
+     * was pointed to a different server, or its credentials were corrected.
+     *
+     * @return Values of the relevant global configuration
+     * @since 5.6.0
+     */
+    default List<String> getUploadConfiguration() {
+        return List.of();
+    }
 }
@@ -22,16 +22,16 @@ import alpine.common.logging.Logger;
 import alpine.model.ConfigProperty;
 import org.dependencytrack.integrations.AbstractIntegrationPoint;
 import org.dependencytrack.integrations.FindingPackagingFormat;
+import org.dependencytrack.integrations.FindingPayloads;
 import org.dependencytrack.integrations.ProjectFindingUploader;
 import org.dependencytrack.model.Finding;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.model.ProjectProperty;
-import org.json.JSONObject;
 
-import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.dependencytrack.model.ConfigPropertyConstants.DEFECTDOJO_API_KEY;
@@ -99,12 +99,12 @@ public class DefectDojoUploader extends AbstractIntegrationPoint implements Proj
 
     @Override
     public InputStream process(final Project project, final List<Finding> findings) {
-        final JSONObject fpf = new FindingPackagingFormat(project.getUuid(), findings).getDocument();
-        return new ByteArrayInputStream(fpf.toString(2).getBytes());
+        final var fpf = new FindingPackagingFormat(project.getUuid(), findings);
+        return FindingPayloads.spool(fpf::write);
     }
 
     @Override
-    public void upload(final Project project, final InputStream payload) {
+    public boolean upload(final Project project, final InputStream payload) {
         final ConfigProperty defectDojoUrl = qm.getConfigProperty(DEFECTDOJO_URL.getGroupName(), DEFECTDOJO_URL.getPropertyName());
         final ConfigProperty apiKey = qm.getConfigProperty(DEFECTDOJO_API_KEY.getGroupName(), DEFECTDOJO_API_KEY.getPropertyName());
         final boolean globalReimportEnabled = qm.isEnabled(DEFECTDOJO_REIMPORT_ENABLED);
@@ -117,16 +117,25 @@ public class DefectDojoUploader extends AbstractIntegrationPoint implements Proj
                 final String testId = client.getDojoTestId(engagementId.getPropertyValue(), testsIds);
                 LOGGER.debug("Found existing test Id: " + testId);
                 if (testId.equals("")) {
-                    client.uploadDependencyTrackFindings(apiKey.getPropertyValue(), engagementId.getPropertyValue(), payload, verifyFindings);
+                    return client.uploadDependencyTrackFindings(apiKey.getPropertyValue(), engagementId.getPropertyValue(), payload, verifyFindings);
                 } else {
-                    client.reimportDependencyTrackFindings(apiKey.getPropertyValue(), engagementId.getPropertyValue(), payload, testId, isDoNotReactivateConfigured(project), verifyFindings);
+                    return client.reimportDependencyTrackFindings(apiKey.getPropertyValue(), engagementId.getPropertyValue(), payload, testId, isDoNotReactivateConfigured(project), verifyFindings);
                 }
             } else {
-                client.uploadDependencyTrackFindings(apiKey.getPropertyValue(), engagementId.getPropertyValue(), payload, verifyFindings);
+                return client.uploadDependencyTrackFindings(apiKey.getPropertyValue(), engagementId.getPropertyValue(), payload, verifyFindings);
             }
         } catch (Exception e) {
             LOGGER.error("An error occurred attempting to upload findings to DefectDojo", e);
             handleException(LOGGER, e);
         }
+        return false;
+    }
+
+    @Override
+    public List<String> getUploadConfiguration() {
+        return Arrays.asList(
+                getConfigPropertyValue(DEFECTDOJO_URL.getGroupName(), DEFECTDOJO_URL.getPropertyName()),
+                getConfigPropertyValue(DEFECTDOJO_API_KEY.getGroupName(), DEFECTDOJO_API_KEY.getPropertyName()),
+                String.valueOf(qm.isEnabled(DEFECTDOJO_REIMPORT_ENABLED)));
     }
 }
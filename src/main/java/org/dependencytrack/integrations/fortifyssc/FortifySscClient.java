@@ -76,7 +76,7 @@ public class FortifySscClient {
         return null;
     }
 
-    public void uploadDependencyTrackFindings(final String token, final String applicationVersion, final InputStream findingsJson) {
+    public boolean uploadDependencyTrackFindings(final String token, final String applicationVersion, final InputStream findingsJson) {
         try {
             LOGGER.debug("Uploading Dependency-Track findings to Fortify SSC");
             var builder = new URIBuilder(baseURL + "/upload/resultFileUpload.html");
@@ -90,6 +90,7 @@ public class FortifySscClient {
             try (CloseableHttpResponse response = HttpClientPool.getClient().execute(request)) {
                 if (response.getStatusLine().getStatusCode() == HttpStatus.SC_OK) {
                     LOGGER.debug("Successfully uploaded findings to Fortify SSC");
+                    return true;
                 } else {
                     uploader.handleUnexpectedHttpResponse(LOGGER, request.getURI().toString(), response.getStatusLine().getStatusCode(), response.getStatusLine().getReasonPhrase());
                 }
@@ -97,5 +98,6 @@ public class FortifySscClient {
         } catch (URISyntaxException | IOException ex) {
             uploader.handleException(LOGGER, ex);
         }
+        return false;
     }
 }
@@ -22,16 +22,16 @@ import alpine.common.logging.Logger;
 import alpine.model.ConfigProperty;
 import org.dependencytrack.integrations.AbstractIntegrationPoint;
 import org.dependencytrack.integrations.FindingPackagingFormat;
+import org.dependencytrack.integrations.FindingPayloads;
 import org.dependencytrack.integrations.ProjectFindingUploader;
 import org.dependencytrack.model.Finding;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.model.ProjectProperty;
 import org.dependencytrack.util.DebugDataEncryption;
-import org.json.JSONObject;
 
-import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.net.URL;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.dependencytrack.model.ConfigPropertyConstants.FORTIFY_SSC_ENABLED;
@@ -67,28 +67,36 @@ public class FortifySscUploader extends AbstractIntegrationPoint implements Proj
 
     @Override
     public InputStream process(final Project project, final List<Finding> findings) {
-        final JSONObject fpf = new FindingPackagingFormat(project.getUuid(), findings).getDocument();
-        return new ByteArrayInputStream(fpf.toString(2).getBytes());
+        final var fpf = new FindingPackagingFormat(project.getUuid(), findings);
+        return FindingPayloads.spool(fpf::write);
     }
 
     @Override
-    public void upload(final Project project, final InputStream payload) {
+    public boolean upload(final Project project, final InputStream payload) {
         final ConfigProperty sscUrl = qm.getConfigProperty(FORTIFY_SSC_URL.getGroupName(), FORTIFY_SSC_URL.getPropertyName());
         final ConfigProperty citoken = qm.getConfigProperty(FORTIFY_SSC_TOKEN.getGroupName(), FORTIFY_SSC_TOKEN.getPropertyName());
         final ProjectProperty applicationId = qm.getProjectProperty(project, FORTIFY_SSC_ENABLED.getGroupName(), APPID_PROPERTY);
         if (citoken == null || citoken.getPropertyValue() == null) {
             LOGGER.warn("Fortify SSC token not specified. Aborting");
-            return;
+            return false;
         }
         try {
             final FortifySscClient client = new FortifySscClient(this, new URL(sscUrl.getPropertyValue()));
             final String token = client.generateOneTimeUploadToken(DebugDataEncryption.decryptAsString(citoken.getPropertyValue()));
             if (token != null) {
-                client.uploadDependencyTrackFindings(token, applicationId.getPropertyValue(), payload);
+                return client.uploadDependencyTrackFindings(token, applicationId.getPropertyValue(), payload);
             }
         } catch (Exception e) {
             LOGGER.error("An error occurred attempting to upload findings to Fortify Software Security Center", e);
             handleException(LOGGER, e);
         }
+        return false;
+    }
+
+    @Override
+    public List<String> getUploadConfiguration() {
+        return Arrays.asList(
+                getConfigPropertyValue(FORTIFY_SSC_URL.getGroupName(), FORTIFY_SSC_URL.getPropertyName()),
+                getConfigPropertyValue(FORTIFY_SSC_TOKEN.getGroupName(), FORTIFY_SSC_TOKEN.getPropertyName()));
     }
 }
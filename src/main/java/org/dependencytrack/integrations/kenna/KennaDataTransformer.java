@@ -29,7 +29,9 @@ import org.dependencytrack.persistence.QueryManager;
 import org.dependencytrack.util.DateUtil;
 import org.json.JSONArray;
 import org.json.JSONObject;
+import org.json.JSONWriter;
 
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
@@ -38,34 +40,43 @@ import java.util.Map;
 
 /**
  * Transforms Dependency-Track findings into Kenna Data Importer (KDI) format.
+ * <p>
+ * Assets are written as soon as their project has been processed, such that
+ * the KDI document of the entire portfolio never has to be held in memory.
  */
 public class KennaDataTransformer {
 
     private static final String SCANNER_TYPE = "Dependency-Track";
     private final QueryManager qm;
     private final Map<String, Vulnerability> portfolioVulnerabilities = new HashMap<>();
-    private final JSONArray assets = new JSONArray();
-    private final JSONArray vulnDefs = new JSONArray();
+    private final JSONWriter jsonWriter;
 
-    KennaDataTransformer(final QueryManager qm) {
+    KennaDataTransformer(final QueryManager qm, final Writer writer) {
         this.qm = qm;
+        this.jsonWriter = new JSONWriter(writer);
     }
 
     /**
-     * Create the root-level JSON object. Requires projects to have been processed first.
+     * Begin the root-level JSON object. Must be called before any projects are processed.
      */
-    public JSONObject generate() {
+    public void start() {
+        jsonWriter.object()
+                .key("skip_autoclose").value(false)
+                .key("assets").array();
+    }
+
+    /**
+     * Complete the root-level JSON object. Requires projects to have been processed first.
+     */
+    public void finish() {
+        jsonWriter.endArray();
         // Creates the reference array of vulnerability definitions based on the vulnerabilities identified.
         // Using a Map to prevent duplicates based on the key.
+        jsonWriter.key("vuln_defs").array();
         for (final Map.Entry<String, Vulnerability> entry : portfolioVulnerabilities.entrySet()) {
-            vulnDefs.put(generateKdiVulnDef(entry.getValue()));
+            jsonWriter.value(generateKdiVulnDef(entry.getValue()));
         }
-        // Create the root-level JSON object
-        final JSONObject root = new JSONObject();
-        root.put("skip_autoclose", false);
-        root.put("assets", assets);
-        root.put("vuln_defs", vulnDefs);
-        return root;
+        jsonWriter.endArray().endObject();
     }
 
     public void process(final Project project, final String externalId) {
@@ -90,7 +101,7 @@ public class KennaDataTransformer {
             portfolioVulnerabilities.put(generateScannerIdentifier(vulnerability), vulnerability);
         }
         kdiAsset.put("vulns", vulns);
-        assets.put(kdiAsset);
+        jsonWriter.value(kdiAsset);
     }
 
     /**
@@ -33,13 +33,13 @@ import org.apache.http.message.BasicNameValuePair;
 import org.apache.http.util.EntityUtils;
 import org.dependencytrack.common.HttpClientPool;
 import org.dependencytrack.integrations.AbstractIntegrationPoint;
+import org.dependencytrack.integrations.FindingPayloads;
 import org.dependencytrack.integrations.PortfolioFindingUploader;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.model.ProjectProperty;
 import org.dependencytrack.util.DebugDataEncryption;
 import org.json.JSONObject;
 
-import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -82,15 +82,18 @@ public class KennaSecurityUploader extends AbstractIntegrationPoint implements P
     @Override
     public InputStream process() {
         LOGGER.debug("Processing...");
-        final KennaDataTransformer kdi = new KennaDataTransformer(qm);
-        for (final Project project : qm.getAllProjects()) {
-            final ProjectProperty externalId = qm.getProjectProperty(project, KENNA_ENABLED.getGroupName(), ASSET_EXTID_PROPERTY);
-            if (externalId != null && externalId.getPropertyValue() != null) {
-                LOGGER.debug("Transforming findings for project: " + project.getUuid() + " to KDI format");
-                kdi.process(project, externalId.getPropertyValue());
+        return FindingPayloads.spool(writer -> {
+            final var kdi = new KennaDataTransformer(qm, writer);
+            kdi.start();
+            for (final Project project : qm.getAllProjects()) {
+                final ProjectProperty externalId = qm.getProjectProperty(project, KENNA_ENABLED.getGroupName(), ASSET_EXTID_PROPERTY);
+                if (externalId != null && externalId.getPropertyValue() != null) {
+                    LOGGER.debug("Transforming findings for project: " + project.getUuid() + " to KDI format");
+                    kdi.process(project, externalId.getPropertyValue());
+                }
             }
-        }
-        return new ByteArrayInputStream(kdi.generate().toString().getBytes());
+            kdi.finish();
+        });
     }
 
     @Override
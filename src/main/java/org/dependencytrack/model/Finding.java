@@ -86,6 +86,7 @@ public class Finding implements Serializable {
                  , "FINDINGATTRIBUTION"."REFERENCE_URL"
                  , "ANALYSIS"."STATE"
                  , "ANALYSIS"."SUPPRESSED"
+                 , COUNT(*) OVER() AS "TOTAL_COUNT"
               FROM "COMPONENT"
              INNER JOIN "COMPONENTS_VULNERABILITIES"
                 ON "COMPONENT"."ID" = "COMPONENTS_VULNERABILITIES"."COMPONENT_ID"
@@ -104,6 +105,13 @@ public class Finding implements Serializable {
                AND (:includeSuppressed OR "ANALYSIS"."SUPPRESSED" IS NULL OR NOT "ANALYSIS"."SUPPRESSED")
             """;
 
+    /**
+     * Index of the {@code TOTAL_COUNT} column in rows returned by {@link #QUERY}.
+     *
+     * @since 5.6.0
+     */
+    public static final int QUERY_TOTAL_COUNT_INDEX = 31;
+
     // language=SQL
     public static final String QUERY_ALL_FINDINGS = """
             SELECT "COMPONENT"."UUID"
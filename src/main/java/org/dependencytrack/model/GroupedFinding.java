@@ -53,6 +53,9 @@ public class GroupedFinding implements Serializable {
                 , "VULNERABILITY"."PUBLISHED"
                 , "VULNERABILITY"."CWES"
                 , COUNT(DISTINCT "PROJECT"."ID") AS "AFFECTED_PROJECT_COUNT"
+                , MIN("FINDINGATTRIBUTION"."ATTRIBUTED_ON") AS "FIRST_ATTRIBUTED_ON"
+                , MAX("FINDINGATTRIBUTION"."ATTRIBUTED_ON") AS "LAST_ATTRIBUTED_ON"
+                , COUNT(*) OVER() AS "TOTAL_COUNT"
             FROM "COMPONENT"
                 INNER JOIN "COMPONENTS_VULNERABILITIES" 
                     ON ("COMPONENT"."ID" = "COMPONENTS_VULNERABILITIES"."COMPONENT_ID")
@@ -69,6 +72,45 @@ public class GroupedFinding implements Serializable {
                     ON ("COMPONENT"."PROJECT_ID" = "PROJECT"."ID")
             """;
 
+    /**
+     * Equivalent of {@link #QUERY} that reads from the incrementally maintained {@code VULNERABILITY_ROLLUP}
+     * table instead of aggregating individual findings. Only supports filtering on columns
+     * of {@code VULNERABILITY} and {@code PROJECT}.
+     *
+     * @since 5.6.0
+     */
+    // language=SQL
+    public static final String QUERY_ROLLUP = """
+            SELECT "VULNERABILITY"."SOURCE"
+                , "VULNERABILITY"."VULNID"
+                , "VULNERABILITY"."TITLE"
+                , "VULNERABILITY"."SEVERITY"
+                , "VULNERABILITY"."CVSSV2BASESCORE"
+                , "VULNERABILITY"."CVSSV3BASESCORE"
+                , "VULNERABILITY"."OWASPRRLIKELIHOODSCORE"
+                , "VULNERABILITY"."OWASPRRTECHNICALIMPACTSCORE"
+                , "VULNERABILITY"."OWASPRRBUSINESSIMPACTSCORE"
+                , "VULNERABILITY_ROLLUP"."ANALYZERIDENTITY"
+                , "VULNERABILITY"."PUBLISHED"
+                , "VULNERABILITY"."CWES"
+                , COUNT(DISTINCT "PROJECT"."ID") AS "AFFECTED_PROJECT_COUNT"
+                , MIN("VULNERABILITY_ROLLUP"."FIRST_ATTRIBUTED_ON") AS "FIRST_ATTRIBUTED_ON"
+                , MAX("VULNERABILITY_ROLLUP"."LAST_ATTRIBUTED_ON") AS "LAST_ATTRIBUTED_ON"
+                , COUNT(*) OVER() AS "TOTAL_COUNT"
+            FROM "VULNERABILITY_ROLLUP"
+                INNER JOIN "VULNERABILITY"
+                    ON ("VULNERABILITY_ROLLUP"."VULNERABILITY_ID" = "VULNERABILITY"."ID")
+                INNER JOIN "PROJECT"
+                    ON ("VULNERABILITY_ROLLUP"."PROJECT_ID" = "PROJECT"."ID")
+            """;
+
+    /**
+     * Index of the {@code TOTAL_COUNT} column in rows returned by {@link #QUERY} and {@link #QUERY_ROLLUP}.
+     *
+     * @since 5.6.0
+     */
+    public static final int QUERY_TOTAL_COUNT_INDEX = 15;
+
     private Map<String, Object> vulnerability = new LinkedHashMap<>();
     private Map<String, Object> attribution = new LinkedHashMap<>();
 
@@ -83,6 +125,8 @@ public class GroupedFinding implements Serializable {
         optValue(vulnerability, "published", o[10]);
         optValue(vulnerability, "cwes", Finding.getCwes(o[11]));
         optValue(vulnerability, "affectedProjectCount", o[12]);
+        optValue(attribution, "firstAttributedOn", o[13]);
+        optValue(attribution, "lastAttributedOn", o[14]);
     }
 
     public Map getVulnerability() {
@@ -296,6 +296,11 @@ public class Project implements Serializable {
             type = "integer", format = "int64", description = "UNIX epoch timestamp in milliseconds")
     private Date inactiveSince;
 
+    @Persistent
+    @Column(name = "DELETION_REQUESTED_AT")
+    @JsonIgnore
+    private Date deletionRequestedAt;
+
     @Persistent(table = "PROJECT_ACCESS_TEAMS", defaultFetchGroup = "true")
     @Join(column = "PROJECT_ID")
     @Element(column = "TEAM_ID")
@@ -531,6 +536,16 @@ public class Project implements Serializable {
         this.inactiveSince = inactiveSince;
     }
 
+    @JsonIgnore
+    public Date getDeletionRequestedAt() {
+        return deletionRequestedAt;
+    }
+
+    @JsonIgnore
+    public void setDeletionRequestedAt(Date deletionRequestedAt) {
+        this.deletionRequestedAt = deletionRequestedAt;
+    }
+
     public boolean isActive() {
         return inactiveSince == null;
     }
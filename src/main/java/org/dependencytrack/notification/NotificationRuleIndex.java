@@ -0,0 +1,235 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.notification;
+
+import alpine.Config;
+import alpine.common.logging.Logger;
+import alpine.notification.Notification;
+import alpine.notification.NotificationLevel;
+import org.dependencytrack.common.ConfigKey;
+import org.dependencytrack.persistence.jdbi.NotificationRuleDao;
+import org.dependencytrack.persistence.jdbi.NotificationRuleDao.SubscriptionRow;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+
+/**
+ * An in-memory index of the scopes, groups, levels, and projects that enabled notification rules subscribe to.
+ * <p>
+ * Used to skip the construction and dispatch of notifications that no rule would route anyway.
+ * The index is answered conservatively: When in doubt, a notification is considered to be subscribed to.
+ * For example, rules limited to tags, or to projects and their children, are assumed to match all projects.
+ * <p>
+ * The index is rebuilt lazily when it has been {@link #invalidate() invalidated}, or when it is older
+ * than {@link ConfigKey#NOTIFICATION_RULE_INDEX_TTL}. The latter ensures that rule modifications
+ * made via other instances in the cluster are picked up eventually.
+ *
+ * @since 5.6.0
+ */
+public final class NotificationRuleIndex {
+
+    private static final Logger LOGGER = Logger.getLogger(NotificationRuleIndex.class);
+    private static final NotificationRuleIndex INSTANCE = new NotificationRuleIndex(
+            // Tests commonly assert on dispatched notifications without setting up any rules.
+            !Config.isUnitTestsEnabled() && Config.getInstance().getPropertyAsBoolean(ConfigKey.NOTIFICATION_RULE_INDEX_ENABLED),
+            Duration.parse(Config.getInstance().getProperty(ConfigKey.NOTIFICATION_RULE_INDEX_TTL)),
+            NotificationRuleIndex::loadSubscriptions);
+
+    record Subscription(NotificationScope scope, NotificationLevel level, Set<UUID> projectUuids) {
+
+        private boolean matches(final NotificationScope scope, final NotificationLevel level, final UUID projectUuid) {
+            return this.scope == scope
+                    && severityOf(level) >= severityOf(this.level)
+                    && (projectUuid == null || projectUuids == null || projectUuids.contains(projectUuid));
+        }
+
+    }
+
+    private record Snapshot(Map<NotificationGroup, List<Subscription>> subscriptionsByGroup, long createdAtNanos) {
+    }
+
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final Supplier<Collection<SubscriptionRow>> subscriptionsLoader;
+    private volatile Snapshot snapshot;
+
+    NotificationRuleIndex(final boolean enabled, final Duration ttl, final Supplier<Collection<SubscriptionRow>> subscriptionsLoader) {
+        this.enabled = enabled;
+        this.ttlNanos = ttl.toNanos();
+        this.subscriptionsLoader = subscriptionsLoader;
+    }
+
+    public static NotificationRuleIndex getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @see #isSubscribed(NotificationScope, NotificationGroup, NotificationLevel, UUID)
+     */
+    public boolean isSubscribed(final NotificationScope scope, final NotificationGroup group, final NotificationLevel level) {
+        return isSubscribed(scope, group, level, null);
+    }
+
+    /**
+     * Determine whether any enabled notification rule may route a notification.
+     *
+     * @param scope       The {@link NotificationScope} of the notification
+     * @param group       The {@link NotificationGroup} of the notification
+     * @param level       The {@link NotificationLevel} of the notification
+     * @param projectUuid UUID of the project the notification is about, or {@code null} when not applicable or not known
+     * @return {@code false} when no rule would route the notification, otherwise {@code true}
+     */
+    public boolean isSubscribed(final NotificationScope scope, final NotificationGroup group,
+                                final NotificationLevel level, final UUID projectUuid) {
+        if (!enabled || scope == null || group == null || level == null) {
+            return true;
+        }
+
+        final Snapshot currentSnapshot = getSnapshot();
+        if (currentSnapshot == null) {
+            return true;
+        }
+
+        for (final Subscription subscription : currentSnapshot.subscriptionsByGroup().getOrDefault(group, List.of())) {
+            if (subscription.matches(scope, level, projectUuid)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public boolean isSubscribed(final Notification notification) {
+        return isSubscribed(
+                parseEnum(NotificationScope.class, notification.getScope()),
+                parseEnum(NotificationGroup.class, notification.getGroup()),
+                notification.getLevel());
+    }
+
+    public boolean isSubscribed(final org.dependencytrack.proto.notification.v1.Notification notification) {
+        return isSubscribed(
+                parseEnum(NotificationScope.class, notification.getScope().name().replaceFirst("^SCOPE_", "")),
+                parseEnum(NotificationGroup.class, notification.getGroup().name().replaceFirst("^GROUP_", "")),
+                parseEnum(NotificationLevel.class, notification.getLevel().name().replaceFirst("^LEVEL_", "")));
+    }
+
+    /**
+     * Invalidate the index, causing it to be rebuilt on next access.
+     * <p>
+     * Must be called whenever notification rules are created, modified, or deleted.
+     */
+    public void invalidate() {
+        snapshot = null;
+    }
+
+    private Snapshot getSnapshot() {
+        Snapshot currentSnapshot = snapshot;
+        if (currentSnapshot != null && (System.nanoTime() - currentSnapshot.createdAtNanos()) < ttlNanos) {
+            return currentSnapshot;
+        }
+
+        synchronized (this) {
+            currentSnapshot = snapshot;
+            if (currentSnapshot != null && (System.nanoTime() - currentSnapshot.createdAtNanos()) < ttlNanos) {
+                return currentSnapshot;
+            }
+
+            final long createdAtNanos = System.nanoTime();
+            try {
+                currentSnapshot = new Snapshot(buildIndex(subscriptionsLoader.get()), createdAtNanos);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Failed to load notification rule subscriptions; Not suppressing any notifications", e);
+                return null;
+            }
+
+            snapshot = currentSnapshot;
+            return currentSnapshot;
+        }
+    }
+
+    private static Map<NotificationGroup, List<Subscription>> buildIndex(final Collection<SubscriptionRow> rows) {
+        final var subscriptionsByGroup = new EnumMap<NotificationGroup, List<Subscription>>(NotificationGroup.class);
+
+        for (final SubscriptionRow row : rows) {
+            final NotificationScope scope = parseEnum(NotificationScope.class, row.scope());
+            if (scope == null || row.notifyOn() == null) {
+                continue;
+            }
+
+            // Rules without level match notifications of all levels.
+            final NotificationLevel level = row.level() != null
+                    ? parseEnum(NotificationLevel.class, row.level())
+                    : NotificationLevel.INFORMATIONAL;
+
+            // Matching tags, or children of projects, would require additional lookups
+            // for every notification. Assume such rules match all projects instead.
+            final Set<UUID> projectUuids = (row.projectUuids() == null || row.hasTags() || row.notifyChildren())
+                    ? null
+                    : Set.copyOf(row.projectUuids());
+
+            final var subscription = new Subscription(scope, level, projectUuids);
+            for (final String groupName : row.notifyOn().split(",")) {
+                final NotificationGroup group = parseEnum(NotificationGroup.class, groupName.trim());
+                if (group != null) {
+                    subscriptionsByGroup.computeIfAbsent(group, ignored -> new ArrayList<>()).add(subscription);
+                }
+            }
+        }
+
+        return subscriptionsByGroup;
+    }
+
+    private static Collection<SubscriptionRow> loadSubscriptions() {
+        return withJdbiHandle(handle -> handle.attach(NotificationRuleDao.class).getSubscriptionsOfEnabledRules());
+    }
+
+    private static int severityOf(final NotificationLevel level) {
+        if (level == null) {
+            return 0;
+        }
+
+        return switch (level) {
+            case INFORMATIONAL -> 0;
+            case WARNING -> 1;
+            case ERROR -> 2;
+        };
+    }
+
+    private static <T extends Enum<T>> T parseEnum(final Class<T> enumClass, final String name) {
+        if (name == null) {
+            return null;
+        }
+
+        try {
+            return Enum.valueOf(enumClass, name);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+}
@@ -43,7 +43,8 @@ public class MeterRegistryCustomizer implements alpine.common.metrics.MeterRegis
                                                      @NotNull final DistributionStatisticConfig config) {
             if ("alpine_event_processing".equals(id.getName())
                     || "pc.user.function.processing.time".equals(id.getName())
-                    || "http.server.requests".equals(id.getName())) {
+                    || "http.server.requests".equals(id.getName())
+                    || ProcessingStageTimer.METER_NAME.equals(id.getName())) {
                 return DistributionStatisticConfig.builder()
                         .percentiles(/* none */) // Disable client-side calculation of percentiles.
                         .percentilesHistogram(true) // Publish histogram instead.
@@ -0,0 +1,140 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.observability;
+
+import alpine.common.metrics.Metrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Records the duration of individual stages of a multi-stage process, such as BOM processing.
+ * <p>
+ * Durations are recorded in the {@value #METER_NAME} timer, tagged by {@code process},
+ * {@code stage}, and {@code outcome}. {@link Timer}s are cached per stage and outcome,
+ * such that recording a duration does not involve a registry lookup.
+ *
+ * @since 5.6.0
+ */
+public final class ProcessingStageTimer {
+
+    public static final String METER_NAME = "dtrack_processing_stage";
+
+    public enum Outcome {
+
+        SUCCESS,
+        FAILURE;
+
+        private final String tagValue = name().toLowerCase();
+
+    }
+
+    @FunctionalInterface
+    public interface ThrowingSupplier<T, E extends Throwable> {
+
+        T get() throws E;
+
+    }
+
+    @FunctionalInterface
+    public interface ThrowingRunnable<E extends Throwable> {
+
+        void run() throws E;
+
+    }
+
+    private record TimerKey(String stage, Outcome outcome) {
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final String process;
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public ProcessingStageTimer(final String process) {
+        this(Metrics.getRegistry(), process);
+    }
+
+    ProcessingStageTimer(final MeterRegistry meterRegistry, final String process) {
+        this.meterRegistry = requireNonNull(meterRegistry, "meterRegistry must not be null");
+        this.process = requireNonNull(process, "process must not be null");
+    }
+
+    /**
+     * Time the execution of a stage that yields a result.
+     * <p>
+     * The stage is considered to have failed if {@code supplier} throws.
+     *
+     * @param stage    Name of the stage
+     * @param supplier The stage to execute
+     * @return The result of {@code supplier}
+     */
+    public <T, E extends Throwable> T time(final String stage, final ThrowingSupplier<T, E> supplier) throws E {
+        final long startTimeNs = System.nanoTime();
+        var outcome = Outcome.FAILURE;
+        try {
+            final T result = supplier.get();
+            outcome = Outcome.SUCCESS;
+            return result;
+        } finally {
+            record(stage, outcome, System.nanoTime() - startTimeNs);
+        }
+    }
+
+    /**
+     * Time the execution of a stage that does not yield a result.
+     * <p>
+     * The stage is considered to have failed if {@code runnable} throws.
+     *
+     * @param stage    Name of the stage
+     * @param runnable The stage to execute
+     */
+    public <E extends Throwable> void run(final String stage, final ThrowingRunnable<E> runnable) throws E {
+        time(stage, () -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    /**
+     * Record the duration of a stage that was measured by the caller.
+     *
+     * @param stage      Name of the stage
+     * @param outcome    {@link Outcome} of the stage
+     * @param durationNs Duration of the stage in nanoseconds
+     */
+    public void record(final String stage, final Outcome outcome, final long durationNs) {
+        timers.computeIfAbsent(new TimerKey(stage, outcome), this::createTimer)
+                .record(durationNs, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer createTimer(final TimerKey key) {
+        return Timer.builder(METER_NAME)
+                .description("Duration of individual processing stages")
+                .tag("process", process)
+                .tag("stage", key.stage())
+                .tag("outcome", key.outcome().tagValue)
+                .register(meterRegistry);
+    }
+
+}
@@ -19,27 +19,39 @@
 package org.dependencytrack.parser.cyclonedx;
 
 import alpine.common.logging.Logger;
+import com.github.packageurl.MalformedPackageURLException;
+import com.github.packageurl.PackageURL;
 import org.apache.commons.collections4.CollectionUtils;
 import org.cyclonedx.model.Bom;
 import org.cyclonedx.util.BomLink;
 import org.cyclonedx.util.ObjectLocator;
-import org.dependencytrack.model.Analysis;
 import org.dependencytrack.model.AnalysisJustification;
 import org.dependencytrack.model.AnalysisResponse;
 import org.dependencytrack.model.AnalysisState;
-import org.dependencytrack.model.Component;
 import org.dependencytrack.model.ComponentIdentity;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.model.Vulnerability;
 import org.dependencytrack.parser.cyclonedx.util.ModelConverter;
 import org.dependencytrack.persistence.QueryManager;
-import org.dependencytrack.util.AnalysisCommentUtil;
+import org.dependencytrack.persistence.jdbi.AnalysisDao;
+import org.dependencytrack.persistence.jdbi.AnalysisDao.ProjectFindingAnalysisRow;
+import org.dependencytrack.persistence.jdbi.AnalysisDao.UpsertedAnalysisRow;
+import org.dependencytrack.util.AnalysisCommentFormatter.AnalysisCommentField;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.apache.commons.lang3.StringUtils.trimToNull;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiTransaction;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+import static org.dependencytrack.util.AnalysisCommentFormatter.formatComment;
 
 public class CycloneDXVexImporter {
 
@@ -47,6 +59,38 @@ public class CycloneDXVexImporter {
 
     private static final String COMMENTER = "CycloneDX VEX";
 
+    private record VulnKey(String source, String vulnId) {
+    }
+
+    /**
+     * Analysis of a finding, as it evolves while VEX statements are applied to it.
+     */
+    private static final class FindingAnalysis {
+
+        private final ProjectFindingAnalysisRow row;
+        private final List<String> comments = new ArrayList<>();
+        private AnalysisState state;
+        private AnalysisJustification justification;
+        private AnalysisResponse response;
+        private String details;
+        private boolean suppressed;
+        private boolean applied;
+
+        private FindingAnalysis(final ProjectFindingAnalysisRow row) {
+            this.row = row;
+            if (row.analysisId() != null) {
+                this.state = row.state();
+                this.justification = row.justification();
+                this.response = row.response();
+                this.details = row.details();
+                this.suppressed = Boolean.TRUE.equals(row.suppressed());
+            } else {
+                this.state = AnalysisState.NOT_SET;
+            }
+        }
+
+    }
+
     public void applyVex(final QueryManager qm, final Bom bom, final Project project) {
         if (bom.getVulnerabilities() == null || bom.getVulnerabilities().isEmpty()) {
             LOGGER.info("The uploaded VEX does not contain any vulnerabilities; Skipping VEX import");
@@ -63,9 +107,14 @@ public class CycloneDXVexImporter {
             return;
         }
 
+        // Resolve the findings of all VEX vulnerabilities at once, rather than
+        // looking up vulnerabilities, components, and analyses for every statement.
+        final Map<VulnKey, List<FindingAnalysis>> findingsByVulnKey = getFindings(project, vexVulns);
+
         for (final org.cyclonedx.model.vulnerability.Vulnerability vexVuln : vexVulns) {
-            final Vulnerability dtVuln = qm.getVulnerabilityByVulnId(vexVuln.getSource().getName(), vexVuln.getId());
-            if (dtVuln == null) {
+            final List<FindingAnalysis> findings = findingsByVulnKey.get(
+                    new VulnKey(vexVuln.getSource().getName(), vexVuln.getId()));
+            if (findings == null) {
                 LOGGER.warn("""
                         VEX contains analysis for vulnerability %s/%s, but the project is not affected by it. \
                         Analyses can currently only be applied to existing findings.\
@@ -77,17 +126,17 @@ public class CycloneDXVexImporter {
                 final ObjectLocator ol = new ObjectLocator(bom, affect.getRef()).locate();
                 if ((ol.found() && ol.isMetadataComponent()) || (!ol.found() && BomLink.isBomLink(affect.getRef()))) {
                     // Affects the project itself
-                    List<Component> components = qm.getAllVulnerableComponents(project, dtVuln, true);
-                    for (final Component component : components) {
-                        updateAnalysis(qm, component, dtVuln, vexVuln);
+                    for (final FindingAnalysis finding : findings) {
+                        applyAnalysis(finding, vexVuln);
                     }
                 } else if (ol.found() && ol.isComponent()) {
                     // Affects an individual component
                     final org.cyclonedx.model.Component cdxComponent = (org.cyclonedx.model.Component) ol.getObject();
-                    final ComponentIdentity cid = new ComponentIdentity(cdxComponent);
-                    List<Component> components = qm.matchIdentity(project, cid);
-                    for (final Component component : components) {
-                        updateAnalysis(qm, component, dtVuln, vexVuln);
+                    final var identityMatcher = new ComponentIdentityMatcher(new ComponentIdentity(cdxComponent));
+                    for (final FindingAnalysis finding : findings) {
+                        if (identityMatcher.matches(finding.row)) {
+                            applyAnalysis(finding, vexVuln);
+                        }
                     }
                 } else if (ol.found() && ol.isService()) {
                     // Affects an individual service
@@ -101,8 +150,87 @@ public class CycloneDXVexImporter {
                 }
             }
         }
+
+        final List<FindingAnalysis> appliedFindings = findingsByVulnKey.values().stream()
+                .flatMap(List::stream)
+                .filter(finding -> finding.applied)
+                .sorted(Comparator.<FindingAnalysis>comparingLong(finding -> finding.row.componentId())
+                        .thenComparingLong(finding -> finding.row.vulnId()))
+                .toList();
+        if (appliedFindings.isEmpty()) {
+            return;
+        }
+
+        saveAnalyses(project, appliedFindings);
+    }
+
+    private static Map<VulnKey, List<FindingAnalysis>> getFindings(
+            final Project project, final List<org.cyclonedx.model.vulnerability.Vulnerability> vexVulns) {
+        final Set<VulnKey> vulnKeys = new LinkedHashSet<>();
+        for (final org.cyclonedx.model.vulnerability.Vulnerability vexVuln : vexVulns) {
+            vulnKeys.add(new VulnKey(vexVuln.getSource().getName(), vexVuln.getId()));
+        }
+
+        final List<ProjectFindingAnalysisRow> rows = withJdbiHandle(handle -> handle.attach(AnalysisDao.class)
+                .getProjectFindingAnalyses(
+                        project.getId(),
+                        vulnKeys.stream().map(VulnKey::source).toList(),
+                        vulnKeys.stream().map(VulnKey::vulnId).toList()));
+
+        final var findingsByVulnKey = new HashMap<VulnKey, List<FindingAnalysis>>();
+        for (final ProjectFindingAnalysisRow row : rows) {
+            findingsByVulnKey
+                    .computeIfAbsent(new VulnKey(row.vulnSource(), row.vulnVulnId()), ignored -> new ArrayList<>())
+                    .add(new FindingAnalysis(row));
+        }
+
+        return findingsByVulnKey;
     }
 
+    private static void saveAnalyses(final Project project, final List<FindingAnalysis> findings) {
+        final var componentIds = new ArrayList<Long>(findings.size());
+        final var projectIds = new ArrayList<Long>(findings.size());
+        final var vulnIds = new ArrayList<Long>(findings.size());
+        final var states = new ArrayList<String>(findings.size());
+        final var justifications = new ArrayList<String>(findings.size());
+        final var responses = new ArrayList<String>(findings.size());
+        final var details = new ArrayList<String>(findings.size());
+        final var suppressed = new ArrayList<Boolean>(findings.size());
+        for (final FindingAnalysis finding : findings) {
+            componentIds.add(finding.row.componentId());
+            projectIds.add(project.getId());
+            vulnIds.add(finding.row.vulnId());
+            states.add(finding.state != null ? finding.state.name() : null);
+            justifications.add(finding.justification != null ? finding.justification.name() : null);
+            responses.add(finding.response != null ? finding.response.name() : null);
+            details.add(finding.details);
+            suppressed.add(finding.suppressed);
+        }
+
+        useJdbiTransaction(handle -> {
+            final var dao = handle.attach(AnalysisDao.class);
+
+            final List<UpsertedAnalysisRow> upsertedRows = dao.upsertAllAnalyses(
+                    componentIds, projectIds, vulnIds, states, justifications, responses, details, suppressed);
+            final var analysisIdByFinding = new HashMap<Map.Entry<Long, Long>, Long>(upsertedRows.size());
+            for (final UpsertedAnalysisRow upsertedRow : upsertedRows) {
+                analysisIdByFinding.put(Map.entry(upsertedRow.componentId(), upsertedRow.vulnId()), upsertedRow.id());
+            }
+
+            final var commentAnalysisIds = new ArrayList<Long>();
+            final var comments = new ArrayList<String>();
+            for (final FindingAnalysis finding : findings) {
+                final Long analysisId = analysisIdByFinding.get(Map.entry(finding.row.componentId(), finding.row.vulnId()));
+                for (final String comment : finding.comments) {
+                    commentAnalysisIds.add(analysisId);
+                    comments.add(comment);
+                }
+            }
+            if (!comments.isEmpty()) {
+                dao.createComments(commentAnalysisIds, COMMENTER, comments);
+            }
+        });
+    }
     private static List<org.cyclonedx.model.vulnerability.Vulnerability> getApplicableVexVulnerabilities(
             final List<org.cyclonedx.model.vulnerability.Vulnerability> vexVulns) {
         final var applicableVulns = new ArrayList<org.cyclonedx.model.vulnerability.Vulnerability>();
@@ -137,38 +265,102 @@ public class CycloneDXVexImporter {
         return applicableVulns;
     }
 
-    private static void updateAnalysis(final QueryManager qm, final Component component, final Vulnerability vuln,
-                                       final org.cyclonedx.model.vulnerability.Vulnerability cdxVuln) {
-        // The vulnerability object is detached, so refresh it.
-        final Vulnerability refreshedVuln = qm.getObjectByUuid(Vulnerability.class, vuln.getUuid());
-        Analysis analysis = qm.getAnalysis(component, refreshedVuln);
-        AnalysisState analysisState = null;
-        AnalysisJustification analysisJustification = null;
-        String analysisDetails = null;
-        AnalysisResponse analysisResponse = null;
+    /**
+     * Apply the analysis of a VEX vulnerability to a finding, recording audit trail comments
+     * in the same way as {@link org.dependencytrack.util.AnalysisCommentUtil} does.
+     * <p>
+     * Fields that are absent from the VEX analysis retain their current value,
+     * with the exception of the suppression status.
+     */
+    private static void applyAnalysis(final FindingAnalysis finding,
+                                      final org.cyclonedx.model.vulnerability.Vulnerability cdxVuln) {
+        final org.cyclonedx.model.vulnerability.Vulnerability.Analysis cdxAnalysis = cdxVuln.getAnalysis();
         boolean suppress = false;
-        if (analysis == null) {
-            analysis = qm.makeAnalysis(component, refreshedVuln, AnalysisState.NOT_SET, null, null, null, null);
-        }
-        if (cdxVuln.getAnalysis().getState() != null) {
-            analysisState = ModelConverter.convertCdxVulnAnalysisStateToDtAnalysisState(cdxVuln.getAnalysis().getState());
+        if (cdxAnalysis.getState() != null) {
+            final AnalysisState analysisState = ModelConverter.convertCdxVulnAnalysisStateToDtAnalysisState(cdxAnalysis.getState());
             suppress = (AnalysisState.FALSE_POSITIVE == analysisState || AnalysisState.NOT_AFFECTED == analysisState || AnalysisState.RESOLVED == analysisState);
-            AnalysisCommentUtil.makeStateComment(qm, analysis, analysisState, COMMENTER);
+            if (analysisState != null && analysisState != finding.state) {
+                finding.comments.add(formatComment(AnalysisCommentField.STATE, finding.state, analysisState));
+                finding.state = analysisState;
+            }
         }
-        if (cdxVuln.getAnalysis().getJustification() != null) {
-            analysisJustification = ModelConverter.convertCdxVulnAnalysisJustificationToDtAnalysisJustification(cdxVuln.getAnalysis().getJustification());
-            AnalysisCommentUtil.makeJustificationComment(qm, analysis, analysisJustification, COMMENTER);
+        if (cdxAnalysis.getJustification() != null) {
+            final AnalysisJustification analysisJustification = ModelConverter.convertCdxVulnAnalysisJustificationToDtAnalysisJustification(cdxAnalysis.getJustification());
+            if (analysisJustification != null) {
+                if (finding.justification == null && AnalysisJustification.NOT_SET != analysisJustification) {
+                    finding.comments.add(formatComment(AnalysisCommentField.JUSTIFICATION, AnalysisJustification.NOT_SET, analysisJustification));
+                } else if (finding.justification != null && analysisJustification != finding.justification) {
+                    finding.comments.add(formatComment(AnalysisCommentField.JUSTIFICATION, finding.justification, analysisJustification));
+                }
+                finding.justification = analysisJustification;
+            }
         }
-        if (trimToNull(cdxVuln.getAnalysis().getDetail()) != null) {
-            analysisDetails = cdxVuln.getAnalysis().getDetail().trim();
-            AnalysisCommentUtil.makeAnalysisDetailsComment(qm, analysis, cdxVuln.getAnalysis().getDetail().trim(), COMMENTER);
+        final String analysisDetails = trimToNull(cdxAnalysis.getDetail());
+        if (analysisDetails != null) {
+            if (!analysisDetails.equals(finding.details)) {
+                finding.comments.add(formatComment(AnalysisCommentField.DETAILS, finding.details, analysisDetails));
+            }
+            finding.details = analysisDetails;
         }
-        if (cdxVuln.getAnalysis().getResponses() != null) {
-            for (org.cyclonedx.model.vulnerability.Vulnerability.Analysis.Response cdxRes : cdxVuln.getAnalysis().getResponses()) {
-                analysisResponse = ModelConverter.convertCdxVulnAnalysisResponseToDtAnalysisResponse(cdxRes);
-                AnalysisCommentUtil.makeAnalysisResponseComment(qm, analysis, analysisResponse, COMMENTER);
+        if (cdxAnalysis.getResponses() != null) {
+            // All responses are compared against the response prior to this VEX statement,
+            // but only the last one is retained.
+            final AnalysisResponse previousResponse = finding.response;
+            for (org.cyclonedx.model.vulnerability.Vulnerability.Analysis.Response cdxRes : cdxAnalysis.getResponses()) {
+                final AnalysisResponse analysisResponse = ModelConverter.convertCdxVulnAnalysisResponseToDtAnalysisResponse(cdxRes);
+                if (analysisResponse == null) {
+                    continue;
+                }
+                if (previousResponse == null) {
+                    finding.comments.add(formatComment(AnalysisCommentField.RESPONSE, AnalysisResponse.NOT_SET, analysisResponse));
+                } else if (previousResponse != analysisResponse) {
+                    finding.comments.add(formatComment(AnalysisCommentField.RESPONSE, previousResponse, analysisResponse));
+                }
+                finding.response = analysisResponse;
             }
         }
-        qm.makeAnalysis(component, refreshedVuln, analysisState, analysisJustification, analysisResponse, analysisDetails, suppress);
+        finding.suppressed = suppress;
+        finding.applied = true;
     }
-}
\ No newline at end of file
+
+    /**
+     * Matches components of findings against a {@link ComponentIdentity},
+     * using the same criteria as {@link QueryManager#matchIdentity(Project, ComponentIdentity)}.
+     */
+    private static final class ComponentIdentityMatcher {
+
+        private final ComponentIdentity cid;
+        private final String purl;
+        private final String purlCoordinates;
+
+        private ComponentIdentityMatcher(final ComponentIdentity cid) {
+            this.cid = cid;
+
+            String purlString = null;
+            String purlCoordinatesString = null;
+            if (cid.getPurl() != null) {
+                try {
+                    final PackageURL cidPurl = cid.getPurl();
+                    purlString = cidPurl.canonicalize();
+                    purlCoordinatesString = new PackageURL(cidPurl.getType(), cidPurl.getNamespace(),
+                            cidPurl.getName(), cidPurl.getVersion(), null, null).canonicalize();
+                } catch (MalformedPackageURLException e) { // throw it away
+                }
+            }
+            this.purl = purlString;
+            this.purlCoordinates = purlCoordinatesString;
+        }
+
+        private boolean matches(final ProjectFindingAnalysisRow row) {
+            return (purl != null && purl.equals(row.componentPurl()))
+                    || (purlCoordinates != null && purlCoordinates.equals(row.componentPurlCoordinates()))
+                    || (cid.getCpe() != null && cid.getCpe().equals(row.componentCpe()))
+                    || (cid.getSwidTagId() != null && cid.getSwidTagId().equals(row.componentSwidTagId()))
+                    || (Objects.equals(cid.getGroup(), row.componentGroup())
+                    && Objects.equals(cid.getName(), row.componentName())
+                    && Objects.equals(cid.getVersion(), row.componentVersion()));
+        }
+
+    }
+
+}
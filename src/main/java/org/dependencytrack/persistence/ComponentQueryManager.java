@@ -35,6 +35,10 @@ import org.dependencytrack.model.Project;
 import org.dependencytrack.model.RepositoryMetaComponent;
 import org.dependencytrack.model.RepositoryType;
 import org.dependencytrack.model.sqlmapping.ComponentProjection;
+import org.dependencytrack.persistence.jdbi.ComponentDao;
+import org.dependencytrack.persistence.jdbi.ComponentDao.ComponentSearchRow;
+import org.dependencytrack.persistence.jdbi.ComponentDao.DependencyEdgeRow;
+import org.dependencytrack.persistence.jdbi.ComponentMetaDao;
 import org.dependencytrack.resources.v1.vo.DependencyGraphResponse;
 import org.dependencytrack.tasks.IntegrityMetaInitializerTask;
 
@@ -42,15 +46,21 @@ import javax.jdo.PersistenceManager;
 import javax.jdo.Query;
 import java.io.StringReader;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static org.dependencytrack.model.sqlmapping.ComponentProjection.mapToComponent;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
 import static org.dependencytrack.util.PersistenceUtil.assertNonPersistent;
 import static org.dependencytrack.util.PersistenceUtil.assertPersistent;
 
@@ -426,49 +436,33 @@ final class ComponentQueryManager extends QueryManager implements IQueryManager
             return null;
         }
 
-        final var queryFilterElements = new ArrayList<String>();
-        final var queryParams = new HashMap<String, Object>();
-
-        if (project != null) {
-            queryFilterElements.add(" project == :project ");
-            queryParams.put("project", project);
-        }
-
-        final PaginatedResult result;
+        String group = null, name = null, version = null, purl = null, cpe = null, swidTagId = null;
         if (identity.getGroup() != null || identity.getName() != null || identity.getVersion() != null) {
-            if (identity.getGroup() != null) {
-                queryFilterElements.add(" group.toLowerCase().matches(:group) ");
-                queryParams.put("group", ".*" + identity.getGroup().toLowerCase() + ".*");
-            }
-            if (identity.getName() != null) {
-                queryFilterElements.add(" name.toLowerCase().matches(:name) ");
-                queryParams.put("name", ".*" + identity.getName().toLowerCase() + ".*");
-            }
-            if (identity.getVersion() != null) {
-                queryFilterElements.add(" version.toLowerCase().matches(:version) ");
-                queryParams.put("version", ".*" + identity.getVersion().toLowerCase() + ".*");
-            }
-
-            result = loadComponents("(" + String.join(" && ", queryFilterElements) + ")", queryParams);
+            group = toLikeSubstring(identity.getGroup());
+            name = toLikeSubstring(identity.getName());
+            version = toLikeSubstring(identity.getVersion());
         } else if (identity.getPurl() != null) {
-            queryFilterElements.add("purl.toLowerCase().matches(:purl)");
-            queryParams.put("purl", ".*" + identity.getPurl().canonicalize().toLowerCase() + ".*");
-
-            result = loadComponents("(" + String.join(" && ", queryFilterElements) + ")", queryParams);
+            purl = toLikeSubstring(identity.getPurl().canonicalize());
         } else if (identity.getCpe() != null) {
-            queryFilterElements.add("cpe.toLowerCase().matches(:cpe)");
-            queryParams.put("cpe", ".*" + identity.getCpe().toLowerCase() + ".*");
-
-            result = loadComponents("(" + String.join(" && ", queryFilterElements) + ")", queryParams);
+            cpe = toLikeSubstring(identity.getCpe());
         } else if (identity.getSwidTagId() != null) {
-            queryFilterElements.add("swidTagId.toLowerCase().matches(:swidTagId)");
-            queryParams.put("swidTagId", ".*" + identity.getSwidTagId().toLowerCase() + ".*");
-
-            result = loadComponents("(" + String.join(" && ", queryFilterElements) + ")", queryParams);
+            swidTagId = toLikeSubstring(identity.getSwidTagId());
         } else {
-            result = new PaginatedResult();
+            return new PaginatedResult();
         }
 
+        // Resolve matching IDs via SQL that is able to use the trigram indexes
+        // on the identity columns, then load only the requested page of components.
+        final Long projectId = project != null ? project.getId() : null;
+        final String groupFilter = group, nameFilter = name, versionFilter = version,
+                purlFilter = purl, cpeFilter = cpe, swidTagIdFilter = swidTagId;
+        final List<ComponentSearchRow> rows = withJdbiHandle(request, handle -> handle.attach(ComponentDao.class)
+                .searchByIdentity(projectId, groupFilter, nameFilter, versionFilter, purlFilter, cpeFilter, swidTagIdFilter));
+
+        final PaginatedResult result = new PaginatedResult()
+                .objects(getComponentsByIds(rows.stream().map(ComponentSearchRow::id).toList()))
+                .total(rows.isEmpty() ? 0 : rows.getFirst().totalCount());
+
         if (includeMetrics) {
             // Populate each Component object in the paginated result with transitive related
             // data to minimize the number of round trips a client needs to make, process, and render.
@@ -497,13 +491,43 @@ final class ComponentQueryManager extends QueryManager implements IQueryManager
         return result;
     }
 
-    private PaginatedResult loadComponents(String queryFilter, Map<String, Object> params) {
-        var query = pm.newQuery(Component.class);
-        if (orderBy == null) {
-            query.setOrdering("id asc");
+    /**
+     * Load {@link Component}s by their IDs, retaining the order of {@code ids}.
+     */
+    private List<Component> getComponentsByIds(final List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
         }
-        preprocessACLs(query, queryFilter, params, false);
-        return execute(query, params);
+
+        final Query<Component> query = pm.newQuery(Component.class);
+        query.setFilter(":ids.contains(id)");
+        query.setParameters(ids);
+        final Map<Long, Component> componentById;
+        try {
+            componentById = query.executeList().stream()
+                    .collect(Collectors.toMap(Component::getId, Function.identity()));
+        } finally {
+            query.closeAll();
+        }
+
+        return ids.stream()
+                .map(componentById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Prepare a value for use in a case-insensitive {@code LIKE '%value%'} condition.
+     */
+    private static String toLikeSubstring(final String value) {
+        if (value == null) {
+            return null;
+        }
+
+        return value.toLowerCase()
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
     }
 
     /**
@@ -704,14 +728,16 @@ final class ComponentQueryManager extends QueryManager implements IQueryManager
             return dependencyGraph;
         }
 
-        for(Component component : components) {
+        for (Component component : components) {
             dependencyGraph.put(component.getUuid().toString(), component);
-            getParentDependenciesOfComponent(project, component, dependencyGraph);
         }
+        getParentDependenciesOfComponents(project, components, dependencyGraph);
         if (!dependencyGraph.isEmpty()){
             getRootDependencies(dependencyGraph, project);
             getDirectDependenciesForPathDependencies(dependencyGraph);
         }
+        final Map<List<String>, String> latestVersionByPackage = getLatestVersions(dependencyGraph.values());
+
         // Reduce size of JSON response
         for (Map.Entry<String, Component> entry : dependencyGraph.entrySet()) {
             Component transientComponent = new Component();
@@ -725,10 +751,11 @@ final class ComponentQueryManager extends QueryManager implements IQueryManager
             if (transientComponent.getPurl() != null) {
                 final RepositoryType type = RepositoryType.resolve(transientComponent.getPurl());
                 if (RepositoryType.UNSUPPORTED != type) {
-                    final RepositoryMetaComponent repoMetaComponent = getRepositoryMetaComponent(type, transientComponent.getPurl().getNamespace(), transientComponent.getPurl().getName());
-                    if (repoMetaComponent != null) {
+                    final String latestVersion = latestVersionByPackage.get(Arrays.asList(
+                            type.name(), transientComponent.getPurl().getNamespace(), transientComponent.getPurl().getName()));
+                    if (latestVersion != null) {
                         RepositoryMetaComponent transientRepoMetaComponent = new RepositoryMetaComponent();
-                        transientRepoMetaComponent.setLatestVersion(repoMetaComponent.getLatestVersion());
+                        transientRepoMetaComponent.setLatestVersion(latestVersion);
                         transientComponent.setRepositoryMeta(transientRepoMetaComponent);
                     }
                 }
@@ -751,55 +778,108 @@ final class ComponentQueryManager extends QueryManager implements IQueryManager
         return List.copyOf(query.executeResultList(DependencyGraphResponse.class));
     }
 
-    private void getParentDependenciesOfComponent(Project project, Component childComponent, Map<String, Component> dependencyGraph) {
-        final Query<Component> query = pm.newQuery(Component.class, "directDependencies.jsonbContains(:child) && project == :project");
-        List<Component> parentComponents = (List<Component>) query.executeWithArray("[{\"uuid\":\"%s\"}]".formatted(childComponent.getUuid()), project);
-        for (Component parentComponent : parentComponents) {
+    private void getParentDependenciesOfComponents(Project project, List<Component> childComponents, Map<String, Component> dependencyGraph) {
+        if (childComponents.isEmpty()) {
+            return;
+        }
+
+        // Resolve all ancestors in a single query, rather than walking up the graph one level at a time.
+        final List<DependencyEdgeRow> edges = withJdbiHandle(handle -> handle.attach(ComponentDao.class)
+                .getPathsToRoot(project.getId(), childComponents.stream().map(Component::getUuid).toList()));
+
+        final Set<String> parentUuids = edges.stream()
+                .map(edge -> edge.parentUuid().toString())
+                .collect(Collectors.toSet());
+        dependencyGraph.putAll(getComponentsByUuids(parentUuids, dependencyGraph));
+
+        for (final DependencyEdgeRow edge : edges) {
+            final Component parentComponent = dependencyGraph.get(edge.parentUuid().toString());
+            if (parentComponent == null) {
+                continue;
+            }
+
             parentComponent.setExpandDependencyGraph(true);
-            if(parentComponent.getDependencyGraph() == null) {
+            if (parentComponent.getDependencyGraph() == null) {
                 parentComponent.setDependencyGraph(new HashSet<>());
             }
-            parentComponent.getDependencyGraph().add(childComponent.getUuid().toString());
-            if (!dependencyGraph.containsKey(parentComponent.getUuid().toString())) {
-                dependencyGraph.put(parentComponent.getUuid().toString(), parentComponent);
-                getParentDependenciesOfComponent(project, parentComponent, dependencyGraph);
-            }
+            parentComponent.getDependencyGraph().add(edge.childUuid().toString());
         }
     }
 
     private void getRootDependencies(Map<String, Component> dependencyGraph, Project project) {
+        final Set<String> rootUuids = new HashSet<>();
         JsonArray directDependencies = Json.createReader(new StringReader(project.getDirectDependencies())).readArray();
         for (JsonValue directDependency : directDependencies) {
-            String uuid = directDependency.asJsonObject().getString("uuid");
-            if (!dependencyGraph.containsKey(uuid)) {
-                Component component = this.getObjectByUuid(Component.class, uuid);
-                dependencyGraph.put(uuid, component);
-            }
+            rootUuids.add(directDependency.asJsonObject().getString("uuid"));
         }
+        dependencyGraph.putAll(getComponentsByUuids(rootUuids, dependencyGraph));
         getDirectDependenciesForPathDependencies(dependencyGraph);
     }
 
     private void getDirectDependenciesForPathDependencies(Map<String, Component> dependencyGraph) {
-        Map<String, Component> addToDependencyGraph = new HashMap<>();
+        final Set<String> childUuids = new HashSet<>();
         for (Component component : dependencyGraph.values()) {
-            if (component.getDirectDependencies() != null && !component.getDirectDependencies().isEmpty()) {
+            if (component != null && component.getDirectDependencies() != null && !component.getDirectDependencies().isEmpty()) {
                 JsonArray directDependencies = Json.createReader(new StringReader(component.getDirectDependencies())).readArray();
                 for (JsonValue directDependency : directDependencies) {
                     if (component.getDependencyGraph() == null) {
                         component.setDependencyGraph(new HashSet<>());
                     }
                     String uuid = directDependency.asJsonObject().getString("uuid");
-                    if (!dependencyGraph.containsKey(uuid) && !addToDependencyGraph.containsKey(uuid)) {
-                        Component childNode = this.getObjectByUuid(Component.class, uuid);
-                        addToDependencyGraph.put(childNode.getUuid().toString(), childNode);
-                        component.getDependencyGraph().add(childNode.getUuid().toString());
-                    } else {
-                        component.getDependencyGraph().add(uuid);
-                    }
+                    component.getDependencyGraph().add(uuid);
+                    childUuids.add(uuid);
                 }
             }
         }
-        dependencyGraph.putAll(addToDependencyGraph);
+        dependencyGraph.putAll(getComponentsByUuids(childUuids, dependencyGraph));
+    }
+
+    /**
+     * Load {@link Component}s by their UUIDs in a single query, skipping those already present in {@code dependencyGraph}.
+     */
+    private Map<String, Component> getComponentsByUuids(final Set<String> uuids, final Map<String, Component> dependencyGraph) {
+        final List<UUID> uuidsToLoad = uuids.stream()
+                .filter(uuid -> !dependencyGraph.containsKey(uuid))
+                .map(UUID::fromString)
+                .toList();
+        if (uuidsToLoad.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        return getObjectsByUuids(Component.class, uuidsToLoad).stream()
+                .collect(Collectors.toMap(component -> component.getUuid().toString(), Function.identity()));
+    }
+
+    /**
+     * Fetch the latest versions of all given {@link Component}s' packages in a single query.
+     *
+     * @return Latest versions, keyed by repository type, namespace, and name
+     */
+    private static Map<List<String>, String> getLatestVersions(final Collection<Component> components) {
+        final var repositoryTypes = new ArrayList<String>();
+        final var namespaces = new ArrayList<String>();
+        final var names = new ArrayList<String>();
+        for (final Component component : components) {
+            if (component == null || component.getPurl() == null) {
+                continue;
+            }
+
+            final RepositoryType type = RepositoryType.resolve(component.getPurl());
+            if (RepositoryType.UNSUPPORTED != type) {
+                repositoryTypes.add(type.name());
+                namespaces.add(component.getPurl().getNamespace());
+                names.add(component.getPurl().getName());
+            }
+        }
+        if (repositoryTypes.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        final var latestVersionByPackage = new HashMap<List<String>, String>();
+        withJdbiHandle(handle -> handle.attach(ComponentMetaDao.class).getLatestVersions(repositoryTypes, namespaces, names))
+                .forEach(row -> latestVersionByPackage.putIfAbsent(
+                        Arrays.asList(row.repositoryType().name(), row.namespace(), row.name()), row.latestVersion()));
+        return latestVersionByPackage;
     }
 
     public List<Component> getComponentsByPurl(String purl) {
@@ -18,6 +18,8 @@
  */
 package org.dependencytrack.persistence;
 
+import alpine.persistence.OrderDirection;
+import alpine.persistence.PaginatedResult;
 import alpine.resources.AlpineRequest;
 import com.github.packageurl.PackageURL;
 import org.dependencytrack.model.Analysis;
@@ -29,6 +31,7 @@ import org.dependencytrack.model.Component;
 import org.dependencytrack.model.Finding;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.model.RepositoryType;
+import org.dependencytrack.model.Severity;
 import org.dependencytrack.model.VulnIdAndSource;
 import org.dependencytrack.model.Vulnerability;
 import org.dependencytrack.model.VulnerabilityAlias;
@@ -38,8 +41,10 @@ import org.dependencytrack.util.PurlUtil;
 import javax.jdo.PersistenceManager;
 import javax.jdo.Query;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -47,6 +52,42 @@ import java.util.stream.Collectors;
 
 public class FindingsQueryManager extends QueryManager implements IQueryManager {
 
+    /**
+     * Sorts vulnerabilities by their severity, falling back to the CVSS base score
+     * for vulnerabilities without an explicit severity.
+     */
+    static final String SEVERITY_SORTING_EXPRESSION = """
+            CASE WHEN "VULNERABILITY"."SEVERITY" = 'UNASSIGNED'
+                 THEN 0
+                 WHEN "VULNERABILITY"."SEVERITY" = 'LOW'
+                 THEN 3
+                 WHEN "VULNERABILITY"."SEVERITY" = 'MEDIUM'
+                 THEN 6
+                 WHEN "VULNERABILITY"."SEVERITY" = 'HIGH'
+                 THEN 8
+                 WHEN "VULNERABILITY"."SEVERITY" = 'CRITICAL'
+                 THEN 10
+                 ELSE CASE WHEN "VULNERABILITY"."CVSSV3BASESCORE" IS NOT NULL
+                           THEN "VULNERABILITY"."CVSSV3BASESCORE"
+                           ELSE "VULNERABILITY"."CVSSV2BASESCORE"
+                      END
+            END
+            """;
+
+    private static final Map<String, String> FINDINGS_SORTING_ATTRIBUTES = Map.ofEntries(
+            Map.entry("component.name", "\"COMPONENT\".\"NAME\""),
+            Map.entry("component.version", "\"COMPONENT\".\"VERSION\""),
+            Map.entry("vulnerability.vulnId", "\"VULNERABILITY\".\"VULNID\""),
+            Map.entry("vulnerability.source", "\"VULNERABILITY\".\"SOURCE\""),
+            Map.entry("vulnerability.severity", SEVERITY_SORTING_EXPRESSION),
+            Map.entry("vulnerability.cvssV2BaseScore", "\"VULNERABILITY\".\"CVSSV2BASESCORE\""),
+            Map.entry("vulnerability.cvssV3BaseScore", "\"VULNERABILITY\".\"CVSSV3BASESCORE\""),
+            Map.entry("vulnerability.epssScore", "\"EPSS\".\"SCORE\""),
+            Map.entry("attribution.analyzerIdentity", "\"FINDINGATTRIBUTION\".\"ANALYZERIDENTITY\""),
+            Map.entry("attribution.attributedOn", "\"FINDINGATTRIBUTION\".\"ATTRIBUTED_ON\""),
+            Map.entry("analysis.state", "\"ANALYSIS\".\"STATE\""),
+            Map.entry("analysis.isSuppressed", "\"ANALYSIS\".\"SUPPRESSED\"")
+    );
 
     /**
      * Constructs a new QueryManager.
@@ -341,13 +382,74 @@ public class FindingsQueryManager extends QueryManager implements IQueryManager
      * @param includeSuppressed determines if suppressed vulnerabilities should be included or not
      * @return a List of Finding objects
      */
-    @SuppressWarnings("unchecked")
     public List<Finding> getFindings(Project project, boolean includeSuppressed) {
-        final Query<Object[]> query = pm.newQuery(Query.SQL, Finding.QUERY);
-        query.setNamedParameters(Map.ofEntries(
-                Map.entry("projectId", project.getId()),
-                Map.entry("includeSuppressed", includeSuppressed)
-        ));
+        return getFindings(project, includeSuppressed, null, null, null, false).getList(Finding.class);
+    }
+
+    /**
+     * Returns a page of Finding objects for the specified project.
+     * <p>
+     * Filtering, ordering, and pagination are performed by the database, and the total
+     * number of matching findings is computed by the same query.
+     *
+     * @param project           the project to retrieve findings for
+     * @param includeSuppressed determines if suppressed vulnerabilities should be included or not
+     * @param source            optional source of vulnerability intelligence to limit findings to
+     * @param severities        optional severities to limit findings to
+     * @param analysisStates    optional analysis states to limit findings to
+     * @return a PaginatedResult of Finding objects
+     * @since 5.6.0
+     */
+    public PaginatedResult getFindingsPage(final Project project, final boolean includeSuppressed,
+                                           final Vulnerability.Source source,
+                                           final Collection<Severity> severities,
+                                           final Collection<AnalysisState> analysisStates) {
+        return getFindings(project, includeSuppressed, source, severities, analysisStates, true);
+    }
+
+    private PaginatedResult getFindings(final Project project, final boolean includeSuppressed,
+                                        final Vulnerability.Source source,
+                                        final Collection<Severity> severities,
+                                        final Collection<AnalysisState> analysisStates,
+                                        final boolean paginated) {
+        final var queryFilter = new StringBuilder();
+        final var params = new HashMap<String, Object>();
+        params.put("projectId", project.getId());
+        params.put("includeSuppressed", includeSuppressed);
+        if (source != null) {
+            queryFilter.append(" AND \"VULNERABILITY\".\"SOURCE\" = :source");
+            params.put("source", source.name());
+        }
+        if (severities != null && !severities.isEmpty()) {
+            queryFilter.append(" AND \"VULNERABILITY\".\"SEVERITY\" = ANY(:severities)");
+            params.put("severities", severities.stream().map(Severity::name).toArray(String[]::new));
+        }
+        if (analysisStates != null && !analysisStates.isEmpty()) {
+            queryFilter.append(" AND (\"ANALYSIS\".\"STATE\" = ANY(:analysisStates)");
+            if (analysisStates.contains(AnalysisState.NOT_SET)) {
+                queryFilter.append(" OR \"ANALYSIS\".\"STATE\" IS NULL");
+            }
+            queryFilter.append(")");
+            params.put("analysisStates", analysisStates.stream().map(AnalysisState::name).toArray(String[]::new));
+        }
+
+        final var queryStringBuilder = new StringBuilder(Finding.QUERY).append(queryFilter);
+        if (paginated) {
+            queryStringBuilder.append(" ORDER BY ");
+            final String orderByColumn = this.orderBy != null ? FINDINGS_SORTING_ATTRIBUTES.get(this.orderBy) : null;
+            if (orderByColumn != null) {
+                queryStringBuilder
+                        .append(orderByColumn)
+                        .append(this.orderDirection == OrderDirection.DESCENDING ? " DESC" : " ASC")
+                        .append(", ");
+            }
+            // Ensure a stable order across pages.
+            queryStringBuilder.append("\"COMPONENT\".\"ID\", \"VULNERABILITY\".\"ID\" ");
+            queryStringBuilder.append(getOffsetLimitSqlClause());
+        }
+
+        final Query<Object[]> query = pm.newQuery(Query.SQL, queryStringBuilder.toString());
+        query.setNamedParameters(params);
         final List<Object[]> queryResultRows;
         try {
             queryResultRows = new ArrayList<>(query.executeList());
@@ -358,7 +460,28 @@ public class FindingsQueryManager extends QueryManager implements IQueryManager
         final List<Finding> findings = queryResultRows.stream()
                 .map(row -> new Finding(project.getUuid(), row))
                 .toList();
+        enrichFindings(findings);
+
+        final var result = new PaginatedResult();
+        result.setObjects(findings);
+        if (!queryResultRows.isEmpty()) {
+            result.setTotal(((Number) queryResultRows.getFirst()[Finding.QUERY_TOTAL_COUNT_INDEX]).longValue());
+        } else if (paginated && pagination != null && pagination.isPaginated() && pagination.getOffset() > 0) {
+            // The requested page is out of range, so the window function had no row to report the total in.
+            result.setTotal(countFindings(queryFilter, params));
+        } else {
+            result.setTotal(0);
+        }
+        return result;
+    }
 
+    private long countFindings(final CharSequence queryFilter, final Map<String, Object> params) {
+        final Query<?> query = pm.newQuery(Query.SQL, "SELECT COUNT(*) FROM (" + Finding.QUERY + queryFilter + ") AS \"FINDINGS\"");
+        query.setNamedParameters(params);
+        return executeAndCloseResultUnique(query, Long.class);
+    }
+
+    private void enrichFindings(final List<Finding> findings) {
         final Map<VulnIdAndSource, List<Finding>> findingsByVulnIdAndSource = findings.stream()
                 .collect(Collectors.groupingBy(
                         finding -> new VulnIdAndSource(
@@ -408,6 +531,6 @@ public class FindingsQueryManager extends QueryManager implements IQueryManager
                         }
                     }
                 });
-        return findings;
     }
+
 }
@@ -38,6 +38,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 public class FindingsSearchQueryManager extends QueryManager implements IQueryManager {
@@ -45,23 +46,7 @@ public class FindingsSearchQueryManager extends QueryManager implements IQueryMa
     private static final Map<String, String> sortingAttributes = Map.ofEntries(
             Map.entry("vulnerability.vulnId", "\"VULNERABILITY\".\"VULNID\""),
             Map.entry("vulnerability.title", "\"VULNERABILITY\".\"TITLE\""),
-            Map.entry("vulnerability.severity", """
-                    CASE WHEN "VULNERABILITY"."SEVERITY" = 'UNASSIGNED'
-                         THEN 0
-                         WHEN "VULNERABILITY"."SEVERITY" = 'LOW'
-                         THEN 3
-                         WHEN "VULNERABILITY"."SEVERITY" = 'MEDIUM'
-                         THEN 6
-                         WHEN "VULNERABILITY"."SEVERITY" = 'HIGH'
-                         THEN 8
-                         WHEN "VULNERABILITY"."SEVERITY" = 'CRITICAL'
-                         THEN 10
-                         ELSE CASE WHEN "VULNERABILITY"."CVSSV3BASESCORE" IS NOT NULL
-                                   THEN "VULNERABILITY"."CVSSV3BASESCORE"
-                                   ELSE "VULNERABILITY"."CVSSV2BASESCORE"
-                              END
-                    END
-                    """),
+            Map.entry("vulnerability.severity", FindingsQueryManager.SEVERITY_SORTING_EXPRESSION),
             Map.entry("attribution.analyzerIdentity", "\"FINDINGATTRIBUTION\".\"ANALYZERIDENTITY\""),
             Map.entry("vulnerability.published", "\"VULNERABILITY\".\"PUBLISHED\""),
             Map.entry("vulnerability.cvssV2BaseScore", "\"VULNERABILITY\".\"CVSSV2BASESCORE\""),
@@ -75,6 +60,16 @@ public class FindingsSearchQueryManager extends QueryManager implements IQueryMa
             Map.entry("vulnerability.affectedProjectCount", "COUNT(DISTINCT \"PROJECT\".\"ID\")")
     );
 
+    /**
+     * Sorting attributes that differ when reading grouped findings from {@code VULNERABILITY_ROLLUP}.
+     */
+    private static final Map<String, String> rollupSortingAttributes = Map.ofEntries(
+            Map.entry("attribution.analyzerIdentity", "\"VULNERABILITY_ROLLUP\".\"ANALYZERIDENTITY\""),
+            Map.entry("attribution.attributedOn", "MAX(\"VULNERABILITY_ROLLUP\".\"LAST_ATTRIBUTED_ON\")")
+    );
+
+    private static final Set<String> ROLLUP_TEXT_SEARCH_FIELDS = Set.of("VULNERABILITY_ID", "VULNERABILITY_TITLE", "PROJECT_NAME");
+
     /**
      * Constructs a new QueryManager.
      * @param pm a PersistenceManager object
@@ -100,21 +95,18 @@ public class FindingsSearchQueryManager extends QueryManager implements IQueryMa
      * @return a List of Finding objects
      */
     public PaginatedResult getAllFindings(final Map<String, String> filters, final boolean showSuppressed, final boolean showInactive) {
-        StringBuilder queryFilter = new StringBuilder();
+        // Projects pending deletion are treated as if they were already deleted.
+        StringBuilder queryFilter = new StringBuilder(" WHERE (\"PROJECT\".\"DELETION_REQUESTED_AT\" IS NULL)");
         Map<String, Object> params = new HashMap<>();
         if (!showInactive) {
-            queryFilter.append(" WHERE (\"PROJECT\".\"INACTIVE_SINCE\" IS NULL)");
+            queryFilter.append(" AND (\"PROJECT\".\"INACTIVE_SINCE\" IS NULL)");
         }
         if (!showSuppressed) {
-            if (queryFilter.isEmpty()) {
-                queryFilter.append(" WHERE ");
-            } else {
-                queryFilter.append(" AND ");
-            }
+            queryFilter.append(" AND ");
             queryFilter.append("(\"ANALYSIS\".\"SUPPRESSED\" = :showSuppressed OR \"ANALYSIS\".\"SUPPRESSED\" IS NULL)");
             params.put("showSuppressed", false);
         }
-        processFilters(filters, queryFilter, params, false);
+        processFilters(filters, queryFilter, params, null);
         final Query<Object[]> query = pm.newQuery(Query.SQL, Finding.QUERY_ALL_FINDINGS + queryFilter + (this.orderBy != null ? " ORDER BY " + sortingAttributes.get(this.orderBy) + " " + (this.orderDirection == OrderDirection.DESCENDING ? " DESC" : "ASC") : ""));
         PaginatedResult result = new PaginatedResult();
         query.setNamedParameters(params);
@@ -152,33 +144,91 @@ public class FindingsSearchQueryManager extends QueryManager implements IQueryMa
 
     /**
      * Returns a List of all Finding objects filtered by ACL and other optional filters. The resulting list is grouped by vulnerability.
+     * <p>
+     * Reads from the incrementally maintained {@code VULNERABILITY_ROLLUP} table, unless filters
+     * or sorting refer to individual components, in which case all findings are aggregated.
      * @param filters      determines the filters to apply on the list of Finding objects
      * @param showInactive determines if inactive projects should be included or not
      * @return a List of Finding objects
      */
     public PaginatedResult getAllFindingsGroupedByVulnerability(final Map<String, String> filters, final boolean showInactive) {
-        StringBuilder queryFilter = new StringBuilder();
+        final boolean useRollup = isRollupApplicable(filters);
+        final String attributionTable = useRollup ? "VULNERABILITY_ROLLUP" : "FINDINGATTRIBUTION";
+        // Projects pending deletion are treated as if they were already deleted.
+        StringBuilder queryFilter = new StringBuilder(" WHERE (\"PROJECT\".\"DELETION_REQUESTED_AT\" IS NULL)");
         Map<String, Object> params = new HashMap<>();
         if (!showInactive) {
-            queryFilter.append(" WHERE (\"PROJECT\".\"INACTIVE_SINCE\" IS NULL)");
+            queryFilter.append(" AND (\"PROJECT\".\"INACTIVE_SINCE\" IS NULL)");
         }
-        processFilters(filters, queryFilter, params, true);
-        final Query<Object[]> query = pm.newQuery(Query.SQL, GroupedFinding.QUERY + queryFilter + (this.orderBy != null ? " ORDER BY " + sortingAttributes.get(this.orderBy) + " " + (this.orderDirection == OrderDirection.DESCENDING ? " DESC" : "ASC") : ""));
-        PaginatedResult result = new PaginatedResult();
+        processFilters(filters, queryFilter, params, attributionTable);
+        final String queryString = (useRollup ? GroupedFinding.QUERY_ROLLUP : GroupedFinding.QUERY) + queryFilter;
+
+        final var orderBy = new StringBuilder(" ORDER BY ");
+        final String sortingAttribute = this.orderBy == null ? null : useRollup
+                ? rollupSortingAttributes.getOrDefault(this.orderBy, sortingAttributes.get(this.orderBy))
+                : sortingAttributes.get(this.orderBy);
+        if (sortingAttribute != null) {
+            orderBy.append(sortingAttribute).append(this.orderDirection == OrderDirection.DESCENDING ? " DESC" : " ASC").append(", ");
+        }
+        // Tie-breakers to keep pages stable.
+        orderBy.append("\"VULNERABILITY\".\"ID\", \"").append(attributionTable).append("\".\"ANALYZERIDENTITY\" ");
+
+        final Query<Object[]> query = pm.newQuery(Query.SQL, queryString + orderBy + getOffsetLimitSqlClause());
         query.setNamedParameters(params);
-        final List<Object[]> totalList = query.executeList();
-        result.setTotal(totalList.size());
-        final List<Object[]> list = totalList.subList(this.pagination.getOffset(), Math.min(this.pagination.getOffset() + this.pagination.getLimit(), totalList.size()));
-        final List<GroupedFinding> findings = new ArrayList<>();
-        for (Object[] o : list) {
-            final GroupedFinding finding = new GroupedFinding(o);
-            findings.add(finding);
+        final List<Object[]> rows;
+        try {
+            rows = new ArrayList<>(query.executeList());
+        } finally {
+            query.closeAll();
+        }
+
+        final long total;
+        if (!rows.isEmpty()) {
+            total = ((Number) rows.getFirst()[GroupedFinding.QUERY_TOTAL_COUNT_INDEX]).longValue();
+        } else if (this.pagination != null && this.pagination.isPaginated() && this.pagination.getOffset() > 0) {
+            // The requested page is out of range, so the window function did not yield a total.
+            final Query<?> countQuery = pm.newQuery(Query.SQL,
+                    "SELECT COUNT(*) FROM (" + queryString + ") AS \"GROUPED_FINDINGS\"");
+            countQuery.setNamedParameters(params);
+            total = executeAndCloseResultUnique(countQuery, Long.class);
+        } else {
+            total = 0;
         }
+
+        final List<GroupedFinding> findings = new ArrayList<>(rows.size());
+        for (final Object[] o : rows) {
+            findings.add(new GroupedFinding(o));
+        }
+        final var result = new PaginatedResult();
+        result.setTotal(total);
         result.setObjects(findings);
         return result;
     }
 
-    private void processFilters(Map<String, String> filters, StringBuilder queryFilter, Map<String, Object> params, boolean isGroupedByVulnerabilities) {
+    private boolean isRollupApplicable(final Map<String, String> filters) {
+        if (this.orderBy != null
+                && !rollupSortingAttributes.containsKey(this.orderBy)
+                && !this.orderBy.startsWith("vulnerability.")) {
+            return false;
+        }
+
+        final String textSearchField = filters.get("textSearchField");
+        if (textSearchField != null && !textSearchField.isEmpty()) {
+            for (final String field : textSearchField.split(",")) {
+                if (!ROLLUP_TEXT_SEARCH_FIELDS.contains(field.toUpperCase())) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * @param groupByAttributionTable Name of the table holding the analyzer identity to group by,
+     *                                or {@code null} when findings should not be grouped by vulnerability
+     */
+    private void processFilters(Map<String, String> filters, StringBuilder queryFilter, Map<String, Object> params, String groupByAttributionTable) {
         for (String filter : filters.keySet()) {
             switch (filter) {
                 case "severity" ->
@@ -208,7 +258,7 @@ public class FindingsSearchQueryManager extends QueryManager implements IQueryMa
             }
         }
         preprocessACLs(queryFilter, params);
-        if (isGroupedByVulnerabilities) {
+        if (groupByAttributionTable != null) {
             queryFilter.append("""
                     GROUP BY "VULNERABILITY"."ID"
                            , "VULNERABILITY"."SOURCE"
@@ -220,10 +270,10 @@ public class FindingsSearchQueryManager extends QueryManager implements IQueryMa
                            , "VULNERABILITY"."OWASPRRLIKELIHOODSCORE"
                            , "VULNERABILITY"."OWASPRRTECHNICALIMPACTSCORE"
                            , "VULNERABILITY"."OWASPRRBUSINESSIMPACTSCORE"
-                           , "FINDINGATTRIBUTION"."ANALYZERIDENTITY"
+                           , "%s"."ANALYZERIDENTITY"
                            , "VULNERABILITY"."PUBLISHED"
                            , "VULNERABILITY"."CWES"
-                    """);
+                    """.formatted(groupByAttributionTable));
             StringBuilder aggregateFilter = new StringBuilder();
             processAggregateFilters(filters, aggregateFilter, params);
             queryFilter.append(aggregateFilter);
@@ -188,16 +188,6 @@ public class MetricsQueryManager extends QueryManager implements IQueryManager {
         return (List<DependencyMetrics>) query.execute(component, since);
     }
 
-    /**
-     * Synchronizes VulnerabilityMetrics.
-     */
-    public void synchronizeVulnerabilityMetrics(List<VulnerabilityMetrics> metrics) {
-        runInTransaction(() -> {
-            pm.newQuery("DELETE FROM org.dependencytrack.model.VulnerabilityMetrics").execute();
-            pm.makePersistentAll(metrics);
-        });
-    }
-
     /**
      * Delete all metrics associated for the specified Project.
      *
@@ -26,6 +26,7 @@ import org.dependencytrack.model.NotificationPublisher;
 import org.dependencytrack.model.NotificationRule;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.model.Tag;
+import org.dependencytrack.notification.NotificationRuleIndex;
 import org.dependencytrack.notification.NotificationScope;
 import org.dependencytrack.notification.publisher.PublisherClass;
 
@@ -67,7 +68,7 @@ public class NotificationQueryManager extends QueryManager implements IQueryMana
      * @return a new NotificationRule
      */
     public NotificationRule createNotificationRule(String name, NotificationScope scope, NotificationLevel level, NotificationPublisher publisher) {
-        return callInTransaction(() -> {
+        final NotificationRule createdRule = callInTransaction(() -> {
             final NotificationRule rule = new NotificationRule();
             rule.setName(name);
             rule.setScope(scope);
@@ -78,6 +79,8 @@ public class NotificationQueryManager extends QueryManager implements IQueryMana
             rule.setLogSuccessfulPublish(false);
             return persist(rule);
         });
+        NotificationRuleIndex.getInstance().invalidate();
+        return createdRule;
     }
 
     /**
@@ -86,7 +89,7 @@ public class NotificationQueryManager extends QueryManager implements IQueryMana
      * @return a NotificationRule
      */
     public NotificationRule updateNotificationRule(NotificationRule transientRule) {
-        return callInTransaction(() -> {
+        final NotificationRule updatedRule = callInTransaction(() -> {
             final NotificationRule rule = getObjectByUuid(NotificationRule.class, transientRule.getUuid());
             rule.setName(transientRule.getName());
             rule.setEnabled(transientRule.isEnabled());
@@ -98,6 +101,8 @@ public class NotificationQueryManager extends QueryManager implements IQueryMana
             bind(rule, resolveTags(transientRule.getTags()));
             return persist(rule);
         });
+        NotificationRuleIndex.getInstance().invalidate();
+        return updatedRule;
     }
 
     /**
@@ -233,6 +238,7 @@ public class NotificationQueryManager extends QueryManager implements IQueryMana
         } finally {
             query.closeAll();
         }
+        NotificationRuleIndex.getInstance().invalidate();
     }
 
     /**
@@ -254,6 +260,7 @@ public class NotificationQueryManager extends QueryManager implements IQueryMana
         final Query<NotificationRule> query = pm.newQuery(NotificationRule.class, "publisher.uuid == :uuid");
         query.deletePersistentAll(notificationPublisher.getUuid());
         delete(notificationPublisher);
+        NotificationRuleIndex.getInstance().invalidate();
     }
 
     /**
@@ -264,7 +271,7 @@ public class NotificationQueryManager extends QueryManager implements IQueryMana
         assertPersistent(notificationRule, "notificationRule must be persistent");
         assertPersistentAll(tags, "tags must be persistent");
 
-        return callInTransaction(() -> {
+        final boolean tagsModified = callInTransaction(() -> {
             boolean modified = false;
 
             if (!keepExisting) {
@@ -291,6 +298,10 @@ public class NotificationQueryManager extends QueryManager implements IQueryMana
             }
             return modified;
         });
+        if (tagsModified) {
+            NotificationRuleIndex.getInstance().invalidate();
+        }
+        return tagsModified;
     }
 
     /**
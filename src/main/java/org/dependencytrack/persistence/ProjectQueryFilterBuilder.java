@@ -42,6 +42,9 @@ class ProjectQueryFilterBuilder {
     ProjectQueryFilterBuilder() {
         this.params = new HashMap<>();
         this.filterCriteria = new ArrayList<>();
+
+        // Projects pending deletion must not be visible anymore.
+        filterCriteria.add("(deletionRequestedAt == null)");
     }
 
     ProjectQueryFilterBuilder excludeInactive(boolean excludeInactive) {
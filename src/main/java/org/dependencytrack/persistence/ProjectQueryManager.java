@@ -236,13 +236,53 @@ final class ProjectQueryManager extends QueryManager implements IQueryManager {
      */
     @Override
     public Project getProject(final String uuid) {
-        final Project project = getObjectByUuid(Project.class, uuid, Project.FetchGroup.ALL.name());
-        if (project != null) {
-            // set Metrics to minimize the number of round trips a client needs to make
-            project.setMetrics(getMostRecentProjectMetrics(project));
-            // set ProjectVersions to minimize the number of round trips a client needs to make
-            project.setVersions(getProjectVersions(project));
+        final Project project = getProjectByUuid(uuid, Project.FetchGroup.ALL.name());
+        if (project == null) {
+            return null;
+        }
+
+        // set Metrics to minimize the number of round trips a client needs to make
+        project.setMetrics(getMostRecentProjectMetrics(project));
+        // set ProjectVersions to minimize the number of round trips a client needs to make
+        project.setVersions(getProjectVersions(project));
+        return project;
+    }
+
+    /**
+     * Returns a project by its UUID.
+     * <p>
+     * Projects that were requested to be deleted are treated as if they did not exist anymore,
+     * even if their deletion has not completed yet.
+     *
+     * @param uuid The UUID of the {@link Project}
+     * @return The {@link Project}, or {@code null} when it does not exist, or is pending deletion
+     * @since 5.6.0
+     */
+    public Project getProjectByUuid(final UUID uuid) {
+        return withoutDeletionRequested(getObjectByUuid(Project.class, uuid));
+    }
+
+    /**
+     * @see #getProjectByUuid(UUID)
+     * @since 5.6.0
+     */
+    public Project getProjectByUuid(final String uuid) {
+        return withoutDeletionRequested(getObjectByUuid(Project.class, uuid));
+    }
+
+    /**
+     * @see #getProjectByUuid(UUID)
+     * @since 5.6.0
+     */
+    public Project getProjectByUuid(final String uuid, final String fetchGroup) {
+        return withoutDeletionRequested(getObjectByUuid(Project.class, uuid, fetchGroup));
+    }
+
+    private static Project withoutDeletionRequested(final Project project) {
+        if (project == null || project.getDeletionRequestedAt() != null) {
+            return null;
         }
+
         return project;
     }
 
@@ -1285,7 +1325,7 @@ final class ProjectQueryManager extends QueryManager implements IQueryManager {
     public boolean doesProjectExist(final String name, final String version) {
         final Query<Project> query = pm.newQuery(Project.class);
         if (version != null) {
-            query.setFilter("name == :name && version == :version");
+            query.setFilter("name == :name && version == :version && deletionRequestedAt == null");
             query.setNamedParameters(Map.of(
                     "name", name,
                     "version", version
@@ -1294,7 +1334,7 @@ final class ProjectQueryManager extends QueryManager implements IQueryManager {
             // Version is optional for projects, but using null
             // for parameter values bypasses the query compilation cache.
             // https://github.com/DependencyTrack/dependency-track/issues/2540
-            query.setFilter("name == :name && version == null");
+            query.setFilter("name == :name && version == null && deletionRequestedAt == null");
             query.setNamedParameters(Map.of(
                     "name", name
             ));
@@ -79,6 +79,7 @@ import org.dependencytrack.model.RepositoryMetaComponent;
 import org.dependencytrack.model.RepositoryType;
 import org.dependencytrack.model.Role;
 import org.dependencytrack.model.ServiceComponent;
+import org.dependencytrack.model.Severity;
 import org.dependencytrack.model.Tag;
 import org.dependencytrack.model.Vex;
 import org.dependencytrack.model.ViolationAnalysis;
@@ -556,6 +557,18 @@ public class QueryManager extends AlpineQueryManager {
         return getProjectQueryManager().getProject(uuid);
     }
 
+    public Project getProjectByUuid(final UUID uuid) {
+        return getProjectQueryManager().getProjectByUuid(uuid);
+    }
+
+    public Project getProjectByUuid(final String uuid) {
+        return getProjectQueryManager().getProjectByUuid(uuid);
+    }
+
+    public Project getProjectByUuid(final String uuid, final String fetchGroup) {
+        return getProjectQueryManager().getProjectByUuid(uuid, fetchGroup);
+    }
+
     public Project getProject(final String name, final String version) {
         return getProjectQueryManager().getProject(name, version);
     }
@@ -1244,6 +1257,13 @@ public class QueryManager extends AlpineQueryManager {
         return getFindingsQueryManager().getFindings(project, includeSuppressed);
     }
 
+    public PaginatedResult getFindingsPage(final Project project, final boolean includeSuppressed,
+                                           final Vulnerability.Source source,
+                                           final Collection<Severity> severities,
+                                           final Collection<AnalysisState> analysisStates) {
+        return getFindingsQueryManager().getFindingsPage(project, includeSuppressed, source, severities, analysisStates);
+    }
+
     public PaginatedResult getAllFindings(final Map<String, String> filters, final boolean showSuppressed, final boolean showInactive) {
         return getFindingsSearchQueryManager().getAllFindings(filters, showSuppressed, showInactive);
     }
@@ -1296,10 +1316,6 @@ public class QueryManager extends AlpineQueryManager {
         return getMetricsQueryManager().getDependencyMetricsSince(component, since);
     }
 
-    public void synchronizeVulnerabilityMetrics(List<VulnerabilityMetrics> metrics) {
-        getMetricsQueryManager().synchronizeVulnerabilityMetrics(metrics);
-    }
-
     void deleteMetrics(Project project) {
         getMetricsQueryManager().deleteMetrics(project);
     }
@@ -25,6 +25,7 @@ import alpine.persistence.NotSortableException;
 import alpine.persistence.OrderDirection;
 import alpine.persistence.PaginatedResult;
 import alpine.resources.AlpineRequest;
+import alpine.server.util.DbUtil;
 import org.apache.commons.lang3.StringUtils;
 import org.dependencytrack.auth.Permissions;
 import org.dependencytrack.exception.TagOperationFailedException;
@@ -33,9 +34,13 @@ import org.dependencytrack.model.Policy;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.model.Tag;
 import org.dependencytrack.model.Vulnerability;
+import org.dependencytrack.notification.NotificationRuleIndex;
 
 import javax.jdo.PersistenceManager;
 import javax.jdo.Query;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
@@ -43,7 +48,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -543,7 +550,7 @@ public class TagQueryManager extends QueryManager implements IQueryManager {
      * @param tags a List of Tags to resolve
      * @return List of resolved Tags
      */
-    public synchronized List<Tag> resolveTags(final List<Tag> tags) {
+    public List<Tag> resolveTags(final List<Tag> tags) {
         if (tags == null) {
             return new ArrayList<>();
         }
@@ -551,25 +558,58 @@ public class TagQueryManager extends QueryManager implements IQueryManager {
          return resolveTagsByName(tagNames);
     }
 
-    public synchronized List<Tag> resolveTagsByName(final List<String> tags) {
+    /**
+     * Resolves tags by their name, creating tags that do not exist yet.
+     * <p>
+     * Tags are created with a single {@code INSERT ... ON CONFLICT DO NOTHING} statement,
+     * and retrieved with a single query thereafter. Concurrent resolution of the same tags,
+     * within this instance or across the cluster, is thus safe without further synchronization.
+     *
+     * @param tags Names of the tags to resolve
+     * @return The resolved {@link Tag}s, without duplicates
+     */
+    public List<Tag> resolveTagsByName(final List<String> tags) {
         if (tags == null) {
             return new ArrayList<>();
         }
-        final List<Tag> resolvedTags = new ArrayList<>();
-        final List<String> unresolvedTags = new ArrayList<>();
-        for (final String tag : tags) {
-            final String trimmedTag = StringUtils.trimToNull(tag);
-            if (trimmedTag != null) {
-                final Tag resolvedTag = getTagByName(trimmedTag);
-                if (resolvedTag != null) {
-                    resolvedTags.add(resolvedTag);
-                } else {
-                    unresolvedTags.add(trimmedTag);
-                }
-            }
+
+        // Sort names so that concurrent inserts acquire locks in the same order.
+        final Set<String> tagNames = tags.stream()
+                .map(StringUtils::trimToNull)
+                .filter(Objects::nonNull)
+                .map(StringUtils::lowerCase)
+                .collect(Collectors.toCollection(TreeSet::new));
+        if (tagNames.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        createTagsIfNotExist(tagNames);
+
+        final Query<Tag> query = pm.newQuery(Tag.class);
+        query.setFilter(":names.contains(name)");
+        query.setNamedParameters(Map.of("names", tagNames));
+        return new ArrayList<>(executeAndCloseList(query));
+    }
+
+    private void createTagsIfNotExist(final Collection<String> names) {
+        final String createQuery = """
+                INSERT INTO "TAG" ("NAME")
+                SELECT UNNEST(?)
+                ON CONFLICT ("NAME") DO NOTHING
+                """;
+        Connection connection = null;
+        PreparedStatement preparedStatement = null;
+        try {
+            connection = (Connection) pm.getDataStoreConnection();
+            preparedStatement = connection.prepareStatement(createQuery);
+            preparedStatement.setArray(1, connection.createArrayOf("TEXT", names.toArray()));
+            preparedStatement.executeUpdate();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to create tags", e);
+        } finally {
+            DbUtil.close(preparedStatement);
+            DbUtil.close(connection);
         }
-        resolvedTags.addAll(createTags(unresolvedTags));
-        return resolvedTags;
     }
 
     /**
@@ -599,9 +639,10 @@ public class TagQueryManager extends QueryManager implements IQueryManager {
         if (resolvedTag != null) {
             return resolvedTag;
         }
-        final Tag tag = new Tag();
-        tag.setName(loweredTrimmedTag);
-        return persist(tag);
+        // The tag may be created concurrently, so rely on the unique index
+        // to resolve the conflict rather than persisting a new Tag instance.
+        createTagsIfNotExist(Set.of(loweredTrimmedTag));
+        return getTagByName(loweredTrimmedTag);
     }
 
     /**
@@ -611,16 +652,23 @@ public class TagQueryManager extends QueryManager implements IQueryManager {
      * @return the created Tag object(s)
      */
     public List<Tag> createTags(final List<String> names) {
-        final List<Tag> newTags = new ArrayList<>();
+        final Set<String> newTagNames = new TreeSet<>();
         for (final String name : names) {
             final String loweredTrimmedTag = StringUtils.lowerCase(StringUtils.trimToNull(name));
             if (getTagByName(loweredTrimmedTag) == null) {
-                final Tag tag = new Tag();
-                tag.setName(loweredTrimmedTag);
-                newTags.add(tag);
+                newTagNames.add(loweredTrimmedTag);
             }
         }
-        return new ArrayList<>(persist(newTags));
+        if (newTagNames.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        createTagsIfNotExist(newTagNames);
+
+        final Query<Tag> query = pm.newQuery(Tag.class);
+        query.setFilter(":names.contains(name)");
+        query.setNamedParameters(Map.of("names", newTagNames));
+        return new ArrayList<>(executeAndCloseList(query));
     }
 
     /**
@@ -717,6 +765,7 @@ public class TagQueryManager extends QueryManager implements IQueryManager {
                 notificationRule.getTags().remove(tag);
             }
         });
+        NotificationRuleIndex.getInstance().invalidate();
     }
 
     public record TaggedVulnerabilityRow(UUID uuid, String vulnId, String source, long totalCount) {
@@ -18,13 +18,227 @@
  */
 package org.dependencytrack.persistence.jdbi;
 
+import jakarta.annotation.Nullable;
+import org.dependencytrack.model.AnalysisJustification;
+import org.dependencytrack.model.AnalysisResponse;
+import org.dependencytrack.model.AnalysisState;
+import org.jdbi.v3.core.mapper.reflect.ColumnName;
+import org.jdbi.v3.sqlobject.config.RegisterConstructorMapper;
 import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.GetGeneratedKeys;
 import org.jdbi.v3.sqlobject.statement.SqlBatch;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
 
 import java.util.List;
+import java.util.UUID;
 
 public interface AnalysisDao {
 
+    /**
+     * @since 5.6.0
+     */
+    record FindingAnalysisRow(
+            @ColumnName("COMPONENT_ID") long componentId,
+            @ColumnName("COMPONENT_UUID") UUID componentUuid,
+            @ColumnName("PROJECT_ID") long projectId,
+            @ColumnName("VULNERABILITY_ID") long vulnId,
+            @ColumnName("VULNERABILITY_UUID") UUID vulnUuid,
+            @Nullable @ColumnName("ANALYSIS_ID") Long analysisId,
+            @Nullable @ColumnName("STATE") AnalysisState state,
+            @Nullable @ColumnName("JUSTIFICATION") AnalysisJustification justification,
+            @Nullable @ColumnName("RESPONSE") AnalysisResponse response,
+            @Nullable @ColumnName("DETAILS") String details,
+            @Nullable @ColumnName("SUPPRESSED") Boolean suppressed) {
+    }
+
+    /**
+     * @since 5.6.0
+     */
+    record UpsertedAnalysisRow(
+            @ColumnName("ID") long id,
+            @ColumnName("COMPONENT_ID") long componentId,
+            @ColumnName("VULNERABILITY_ID") long vulnId) {
+    }
+
+    /**
+     * Resolve pairs of component and vulnerability UUIDs, along with their current analysis, if any.
+     * <p>
+     * Pairs for which either the component or the vulnerability does not exist,
+     * or the component's project is not accessible, are omitted.
+     *
+     * @since 5.6.0
+     */
+    @SqlQuery(/* language=InjectedFreeMarker */ """
+            <#-- @ftlvariable name="apiProjectAclCondition" type="String" -->
+            SELECT DISTINCT
+                   "COMPONENT"."ID" AS "COMPONENT_ID"
+                 , "COMPONENT"."UUID" AS "COMPONENT_UUID"
+                 , "COMPONENT"."PROJECT_ID"
+                 , "VULNERABILITY"."ID" AS "VULNERABILITY_ID"
+                 , "VULNERABILITY"."UUID" AS "VULNERABILITY_UUID"
+                 , "ANALYSIS"."ID" AS "ANALYSIS_ID"
+                 , "ANALYSIS"."STATE"
+                 , "ANALYSIS"."JUSTIFICATION"
+                 , "ANALYSIS"."RESPONSE"
+                 , "ANALYSIS"."DETAILS"
+                 , "ANALYSIS"."SUPPRESSED"
+              FROM UNNEST(:componentUuids, :vulnUuids) AS "REQUESTED"("COMPONENT_UUID", "VULNERABILITY_UUID")
+             INNER JOIN "COMPONENT"
+                ON "COMPONENT"."UUID" = "REQUESTED"."COMPONENT_UUID"
+             INNER JOIN "PROJECT"
+                ON "PROJECT"."ID" = "COMPONENT"."PROJECT_ID"
+             INNER JOIN "VULNERABILITY"
+                ON "VULNERABILITY"."UUID" = "REQUESTED"."VULNERABILITY_UUID"
+              LEFT JOIN "ANALYSIS"
+                ON "ANALYSIS"."COMPONENT_ID" = "COMPONENT"."ID"
+               AND "ANALYSIS"."VULNERABILITY_ID" = "VULNERABILITY"."ID"
+             WHERE ${apiProjectAclCondition!"TRUE"}
+            """)
+    @RegisterConstructorMapper(FindingAnalysisRow.class)
+    List<FindingAnalysisRow> getFindingAnalyses(@Bind List<UUID> componentUuids, @Bind List<UUID> vulnUuids);
+
+    /**
+     * Apply the same analysis decision to multiple findings, creating analyses where none exist yet.
+     * <p>
+     * {@code details} and {@code suppressed} remain unchanged for existing analyses when {@code null}.
+     *
+     * @since 5.6.0
+     */
+    @SqlUpdate("""
+            INSERT INTO "ANALYSIS" AS "A"
+              ("COMPONENT_ID", "PROJECT_ID", "VULNERABILITY_ID", "STATE", "JUSTIFICATION", "RESPONSE", "DETAILS", "SUPPRESSED")
+            SELECT "COMPONENT_ID"
+                 , "PROJECT_ID"
+                 , "VULNERABILITY_ID"
+                 , :state
+                 , :justification
+                 , :response
+                 , :details
+                 , COALESCE(:suppressed, FALSE)
+              FROM UNNEST(:componentIds, :projectIds, :vulnIds) AS "T"("COMPONENT_ID", "PROJECT_ID", "VULNERABILITY_ID")
+             ORDER BY "COMPONENT_ID", "VULNERABILITY_ID"
+            ON CONFLICT ("VULNERABILITY_ID", "COMPONENT_ID", "PROJECT_ID") DO UPDATE
+            SET "STATE" = EXCLUDED."STATE"
+              , "JUSTIFICATION" = EXCLUDED."JUSTIFICATION"
+              , "RESPONSE" = EXCLUDED."RESPONSE"
+              , "DETAILS" = COALESCE(:details, "A"."DETAILS")
+              , "SUPPRESSED" = COALESCE(:suppressed, "A"."SUPPRESSED")
+            RETURNING "ID", "COMPONENT_ID", "VULNERABILITY_ID"
+            """)
+    @GetGeneratedKeys({"ID", "COMPONENT_ID", "VULNERABILITY_ID"})
+    @RegisterConstructorMapper(UpsertedAnalysisRow.class)
+    List<UpsertedAnalysisRow> upsertAnalyses(
+            @Bind List<Long> componentIds,
+            @Bind List<Long> projectIds,
+            @Bind List<Long> vulnIds,
+            @Bind AnalysisState state,
+            @Bind AnalysisJustification justification,
+            @Bind AnalysisResponse response,
+            @Bind String details,
+            @Bind Boolean suppressed);
+
+    /**
+     * @since 5.6.0
+     */
+    record ProjectFindingAnalysisRow(
+            @ColumnName("COMPONENT_ID") long componentId,
+            @Nullable @ColumnName("PURL") String componentPurl,
+            @Nullable @ColumnName("PURLCOORDINATES") String componentPurlCoordinates,
+            @Nullable @ColumnName("CPE") String componentCpe,
+            @Nullable @ColumnName("SWIDTAGID") String componentSwidTagId,
+            @Nullable @ColumnName("GROUP") String componentGroup,
+            @Nullable @ColumnName("NAME") String componentName,
+            @Nullable @ColumnName("VERSION") String componentVersion,
+            @ColumnName("VULNERABILITY_ID") long vulnId,
+            @ColumnName("VULN_SOURCE") String vulnSource,
+            @ColumnName("VULN_ID") String vulnVulnId,
+            @Nullable @ColumnName("ANALYSIS_ID") Long analysisId,
+            @Nullable @ColumnName("STATE") AnalysisState state,
+            @Nullable @ColumnName("JUSTIFICATION") AnalysisJustification justification,
+            @Nullable @ColumnName("RESPONSE") AnalysisResponse response,
+            @Nullable @ColumnName("DETAILS") String details,
+            @Nullable @ColumnName("SUPPRESSED") Boolean suppressed) {
+    }
+
+    /**
+     * Fetch all findings of a project for the given vulnerabilities, along with the identity
+     * of the affected component, and the current analysis of the finding, if any.
+     * <p>
+     * {@code vulnSources} and {@code vulnIds} are expected to be of equal length,
+     * and to be correlated by index.
+     *
+     * @since 5.6.0
+     */
+    @SqlQuery("""
+            SELECT "C"."ID" AS "COMPONENT_ID"
+                 , "C"."PURL"
+                 , "C"."PURLCOORDINATES"
+                 , "C"."CPE"
+                 , "C"."SWIDTAGID"
+                 , "C"."GROUP"
+                 , "C"."NAME"
+                 , "C"."VERSION"
+                 , "V"."ID" AS "VULNERABILITY_ID"
+                 , "V"."SOURCE" AS "VULN_SOURCE"
+                 , "V"."VULNID" AS "VULN_ID"
+                 , "A"."ID" AS "ANALYSIS_ID"
+                 , "A"."STATE"
+                 , "A"."JUSTIFICATION"
+                 , "A"."RESPONSE"
+                 , "A"."DETAILS"
+                 , "A"."SUPPRESSED"
+              FROM "COMPONENT" AS "C"
+             INNER JOIN "COMPONENTS_VULNERABILITIES" AS "CV"
+                ON "CV"."COMPONENT_ID" = "C"."ID"
+             INNER JOIN "VULNERABILITY" AS "V"
+                ON "V"."ID" = "CV"."VULNERABILITY_ID"
+              LEFT JOIN "ANALYSIS" AS "A"
+                ON "A"."COMPONENT_ID" = "C"."ID"
+               AND "A"."VULNERABILITY_ID" = "V"."ID"
+             WHERE "C"."PROJECT_ID" = :projectId
+               AND ("V"."SOURCE", "V"."VULNID") IN (SELECT * FROM UNNEST(:vulnSources, :vulnIds))
+            """)
+    @RegisterConstructorMapper(ProjectFindingAnalysisRow.class)
+    List<ProjectFindingAnalysisRow> getProjectFindingAnalyses(
+            @Bind long projectId,
+            @Bind List<String> vulnSources,
+            @Bind List<String> vulnIds);
+
+    /**
+     * Create or update analyses, using individual values for every analysis.
+     * <p>
+     * All lists are expected to be of equal length, and to be correlated by index.
+     * Callers should order entries by component and vulnerability to prevent
+     * deadlocks between concurrent transactions.
+     *
+     * @since 5.6.0
+     */
+    @SqlUpdate("""
+            INSERT INTO "ANALYSIS" AS "A"
+              ("COMPONENT_ID", "PROJECT_ID", "VULNERABILITY_ID", "STATE", "JUSTIFICATION", "RESPONSE", "DETAILS", "SUPPRESSED")
+            SELECT *
+              FROM UNNEST(:componentIds, :projectIds, :vulnIds, :states, :justifications, :responses, :details, :suppressed)
+            ON CONFLICT ("VULNERABILITY_ID", "COMPONENT_ID", "PROJECT_ID") DO UPDATE
+            SET "STATE" = EXCLUDED."STATE"
+              , "JUSTIFICATION" = EXCLUDED."JUSTIFICATION"
+              , "RESPONSE" = EXCLUDED."RESPONSE"
+              , "DETAILS" = EXCLUDED."DETAILS"
+              , "SUPPRESSED" = EXCLUDED."SUPPRESSED"
+            RETURNING "ID", "COMPONENT_ID", "VULNERABILITY_ID"
+            """)
+    @GetGeneratedKeys({"ID", "COMPONENT_ID", "VULNERABILITY_ID"})
+    @RegisterConstructorMapper(UpsertedAnalysisRow.class)
+    List<UpsertedAnalysisRow> upsertAllAnalyses(
+            @Bind List<Long> componentIds,
+            @Bind List<Long> projectIds,
+            @Bind List<Long> vulnIds,
+            @Bind List<String> states,
+            @Bind List<String> justifications,
+            @Bind List<String> responses,
+            @Bind List<String> details,
+            @Bind List<Boolean> suppressed);
+
     @SqlBatch("""
             INSERT INTO "ANALYSISCOMMENT"
               ("ANALYSIS_ID", "COMMENT", "COMMENTER", "TIMESTAMP")
@@ -18,9 +18,15 @@
  */
 package org.dependencytrack.persistence.jdbi;
 
+import org.jdbi.v3.core.mapper.reflect.ColumnName;
+import org.jdbi.v3.sqlobject.config.RegisterConstructorMapper;
 import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.customizer.DefineNamedBindings;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.jdbi.v3.sqlobject.statement.SqlUpdate;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 public interface ComponentDao {
@@ -31,4 +37,194 @@ public interface ComponentDao {
              WHERE "UUID" = :componentUuid
             """)
     int deleteComponent(@Bind final UUID componentUuid);
+
+    /**
+     * @since 5.6.0
+     */
+    record ComponentSearchRow(long id, long totalCount) {
+    }
+
+    /**
+     * Search for components whose identity contains the given values, ignoring case.
+     * <p>
+     * Filters that are {@code null} are not applied. Filter values are matched via {@code LIKE},
+     * and must thus have {@code %}, {@code _}, and {@code \} escaped. Matching is performed on
+     * lower-cased columns, such that the trigram indexes on those expressions can be used.
+     *
+     * @return IDs of matching components, alongside the total number of matches
+     * @since 5.6.0
+     */
+    @SqlQuery(/* language=InjectedFreeMarker */ """
+            <#-- @ftlvariable name="projectId" type="Boolean" -->
+            <#-- @ftlvariable name="group" type="Boolean" -->
+            <#-- @ftlvariable name="name" type="Boolean" -->
+            <#-- @ftlvariable name="version" type="Boolean" -->
+            <#-- @ftlvariable name="purl" type="Boolean" -->
+            <#-- @ftlvariable name="cpe" type="Boolean" -->
+            <#-- @ftlvariable name="swidTagId" type="Boolean" -->
+            <#-- @ftlvariable name="apiOrderByClause" type="String" -->
+            <#-- @ftlvariable name="apiOffsetLimitClause" type="String" -->
+            <#-- @ftlvariable name="apiProjectAclCondition" type="String" -->
+            SELECT "COMPONENT"."ID" AS "id"
+                 , COUNT(*) OVER() AS "totalCount"
+              FROM "COMPONENT"
+             INNER JOIN "PROJECT"
+                ON "PROJECT"."ID" = "COMPONENT"."PROJECT_ID"
+             WHERE ${apiProjectAclCondition!"TRUE"}
+               AND "PROJECT"."DELETION_REQUESTED_AT" IS NULL
+            <#if projectId>
+               AND "COMPONENT"."PROJECT_ID" = :projectId
+            </#if>
+            <#if group>
+               AND LOWER("COMPONENT"."GROUP") LIKE ('%' || :group || '%')
+            </#if>
+            <#if name>
+               AND LOWER("COMPONENT"."NAME") LIKE ('%' || :name || '%')
+            </#if>
+            <#if version>
+               AND LOWER("COMPONENT"."VERSION") LIKE ('%' || :version || '%')
+            </#if>
+            <#if purl>
+               AND LOWER("COMPONENT"."PURL") LIKE ('%' || :purl || '%')
+            </#if>
+            <#if cpe>
+               AND LOWER("COMPONENT"."CPE") LIKE ('%' || :cpe || '%')
+            </#if>
+            <#if swidTagId>
+               AND LOWER("COMPONENT"."SWIDTAGID") LIKE ('%' || :swidTagId || '%')
+            </#if>
+            <#if apiOrderByClause??>
+              ${apiOrderByClause}
+            <#else>
+             ORDER BY "id" ASC
+            </#if>
+            ${apiOffsetLimitClause!}
+            """)
+    @DefineNamedBindings
+    @AllowApiOrdering(alwaysBy = "id", by = {
+            @AllowApiOrdering.Column(name = "id"),
+            @AllowApiOrdering.Column(name = "group", queryName = "\"COMPONENT\".\"GROUP\""),
+            @AllowApiOrdering.Column(name = "name", queryName = "\"COMPONENT\".\"NAME\""),
+            @AllowApiOrdering.Column(name = "version", queryName = "\"COMPONENT\".\"VERSION\""),
+            @AllowApiOrdering.Column(name = "purl", queryName = "\"COMPONENT\".\"PURL\""),
+            @AllowApiOrdering.Column(name = "cpe", queryName = "\"COMPONENT\".\"CPE\""),
+            @AllowApiOrdering.Column(name = "swidTagId", queryName = "\"COMPONENT\".\"SWIDTAGID\""),
+            @AllowApiOrdering.Column(name = "project.name", queryName = "\"PROJECT\".\"NAME\""),
+            @AllowApiOrdering.Column(name = "project.version", queryName = "\"PROJECT\".\"VERSION\"")
+    })
+    @RegisterConstructorMapper(ComponentSearchRow.class)
+    List<ComponentSearchRow> searchByIdentity(
+            @Bind Long projectId,
+            @Bind String group,
+            @Bind String name,
+            @Bind String version,
+            @Bind String purl,
+            @Bind String cpe,
+            @Bind String swidTagId
+    );
+
+    /**
+     * @since 5.6.0
+     */
+    record DependencyEdgeRow(
+            @ColumnName("PARENT_UUID") UUID parentUuid,
+            @ColumnName("CHILD_UUID") UUID childUuid) {
+    }
+
+    /**
+     * Resolve all paths from the given components to the roots of a project's dependency graph.
+     * <p>
+     * Parents are resolved recursively via the {@code DIRECT_DEPENDENCIES} of components,
+     * such that all ancestors are resolved in a single query, regardless of the depth of the graph.
+     *
+     * @param projectId      ID of the project
+     * @param componentUuids {@link UUID}s of the components to resolve paths for
+     * @return Parent-child edges on the paths to the roots of the graph
+     * @since 5.6.0
+     */
+    @SqlQuery("""
+            WITH RECURSIVE "EDGE" ("PARENT_UUID", "CHILD_UUID") AS (
+              SELECT "PARENT"."UUID"
+                   , "CHILD"."UUID"
+                FROM "COMPONENT" AS "CHILD"
+               INNER JOIN "COMPONENT" AS "PARENT"
+                  ON "PARENT"."PROJECT_ID" = "CHILD"."PROJECT_ID"
+                 AND "PARENT"."DIRECT_DEPENDENCIES" @> JSONB_BUILD_ARRAY(JSONB_BUILD_OBJECT('uuid', "CHILD"."UUID"))
+               WHERE "CHILD"."PROJECT_ID" = :projectId
+                 AND "CHILD"."UUID" = ANY(:componentUuids)
+              UNION
+              SELECT "PARENT"."UUID"
+                   , "EDGE"."PARENT_UUID"
+                FROM "EDGE"
+               INNER JOIN "COMPONENT" AS "PARENT"
+                  ON "PARENT"."PROJECT_ID" = :projectId
+                 AND "PARENT"."DIRECT_DEPENDENCIES" @> JSONB_BUILD_ARRAY(JSONB_BUILD_OBJECT('uuid', "EDGE"."PARENT_UUID"))
+            )
+            SELECT "PARENT_UUID"
+                 , "CHILD_UUID"
+              FROM "EDGE"
+            """)
+    @RegisterConstructorMapper(DependencyEdgeRow.class)
+    List<DependencyEdgeRow> getPathsToRoot(@Bind long projectId, @Bind Collection<UUID> componentUuids);
+
+    /**
+     * @param packageCoordinates PURL coordinates without version, which together with {@code internal}
+     *                           identify the group the candidate represents
+     * @since 5.6.0
+     */
+    record RepositoryMetaAnalysisCandidateRow(
+            @ColumnName("PURL_COORDINATES") String purlCoordinates,
+            @ColumnName("INTERNAL") boolean internal,
+            @ColumnName("PACKAGE_COORDINATES") String packageCoordinates) {
+    }
+
+    /**
+     * Fetch a page of PURL coordinates of components to submit for repository meta analysis.
+     * <p>
+     * Repository metadata is tracked per package, irrespective of version. Components are thus
+     * de-duplicated by their PURL coordinates without version, and whether they are internal.
+     * One representative of each group is returned. Components of inactive projects are not considered.
+     * <p>
+     * Pages are ordered by group, and paginated via the group of the last candidate of the previous page,
+     * such that no transaction needs to be held open across pages.
+     *
+     * @param projectId               ID of the project to limit the query to, or {@code null} for the entire portfolio
+     * @param afterPackageCoordinates Package coordinates of the last candidate of the previous page,
+     *                                or {@code null} for the first page
+     * @param afterInternal           Whether the last candidate of the previous page is internal
+     * @param limit                   Maximum number of candidates to fetch
+     * @since 5.6.0
+     */
+    @SqlQuery(/* language=InjectedFreeMarker */ """
+            <#-- @ftlvariable name="projectId" type="Boolean" -->
+            <#-- @ftlvariable name="afterPackageCoordinates" type="Boolean" -->
+            SELECT MIN("COMPONENT"."PURLCOORDINATES") AS "PURL_COORDINATES"
+                 , COALESCE("COMPONENT"."INTERNAL", FALSE) AS "INTERNAL"
+                 , REGEXP_REPLACE("COMPONENT"."PURLCOORDINATES", '@[^@/]*$', '') AS "PACKAGE_COORDINATES"
+              FROM "COMPONENT"
+             INNER JOIN "PROJECT"
+                ON "PROJECT"."ID" = "COMPONENT"."PROJECT_ID"
+             WHERE "COMPONENT"."PURLCOORDINATES" IS NOT NULL
+               AND "PROJECT"."INACTIVE_SINCE" IS NULL
+            <#if projectId>
+               AND "COMPONENT"."PROJECT_ID" = :projectId
+            </#if>
+            <#if afterPackageCoordinates>
+               AND (REGEXP_REPLACE("COMPONENT"."PURLCOORDINATES", '@[^@/]*$', ''), COALESCE("COMPONENT"."INTERNAL", FALSE))
+                 > (:afterPackageCoordinates, :afterInternal)
+            </#if>
+             GROUP BY REGEXP_REPLACE("COMPONENT"."PURLCOORDINATES", '@[^@/]*$', '')
+                    , COALESCE("COMPONENT"."INTERNAL", FALSE)
+             ORDER BY REGEXP_REPLACE("COMPONENT"."PURLCOORDINATES", '@[^@/]*$', '')
+                    , COALESCE("COMPONENT"."INTERNAL", FALSE)
+             LIMIT :limit
+            """)
+    @DefineNamedBindings
+    @RegisterConstructorMapper(RepositoryMetaAnalysisCandidateRow.class)
+    List<RepositoryMetaAnalysisCandidateRow> getRepositoryMetaAnalysisCandidates(
+            @Bind Long projectId,
+            @Bind String afterPackageCoordinates,
+            @Bind Boolean afterInternal,
+            @Bind int limit);
+
 }
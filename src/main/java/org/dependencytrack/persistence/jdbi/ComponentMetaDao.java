@@ -18,22 +18,49 @@
  */
 package org.dependencytrack.persistence.jdbi;
 
+import org.dependencytrack.model.RepositoryType;
+import org.jdbi.v3.core.mapper.reflect.ColumnName;
+import org.jdbi.v3.sqlobject.config.RegisterConstructorMapper;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.jdbi.v3.sqlobject.statement.SqlUpdate;
 
+import java.time.Instant;
+import java.util.List;
+
 /**
  * @since 5.6.0
  */
 public interface ComponentMetaDao {
 
-    @SqlUpdate("""
-            DELETE
-              FROM "INTEGRITY_META_COMPONENT"
-             WHERE NOT EXISTS(
-               SELECT 1
-                 FROM "COMPONENT"
-                WHERE "COMPONENT"."PURL" = "INTEGRITY_META_COMPONENT"."PURL")
+    /**
+     * Delete integrity metadata of packages that are no longer referenced by any component,
+     * considering at most {@code batchSize} rows with an ID greater than {@code afterId}.
+     */
+    @SqlQuery("""
+            WITH "BATCH" AS (
+              SELECT "ID"
+                FROM "INTEGRITY_META_COMPONENT"
+               WHERE "ID" > :afterId
+               ORDER BY "ID"
+               LIMIT :batchSize
+            ),
+            "DELETED" AS (
+              DELETE
+                FROM "INTEGRITY_META_COMPONENT" AS "IMC"
+               USING "BATCH"
+               WHERE "IMC"."ID" = "BATCH"."ID"
+                 AND NOT EXISTS(
+                   SELECT 1
+                     FROM "COMPONENT"
+                    WHERE "COMPONENT"."PURL" = "IMC"."PURL")
+              RETURNING 1
+            )
+            SELECT (SELECT MAX("ID") FROM "BATCH") AS "LAST_ID"
+                 , (SELECT COUNT(*) FROM "DELETED") AS "DELETED"
             """)
-    int deleteOrphanIntegrityMetaComponents();
+    @RegisterConstructorMapper(KeysetDeletionBatch.class)
+    KeysetDeletionBatch deleteOrphanIntegrityMetaComponentsBatch(@Bind long afterId, @Bind int batchSize);
 
     // TODO: Do a NOT EXISTS query against the COMPONENT table instead.
     //  Requires https://github.com/DependencyTrack/hyades/issues/1465.
@@ -44,4 +71,66 @@ public interface ComponentMetaDao {
             """)
     int deleteOrphanRepositoryMetaComponents();
 
+    record LatestVersionRow(
+            @ColumnName("REPOSITORY_TYPE") RepositoryType repositoryType,
+            @ColumnName("NAMESPACE") String namespace,
+            @ColumnName("NAME") String name,
+            @ColumnName("LATEST_VERSION") String latestVersion) {
+    }
+
+    /**
+     * Fetch the latest versions of multiple packages at once.
+     * <p>
+     * Packages are identified by the elements at the same index of {@code repositoryTypes},
+     * {@code namespaces}, and {@code names}. Namespaces may be {@code null}.
+     */
+    @SqlQuery("""
+            SELECT "RMC"."REPOSITORY_TYPE"
+                 , "RMC"."NAMESPACE"
+                 , "RMC"."NAME"
+                 , "RMC"."LATEST_VERSION"
+              FROM UNNEST(CAST(:repositoryTypes AS TEXT[]), CAST(:namespaces AS TEXT[]), CAST(:names AS TEXT[]))
+                AS "PACKAGE" ("REPOSITORY_TYPE", "NAMESPACE", "NAME")
+             INNER JOIN "REPOSITORY_META_COMPONENT" AS "RMC"
+                ON "RMC"."REPOSITORY_TYPE" = "PACKAGE"."REPOSITORY_TYPE"
+               AND "RMC"."NAMESPACE" IS NOT DISTINCT FROM "PACKAGE"."NAMESPACE"
+               AND "RMC"."NAME" = "PACKAGE"."NAME"
+            """)
+    @RegisterConstructorMapper(LatestVersionRow.class)
+    List<LatestVersionRow> getLatestVersions(
+            @Bind List<String> repositoryTypes,
+            @Bind List<String> namespaces,
+            @Bind List<String> names);
+
+    record PackageRow(
+            @ColumnName("REPOSITORY_TYPE") RepositoryType repositoryType,
+            @ColumnName("NAMESPACE") String namespace,
+            @ColumnName("NAME") String name) {
+    }
+
+    /**
+     * Fetch those of the given packages whose repository metadata has been checked after {@code checkedAfter}.
+     * <p>
+     * Packages are identified by the elements at the same index of {@code repositoryTypes},
+     * {@code namespaces}, and {@code names}. Namespaces may be {@code null}.
+     */
+    @SqlQuery("""
+            SELECT "RMC"."REPOSITORY_TYPE"
+                 , "RMC"."NAMESPACE"
+                 , "RMC"."NAME"
+              FROM UNNEST(CAST(:repositoryTypes AS TEXT[]), CAST(:namespaces AS TEXT[]), CAST(:names AS TEXT[]))
+                AS "PACKAGE" ("REPOSITORY_TYPE", "NAMESPACE", "NAME")
+             INNER JOIN "REPOSITORY_META_COMPONENT" AS "RMC"
+                ON "RMC"."REPOSITORY_TYPE" = "PACKAGE"."REPOSITORY_TYPE"
+               AND "RMC"."NAMESPACE" IS NOT DISTINCT FROM "PACKAGE"."NAMESPACE"
+               AND "RMC"."NAME" = "PACKAGE"."NAME"
+             WHERE "RMC"."LAST_CHECK" > :checkedAfter
+            """)
+    @RegisterConstructorMapper(PackageRow.class)
+    List<PackageRow> getPackagesCheckedAfter(
+            @Bind List<String> repositoryTypes,
+            @Bind List<String> namespaces,
+            @Bind List<String> names,
+            @Bind Instant checkedAfter);
+
 }
@@ -0,0 +1,67 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import org.dependencytrack.integrations.ProjectFindingUploader;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+
+import java.util.List;
+
+/**
+ * Tracks the findings that were last successfully uploaded
+ * by {@link ProjectFindingUploader}s, per project and integration.
+ *
+ * @since 5.6.0
+ */
+public interface FindingsUploadDao {
+
+    /**
+     * @return IDs of all active projects that are not pending deletion, ordered by ID
+     */
+    @SqlQuery("""
+            SELECT "ID"
+              FROM "PROJECT"
+             WHERE "INACTIVE_SINCE" IS NULL
+               AND "DELETION_REQUESTED_AT" IS NULL
+             ORDER BY "ID"
+            """)
+    List<Long> getIdsOfUploadableProjects();
+
+    @SqlQuery("""
+            SELECT "FINDINGS_DIGEST"
+              FROM "FINDINGS_UPLOAD"
+             WHERE "PROJECT_ID" = :projectId
+               AND "INTEGRATION" = :integration
+            """)
+    String getFindingsDigest(@Bind long projectId, @Bind String integration);
+
+    @SqlUpdate("""
+            INSERT INTO "FINDINGS_UPLOAD"
+              ("PROJECT_ID", "INTEGRATION", "FINDINGS_DIGEST", "UPLOADED_AT")
+            VALUES
+              (:projectId, :integration, :findingsDigest, NOW())
+            ON CONFLICT ("PROJECT_ID", "INTEGRATION") DO UPDATE
+            SET "FINDINGS_DIGEST" = EXCLUDED."FINDINGS_DIGEST"
+              , "UPLOADED_AT" = EXCLUDED."UPLOADED_AT"
+            """)
+    void recordUpload(@Bind long projectId, @Bind String integration, @Bind String findingsDigest);
+
+}
@@ -16,16 +16,20 @@
  * SPDX-License-Identifier: Apache-2.0
  * Copyright (c) OWASP Foundation. All Rights Reserved.
  */
-package org.dependencytrack.tasks.metrics;
+package org.dependencytrack.persistence.jdbi;
 
-public class YearMonthMetric {
-    public Integer year;
-    public Integer month;
-    public Long count;
+import jakarta.annotation.Nullable;
+import org.jdbi.v3.core.mapper.reflect.ColumnName;
 
-    public YearMonthMetric(Integer year, Integer month, Long count) {
-        this.year = year;
-        this.month = month;
-        this.count = count;
-    }
+/**
+ * Outcome of deleting a batch of rows, where batches are determined by keyset pagination over IDs.
+ *
+ * @param lastId     Highest ID that was considered in the batch,
+ *                   or {@code null} when there were no more rows to consider
+ * @param numDeleted Number of rows that were deleted
+ * @since 5.6.0
+ */
+public record KeysetDeletionBatch(
+        @Nullable @ColumnName("LAST_ID") Long lastId,
+        @ColumnName("DELETED") int numDeleted) {
 }
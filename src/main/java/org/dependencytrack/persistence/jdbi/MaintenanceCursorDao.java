@@ -0,0 +1,58 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+
+/**
+ * Tracks the positions of maintenance tasks that process tables over multiple runs,
+ * such that runs executed on different instances continue from the same position.
+ *
+ * @since 5.6.0
+ */
+public interface MaintenanceCursorDao {
+
+    @SqlQuery("""
+            SELECT "AFTER_ID"
+              FROM "MAINTENANCE_CURSOR"
+             WHERE "NAME" = :name
+            """)
+    Long getAfterId(@Bind String name);
+
+    @SqlUpdate("""
+            INSERT INTO "MAINTENANCE_CURSOR"
+              ("NAME", "AFTER_ID", "UPDATED_AT")
+            VALUES
+              (:name, :afterId, NOW())
+            ON CONFLICT ("NAME") DO UPDATE
+            SET "AFTER_ID" = EXCLUDED."AFTER_ID"
+              , "UPDATED_AT" = EXCLUDED."UPDATED_AT"
+            """)
+    void upsert(@Bind String name, @Bind long afterId);
+
+    @SqlUpdate("""
+            DELETE
+              FROM "MAINTENANCE_CURSOR"
+             WHERE "NAME" = :name
+            """)
+    void delete(@Bind String name);
+
+}
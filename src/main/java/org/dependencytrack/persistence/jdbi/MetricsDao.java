@@ -18,15 +18,117 @@
  */
 package org.dependencytrack.persistence.jdbi;
 
+import org.dependencytrack.model.PortfolioMetrics;
+import org.dependencytrack.model.ProjectMetrics;
+import org.jdbi.v3.sqlobject.SqlObject;
+import org.jdbi.v3.sqlobject.config.RegisterBeanMapper;
 import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.customizer.Define;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.jdbi.v3.sqlobject.statement.SqlUpdate;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 
 /**
  * @since 5.6.0
  */
-public interface MetricsDao {
+public interface MetricsDao extends SqlObject {
+
+    String DEPENDENCY_METRICS_TABLE_NAME = "DEPENDENCYMETRICS";
+    String PROJECT_METRICS_TABLE_NAME = "PROJECTMETRICS";
+    String PORTFOLIO_METRICS_TABLE_NAME = "PORTFOLIOMETRICS";
+
+    /**
+     * Names of metrics tables that are range-partitioned by {@code LAST_OCCURRENCE},
+     * with one partition per month.
+     */
+    Set<String> PARTITIONED_TABLE_NAMES = Set.of(
+            DEPENDENCY_METRICS_TABLE_NAME,
+            PROJECT_METRICS_TABLE_NAME,
+            PORTFOLIO_METRICS_TABLE_NAME);
+
+    DateTimeFormatter PARTITION_SUFFIX_FORMATTER = DateTimeFormatter.ofPattern("yyyyMM");
+
+    static String partitionName(final String tableName, final YearMonth month) {
+        return "%s_%s".formatted(tableName, PARTITION_SUFFIX_FORMATTER.format(month));
+    }
+
+    static String defaultPartitionName(final String tableName) {
+        return tableName + "_DEFAULT";
+    }
+
+    /**
+     * Granularity to which metrics history can be downsampled.
+     * <p>
+     * Names correspond to fields supported by PostgreSQL's {@code DATE_TRUNC} function.
+     */
+    enum HistoryBucket {
+        HOUR,
+        DAY,
+        WEEK
+    }
+
+    static String partitionLowerBound(final YearMonth month) {
+        return "%s 00:00:00+00".formatted(month.atDay(1));
+    }
+
+    static String partitionUpperBound(final YearMonth month) {
+        return partitionLowerBound(month.plusMonths(1));
+    }
+
+    /**
+     * Retrieve {@link PortfolioMetrics} recorded since a given point in time, downsampled to {@code bucket}.
+     * <p>
+     * For every bucket, only the most recently recorded metrics are returned.
+     *
+     * @param bucket The {@link HistoryBucket} to downsample to
+     * @param since  Point in time from which to retrieve metrics
+     * @return A {@link List} of {@link PortfolioMetrics}, in ascending order of occurrence
+     */
+    @SqlQuery("""
+            SELECT DISTINCT ON (DATE_TRUNC('${bucket}', "LAST_OCCURRENCE"))
+                   *
+                 , "UNASSIGNED_SEVERITY" AS "unassigned"
+                 , "RISKSCORE" AS "inheritedRiskScore"
+              FROM "PORTFOLIOMETRICS"
+             WHERE "LAST_OCCURRENCE" >= :since
+             ORDER BY DATE_TRUNC('${bucket}', "LAST_OCCURRENCE")
+                    , "LAST_OCCURRENCE" DESC
+            """)
+    @RegisterBeanMapper(PortfolioMetrics.class)
+    List<PortfolioMetrics> getPortfolioMetricsSince(@Define HistoryBucket bucket, @Bind Instant since);
+
+    /**
+     * Retrieve {@link ProjectMetrics} of a project recorded since a given point in time, downsampled to {@code bucket}.
+     * <p>
+     * For every bucket, only the most recently recorded metrics are returned.
+     * The {@link ProjectMetrics#getProject() project} of the returned metrics is not populated.
+     *
+     * @param projectId ID of the project to retrieve metrics for
+     * @param bucket    The {@link HistoryBucket} to downsample to
+     * @param since     Point in time from which to retrieve metrics
+     * @return A {@link List} of {@link ProjectMetrics}, in ascending order of occurrence
+     */
+    @SqlQuery("""
+            SELECT DISTINCT ON (DATE_TRUNC('${bucket}', "LAST_OCCURRENCE"))
+                   *
+                 , "UNASSIGNED_SEVERITY" AS "unassigned"
+                 , "RISKSCORE" AS "inheritedRiskScore"
+              FROM "PROJECTMETRICS"
+             WHERE "PROJECT_ID" = :projectId
+               AND "LAST_OCCURRENCE" >= :since
+             ORDER BY DATE_TRUNC('${bucket}', "LAST_OCCURRENCE")
+                    , "LAST_OCCURRENCE" DESC
+            """)
+    @RegisterBeanMapper(ProjectMetrics.class)
+    List<ProjectMetrics> getProjectMetricsSince(@Bind long projectId, @Define HistoryBucket bucket, @Bind Instant since);
 
     @SqlUpdate("""
             DELETE
@@ -34,7 +136,7 @@ public interface MetricsDao {
              USING "PROJECT"
              WHERE "PROJECT"."ID" = "DEPENDENCYMETRICS"."PROJECT_ID"
                AND "PROJECT"."INACTIVE_SINCE" IS NULL
-               AND NOW() - "DEPENDENCYMETRICS"."LAST_OCCURRENCE" > :duration
+               AND "DEPENDENCYMETRICS"."LAST_OCCURRENCE" < NOW() - :duration
             """)
     int deleteComponentMetricsForRetentionDuration(@Bind Duration duration);
 
@@ -44,15 +146,286 @@ public interface MetricsDao {
              USING "PROJECT"
              WHERE "PROJECT"."ID" = "PROJECTMETRICS"."PROJECT_ID"
                AND "PROJECT"."INACTIVE_SINCE" IS NULL
-               AND NOW() - "PROJECTMETRICS"."LAST_OCCURRENCE" > :duration
+               AND "PROJECTMETRICS"."LAST_OCCURRENCE" < NOW() - :duration
             """)
     int deleteProjectMetricsForRetentionDuration(@Bind Duration duration);
 
     @SqlUpdate("""
             DELETE
               FROM "PORTFOLIOMETRICS"
-             WHERE NOW() - "LAST_OCCURRENCE" > :duration
+             WHERE "LAST_OCCURRENCE" < NOW() - :duration
             """)
     int deletePortfolioMetricsForRetentionDuration(@Bind Duration duration);
 
+    @SqlQuery("""
+            SELECT "CHILD"."relname"
+              FROM "pg_inherits"
+             INNER JOIN "pg_class" AS "CHILD"
+                ON "CHILD"."oid" = "pg_inherits"."inhrelid"
+             WHERE "pg_inherits"."inhparent" = QUOTE_IDENT(:tableName)::REGCLASS
+            """)
+    List<String> getPartitionNames(@Bind String tableName);
+
+    /**
+     * Get the months for which partitions of a given table exist.
+     * <p>
+     * The default partition, as well as any partition not following
+     * the naming convention of {@link #partitionName(String, YearMonth)} are omitted.
+     *
+     * @param tableName Name of the partitioned table
+     * @return The months for which partitions exist
+     */
+    default List<YearMonth> getPartitionMonths(final String tableName) {
+        final var months = new ArrayList<YearMonth>();
+        for (final String partitionName : getPartitionNames(tableName)) {
+            if (!partitionName.startsWith(tableName + "_")) {
+                continue;
+            }
+
+            try {
+                months.add(YearMonth.parse(partitionName.substring(tableName.length() + 1), PARTITION_SUFFIX_FORMATTER));
+            } catch (DateTimeParseException e) {
+                // Not a monthly partition, e.g. the default partition.
+            }
+        }
+
+        months.sort(null);
+        return months;
+    }
+
+    /**
+     * Create a partition of a given table for a given month.
+     * <p>
+     * Rows that have been routed to the default partition because no partition for
+     * {@code month} existed at the time of insertion are moved to the new partition.
+     * <p>
+     * Must be called within a transaction.
+     *
+     * @param tableName Name of the partitioned table
+     * @param month     The month to create a partition for
+     */
+    default void createPartition(final String tableName, final YearMonth month) {
+        final String partitionName = partitionName(tableName, month);
+        createStandaloneTable(tableName, partitionName);
+        moveRowsFromDefaultPartition(
+                defaultPartitionName(tableName),
+                partitionName,
+                partitionLowerBound(month),
+                partitionUpperBound(month));
+        attachPartition(tableName, partitionName, partitionLowerBound(month), partitionUpperBound(month));
+    }
+
+    /**
+     * Drop the partition of a given table for a given month.
+     * <p>
+     * When {@code retainInactiveProjects} is {@code true}, rows of inactive projects
+     * are moved to the default partition before the partition is dropped.
+     * <p>
+     * Must be called within a transaction.
+     *
+     * @param tableName              Name of the partitioned table
+     * @param month                  The month to drop the partition for
+     * @param retainInactiveProjects Whether to retain rows of inactive projects
+     */
+    default void dropPartition(final String tableName, final YearMonth month, final boolean retainInactiveProjects) {
+        final String partitionName = partitionName(tableName, month);
+        detachPartition(tableName, partitionName);
+        if (retainInactiveProjects) {
+            // The partition's range is no longer covered, so rows will be routed to the default partition.
+            copyRowsOfInactiveProjects(tableName, partitionName);
+        }
+        dropTable(partitionName);
+    }
+
+    /**
+     * Recount vulnerabilities per year and month, and reconcile {@code VULNERABILITYMETRICS} accordingly.
+     * <p>
+     * Vulnerabilities are counted by their {@code CREATED} date, falling back to their {@code PUBLISHED}
+     * date. Months whose counts may have changed are tracked in {@code VULNERABILITYMETRICS_PENDING}
+     * by triggers on {@code VULNERABILITY}. When {@code incremental} is {@code true}, only those months,
+     * and the years they belong to, are recounted. Otherwise, all months are recounted.
+     * <p>
+     * Pending months that were marked again while the recount was in progress remain pending,
+     * since their latest changes may not have been visible to the recount.
+     * <p>
+     * Must be called within a transaction.
+     *
+     * @param incremental Whether to only recount pending months
+     */
+    default void updateVulnerabilityMetrics(final boolean incremental) {
+        recountVulnerabilityMetrics(incremental);
+
+        // Counts that have not been recounted are still accurate as of now.
+        touchVulnerabilityMetrics();
+    }
+
+    @SqlUpdate("""
+            WITH "CTE_PENDING" AS (
+              SELECT "YEAR"
+                   , "MONTH"
+                   , "GENERATION"
+                FROM "VULNERABILITYMETRICS_PENDING"
+            ),
+            "CTE_DELETED_PENDING" AS (
+              -- Transactions that mark an already pending month bump its generation, and hold a lock
+              -- on its row until they complete. Their changes are not visible to this statement,
+              -- so the month must remain pending. The delete waits for such transactions, and skips
+              -- rows whose generation no longer matches the one read above.
+              DELETE
+                FROM "VULNERABILITYMETRICS_PENDING" AS "PENDING"
+               USING "CTE_PENDING"
+               WHERE "PENDING"."YEAR" = "CTE_PENDING"."YEAR"
+                 AND "PENDING"."MONTH" = "CTE_PENDING"."MONTH"
+                 AND "PENDING"."GENERATION" = "CTE_PENDING"."GENERATION"
+            ),
+            "CTE_MONTH" AS (
+            <#if incremental>
+              SELECT "PENDING"."YEAR"
+                   , "PENDING"."MONTH"
+                   , COUNT("VULNERABILITY"."ID")::INT AS "COUNT"
+                FROM "CTE_PENDING" AS "PENDING"
+                LEFT JOIN "VULNERABILITY"
+                  ON COALESCE("VULNERABILITY"."CREATED", "VULNERABILITY"."PUBLISHED")
+                       >= MAKE_DATE("PENDING"."YEAR", "PENDING"."MONTH", 1)
+                 AND COALESCE("VULNERABILITY"."CREATED", "VULNERABILITY"."PUBLISHED")
+                       < MAKE_DATE("PENDING"."YEAR", "PENDING"."MONTH", 1) + INTERVAL '1 month'
+               GROUP BY "PENDING"."YEAR"
+                      , "PENDING"."MONTH"
+            <#else>
+              SELECT COALESCE("COUNTED"."YEAR", "EXISTING"."YEAR") AS "YEAR"
+                   , COALESCE("COUNTED"."MONTH", "EXISTING"."MONTH") AS "MONTH"
+                   , COALESCE("COUNTED"."COUNT", 0) AS "COUNT"
+                FROM (SELECT EXTRACT(YEAR FROM COALESCE("CREATED", "PUBLISHED"))::INT AS "YEAR"
+                           , EXTRACT(MONTH FROM COALESCE("CREATED", "PUBLISHED"))::INT AS "MONTH"
+                           , COUNT(*)::INT AS "COUNT"
+                        FROM "VULNERABILITY"
+                       WHERE COALESCE("CREATED", "PUBLISHED") IS NOT NULL
+                       GROUP BY 1, 2) AS "COUNTED"
+                FULL OUTER JOIN (SELECT "YEAR"
+                                      , "MONTH"
+                                   FROM "VULNERABILITYMETRICS"
+                                  WHERE "MONTH" IS NOT NULL) AS "EXISTING"
+                  ON "EXISTING"."YEAR" = "COUNTED"."YEAR"
+                 AND "EXISTING"."MONTH" = "COUNTED"."MONTH"
+            </#if>
+            ),
+            "CTE_YEAR" AS (
+              -- Yearly counts are the sum of recounted months, and months of the same year that
+              -- have not been recounted. The latter only exist in incremental mode.
+              SELECT "YEAR"
+                   , SUM("COUNT")::INT AS "COUNT"
+                FROM (SELECT "YEAR"
+                           , "COUNT"
+                        FROM "CTE_MONTH"
+                       UNION ALL
+                      SELECT "VM"."YEAR"
+                           , "VM"."COUNT"
+                        FROM "VULNERABILITYMETRICS" AS "VM"
+                       WHERE "VM"."MONTH" IS NOT NULL
+                         AND "VM"."YEAR" IN (SELECT "YEAR" FROM "CTE_MONTH")
+                         AND NOT EXISTS(
+                               SELECT 1
+                                 FROM "CTE_MONTH"
+                                WHERE "CTE_MONTH"."YEAR" = "VM"."YEAR"
+                                  AND "CTE_MONTH"."MONTH" = "VM"."MONTH")) AS "MONTHS"
+               GROUP BY "YEAR"
+            ),
+            "CTE_UPSERTED_MONTH" AS (
+              INSERT INTO "VULNERABILITYMETRICS" ("YEAR", "MONTH", "COUNT", "MEASURED_AT")
+              SELECT "YEAR"
+                   , "MONTH"
+                   , "COUNT"
+                   , NOW()
+                FROM "CTE_MONTH"
+               WHERE "COUNT" > 0
+              ON CONFLICT ("YEAR", "MONTH") WHERE "MONTH" IS NOT NULL DO UPDATE
+              SET "COUNT" = EXCLUDED."COUNT"
+                , "MEASURED_AT" = EXCLUDED."MEASURED_AT"
+            ),
+            "CTE_UPSERTED_YEAR" AS (
+              INSERT INTO "VULNERABILITYMETRICS" ("YEAR", "COUNT", "MEASURED_AT")
+              SELECT "YEAR"
+                   , "COUNT"
+                   , NOW()
+                FROM "CTE_YEAR"
+               WHERE "COUNT" > 0
+              ON CONFLICT ("YEAR") WHERE "MONTH" IS NULL DO UPDATE
+              SET "COUNT" = EXCLUDED."COUNT"
+                , "MEASURED_AT" = EXCLUDED."MEASURED_AT"
+            )
+            DELETE
+              FROM "VULNERABILITYMETRICS" AS "VM"
+             WHERE ("VM"."MONTH" IS NOT NULL
+                    AND ("VM"."YEAR", "VM"."MONTH") IN (SELECT "YEAR", "MONTH" FROM "CTE_MONTH" WHERE "COUNT" = 0))
+                OR ("VM"."MONTH" IS NULL
+                    AND "VM"."YEAR" IN (SELECT "YEAR" FROM "CTE_YEAR" WHERE "COUNT" = 0))
+            <#if !incremental>
+                OR ("VM"."MONTH" IS NULL
+                    AND "VM"."YEAR" NOT IN (SELECT "YEAR" FROM "CTE_YEAR"))
+            </#if>
+            """)
+    void recountVulnerabilityMetrics(@Define boolean incremental);
+
+    @SqlUpdate("""
+            UPDATE "VULNERABILITYMETRICS"
+               SET "MEASURED_AT" = NOW()
+            """)
+    void touchVulnerabilityMetrics();
+
+    @SqlUpdate("""
+            CREATE TABLE "${partitionName}" (LIKE "${tableName}" INCLUDING DEFAULTS)
+            """)
+    void createStandaloneTable(@Define String tableName, @Define String partitionName);
+
+    @SqlUpdate("""
+            WITH "CTE_MOVED" AS (
+              DELETE
+                FROM "${defaultPartitionName}"
+               WHERE "LAST_OCCURRENCE" >= '${lowerBound}'
+                 AND "LAST_OCCURRENCE" < '${upperBound}'
+              RETURNING *
+            )
+            INSERT INTO "${partitionName}"
+            SELECT *
+              FROM "CTE_MOVED"
+            """)
+    int moveRowsFromDefaultPartition(
+            @Define String defaultPartitionName,
+            @Define String partitionName,
+            @Define String lowerBound,
+            @Define String upperBound);
+
+    @SqlUpdate("""
+            ALTER TABLE "${tableName}"
+            ATTACH PARTITION "${partitionName}"
+            FOR VALUES FROM ('${lowerBound}') TO ('${upperBound}')
+            """)
+    void attachPartition(
+            @Define String tableName,
+            @Define String partitionName,
+            @Define String lowerBound,
+            @Define String upperBound);
+
+    @SqlUpdate("""
+            ALTER TABLE "${tableName}" DETACH PARTITION "${partitionName}"
+            """)
+    void detachPartition(@Define String tableName, @Define String partitionName);
+
+    @SqlUpdate("""
+            INSERT INTO "${tableName}"
+            SELECT *
+              FROM "${partitionName}"
+             WHERE EXISTS(
+               SELECT 1
+                 FROM "PROJECT"
+                WHERE "PROJECT"."ID" = "${partitionName}"."PROJECT_ID"
+                  AND "PROJECT"."INACTIVE_SINCE" IS NOT NULL)
+            """)
+    int copyRowsOfInactiveProjects(@Define String tableName, @Define String partitionName);
+
+    @SqlUpdate("""
+            DROP TABLE "${tableName}"
+            """)
+    void dropTable(@Define String tableName);
+
 }
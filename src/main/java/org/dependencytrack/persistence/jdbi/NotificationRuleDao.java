@@ -0,0 +1,67 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import jakarta.annotation.Nullable;
+import org.jdbi.v3.core.mapper.reflect.ColumnName;
+import org.jdbi.v3.sqlobject.config.RegisterConstructorMapper;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * @since 5.6.0
+ */
+public interface NotificationRuleDao {
+
+    record SubscriptionRow(
+            @ColumnName("SCOPE") String scope,
+            @Nullable @ColumnName("NOTIFICATION_LEVEL") String level,
+            @Nullable @ColumnName("NOTIFY_ON") String notifyOn,
+            @Nullable @ColumnName("PROJECT_UUIDS") List<UUID> projectUuids,
+            @ColumnName("HAS_TAGS") boolean hasTags,
+            @ColumnName("NOTIFY_CHILDREN") boolean notifyChildren) {
+    }
+
+    /**
+     * Get the subscriptions of all enabled notification rules, i.e. the groups, level,
+     * and projects they are interested in.
+     */
+    @SqlQuery("""
+            SELECT "NOTIFICATIONRULE"."SCOPE"
+                 , "NOTIFICATIONRULE"."NOTIFICATION_LEVEL"
+                 , "NOTIFICATIONRULE"."NOTIFY_ON"
+                 , (SELECT ARRAY_AGG("PROJECT"."UUID")
+                      FROM "NOTIFICATIONRULE_PROJECTS"
+                     INNER JOIN "PROJECT"
+                        ON "PROJECT"."ID" = "NOTIFICATIONRULE_PROJECTS"."PROJECT_ID"
+                     WHERE "NOTIFICATIONRULE_PROJECTS"."NOTIFICATIONRULE_ID" = "NOTIFICATIONRULE"."ID") AS "PROJECT_UUIDS"
+                 , EXISTS(
+                     SELECT 1
+                       FROM "NOTIFICATIONRULE_TAGS"
+                      WHERE "NOTIFICATIONRULE_TAGS"."NOTIFICATIONRULE_ID" = "NOTIFICATIONRULE"."ID") AS "HAS_TAGS"
+                 , COALESCE("NOTIFICATIONRULE"."NOTIFY_CHILDREN", FALSE) AS "NOTIFY_CHILDREN"
+              FROM "NOTIFICATIONRULE"
+             WHERE "NOTIFICATIONRULE"."ENABLED"
+            """)
+    @RegisterConstructorMapper(SubscriptionRow.class)
+    List<SubscriptionRow> getSubscriptionsOfEnabledRules();
+
+}
@@ -329,6 +329,99 @@ public interface NotificationSubjectDao extends SqlObject {
     @RegisterRowMapper(NotificationSubjectProjectAuditChangeRowMapper.class)
     Optional<VulnerabilityAnalysisDecisionChangeSubject> getForProjectAuditChange(final UUID componentUuid, final UUID vulnUuid, AnalysisState analysisState, boolean isSuppressed);
 
+    /**
+     * Retrieve {@link VulnerabilityAnalysisDecisionChangeSubject}s for multiple analyses at once,
+     * reflecting the analyses' current state.
+     *
+     * @since 5.6.0
+     */
+    @SqlQuery("""
+            SELECT
+              "C"."UUID"                       AS "componentUuid",
+              "C"."GROUP"                      AS "componentGroup",
+              "C"."NAME"                       AS "componentName",
+              "C"."VERSION"                    AS "componentVersion",
+              "C"."PURL"                       AS "componentPurl",
+              "C"."MD5"                        AS "componentMd5",
+              "C"."SHA1"                       AS "componentSha1",
+              "C"."SHA_256"                    AS "componentSha256",
+              "C"."SHA_512"                    AS "componentSha512",
+              "P"."UUID"                       AS "projectUuid",
+              "P"."NAME"                       AS "projectName",
+              "P"."VERSION"                    AS "projectVersion",
+              "P"."DESCRIPTION"                AS "projectDescription",
+              "P"."PURL"                       AS "projectPurl",
+              (SELECT
+                 ARRAY_AGG(DISTINCT "T"."NAME")
+               FROM
+                 "TAG" AS "T"
+               INNER JOIN
+                 "PROJECTS_TAGS" AS "PT" ON "PT"."TAG_ID" = "T"."ID"
+               WHERE
+                 "PT"."PROJECT_ID" = "P"."ID"
+              )                                AS "projectTags",
+              "V"."UUID"                       AS "vulnUuid",
+              "V"."VULNID"                     AS "vulnId",
+              "V"."SOURCE"                     AS "vulnSource",
+              "V"."TITLE"                      AS "vulnTitle",
+              "V"."SUBTITLE"                   AS "vulnSubTitle",
+              "V"."DESCRIPTION"                AS "vulnDescription",
+              "V"."RECOMMENDATION"             AS "vulnRecommendation",
+              CASE
+                WHEN "A"."SEVERITY" IS NOT NULL THEN "A"."CVSSV2SCORE"
+                ELSE "V"."CVSSV2BASESCORE"
+              END                              AS "vulnCvssV2BaseScore",
+              CASE
+                WHEN "A"."SEVERITY" IS NOT NULL THEN "A"."CVSSV3SCORE"
+                ELSE "V"."CVSSV3BASESCORE"
+              END                              AS "vulnCvssV3BaseScore",
+              CASE
+                WHEN "A"."SEVERITY" IS NOT NULL THEN "A"."CVSSV2VECTOR"
+                ELSE "V"."CVSSV2VECTOR"
+              END                              AS "vulnCvssV2Vector",
+              CASE
+                WHEN "A"."SEVERITY" IS NOT NULL THEN "A"."CVSSV3VECTOR"
+                ELSE "V"."CVSSV3VECTOR"
+              END                              AS "vulnCvssV3Vector",
+              -- TODO: Analysis only has a single score, but OWASP RR defines multiple.
+              --  How to handle this?
+              CASE
+                WHEN "A"."SEVERITY" IS NOT NULL THEN "A"."OWASPSCORE"
+                ELSE "V"."OWASPRRBUSINESSIMPACTSCORE"
+              END                              AS "vulnOwaspRrBusinessImpactScore",
+              CASE
+                WHEN "A"."SEVERITY" IS NOT NULL THEN "A"."OWASPSCORE"
+                ELSE "V"."OWASPRRLIKELIHOODSCORE"
+              END                              AS "vulnOwaspRrLikelihoodScore",
+              CASE
+                WHEN "A"."SEVERITY" IS NOT NULL THEN "A"."OWASPSCORE"
+                ELSE "V"."OWASPRRTECHNICALIMPACTSCORE"
+              END                              AS "vulnOwaspRrTechnicalImpactScore",
+              CASE
+                WHEN "A"."SEVERITY" IS NOT NULL THEN "A"."OWASPVECTOR"
+                ELSE "V"."OWASPRRVECTOR"
+              END                              AS "vulnOwaspRrVector",
+              COALESCE("A"."SEVERITY", "V"."SEVERITY") AS "vulnSeverity",
+              STRING_TO_ARRAY("V"."CWES", ',') AS "vulnCwes",
+              JSONB_VULN_ALIASES("V"."SOURCE", "V"."VULNID") AS "vulnAliasesJson",
+              "A"."SUPPRESSED"                 AS "isVulnAnalysisSuppressed",
+              "A"."STATE"                      AS "vulnAnalysisState",
+              '/api/v1/vulnerability/source/' || "V"."SOURCE" || '/vuln/' || "V"."VULNID" || '/projects' AS "affectedProjectsApiUrl",
+              '/vulnerabilities/' || "V"."SOURCE" || '/' || "V"."VULNID" || '/affectedProjects'          AS "affectedProjectsFrontendUrl"
+            FROM
+              "ANALYSIS" AS "A"
+            INNER JOIN
+              "COMPONENT" AS "C" ON "C"."ID" = "A"."COMPONENT_ID"
+            INNER JOIN
+              "PROJECT" AS "P" ON "P"."ID" = "C"."PROJECT_ID"
+            INNER JOIN
+              "VULNERABILITY" AS "V" ON "V"."ID" = "A"."VULNERABILITY_ID"
+            WHERE
+              "A"."ID" = ANY(:analysisIds)
+            """)
+    @RegisterRowMapper(NotificationSubjectProjectAuditChangeRowMapper.class)
+    List<VulnerabilityAnalysisDecisionChangeSubject> getForProjectAuditChanges(final Collection<Long> analysisIds);
+
     @SqlQuery("""
             SELECT "P"."UUID" AS "projectUuid"
                  , "P"."NAME"        AS "projectName"
@@ -0,0 +1,90 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+
+import java.util.List;
+
+/**
+ * @since 5.6.0
+ */
+public interface PolicyDao {
+
+    /**
+     * Resolve the IDs of all {@link org.dependencytrack.model.Policy}s applicable to a given
+     * {@link org.dependencytrack.model.Project}, ordered by ID.
+     * <p>
+     * A policy is applicable when it is global (i.e. neither assigned to projects nor tags),
+     * when it is assigned to the project itself, when it is assigned to any of the project's
+     * ancestors and includes children, or when it shares at least one tag with the project.
+     * <p>
+     * Ancestors are resolved via a recursive CTE, and tags via a join, such that a single
+     * query suffices regardless of the depth of the hierarchy or the number of tags.
+     *
+     * @param projectId ID of the {@link org.dependencytrack.model.Project}
+     * @return IDs of applicable {@link org.dependencytrack.model.Policy}s
+     */
+    @SqlQuery("""
+            WITH RECURSIVE "ANCESTOR" ("ID") AS (
+              SELECT "PARENT_PROJECT_ID"
+                FROM "PROJECT"
+               WHERE "ID" = :projectId
+                 AND "PARENT_PROJECT_ID" IS NOT NULL
+              UNION
+              SELECT "PROJECT"."PARENT_PROJECT_ID"
+                FROM "PROJECT"
+               INNER JOIN "ANCESTOR"
+                  ON "ANCESTOR"."ID" = "PROJECT"."ID"
+               WHERE "PROJECT"."PARENT_PROJECT_ID" IS NOT NULL
+            )
+            SELECT "POLICY"."ID"
+              FROM "POLICY"
+             WHERE NOT EXISTS(
+                 SELECT 1
+                   FROM "POLICY_PROJECTS"
+                  WHERE "POLICY_PROJECTS"."POLICY_ID" = "POLICY"."ID")
+               AND NOT EXISTS(
+                 SELECT 1
+                   FROM "POLICY_TAGS"
+                  WHERE "POLICY_TAGS"."POLICY_ID" = "POLICY"."ID")
+             UNION
+            SELECT "POLICY_PROJECTS"."POLICY_ID"
+              FROM "POLICY_PROJECTS"
+             WHERE "POLICY_PROJECTS"."PROJECT_ID" = :projectId
+             UNION
+            SELECT "POLICY"."ID"
+              FROM "POLICY"
+             INNER JOIN "POLICY_PROJECTS"
+                ON "POLICY_PROJECTS"."POLICY_ID" = "POLICY"."ID"
+             INNER JOIN "ANCESTOR"
+                ON "ANCESTOR"."ID" = "POLICY_PROJECTS"."PROJECT_ID"
+             WHERE "POLICY"."INCLUDE_CHILDREN"
+             UNION
+            SELECT "POLICY_TAGS"."POLICY_ID"
+              FROM "POLICY_TAGS"
+             INNER JOIN "PROJECTS_TAGS"
+                ON "PROJECTS_TAGS"."TAG_ID" = "POLICY_TAGS"."TAG_ID"
+             WHERE "PROJECTS_TAGS"."PROJECT_ID" = :projectId
+             ORDER BY 1
+            """)
+    List<Long> getApplicablePolicyIds(@Bind long projectId);
+
+}
@@ -76,7 +76,8 @@ public interface ProjectDao {
                  , (SELECT EXISTS(
                      SELECT 1
                        FROM "PROJECT" AS "CHILD_PROJECT"
-                      WHERE "CHILD_PROJECT"."PARENT_PROJECT_ID" = "PROJECT"."ID")) AS "hasChildren"
+                      WHERE "CHILD_PROJECT"."PARENT_PROJECT_ID" = "PROJECT"."ID"
+                        AND "CHILD_PROJECT"."DELETION_REQUESTED_AT" IS NULL)) AS "hasChildren"
             <#if includeMetrics>
                  , TO_JSONB("metrics") AS "metrics"
             </#if>
@@ -106,6 +107,7 @@ public interface ProjectDao {
               ) AS "metrics" ON TRUE
             </#if>
              WHERE ${apiProjectAclCondition!"TRUE"}
+               AND "PROJECT"."DELETION_REQUESTED_AT" IS NULL
             <#if nameFilter>
                AND "PROJECT"."NAME" = :nameFilter
             </#if>
@@ -222,12 +224,149 @@ public interface ProjectDao {
     ) {
     }
 
+    /**
+     * Mark a project, and all of its descendants, as pending deletion.
+     * <p>
+     * Projects pending deletion are hidden from reads, and their data is removed
+     * in the background by {@link org.dependencytrack.tasks.ProjectDeletionTask}.
+     *
+     * @param projectUuid UUID of the project to mark
+     * @return Number of marked projects
+     * @since 5.6.0
+     */
+    @SqlUpdate("""
+            WITH RECURSIVE "TARGET" AS (
+              SELECT "ID"
+                FROM "PROJECT"
+               WHERE "UUID" = :projectUuid
+              UNION ALL
+              SELECT "PROJECT"."ID"
+                FROM "PROJECT"
+               INNER JOIN "TARGET"
+                  ON "TARGET"."ID" = "PROJECT"."PARENT_PROJECT_ID"
+            )
+            UPDATE "PROJECT"
+               SET "DELETION_REQUESTED_AT" = NOW()
+             WHERE "ID" IN (SELECT "ID" FROM "TARGET")
+               AND "DELETION_REQUESTED_AT" IS NULL
+            """)
+    int markForDeletion(@Bind UUID projectUuid);
+
+    /**
+     * Get the IDs of a project and all of its descendants, such that descendants
+     * come before their ancestors.
+     *
+     * @since 5.6.0
+     */
+    @SqlQuery("""
+            WITH RECURSIVE "TARGET"("ID", "DEPTH") AS (
+              SELECT "ID", 0
+                FROM "PROJECT"
+               WHERE "UUID" = :projectUuid
+              UNION ALL
+              SELECT "PROJECT"."ID", "TARGET"."DEPTH" + 1
+                FROM "PROJECT"
+               INNER JOIN "TARGET"
+                  ON "TARGET"."ID" = "PROJECT"."PARENT_PROJECT_ID"
+            )
+            SELECT "ID"
+              FROM "TARGET"
+             ORDER BY "DEPTH" DESC, "ID"
+            """)
+    List<Long> getIdsOfProjectAndDescendants(@Bind UUID projectUuid);
+
+    /**
+     * Record that the deletion of a project made progress.
+     *
+     * @since 5.6.0
+     */
+    @SqlUpdate("""
+            UPDATE "PROJECT"
+               SET "DELETION_HEARTBEAT_AT" = NOW()
+             WHERE "UUID" = :projectUuid
+            """)
+    void updateDeletionHeartbeat(@Bind UUID projectUuid);
+
+    /**
+     * Claim projects pending deletion whose deletion has not made any progress since {@code cutOff}.
+     * <p>
+     * Claiming a deletion refreshes its heartbeat, such that it is not claimed again
+     * before the resumed deletion had a chance to make progress.
+     *
+     * @return UUIDs of the claimed projects
+     * @since 5.6.0
+     */
+    @SqlQuery("""
+            UPDATE "PROJECT"
+               SET "DELETION_HEARTBEAT_AT" = NOW()
+             WHERE "DELETION_REQUESTED_AT" IS NOT NULL
+               AND COALESCE("DELETION_HEARTBEAT_AT", "DELETION_REQUESTED_AT") < :cutOff
+               AND ("PARENT_PROJECT_ID" IS NULL
+                    OR NOT EXISTS(
+                      SELECT 1
+                        FROM "PROJECT" AS "PARENT_PROJECT"
+                       WHERE "PARENT_PROJECT"."ID" = "PROJECT"."PARENT_PROJECT_ID"
+                         AND "PARENT_PROJECT"."DELETION_REQUESTED_AT" IS NOT NULL))
+            RETURNING "UUID"
+            """)
+    List<UUID> claimStalledProjectDeletions(@Bind Instant cutOff);
+
+    /**
+     * @since 5.6.0
+     */
+    @SqlUpdate("""
+            DELETE
+              FROM "DEPENDENCYMETRICS"
+             WHERE "ID" IN (
+               SELECT "ID"
+                 FROM "DEPENDENCYMETRICS"
+                WHERE "PROJECT_ID" = :projectId
+                LIMIT :batchSize)
+            """)
+    int deleteComponentMetricsBatch(@Bind long projectId, @Bind int batchSize);
+
+    /**
+     * @since 5.6.0
+     */
+    @SqlUpdate("""
+            DELETE
+              FROM "PROJECTMETRICS"
+             WHERE "ID" IN (
+               SELECT "ID"
+                 FROM "PROJECTMETRICS"
+                WHERE "PROJECT_ID" = :projectId
+                LIMIT :batchSize)
+            """)
+    int deleteProjectMetricsBatch(@Bind long projectId, @Bind int batchSize);
+
+    /**
+     * Delete a batch of components of a project.
+     * <p>
+     * Rows referencing the deleted components (e.g. findings, analyses, and policy violations)
+     * are deleted via cascading foreign keys, and are thus bounded by the batch size as well.
+     *
+     * @since 5.6.0
+     */
+    @SqlUpdate("""
+            DELETE
+              FROM "COMPONENT"
+             WHERE "ID" IN (
+               SELECT "ID"
+                 FROM "COMPONENT"
+                WHERE "PROJECT_ID" = :projectId
+                LIMIT :batchSize)
+            """)
+    int deleteComponentsBatch(@Bind long projectId, @Bind int batchSize);
+
+    /**
+     * @since 5.6.0
+     */
     @SqlUpdate("""
             DELETE
               FROM "PROJECT"
-             WHERE "UUID" = :projectUuid
+             WHERE "ID" = :projectId
             """)
-    int deleteProject(@Bind final UUID projectUuid);
+    int deleteProjectById(@Bind long projectId);
 
     @SqlQuery("""
             WITH "CTE" AS (
@@ -435,15 +435,36 @@ public interface VulnerabilityDao {
     @RegisterColumnMapper(ExternalReferenceMapper.class)
     List<Component> getVulnerableComponents(@Bind long projectId, @Bind List<Long> vulnerabilityIds);
 
-    @SqlUpdate("""
-            DELETE
-              FROM "VULNERABLESOFTWARE"
-             WHERE NOT EXISTS(
-               SELECT 1
-                 FROM "VULNERABLESOFTWARE_VULNERABILITIES"
-                WHERE "VULNERABLESOFTWARE_ID" = "VULNERABLESOFTWARE"."ID")
+    /**
+     * Delete {@link VulnerableSoftware} that is no longer referenced by any {@link Vulnerability},
+     * considering at most {@code batchSize} rows with an ID greater than {@code afterId}.
+     *
+     * @since 5.6.0
+     */
+    @SqlQuery("""
+            WITH "BATCH" AS (
+              SELECT "ID"
+                FROM "VULNERABLESOFTWARE"
+               WHERE "ID" > :afterId
+               ORDER BY "ID"
+               LIMIT :batchSize
+            ),
+            "DELETED" AS (
+              DELETE
+                FROM "VULNERABLESOFTWARE" AS "VS"
+               USING "BATCH"
+               WHERE "VS"."ID" = "BATCH"."ID"
+                 AND NOT EXISTS(
+                   SELECT 1
+                     FROM "VULNERABLESOFTWARE_VULNERABILITIES" AS "VSV"
+                    WHERE "VSV"."VULNERABLESOFTWARE_ID" = "VS"."ID")
+              RETURNING 1
+            )
+            SELECT (SELECT MAX("ID") FROM "BATCH") AS "LAST_ID"
+                 , (SELECT COUNT(*) FROM "DELETED") AS "DELETED"
             """)
-    int deleteOrphanVulnerableSoftware();
+    @RegisterConstructorMapper(KeysetDeletionBatch.class)
+    KeysetDeletionBatch deleteOrphanVulnerableSoftwareBatch(@Bind long afterId, @Bind int batchSize);
 
     @SqlUpdate("""
             DELETE
@@ -19,23 +19,30 @@
 package org.dependencytrack.persistence.jdbi;
 
 import alpine.persistence.PaginatedResult;
+import jakarta.annotation.Nullable;
 import org.dependencytrack.model.Analysis;
+import org.dependencytrack.model.Severity;
 import org.dependencytrack.persistence.jdbi.mapping.AnalysisRowMapper;
 import org.dependencytrack.persistence.jdbi.mapping.PaginatedVulnerabilityPolicyRowReducer;
 import org.dependencytrack.policy.vulnerability.VulnerabilityPolicy;
 import org.dependencytrack.util.AnalysisCommentFormatter.AnalysisCommentField;
+import org.jdbi.v3.core.mapper.reflect.ColumnName;
 import org.jdbi.v3.sqlobject.SqlObject;
 import org.jdbi.v3.sqlobject.config.RegisterBeanMapper;
+import org.jdbi.v3.sqlobject.config.RegisterConstructorMapper;
 import org.jdbi.v3.sqlobject.customizer.Bind;
 import org.jdbi.v3.sqlobject.customizer.BindBean;
+import org.jdbi.v3.sqlobject.customizer.DefineNamedBindings;
 import org.jdbi.v3.sqlobject.statement.GetGeneratedKeys;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.jdbi.v3.sqlobject.statement.SqlUpdate;
 import org.jdbi.v3.sqlobject.statement.UseRowReducer;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.dependencytrack.util.AnalysisCommentFormatter.formatComment;
 
@@ -47,6 +54,21 @@ public interface VulnerabilityPolicyDao extends SqlObject {
             """)
     List<VulnerabilityPolicy> getAll();
 
+    /**
+     * An existing finding that may be affected by changed {@link VulnerabilityPolicy}s.
+     *
+     * @since 5.6.0
+     */
+    record ReapplicationCandidate(
+            @ColumnName("COMPONENT_ID") long componentId,
+            @ColumnName("COMPONENT_UUID") UUID componentUuid,
+            @ColumnName("PROJECT_ID") long projectId,
+            @ColumnName("PROJECT_UUID") UUID projectUuid,
+            @ColumnName("VULNERABILITY_ID") long vulnId,
+            @ColumnName("VULNERABILITY_UUID") UUID vulnUuid,
+            @Nullable @ColumnName("VULNERABILITY_SEVERITY") Severity vulnSeverity) {
+    }
+
     @SqlQuery("""
             SELECT
               *
@@ -148,6 +170,108 @@ public interface VulnerabilityPolicyDao extends SqlObject {
     @GetGeneratedKeys("*")
     VulnerabilityPolicy update(@BindBean VulnerabilityPolicy vulnerabilityPolicy);
 
+    /**
+     * Get a page of findings whose analysis is currently assigned to any of the given policies.
+     * <p>
+     * Pages are determined via keyset pagination over component and vulnerability ID.
+     *
+     * @since 5.6.0
+     */
+    @SqlQuery("""
+            SELECT "A"."COMPONENT_ID"
+                 , "C"."UUID" AS "COMPONENT_UUID"
+                 , "C"."PROJECT_ID"
+                 , "P"."UUID" AS "PROJECT_UUID"
+                 , "A"."VULNERABILITY_ID"
+                 , "V"."UUID" AS "VULNERABILITY_UUID"
+                 , "V"."SEVERITY" AS "VULNERABILITY_SEVERITY"
+              FROM "ANALYSIS" AS "A"
+             INNER JOIN "VULNERABILITY_POLICY" AS "VP"
+                ON "VP"."ID" = "A"."VULNERABILITY_POLICY_ID"
+             INNER JOIN "COMPONENTS_VULNERABILITIES" AS "CV"
+                ON "CV"."COMPONENT_ID" = "A"."COMPONENT_ID"
+               AND "CV"."VULNERABILITY_ID" = "A"."VULNERABILITY_ID"
+             INNER JOIN "COMPONENT" AS "C"
+                ON "C"."ID" = "A"."COMPONENT_ID"
+             INNER JOIN "PROJECT" AS "P"
+                ON "P"."ID" = "C"."PROJECT_ID"
+             INNER JOIN "VULNERABILITY" AS "V"
+                ON "V"."ID" = "A"."VULNERABILITY_ID"
+             WHERE "VP"."NAME" = ANY(:policyNames)
+               AND ("A"."COMPONENT_ID", "A"."VULNERABILITY_ID") > (:lastComponentId, :lastVulnId)
+             ORDER BY "A"."COMPONENT_ID", "A"."VULNERABILITY_ID"
+             LIMIT :limit
+            """)
+    @RegisterConstructorMapper(ReapplicationCandidate.class)
+    List<ReapplicationCandidate> getReapplicationCandidatesByAssignment(
+            @Bind Collection<String> policyNames,
+            @Bind long lastComponentId,
+            @Bind long lastVulnId,
+            @Bind int limit);
+
+    /**
+     * Get a page of findings that are within a given scope of {@link VulnerabilityPolicy}s.
+     * <p>
+     * Vulnerability IDs are matched against the IDs of vulnerabilities, as well as their aliases.
+     * When neither {@code vulnIds}, nor {@code projectNames} or {@code projectUuids} are provided,
+     * all findings of the portfolio are considered.
+     * <p>
+     * Pages are determined via keyset pagination over component and vulnerability ID.
+     *
+     * @since 5.6.0
+     */
+    @SqlQuery("""
+            SELECT "CV"."COMPONENT_ID"
+                 , "C"."UUID" AS "COMPONENT_UUID"
+                 , "C"."PROJECT_ID"
+                 , "P"."UUID" AS "PROJECT_UUID"
+                 , "CV"."VULNERABILITY_ID"
+                 , "V"."UUID" AS "VULNERABILITY_UUID"
+                 , "V"."SEVERITY" AS "VULNERABILITY_SEVERITY"
+              FROM "COMPONENTS_VULNERABILITIES" AS "CV"
+             INNER JOIN "COMPONENT" AS "C"
+                ON "C"."ID" = "CV"."COMPONENT_ID"
+             INNER JOIN "PROJECT" AS "P"
+                ON "P"."ID" = "C"."PROJECT_ID"
+             INNER JOIN "VULNERABILITY" AS "V"
+                ON "V"."ID" = "CV"."VULNERABILITY_ID"
+             WHERE ("CV"."COMPONENT_ID", "CV"."VULNERABILITY_ID") > (:lastComponentId, :lastVulnId)
+            <#if vulnIds>
+               AND "CV"."VULNERABILITY_ID" IN (
+                     SELECT "ID"
+                       FROM "VULNERABILITY"
+                      WHERE "VULNID" = ANY(:vulnIds)
+                      UNION
+                     SELECT "ALIASED"."ID"
+                       FROM "VULNERABILITYALIAS" AS "VA"
+                      INNER JOIN "VULNERABILITY" AS "ALIASED"
+                         ON "ALIASED"."VULNID" IN ("VA"."CVE_ID", "VA"."GHSA_ID", "VA"."GSD_ID", "VA"."INTERNAL_ID",
+                                                   "VA"."OSV_ID", "VA"."SNYK_ID", "VA"."SONATYPE_ID", "VA"."VULNDB_ID")
+                      WHERE "VA"."CVE_ID" = ANY(:vulnIds)
+                         OR "VA"."GHSA_ID" = ANY(:vulnIds)
+                         OR "VA"."GSD_ID" = ANY(:vulnIds)
+                         OR "VA"."INTERNAL_ID" = ANY(:vulnIds)
+                         OR "VA"."OSV_ID" = ANY(:vulnIds)
+                         OR "VA"."SNYK_ID" = ANY(:vulnIds)
+                         OR "VA"."SONATYPE_ID" = ANY(:vulnIds)
+                         OR "VA"."VULNDB_ID" = ANY(:vulnIds))
+            </#if>
+            <#if projectNames && projectUuids>
+               AND ("P"."NAME" = ANY(:projectNames) OR "P"."UUID" = ANY(:projectUuids))
+            </#if>
+             ORDER BY "CV"."COMPONENT_ID", "CV"."VULNERABILITY_ID"
+             LIMIT :limit
+            """)
+    @DefineNamedBindings
+    @RegisterConstructorMapper(ReapplicationCandidate.class)
+    List<ReapplicationCandidate> getReapplicationCandidatesByScope(
+            @Bind @Nullable Collection<String> vulnIds,
+            @Bind @Nullable Collection<String> projectNames,
+            @Bind @Nullable Collection<String> projectUuids,
+            @Bind long lastComponentId,
+            @Bind long lastVulnId,
+            @Bind int limit);
+
     default List<Analysis> unassignFromAnalysesByName(final String name) {
         // NB: Can't use interface method here due to https://github.com/jdbi/jdbi/issues/1807.
         return getHandle().createUpdate("""
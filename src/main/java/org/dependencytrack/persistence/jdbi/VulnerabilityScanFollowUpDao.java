@@ -0,0 +1,145 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import org.dependencytrack.model.VulnerabilityScan;
+import org.dependencytrack.model.VulnerabilityScan.TargetType;
+import org.jdbi.v3.core.mapper.reflect.ColumnName;
+import org.jdbi.v3.sqlobject.SqlObject;
+import org.jdbi.v3.sqlobject.config.RegisterConstructorMapper;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlBatch;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A durable, database-backed queue of follow-up work (policy evaluation and metrics update)
+ * for completed {@link VulnerabilityScan}s.
+ * <p>
+ * Follow-ups are de-duplicated per scan target. Workflow tokens of all scans that completed
+ * for the same target are merged into a single follow-up, which may be claimed by any instance.
+ *
+ * @since 5.6.0
+ */
+public interface VulnerabilityScanFollowUpDao extends SqlObject {
+
+    record FollowUp(
+            @ColumnName("ID") long id,
+            @ColumnName("TARGET_TYPE") TargetType targetType,
+            @ColumnName("TARGET_IDENTIFIER") UUID targetIdentifier,
+            @ColumnName("WORKFLOW_TOKENS") List<UUID> workflowTokens,
+            @ColumnName("REVISION") int revision,
+            @ColumnName("ATTEMPTS") int attempts) {
+    }
+
+    /**
+     * Enqueue follow-ups for scan targets.
+     * <p>
+     * If a follow-up for a target already exists, the workflow token is merged into it,
+     * and its revision is incremented. Callers should order entries by target
+     * to prevent deadlocks between concurrent transactions.
+     */
+    @SqlBatch("""
+            INSERT INTO "VULNERABILITYSCAN_FOLLOWUP" AS "FOLLOWUP"
+              ("TARGET_TYPE", "TARGET_IDENTIFIER", "WORKFLOW_TOKENS", "CREATED_AT", "UPDATED_AT")
+            VALUES
+              (:targetType, :targetIdentifier, ARRAY[:token]::UUID[], NOW(), NOW())
+            ON CONFLICT ("TARGET_TYPE", "TARGET_IDENTIFIER") DO UPDATE
+            SET "WORKFLOW_TOKENS" = CASE WHEN :token = ANY("FOLLOWUP"."WORKFLOW_TOKENS")
+                                         THEN "FOLLOWUP"."WORKFLOW_TOKENS"
+                                         ELSE ARRAY_APPEND("FOLLOWUP"."WORKFLOW_TOKENS", :token)
+                                    END
+              , "REVISION" = "FOLLOWUP"."REVISION" + 1
+              , "UPDATED_AT" = NOW()
+            """)
+    void enqueueAll(
+            @Bind("targetType") List<TargetType> targetTypes,
+            @Bind("targetIdentifier") List<UUID> targetIdentifiers,
+            @Bind("token") List<UUID> tokens);
+
+    /**
+     * Claim up to {@code limit} follow-ups that are not currently claimed by another instance,
+     * or whose claim has expired.
+     * <p>
+     * Rows locked by concurrent claims are skipped, such that multiple instances
+     * can claim follow-ups in parallel without blocking each other.
+     */
+    @SqlQuery("""
+            WITH "CTE" AS (
+              SELECT "ID"
+                FROM "VULNERABILITYSCAN_FOLLOWUP"
+               WHERE "LOCKED_UNTIL" IS NULL
+                  OR "LOCKED_UNTIL" <= NOW()
+               ORDER BY "UPDATED_AT"
+               LIMIT :limit
+                 FOR UPDATE
+                SKIP LOCKED
+            )
+            UPDATE "VULNERABILITYSCAN_FOLLOWUP"
+               SET "LOCKED_UNTIL" = NOW() + :lockDuration
+                 , "ATTEMPTS" = "ATTEMPTS" + 1
+             WHERE "ID" = ANY(SELECT "ID" FROM "CTE")
+            RETURNING "ID"
+                    , "TARGET_TYPE"
+                    , "TARGET_IDENTIFIER"
+                    , "WORKFLOW_TOKENS"
+                    , "REVISION"
+                    , "ATTEMPTS"
+            """)
+    @RegisterConstructorMapper(FollowUp.class)
+    List<FollowUp> claim(@Bind Duration lockDuration, @Bind int limit);
+
+    /**
+     * Delete a claimed follow-up, unless it was modified since it has been claimed.
+     *
+     * @return {@code true} when the follow-up was deleted, otherwise {@code false}
+     */
+    @SqlUpdate("""
+            DELETE
+              FROM "VULNERABILITYSCAN_FOLLOWUP"
+             WHERE "ID" = :id
+               AND "REVISION" = :revision
+            """)
+    boolean complete(@Bind long id, @Bind int revision);
+
+    /**
+     * Release the claim on a follow-up that was modified since it has been claimed,
+     * removing workflow tokens that have already been handled.
+     * <p>
+     * The follow-up will be claimed again, so that changes that happened while it
+     * was being processed are accounted for.
+     */
+    @SqlUpdate("""
+            UPDATE "VULNERABILITYSCAN_FOLLOWUP"
+               SET "WORKFLOW_TOKENS" = ARRAY(
+                     SELECT UNNEST("WORKFLOW_TOKENS")
+                     EXCEPT
+                     SELECT UNNEST(:handledTokens))
+                 , "ATTEMPTS" = 0
+                 , "LOCKED_UNTIL" = NULL
+             WHERE "ID" = :id
+            """)
+    void release(@Bind long id, @Bind Collection<UUID> handledTokens);
+
+}
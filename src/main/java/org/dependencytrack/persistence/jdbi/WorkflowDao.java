@@ -151,7 +151,7 @@ public interface WorkflowDao extends SqlObject {
                SET "STATUS" = 'TIMED_OUT'
                  , "UPDATED_AT" = NOW()
              WHERE "STATUS" = 'PENDING'
-               AND NOW() - "UPDATED_AT" > :timeoutDuration
+               AND "UPDATED_AT" < NOW() - :timeoutDuration
             """)
     int transitionAllPendingStepsToTimedOutForTimeout(@Bind Duration timeoutDuration);
 
@@ -166,7 +166,7 @@ public interface WorkflowDao extends SqlObject {
                              , "FAILURE_REASON" = 'Timed out'
                              , "UPDATED_AT" = NOW()
                          WHERE "STATUS" = 'TIMED_OUT'
-                           AND NOW() - "UPDATED_AT" > :timeoutDuration
+                           AND "UPDATED_AT" < NOW() - :timeoutDuration
                         RETURNING "ID"
                         """)
                 .bind("timeoutDuration", timeoutDuration)
@@ -176,25 +176,84 @@ public interface WorkflowDao extends SqlObject {
     }
 
     /**
+     * Record the time at which workflows reached a terminal status, i.e. when none of their
+     * steps is {@link WorkflowStatus#PENDING} or {@link WorkflowStatus#TIMED_OUT} anymore.
+     * <p>
+     * Only workflows with steps without terminal timestamp are considered, such that the cost of this operation
+     * scales with the number of running or recently finished workflows, rather than the size of the table.
+     * Workflows that received non-terminal steps after they have been recorded as terminal are reset.
+     * <p>
+     * All steps of a workflow share the same terminal timestamp, which is derived from all of its steps.
+     * This covers workflows that received steps after they have been recorded as terminal.
+     *
+     * @return Number of workflows that were recorded as terminal
      * @since 5.6.0
      */
-    @SqlUpdate("""
-            WITH "CTE_ELIGIBLE_TOKENS" AS (
+    @SqlQuery("""
+            WITH
+            "CTE_RESET" AS (
+              UPDATE "WORKFLOW_STATE"
+                 SET "TERMINAL_AT" = NULL
+               WHERE "TERMINAL_AT" IS NOT NULL
+                 AND "TOKEN" = ANY(
+                       SELECT "TOKEN"
+                         FROM "WORKFLOW_STATE"
+                        WHERE "STATUS" IN ('PENDING', 'TIMED_OUT'))
+            ),
+            "CTE_TERMINAL" AS (
               SELECT "TOKEN"
-                FROM "WORKFLOW_STATE" AS "WFS_PARENT"
-               WHERE NOT EXISTS(
-                 SELECT 1
-                   FROM "WORKFLOW_STATE" AS "WFS"
-                  WHERE "WFS"."TOKEN" = "WFS_PARENT"."TOKEN"
-                    AND "WFS"."STATUS" IN ('PENDING', 'TIMED_OUT'))
+                   , MAX("UPDATED_AT") AS "TERMINAL_AT"
+                FROM "WORKFLOW_STATE"
+               WHERE "TOKEN" = ANY(
+                       SELECT "TOKEN"
+                         FROM "WORKFLOW_STATE"
+                        WHERE "TERMINAL_AT" IS NULL)
                GROUP BY "TOKEN"
-              HAVING NOW() - MAX("UPDATED_AT") > :retentionDuration
+              HAVING NOT BOOL_OR("STATUS" IN ('PENDING', 'TIMED_OUT'))
+            ),
+            "CTE_UPDATED" AS (
+              UPDATE "WORKFLOW_STATE"
+                 SET "TERMINAL_AT" = "CTE_TERMINAL"."TERMINAL_AT"
+                FROM "CTE_TERMINAL"
+               WHERE "WORKFLOW_STATE"."TOKEN" = "CTE_TERMINAL"."TOKEN"
+                 AND "WORKFLOW_STATE"."TERMINAL_AT" IS DISTINCT FROM "CTE_TERMINAL"."TERMINAL_AT"
+              RETURNING "WORKFLOW_STATE"."TOKEN"
             )
-            DELETE
-              FROM "WORKFLOW_STATE"
-             WHERE "TOKEN" = ANY(SELECT "TOKEN" FROM "CTE_ELIGIBLE_TOKENS")
+            SELECT COUNT(DISTINCT "TOKEN")
+              FROM "CTE_UPDATED"
             """)
-    int deleteAllForRetention(@Bind Duration retentionDuration);
+    int markAllTerminal();
+
+    /**
+     * Delete a batch of workflows that reached a terminal status before the retention duration.
+     * <p>
+     * Workflows are deleted in order of their terminal timestamp. A batch covers all steps
+     * of the workflows of up to {@code batchSize} expired steps.
+     *
+     * @return Number of deleted workflows
+     * @since 5.6.0
+     */
+    @SqlQuery("""
+            WITH
+            "CTE_EXPIRED_TOKENS" AS (
+              SELECT DISTINCT "TOKEN"
+                FROM (SELECT "TOKEN"
+                        FROM "WORKFLOW_STATE"
+                       WHERE "TERMINAL_AT" < NOW() - :retentionDuration
+                       ORDER BY "TERMINAL_AT"
+                       LIMIT :batchSize) AS "EXPIRED"
+            ),
+            "CTE_DELETED" AS (
+              DELETE
+                FROM "WORKFLOW_STATE"
+               USING "CTE_EXPIRED_TOKENS"
+               WHERE "WORKFLOW_STATE"."TOKEN" = "CTE_EXPIRED_TOKENS"."TOKEN"
+              RETURNING "WORKFLOW_STATE"."TOKEN"
+            )
+            SELECT COUNT(DISTINCT "TOKEN")
+              FROM "CTE_DELETED"
+            """)
+    int deleteExpiredBatch(@Bind Duration retentionDuration, @Bind int batchSize);
 
     /**
      * @since 5.6.0
@@ -208,4 +267,22 @@ public interface WorkflowDao extends SqlObject {
             """)
     boolean existsWithNonTerminalStatus(@Bind UUID token);
 
+    /**
+     * @since 5.6.0
+     */
+    @SqlQuery("""
+            SELECT "ID"
+                 , "TOKEN"
+                 , "STEP"
+                 , "STATUS"
+                 , "FAILURE_REASON"
+                 , "STARTED_AT"
+                 , "UPDATED_AT"
+              FROM "WORKFLOW_STATE"
+             WHERE "TOKEN" = ANY(:tokens)
+             ORDER BY "TOKEN", "ID"
+            """)
+    @RegisterBeanMapper(WorkflowState.class)
+    List<WorkflowState> getAllStatesByTokenAnyOf(@Bind Collection<UUID> tokens);
+
 }
@@ -0,0 +1,226 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.migration.change.v560;
+
+import liquibase.change.custom.CustomTaskChange;
+import liquibase.database.Database;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.exception.CustomChangeException;
+import liquibase.exception.DatabaseException;
+import liquibase.exception.SetupException;
+import liquibase.exception.ValidationErrors;
+import liquibase.resource.ResourceAccessor;
+import org.dependencytrack.persistence.jdbi.MetricsDao;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converts the {@code DEPENDENCYMETRICS}, {@code PROJECTMETRICS}, and {@code PORTFOLIOMETRICS}
+ * tables to tables that are range-partitioned by {@code LAST_OCCURRENCE}.
+ * <p>
+ * One partition is created per month that holds existing data, plus partitions for the current
+ * and the next month. Rows that do not fit any monthly partition end up in a default partition.
+ * Future partitions are created by {@link org.dependencytrack.tasks.maintenance.MetricsMaintenanceTask}.
+ * <p>
+ * Partitioned tables require the partition key to be part of the primary key, and PostgreSQL 11
+ * does not support identity columns on partitioned tables. The {@code ID} column is thus backed
+ * by a regular sequence, and the primary key is extended to {@code (ID, LAST_OCCURRENCE)}.
+ *
+ * @since 5.6.0
+ */
+public class PartitionMetricsTablesChange implements CustomTaskChange {
+
+    private int numTablesPartitioned;
+    private int numPartitionsCreated;
+
+    @Override
+    public void setUp() throws SetupException {
+    }
+
+    @Override
+    public void execute(final Database database) throws CustomChangeException {
+        final var connection = (JdbcConnection) database.getConnection();
+
+        for (final String tableName : MetricsDao.PARTITIONED_TABLE_NAMES) {
+            try {
+                if (!tableExists(connection, tableName)) {
+                    // Probably running within `mvn liquibase:updateSQL`.
+                    continue;
+                }
+
+                partitionTable(connection, tableName);
+                numTablesPartitioned++;
+            } catch (DatabaseException | SQLException e) {
+                throw new CustomChangeException("Failed to partition table %s".formatted(tableName), e);
+            }
+        }
+    }
+
+    private void partitionTable(final JdbcConnection connection, final String tableName) throws DatabaseException, SQLException {
+        final String tmpTableName = tableName + "_PARTITIONED";
+
+        // Capture indexes and foreign keys of the existing table, so they can be
+        // re-created on the partitioned table under their original names.
+        final List<String> indexDefinitions = getIndexDefinitions(connection, tableName);
+        final List<String> foreignKeyDefinitions = getForeignKeyDefinitions(connection, tableName);
+
+        final long maxId;
+        final YearMonth minMonth;
+        try (final PreparedStatement ps = connection.prepareStatement("""
+                SELECT COALESCE(MAX("ID"), 0)
+                     , MIN("LAST_OCCURRENCE")
+                  FROM "%s"
+                """.formatted(tableName))) {
+            final ResultSet rs = ps.executeQuery();
+            rs.next();
+            maxId = rs.getLong(1);
+            final Timestamp minLastOccurrence = rs.getTimestamp(2);
+            minMonth = minLastOccurrence != null
+                    ? YearMonth.from(minLastOccurrence.toInstant().atZone(ZoneOffset.UTC))
+                    : null;
+        }
+
+        try (final Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE "%s" (LIKE "%s" INCLUDING DEFAULTS)
+                    PARTITION BY RANGE ("LAST_OCCURRENCE")
+                    """.formatted(tmpTableName, tableName));
+            statement.execute("""
+                    CREATE TABLE "%s" PARTITION OF "%s" DEFAULT
+                    """.formatted(MetricsDao.defaultPartitionName(tableName), tmpTableName));
+            numPartitionsCreated++;
+
+            final YearMonth currentMonth = YearMonth.now(ZoneOffset.UTC);
+            YearMonth month = (minMonth != null && minMonth.isBefore(currentMonth)) ? minMonth : currentMonth;
+            while (!month.isAfter(currentMonth.plusMonths(1))) {
+                statement.execute("""
+                        CREATE TABLE "%s" PARTITION OF "%s" FOR VALUES FROM ('%s') TO ('%s')
+                        """.formatted(
+                        MetricsDao.partitionName(tableName, month), tmpTableName,
+                        MetricsDao.partitionLowerBound(month), MetricsDao.partitionUpperBound(month)));
+                numPartitionsCreated++;
+                month = month.plusMonths(1);
+            }
+
+            statement.execute("""
+                    INSERT INTO "%s" SELECT * FROM "%s"
+                    """.formatted(tmpTableName, tableName));
+            statement.execute("""
+                    DROP TABLE "%s"
+                    """.formatted(tableName));
+            statement.execute("""
+                    ALTER TABLE "%s" RENAME TO "%s"
+                    """.formatted(tmpTableName, tableName));
+
+            statement.execute("""
+                    CREATE SEQUENCE "%s_ID_seq" OWNED BY "%s"."ID"
+                    """.formatted(tableName, tableName));
+            statement.execute("""
+                    SELECT SETVAL('"%s_ID_seq"', %d, FALSE)
+                    """.formatted(tableName, maxId + 1));
+            statement.execute("""
+                    ALTER TABLE "%s" ALTER COLUMN "ID" SET DEFAULT NEXTVAL('"%s_ID_seq"')
+                    """.formatted(tableName, tableName));
+            statement.execute("""
+                    ALTER TABLE "%s" ADD CONSTRAINT "%s_PK" PRIMARY KEY ("ID", "LAST_OCCURRENCE")
+                    """.formatted(tableName, tableName));
+
+            for (final String indexDefinition : indexDefinitions) {
+                statement.execute(indexDefinition);
+            }
+            for (final String foreignKeyDefinition : foreignKeyDefinitions) {
+                statement.execute(foreignKeyDefinition);
+            }
+        }
+    }
+
+    private static boolean tableExists(final JdbcConnection connection, final String tableName) throws DatabaseException, SQLException {
+        try (final PreparedStatement ps = connection.prepareStatement("""
+                SELECT 1
+                  FROM information_schema.tables
+                 WHERE table_schema = current_schema()
+                   AND table_name = ?
+                """)) {
+            ps.setString(1, tableName);
+            return ps.executeQuery().next();
+        }
+    }
+
+    private static List<String> getIndexDefinitions(final JdbcConnection connection, final String tableName) throws DatabaseException, SQLException {
+        try (final PreparedStatement ps = connection.prepareStatement("""
+                SELECT PG_GET_INDEXDEF("indexrelid")
+                  FROM "pg_index"
+                 WHERE "indrelid" = QUOTE_IDENT(?)::REGCLASS
+                   AND NOT "indisprimary"
+                """)) {
+            ps.setString(1, tableName);
+
+            final var indexDefinitions = new ArrayList<String>();
+            final ResultSet rs = ps.executeQuery();
+            while (rs.next()) {
+                indexDefinitions.add(rs.getString(1));
+            }
+
+            return indexDefinitions;
+        }
+    }
+
+    private static List<String> getForeignKeyDefinitions(final JdbcConnection connection, final String tableName) throws DatabaseException, SQLException {
+        try (final PreparedStatement ps = connection.prepareStatement("""
+                SELECT FORMAT('ALTER TABLE %I ADD CONSTRAINT %I %s', ?, "conname", PG_GET_CONSTRAINTDEF("oid"))
+                  FROM "pg_constraint"
+                 WHERE "conrelid" = QUOTE_IDENT(?)::REGCLASS
+                   AND "contype" = 'f'
+                """)) {
+            ps.setString(1, tableName);
+            ps.setString(2, tableName);
+
+            final var foreignKeyDefinitions = new ArrayList<String>();
+            final ResultSet rs = ps.executeQuery();
+            while (rs.next()) {
+                foreignKeyDefinitions.add(rs.getString(1));
+            }
+
+            return foreignKeyDefinitions;
+        }
+    }
+
+    @Override
+    public String getConfirmationMessage() {
+        return "Partitioned %d tables into %d partitions".formatted(numTablesPartitioned, numPartitionsCreated);
+    }
+
+    @Override
+    public void setFileOpener(final ResourceAccessor resourceAccessor) {
+    }
+
+    @Override
+    public ValidationErrors validate(final Database database) {
+        return null;
+    }
+
+}
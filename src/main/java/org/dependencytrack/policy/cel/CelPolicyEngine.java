@@ -18,6 +18,7 @@
  */
 package org.dependencytrack.policy.cel;
 
+import alpine.Config;
 import alpine.common.logging.Logger;
 import com.fasterxml.jackson.core.JacksonException;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -27,11 +28,15 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.google.api.expr.v1alpha1.Type;
 import com.google.protobuf.Timestamp;
 import com.google.protobuf.util.Timestamps;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.collections4.MultiValuedMap;
 import org.apache.commons.collections4.multimap.ArrayListValuedHashMap;
 import org.apache.commons.collections4.multimap.HashSetValuedHashMap;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
+import org.dependencytrack.common.ConfigKey;
+import org.dependencytrack.model.Component;
 import org.dependencytrack.model.Policy;
 import org.dependencytrack.model.PolicyCondition;
 import org.dependencytrack.model.PolicyCondition.Subject;
@@ -39,8 +44,11 @@ import org.dependencytrack.model.PolicyViolation;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.model.Severity;
 import org.dependencytrack.model.VulnerabilityAlias;
+import org.dependencytrack.observability.ProcessingStageTimer;
+import org.dependencytrack.observability.ProcessingStageTimer.Outcome;
 import org.dependencytrack.persistence.CollectionIntegerConverter;
 import org.dependencytrack.persistence.QueryManager;
+import org.dependencytrack.policy.cel.CelPolicyScript.Feature;
 import org.dependencytrack.policy.cel.CelPolicyScriptHost.CacheMode;
 import org.dependencytrack.policy.cel.compat.CelPolicyScriptSourceBuilder;
 import org.dependencytrack.policy.cel.compat.ComponentAgeCelPolicyScriptSourceBuilder;
@@ -61,6 +69,7 @@ import org.dependencytrack.policy.cel.mapping.ComponentProjection;
 import org.dependencytrack.policy.cel.mapping.LicenseProjection;
 import org.dependencytrack.policy.cel.mapping.VulnerabilityProjection;
 import org.dependencytrack.policy.cel.persistence.CelPolicyDao;
+import org.dependencytrack.policy.cel.persistence.PolicyEvaluationFingerprintDao;
 import org.dependencytrack.proto.policy.v1.Vulnerability;
 import org.dependencytrack.util.NotificationUtil;
 import org.dependencytrack.util.VulnerabilityUtil;
@@ -69,16 +78,20 @@ import org.projectnessie.cel.tools.ScriptException;
 import org.slf4j.MDC;
 
 import java.math.BigDecimal;
+import java.security.MessageDigest;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -86,7 +99,9 @@ import java.util.stream.Stream;
 import static java.util.Collections.emptyList;
 import static org.apache.commons.collections4.MultiMapUtils.emptyMultiValuedMap;
 import static org.apache.commons.lang3.StringUtils.trimToEmpty;
+import static org.dependencytrack.common.MdcKeys.MDC_COMPONENT_UUID;
 import static org.dependencytrack.common.MdcKeys.MDC_PROJECT_UUID;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiTransaction;
 import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
 import static org.dependencytrack.policy.cel.definition.CelPolicyTypes.TYPE_COMPONENT;
 import static org.dependencytrack.policy.cel.definition.CelPolicyTypes.TYPE_LICENSE;
@@ -102,6 +117,12 @@ import static org.dependencytrack.policy.cel.definition.CelPolicyTypes.TYPE_VULN
 public class CelPolicyEngine {
 
     private static final Logger LOGGER = Logger.getLogger(CelPolicyEngine.class);
+    private static final ProcessingStageTimer STAGE_TIMER = new ProcessingStageTimer("policy_evaluation");
+    private static final String STAGE_SCRIPT_COMPILATION = "script_compilation";
+    private static final String STAGE_DATA_LOADING = "data_loading";
+    private static final String STAGE_CONDITION_EVALUATION = "condition_evaluation";
+    private static final String STAGE_VIOLATION_RECONCILIATION = "violation_reconciliation";
+    private static final String STAGE_NOTIFICATION = "notification";
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private static final Map<Subject, CelPolicyScriptSourceBuilder> SCRIPT_BUILDERS;
 
@@ -125,13 +146,16 @@ public class CelPolicyEngine {
     }
 
     private final CelPolicyScriptHost scriptHost;
+    private final int chunkSize;
 
     public CelPolicyEngine() {
-        this(CelPolicyScriptHost.getInstance(CelPolicyType.COMPONENT));
+        this(CelPolicyScriptHost.getInstance(CelPolicyType.COMPONENT),
+                Config.getInstance().getPropertyAsInt(ConfigKey.POLICY_EVALUATION_CHUNK_SIZE));
     }
 
-    CelPolicyEngine(final CelPolicyScriptHost scriptHost) {
+    CelPolicyEngine(final CelPolicyScriptHost scriptHost, final int chunkSize) {
         this.scriptHost = scriptHost;
+        this.chunkSize = chunkSize;
     }
 
     /**
@@ -156,113 +180,379 @@ public class CelPolicyEngine {
             }
 
             LOGGER.debug("Compiling policy scripts");
-            final List<Pair<PolicyCondition, CelPolicyScript>> conditionScriptPairs = getApplicableConditionScriptPairs(celQm, project);
+            final List<Pair<PolicyCondition, CelPolicyScript>> conditionScriptPairs = STAGE_TIMER.time(STAGE_SCRIPT_COMPILATION,
+                    () -> getApplicableConditionScriptPairs(celQm, project));
             if (conditionScriptPairs.isEmpty()) {
                 LOGGER.info("No applicable policies found");
                 celQm.reconcileViolations(project.getId(), emptyMultiValuedMap());
+                useJdbiTransaction(handle -> handle.attach(PolicyEvaluationFingerprintDao.class).deleteAllForProject(project.getId()));
                 return;
             }
 
             final MultiValuedMap<Type, String> requirements = determineScriptRequirements(conditionScriptPairs);
             LOGGER.debug("Requirements for %d policy conditions: %s".formatted(conditionScriptPairs.size(), requirements));
 
+            final long dataLoadingStartTimeNs = System.nanoTime();
+
             final org.dependencytrack.proto.policy.v1.Project protoProject;
-            if (requirements.containsKey(TYPE_PROJECT)) {
-                final var inputProject = org.dependencytrack.proto.policy.v1.Project.newBuilder().setUuid(project.getUuid().toString()).build();
-                protoProject = withJdbiHandle(handle -> handle.attach(CelPolicyDao.class).loadRequiredFields(inputProject, requirements));
-            } else {
-                protoProject = org.dependencytrack.proto.policy.v1.Project.getDefaultInstance();
+            try {
+                if (requirements.containsKey(TYPE_PROJECT)) {
+                    final var inputProject = org.dependencytrack.proto.policy.v1.Project.newBuilder().setUuid(project.getUuid().toString()).build();
+                    protoProject = withJdbiHandle(handle -> handle.attach(CelPolicyDao.class).loadRequiredFields(inputProject, requirements));
+                } else {
+                    protoProject = org.dependencytrack.proto.policy.v1.Project.getDefaultInstance();
+                }
+            } catch (RuntimeException e) {
+                STAGE_TIMER.record(STAGE_DATA_LOADING, Outcome.FAILURE, System.nanoTime() - dataLoadingStartTimeNs);
+                throw e;
             }
-            // Preload components for the entire project, to avoid excessive queries.
-            final List<ComponentProjection> components = celQm.fetchAllComponents(project.getId(), requirements.get(TYPE_COMPONENT));
-
-            // Preload licenses for the entire project, as chances are high that they will be used by multiple components.
-            final Map<Long, org.dependencytrack.proto.policy.v1.License> licenseById;
-            if (requirements.containsKey(TYPE_LICENSE) || (requirements.containsKey(TYPE_COMPONENT) && requirements.get(TYPE_COMPONENT).contains("resolved_license"))) {
-                licenseById = celQm.fetchAllLicenses(project.getId(), requirements.get(TYPE_LICENSE), requirements.get(TYPE_LICENSE_GROUP)).stream()
-                        .collect(Collectors.toMap(
-                                projection -> projection.id,
-                                CelPolicyEngine::mapToProto
-                        ));
+            STAGE_TIMER.record(STAGE_DATA_LOADING, Outcome.SUCCESS, System.nanoTime() - dataLoadingStartTimeNs);
+
+            // Components whose inputs did not change since their last evaluation can be skipped,
+            // unless scripts depend on data that is not covered by the fingerprint.
+            final boolean isIncremental = isIncrementallyEvaluable(conditionScriptPairs);
+            final String policySetVersion;
+            if (isIncremental) {
+                policySetVersion = computePolicySetVersion(conditionScriptPairs);
             } else {
-                licenseById = Collections.emptyMap();
+                LOGGER.debug("Policy conditions depend on the dependency graph or the current time; Evaluating all components");
+                policySetVersion = null;
             }
 
-            // Preload vulnerabilities for the entire project, as chances are high that they will be used by multiple components.
-            final Map<Long, org.dependencytrack.proto.policy.v1.Vulnerability> protoVulnById;
-            final Map<Long, List<Long>> vulnIdsByComponentId;
-            if (requirements.containsKey(TYPE_VULNERABILITY)) {
-                protoVulnById = celQm.fetchAllVulnerabilities(project.getId(), requirements.get(TYPE_VULNERABILITY)).stream()
-                        .collect(Collectors.toMap(
-                                projection -> projection.id,
-                                CelPolicyEngine::mapToProto
-                        ));
-
-                vulnIdsByComponentId = celQm.fetchAllComponentsVulnerabilities(project.getId()).stream()
-                        .collect(Collectors.groupingBy(
-                                projection -> projection.componentId,
-                                Collectors.mapping(projection -> projection.vulnerabilityId, Collectors.toList())
-                        ));
-            } else {
-                protoVulnById = Collections.emptyMap();
-                vulnIdsByComponentId = Collections.emptyMap();
-            }
+            final boolean shouldFetchLicenses = requirements.containsKey(TYPE_LICENSE)
+                    || (requirements.containsKey(TYPE_COMPONENT) && requirements.get(TYPE_COMPONENT).contains("resolved_license"));
+            final boolean shouldFetchVulns = requirements.containsKey(TYPE_VULNERABILITY);
 
-            // Evaluate all policy conditions against all components.
-            final var conditionsViolated = new HashSetValuedHashMap<Long, PolicyCondition>();
+            // Load, evaluate, and reconcile components in chunks, ordered by their ID. Nothing but counters
+            // outlives a chunk, such that memory usage is bounded by the chunk size, rather than by the size
+            // of the project. Each chunk covers the component ID range (afterComponentId, lastComponentId].
+            final var violationsByComponentId = new ArrayListValuedHashMap<Long, PolicyViolation>();
+            final var unchangedComponentIds = new HashSet<Long>();
+            final var fingerprintByComponentId = new HashMap<Long, String>();
             final Timestamp protoNow = Timestamps.now(); // Use consistent now timestamp for all evaluations.
-            for (final ComponentProjection component : components) {
-                final org.dependencytrack.proto.policy.v1.Component protoComponent = mapToProto(component, licenseById);
-                final List<org.dependencytrack.proto.policy.v1.Vulnerability> protoVulns =
-                        vulnIdsByComponentId.getOrDefault(component.id, emptyList()).stream()
-                                .map(protoVulnById::get)
-                                .toList();
-
-                conditionsViolated.putAll(component.id, evaluateConditions(conditionScriptPairs, Map.of(
-                        CelPolicyVariable.COMPONENT.variableName(), protoComponent,
-                        CelPolicyVariable.PROJECT.variableName(), protoProject,
-                        CelPolicyVariable.VULNS.variableName(), protoVulns,
-                        CelPolicyVariable.NOW.variableName(), protoNow
-                )));
-            }
+            int numComponents = 0;
+            int numUnchangedComponents = 0;
+            int numNewViolations = 0;
+            long afterComponentId = 0;
+            List<ComponentProjection> components;
+            do {
+                final long chunkLoadingStartTimeNs = System.nanoTime();
+                final long firstComponentId;
+                final long lastComponentId;
+                final Map<Long, org.dependencytrack.proto.policy.v1.License> licenseById;
+                final Map<Long, org.dependencytrack.proto.policy.v1.Vulnerability> protoVulnById;
+                final Map<Long, List<Long>> vulnIdsByComponentId;
+                final Map<Long, String> previousFingerprintByComponentId;
+                try {
+                    components = celQm.fetchComponentsChunk(project.getId(), afterComponentId, chunkSize, requirements.get(TYPE_COMPONENT));
+                    if (components.isEmpty()) {
+                        break;
+                    }
 
-            final var violationsByComponentId = new ArrayListValuedHashMap<Long, PolicyViolation>();
-            for (final long componentId : conditionsViolated.keySet()) {
-                violationsByComponentId.putAll(componentId, evaluatePolicyOperators(conditionsViolated.get(componentId)));
-            }
+                    firstComponentId = components.getFirst().id;
+                    lastComponentId = components.getLast().id;
+
+                    if (shouldFetchLicenses) {
+                        licenseById = celQm.fetchLicenses(project.getId(), firstComponentId, lastComponentId,
+                                        requirements.get(TYPE_LICENSE), requirements.get(TYPE_LICENSE_GROUP)).stream()
+                                .collect(Collectors.toMap(
+                                        projection -> projection.id,
+                                        CelPolicyEngine::mapToProto
+                                ));
+                    } else {
+                        licenseById = Collections.emptyMap();
+                    }
 
-            final List<Long> newViolationIds = celQm.reconcileViolations(project.getId(), violationsByComponentId);
-            LOGGER.info("Identified %d new violations".formatted(newViolationIds.size()));
+                    if (shouldFetchVulns) {
+                        protoVulnById = celQm.fetchVulnerabilities(project.getId(), firstComponentId, lastComponentId,
+                                        requirements.get(TYPE_VULNERABILITY)).stream()
+                                .collect(Collectors.toMap(
+                                        projection -> projection.id,
+                                        CelPolicyEngine::mapToProto
+                                ));
+
+                        vulnIdsByComponentId = celQm.fetchComponentsVulnerabilities(project.getId(), firstComponentId, lastComponentId).stream()
+                                .collect(Collectors.groupingBy(
+                                        projection -> projection.componentId,
+                                        Collectors.mapping(projection -> projection.vulnerabilityId, Collectors.toList())
+                                ));
+                    } else {
+                        protoVulnById = Collections.emptyMap();
+                        vulnIdsByComponentId = Collections.emptyMap();
+                    }
 
-            for (final Long newViolationId : newViolationIds) {
-                NotificationUtil.analyzeNotificationCriteria(qm, newViolationId);
+                    if (isIncremental) {
+                        previousFingerprintByComponentId = withJdbiHandle(handle -> handle
+                                .attach(PolicyEvaluationFingerprintDao.class)
+                                .getFingerprintsByComponentId(project.getId(), firstComponentId, lastComponentId));
+                    } else {
+                        previousFingerprintByComponentId = Collections.emptyMap();
+                    }
+                } catch (RuntimeException e) {
+                    STAGE_TIMER.record(STAGE_DATA_LOADING, Outcome.FAILURE, System.nanoTime() - chunkLoadingStartTimeNs);
+                    throw e;
+                }
+                STAGE_TIMER.record(STAGE_DATA_LOADING, Outcome.SUCCESS, System.nanoTime() - chunkLoadingStartTimeNs);
+
+                // Evaluate all policy conditions against all components of the chunk.
+                final long conditionEvaluationStartTimeNs = System.nanoTime();
+                try {
+                    for (final ComponentProjection component : components) {
+                        final org.dependencytrack.proto.policy.v1.Component protoComponent = mapToProto(component, licenseById);
+                        final List<org.dependencytrack.proto.policy.v1.Vulnerability> protoVulns =
+                                vulnIdsByComponentId.getOrDefault(component.id, emptyList()).stream()
+                                        .map(protoVulnById::get)
+                                        .toList();
+
+                        if (isIncremental) {
+                            final String fingerprint = computeFingerprint(policySetVersion, protoProject, protoComponent, protoVulns);
+                            if (fingerprint.equals(previousFingerprintByComponentId.get(component.id))) {
+                                unchangedComponentIds.add(component.id);
+                                continue;
+                            }
+
+                            fingerprintByComponentId.put(component.id, fingerprint);
+                        }
+
+                        final Set<PolicyCondition> conditionsViolated = new HashSet<>(evaluateConditions(conditionScriptPairs, Map.of(
+                                CelPolicyVariable.COMPONENT.variableName(), protoComponent,
+                                CelPolicyVariable.PROJECT.variableName(), protoProject,
+                                CelPolicyVariable.VULNS.variableName(), protoVulns,
+                                CelPolicyVariable.NOW.variableName(), protoNow
+                        )));
+                        if (!conditionsViolated.isEmpty()) {
+                            violationsByComponentId.putAll(component.id, evaluatePolicyOperators(conditionsViolated));
+                        }
+                    }
+                } catch (RuntimeException e) {
+                    STAGE_TIMER.record(STAGE_CONDITION_EVALUATION, Outcome.FAILURE, System.nanoTime() - conditionEvaluationStartTimeNs);
+                    throw e;
+                }
+                STAGE_TIMER.record(STAGE_CONDITION_EVALUATION, Outcome.SUCCESS, System.nanoTime() - conditionEvaluationStartTimeNs);
+
+                numNewViolations += reconcileChunk(qm, celQm, project.getId(), afterComponentId, lastComponentId,
+                        violationsByComponentId, unchangedComponentIds, fingerprintByComponentId);
+
+                numComponents += components.size();
+                numUnchangedComponents += unchangedComponentIds.size();
+                afterComponentId = lastComponentId;
+                violationsByComponentId.clear();
+                unchangedComponentIds.clear();
+                fingerprintByComponentId.clear();
+            } while (components.size() == chunkSize);
+
+            // Violations of components after the last chunk belong to components
+            // that no longer exist, and are thus no longer reported.
+            numNewViolations += reconcileChunk(qm, celQm, project.getId(), afterComponentId, Long.MAX_VALUE,
+                    violationsByComponentId, unchangedComponentIds, fingerprintByComponentId);
+
+            if (!isIncremental) {
+                useJdbiTransaction(handle -> handle.attach(PolicyEvaluationFingerprintDao.class).deleteAllForProject(project.getId()));
             }
+
+            LOGGER.info("Identified %d new violations; Skipped %d of %d components with unchanged inputs"
+                    .formatted(numNewViolations, numUnchangedComponents, numComponents));
         } finally {
             LOGGER.info("Evaluation completed in %s"
                     .formatted(Duration.ofNanos(System.nanoTime() - startTimeNs)));
         }
     }
 
+    /**
+     * Reconcile the violations of a chunk of components, and record their fingerprints.
+     *
+     * @return Number of newly identified violations
+     */
+    private static int reconcileChunk(final QueryManager qm,
+                                      final CelPolicyQueryManager celQm,
+                                      final long projectId,
+                                      final long afterComponentId,
+                                      final long lastComponentId,
+                                      final MultiValuedMap<Long, PolicyViolation> violationsByComponentId,
+                                      final Set<Long> unchangedComponentIds,
+                                      final Map<Long, String> fingerprintByComponentId) {
+        final List<Long> newViolationIds = STAGE_TIMER.time(STAGE_VIOLATION_RECONCILIATION, () -> {
+            final List<Long> violationIds = celQm.reconcileViolations(projectId, afterComponentId, lastComponentId,
+                    violationsByComponentId, unchangedComponentIds);
+
+            // Only record fingerprints once violations have been reconciled successfully.
+            // Should reconciliation fail, components will be evaluated again next time.
+            if (!fingerprintByComponentId.isEmpty()) {
+                final var componentIds = new ArrayList<Long>(fingerprintByComponentId.size());
+                final var fingerprints = new ArrayList<String>(fingerprintByComponentId.size());
+                fingerprintByComponentId.forEach((componentId, fingerprint) -> {
+                    componentIds.add(componentId);
+                    fingerprints.add(fingerprint);
+                });
+                useJdbiTransaction(handle -> handle.attach(PolicyEvaluationFingerprintDao.class)
+                        .upsertAll(componentIds, fingerprints));
+            }
+
+            return violationIds;
+        });
+
+        STAGE_TIMER.run(STAGE_NOTIFICATION, () -> {
+            for (final Long newViolationId : newViolationIds) {
+                NotificationUtil.analyzeNotificationCriteria(qm, newViolationId);
+            }
+        });
+
+        return newViolationIds.size();
+    }
+
+    /**
+     * Evaluate {@link Policy}s for a single {@link Component}.
+     * <p>
+     * Only data of the {@link Component} itself is loaded, and only its violations are reconciled.
+     * Scripts that inspect the dependency graph may yield different results for other components
+     * of the project when a single component changes. If any applicable script does so,
+     * the entire {@link Project} is evaluated instead.
+     *
+     * @param uuid The {@link UUID} of the {@link Component}
+     */
     public void evaluateComponent(final UUID uuid) {
-        // Evaluation of individual components is only triggered when they are added or modified
-        // manually. As this happens very rarely, in low frequencies (due to being manual actions),
-        // and because CEL policy evaluation is so efficient, it's not worth it to maintain extra
-        // logic to handle component evaluation. Instead, re-purpose to project evaluation.
+        final UUID projectUuid = evaluateComponentOnly(uuid);
+        if (projectUuid != null) {
+            evaluateProject(projectUuid);
+        }
+    }
+
+    /**
+     * @param uuid The {@link UUID} of the {@link Component}
+     * @return The {@link UUID} of the {@link Project} that must be evaluated instead, or {@code null}
+     */
+    private UUID evaluateComponentOnly(final UUID uuid) {
+        final long startTimeNs = System.nanoTime();
 
-        final UUID projectUuid;
         try (final var qm = new QueryManager();
-             final var celQm = new CelPolicyQueryManager(qm)) {
-            projectUuid = celQm.getProjectUuidForComponentUuid(uuid);
-        }
+             final var celQm = new CelPolicyQueryManager(qm);
+             var ignoredMdcComponentUuid = MDC.putCloseable(MDC_COMPONENT_UUID, uuid.toString())) {
+            final Component component = qm.getObjectByUuid(Component.class, uuid);
+            if (component == null) {
+                LOGGER.warn("Component does not exist; Skipping");
+                return null;
+            }
 
-        if (projectUuid == null) {
-            LOGGER.warn("Component with UUID %s does not exist; Skipping".formatted(uuid));
-            return;
-        }
+            final Project project = component.getProject();
 
-        evaluateProject(projectUuid);
-    }
+            LOGGER.debug("Compiling policy scripts");
+            final List<Pair<PolicyCondition, CelPolicyScript>> conditionScriptPairs = STAGE_TIMER.time(STAGE_SCRIPT_COMPILATION,
+                    () -> getApplicableConditionScriptPairs(celQm, project));
+            if (conditionScriptPairs.stream().anyMatch(pair -> pair.getRight().getFeatures().contains(Feature.DEPENDENCY_GRAPH))) {
+                LOGGER.debug("Policy conditions depend on the dependency graph; Evaluating project %s".formatted(project.getUuid()));
+                return project.getUuid();
+            }
+            if (conditionScriptPairs.isEmpty()) {
+                LOGGER.info("No applicable policies found");
+                celQm.reconcileComponentViolations(project.getId(), component.getId(), emptyList());
+                useJdbiTransaction(handle -> handle.attach(PolicyEvaluationFingerprintDao.class).deleteForComponent(component.getId()));
+                return null;
+            }
+
+            final MultiValuedMap<Type, String> requirements = determineScriptRequirements(conditionScriptPairs);
+            LOGGER.debug("Requirements for %d policy conditions: %s".formatted(conditionScriptPairs.size(), requirements));
 
+            final long dataLoadingStartTimeNs = System.nanoTime();
+
+            final org.dependencytrack.proto.policy.v1.Project protoProject;
+            final ComponentProjection componentProjection;
+            final Map<Long, org.dependencytrack.proto.policy.v1.License> licenseById;
+            final List<org.dependencytrack.proto.policy.v1.Vulnerability> protoVulns;
+            try {
+                if (requirements.containsKey(TYPE_PROJECT)) {
+                    final var inputProject = org.dependencytrack.proto.policy.v1.Project.newBuilder().setUuid(project.getUuid().toString()).build();
+                    protoProject = withJdbiHandle(handle -> handle.attach(CelPolicyDao.class).loadRequiredFields(inputProject, requirements));
+                } else {
+                    protoProject = org.dependencytrack.proto.policy.v1.Project.getDefaultInstance();
+                }
+
+                componentProjection = celQm.fetchComponent(component.getId(), requirements.get(TYPE_COMPONENT));
+                if (componentProjection == null) {
+                    LOGGER.warn("Component was deleted during evaluation; Skipping");
+                    return null;
+                }
+
+                if (requirements.containsKey(TYPE_LICENSE) || (requirements.containsKey(TYPE_COMPONENT) && requirements.get(TYPE_COMPONENT).contains("resolved_license"))) {
+                    licenseById = celQm.fetchComponentLicenses(component.getId(), requirements.get(TYPE_LICENSE), requirements.get(TYPE_LICENSE_GROUP)).stream()
+                            .collect(Collectors.toMap(
+                                    projection -> projection.id,
+                                    CelPolicyEngine::mapToProto
+                            ));
+                } else {
+                    licenseById = Collections.emptyMap();
+                }
+
+                if (requirements.containsKey(TYPE_VULNERABILITY)) {
+                    protoVulns = celQm.fetchComponentVulnerabilities(component.getId(), requirements.get(TYPE_VULNERABILITY)).stream()
+                            .map(CelPolicyEngine::mapToProto)
+                            .toList();
+                } else {
+                    protoVulns = emptyList();
+                }
+            } catch (RuntimeException e) {
+                STAGE_TIMER.record(STAGE_DATA_LOADING, Outcome.FAILURE, System.nanoTime() - dataLoadingStartTimeNs);
+                throw e;
+            }
+            STAGE_TIMER.record(STAGE_DATA_LOADING, Outcome.SUCCESS, System.nanoTime() - dataLoadingStartTimeNs);
+
+            final long conditionEvaluationStartTimeNs = System.nanoTime();
+
+            final String fingerprint;
+            final List<PolicyViolation> violations;
+            try {
+                final org.dependencytrack.proto.policy.v1.Component protoComponent = mapToProto(componentProjection, licenseById);
+
+                if (isIncrementallyEvaluable(conditionScriptPairs)) {
+                    fingerprint = computeFingerprint(computePolicySetVersion(conditionScriptPairs), protoProject, protoComponent, protoVulns);
+                    final String previousFingerprint = withJdbiHandle(handle -> handle
+                            .attach(PolicyEvaluationFingerprintDao.class).getFingerprint(component.getId()));
+                    if (fingerprint.equals(previousFingerprint)) {
+                        LOGGER.info("Inputs did not change since the last evaluation; Skipping");
+                        return null;
+                    }
+                } else {
+                    fingerprint = null;
+                }
+
+                final List<PolicyCondition> conditionsViolated = evaluateConditions(conditionScriptPairs, Map.of(
+                        CelPolicyVariable.COMPONENT.variableName(), protoComponent,
+                        CelPolicyVariable.PROJECT.variableName(), protoProject,
+                        CelPolicyVariable.VULNS.variableName(), protoVulns,
+                        CelPolicyVariable.NOW.variableName(), Timestamps.now()
+                ));
+                violations = evaluatePolicyOperators(conditionsViolated);
+            } catch (RuntimeException e) {
+                STAGE_TIMER.record(STAGE_CONDITION_EVALUATION, Outcome.FAILURE, System.nanoTime() - conditionEvaluationStartTimeNs);
+                throw e;
+            }
+            STAGE_TIMER.record(STAGE_CONDITION_EVALUATION, Outcome.SUCCESS, System.nanoTime() - conditionEvaluationStartTimeNs);
+
+            final List<Long> newViolationIds = STAGE_TIMER.time(STAGE_VIOLATION_RECONCILIATION, () -> {
+                final List<Long> violationIds = celQm.reconcileComponentViolations(project.getId(), component.getId(), violations);
+                useJdbiTransaction(handle -> {
+                    final var fingerprintDao = handle.attach(PolicyEvaluationFingerprintDao.class);
+                    if (fingerprint != null) {
+                        fingerprintDao.upsertAll(List.of(component.getId()), List.of(fingerprint));
+                    } else {
+                        fingerprintDao.deleteForComponent(component.getId());
+                    }
+                });
+                return violationIds;
+            });
+            LOGGER.info("Identified %d new violations".formatted(newViolationIds.size()));
+
+            STAGE_TIMER.run(STAGE_NOTIFICATION, () -> {
+                for (final Long newViolationId : newViolationIds) {
+                    NotificationUtil.analyzeNotificationCriteria(qm, newViolationId);
+                }
+            });
+
+            return null;
+        } finally {
+            LOGGER.info("Evaluation completed in %s"
+                    .formatted(Duration.ofNanos(System.nanoTime() - startTimeNs)));
+        }
+    }
 
     /**
      * Pre-compile the CEL scripts for all conditions of all applicable policies.
@@ -290,6 +580,62 @@ public class CelPolicyEngine {
                 .toList();
     }
 
+    /**
+     * Determine whether the results of evaluating {@code conditionScriptPairs} can be cached
+     * based on a fingerprint of their inputs.
+     * <p>
+     * This is not the case when any script inspects the dependency graph, which is not part
+     * of the inputs, or depends on the current time.
+     *
+     * @param conditionScriptPairs {@link Pair}s of {@link PolicyCondition}s and corresponding {@link CelPolicyScript}s
+     * @return {@code true} when incremental evaluation is possible, otherwise {@code false}
+     */
+    private static boolean isIncrementallyEvaluable(final Collection<Pair<PolicyCondition, CelPolicyScript>> conditionScriptPairs) {
+        return conditionScriptPairs.stream()
+                .map(Pair::getRight)
+                .map(CelPolicyScript::getFeatures)
+                .allMatch(Set::isEmpty);
+    }
+
+    /**
+     * Compute a version identifier for a set of policy conditions.
+     * <p>
+     * The version changes whenever a condition, or an attribute of its policy that affects
+     * the outcome of the evaluation, is added, removed, or modified.
+     *
+     * @param conditionScriptPairs {@link Pair}s of {@link PolicyCondition}s and corresponding {@link CelPolicyScript}s
+     * @return The version of the policy set
+     */
+    private static String computePolicySetVersion(final Collection<Pair<PolicyCondition, CelPolicyScript>> conditionScriptPairs) {
+        final MessageDigest digest = DigestUtils.getSha256Digest();
+        conditionScriptPairs.stream()
+                .map(Pair::getLeft)
+                .sorted(Comparator.comparingLong(PolicyCondition::getId))
+                .forEach(condition -> {
+                    final Policy policy = condition.getPolicy();
+                    DigestUtils.updateDigest(digest, "%d|%s|%d|%d|%s|%s|%s|%s\n".formatted(
+                            policy.getId(), policy.getOperator(), policy.getPolicyConditions().size(),
+                            condition.getId(), condition.getSubject(), condition.getOperator(),
+                            condition.getValue(), condition.getViolationType()));
+                });
+        return Hex.encodeHexString(digest.digest());
+    }
+
+    private static String computeFingerprint(final String policySetVersion,
+                                             final org.dependencytrack.proto.policy.v1.Project protoProject,
+                                             final org.dependencytrack.proto.policy.v1.Component protoComponent,
+                                             final List<org.dependencytrack.proto.policy.v1.Vulnerability> protoVulns) {
+        final MessageDigest digest = DigestUtils.getSha256Digest();
+        DigestUtils.updateDigest(digest, policySetVersion);
+        digest.update(protoProject.toByteArray());
+        digest.update(protoComponent.toByteArray());
+        protoVulns.stream()
+                .sorted(Comparator.comparing(org.dependencytrack.proto.policy.v1.Vulnerability::getUuid))
+                .map(org.dependencytrack.proto.policy.v1.Vulnerability::toByteArray)
+                .forEach(digest::update);
+        return Hex.encodeHexString(digest.digest());
+    }
+
     /**
      * Check what kind of data we need to evaluate all policy conditions.
      * <p>
@@ -47,6 +47,7 @@ import java.sql.Statement;
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -63,24 +64,60 @@ class CelPolicyQueryManager implements AutoCloseable {
 
     private static final Logger LOGGER = Logger.getLogger(CelPolicyQueryManager.class);
 
-    private final PersistenceManager pm;
+    /**
+     * Scope of violations to reconcile, either a range of components of a {@link Project}, or a single {@link Component}.
+     *
+     * @param sqlCondition SQL condition, referencing positional parameters
+     * @param parameters   Values of the positional parameters referenced by {@code sqlCondition}
+     */
+    private record ViolationScope(String sqlCondition, List<Long> parameters) {
+
+        private static ViolationScope ofComponent(final long componentId) {
+            return new ViolationScope("\"COMPONENT_ID\" = ?", List.of(componentId));
+        }
+
+        private static ViolationScope ofComponentIdRange(final long projectId, final long afterComponentId, final long lastComponentId) {
+            return new ViolationScope("\"PROJECT_ID\" = ? AND \"COMPONENT_ID\" > ? AND \"COMPONENT_ID\" <= ?",
+                    List.of(projectId, afterComponentId, lastComponentId));
+        }
 
-    CelPolicyQueryManager(final QueryManager qm) {
-        this.pm = qm.getPersistenceManager();
     }
 
-    UUID getProjectUuidForComponentUuid(final UUID componentUuid) {
-        try (final var qm = new QueryManager()) {
-            final Query<Component> query = qm.getPersistenceManager().newQuery(Component.class);
-            query.setFilter("uuid == :uuid");
-            query.setParameters(componentUuid);
-            query.setResult("project.uuid");
-            try {
-                return query.executeResultUnique(UUID.class);
-            } finally {
-                query.closeAll();
-            }
+    /**
+     * Condition on the {@code "COMPONENT" AS "C"} table, limiting the components that data is fetched for.
+     *
+     * @param sqlCondition SQL condition, referencing named parameters
+     * @param parameters   Values of the named parameters referenced by {@code sqlCondition}
+     */
+    private record ComponentFilter(String sqlCondition, Map<String, Object> parameters) {
+
+        private static ComponentFilter ofComponent(final long componentId) {
+            return new ComponentFilter("\"C\".\"ID\" = :componentId", Map.of("componentId", componentId));
         }
+
+        private static ComponentFilter ofComponentIdRange(final long projectId, final long firstComponentId, final long lastComponentId) {
+            return new ComponentFilter("""
+                    "C"."PROJECT_ID" = :projectId AND "C"."ID" BETWEEN :firstComponentId AND :lastComponentId\
+                    """, Map.of(
+                    "projectId", projectId,
+                    "firstComponentId", firstComponentId,
+                    "lastComponentId", lastComponentId));
+        }
+
+        private Map<String, Object> parametersWith(final Map<String, Object> additionalParameters) {
+            final var allParameters = new HashMap<String, Object>(parameters);
+            allParameters.putAll(additionalParameters);
+            return allParameters;
+        }
+
+    }
+
+    private final QueryManager qm;
+    private final PersistenceManager pm;
+
+    CelPolicyQueryManager(final QueryManager qm) {
+        this.qm = qm;
+        this.pm = qm.getPersistenceManager();
     }
 
     ProjectProjection fetchProject(final long projectId,
@@ -154,7 +191,40 @@ class CelPolicyQueryManager implements AutoCloseable {
         }
     }
 
-    List<ComponentProjection> fetchAllComponents(final long projectId, final Collection<String> protoFieldNames) {
+    /**
+     * Fetch a chunk of at most {@code limit} components of a {@link Project}, ordered by their ID.
+     * <p>
+     * Chunks are paginated via the ID of the last component of the previous chunk,
+     * such that fetching a chunk does not get slower the further the evaluation progresses.
+     *
+     * @param projectId        ID of the {@link Project}
+     * @param afterComponentId ID of the last component of the previous chunk, or {@code 0} for the first chunk
+     * @param limit            Maximum number of components to fetch
+     * @param protoFieldNames  Names of the fields to fetch
+     * @return A {@link List} of {@link ComponentProjection}s, ordered by ID
+     * @since 5.6.0
+     */
+    List<ComponentProjection> fetchComponentsChunk(final long projectId,
+                                                   final long afterComponentId,
+                                                   final int limit,
+                                                   final Collection<String> protoFieldNames) {
+        final var filter = new ComponentFilter("""
+                "C"."PROJECT_ID" = :projectId AND "C"."ID" > :afterComponentId\
+                """, Map.of("projectId", projectId, "afterComponentId", afterComponentId));
+        return fetchComponents(filter, protoFieldNames, limit);
+    }
+
+    /**
+     * @since 5.6.0
+     */
+    ComponentProjection fetchComponent(final long componentId, final Collection<String> protoFieldNames) {
+        final List<ComponentProjection> components = fetchComponents(ComponentFilter.ofComponent(componentId), protoFieldNames, null);
+        return components.isEmpty() ? null : components.getFirst();
+    }
+
+    private List<ComponentProjection> fetchComponents(final ComponentFilter filter,
+                                                      final Collection<String> protoFieldNames,
+                                                      final Integer limit) {
         String sqlSelectColumns = Stream.concat(
                         Stream.of(ComponentProjection.ID_FIELD_MAPPING),
                         getFieldMappings(ComponentProjection.class).stream()
@@ -177,12 +247,16 @@ class CelPolicyQueryManager implements AutoCloseable {
                 LEFT JOIN LATERAL (SELECT "RMC"."LATEST_VERSION" AS "latestVersion" FROM "REPOSITORY_META_COMPONENT" "RMC" WHERE
                 "C"."NAME" = "RMC"."NAME") AS "latestVersion" ON :shouldJoinRepoMeta
                 WHERE
-                "PROJECT_ID" = :projectId
-                """.formatted(sqlSelectColumns, protoFieldNames));
-        query.setNamedParameters(Map.of(
+                %s
+                %s
+                """.formatted(sqlSelectColumns, filter.sqlCondition(), limit != null ? "ORDER BY \"C\".\"ID\" LIMIT :limit" : ""));
+        final Map<String, Object> parameters = filter.parametersWith(Map.of(
                 "shouldJoinIntegrityMeta", protoFieldNames.contains("publishedAt") || protoFieldNames.contains("published_at"),
-                "shouldJoinRepoMeta", protoFieldNames.contains("latestVersion") || protoFieldNames.contains("latest_version"),
-                "projectId", projectId));
+                "shouldJoinRepoMeta", protoFieldNames.contains("latestVersion") || protoFieldNames.contains("latest_version")));
+        if (limit != null) {
+            parameters.put("limit", limit);
+        }
+        query.setNamedParameters(parameters);
         try {
             return List.copyOf(query.executeResultList(ComponentProjection.class));
         } finally {
@@ -192,12 +266,18 @@ class CelPolicyQueryManager implements AutoCloseable {
 
     /**
      * Fetch all {@link org.dependencytrack.model.Component} {@code <->} {@link org.dependencytrack.model.Vulnerability}
-     * relationships for a given {@link Project}.
+     * relationships for components of a {@link Project} with IDs between {@code firstComponentId}
+     * and {@code lastComponentId} (inclusive).
      *
-     * @param projectId ID of the {@link Project} to fetch relationships for
-     * @return A {@link List} of {@link ComponentsVulnerabilitiesProjection}
+     * @since 5.6.0
      */
-    List<ComponentsVulnerabilitiesProjection> fetchAllComponentsVulnerabilities(final long projectId) {
+    List<ComponentsVulnerabilitiesProjection> fetchComponentsVulnerabilities(final long projectId,
+                                                                             final long firstComponentId,
+                                                                             final long lastComponentId) {
+        return fetchComponentsVulnerabilities(ComponentFilter.ofComponentIdRange(projectId, firstComponentId, lastComponentId));
+    }
+
+    private List<ComponentsVulnerabilitiesProjection> fetchComponentsVulnerabilities(final ComponentFilter filter) {
         final Query<?> query = pm.newQuery(Query.SQL, """
                 SELECT
                   "CV"."COMPONENT_ID" AS "componentId",
@@ -207,9 +287,9 @@ class CelPolicyQueryManager implements AutoCloseable {
                 INNER JOIN
                   "COMPONENT" AS "C" ON "C"."ID" = "CV"."COMPONENT_ID"
                 WHERE
-                  "C"."PROJECT_ID" = ?
-                """);
-        query.setParameters(projectId);
+                  %s
+                """.formatted(filter.sqlCondition()));
+        query.setNamedParameters(filter.parameters());
         try {
             return List.copyOf(query.executeResultList(ComponentsVulnerabilitiesProjection.class));
         } finally {
@@ -217,9 +297,33 @@ class CelPolicyQueryManager implements AutoCloseable {
         }
     }
 
-    List<LicenseProjection> fetchAllLicenses(final long projectId,
-                                             final Collection<String> licenseProtoFieldNames,
-                                             final Collection<String> licenseGroupProtoFieldNames) {
+    /**
+     * Fetch licenses of components of a {@link Project} with IDs between {@code firstComponentId}
+     * and {@code lastComponentId} (inclusive).
+     *
+     * @since 5.6.0
+     */
+    List<LicenseProjection> fetchLicenses(final long projectId,
+                                          final long firstComponentId,
+                                          final long lastComponentId,
+                                          final Collection<String> licenseProtoFieldNames,
+                                          final Collection<String> licenseGroupProtoFieldNames) {
+        return fetchLicenses(ComponentFilter.ofComponentIdRange(projectId, firstComponentId, lastComponentId),
+                licenseProtoFieldNames, licenseGroupProtoFieldNames);
+    }
+
+    /**
+     * @since 5.6.0
+     */
+    List<LicenseProjection> fetchComponentLicenses(final long componentId,
+                                                   final Collection<String> licenseProtoFieldNames,
+                                                   final Collection<String> licenseGroupProtoFieldNames) {
+        return fetchLicenses(ComponentFilter.ofComponent(componentId), licenseProtoFieldNames, licenseGroupProtoFieldNames);
+    }
+
+    private List<LicenseProjection> fetchLicenses(final ComponentFilter filter,
+                                                  final Collection<String> licenseProtoFieldNames,
+                                                  final Collection<String> licenseGroupProtoFieldNames) {
         final String licenseSqlSelectColumns = Stream.concat(
                         Stream.of(LicenseProjection.ID_FIELD_MAPPING),
                         getFieldMappings(LicenseProjection.class).stream()
@@ -238,9 +342,9 @@ class CelPolicyQueryManager implements AutoCloseable {
                     INNER JOIN
                       "COMPONENT" AS "C" ON "C"."LICENSE_ID" = "L"."ID"
                     WHERE
-                      "C"."PROJECT_ID" = ?
-                    """.formatted(licenseSqlSelectColumns));
-            query.setParameters(projectId);
+                      %s
+                    """.formatted(licenseSqlSelectColumns, filter.sqlCondition()));
+            query.setNamedParameters(filter.parameters());
             try {
                 return List.copyOf(query.executeResultList(LicenseProjection.class));
             } finally {
@@ -295,11 +399,11 @@ class CelPolicyQueryManager implements AutoCloseable {
                 LEFT JOIN
                   "LICENSEGROUP" AS "LG" ON "LG"."ID" = "LGL"."LICENSEGROUP_ID"
                 WHERE
-                  "C"."PROJECT_ID" = ?
+                  %s
                 GROUP BY
                   %s
-                """.formatted(licenseSqlSelectColumns, licenseGroupSqlSelectColumns, licenseSqlGroupByColumns));
-        query.setParameters(projectId);
+                """.formatted(licenseSqlSelectColumns, licenseGroupSqlSelectColumns, filter.sqlCondition(), licenseSqlGroupByColumns));
+        query.setNamedParameters(filter.parameters());
         try {
             return List.copyOf(query.executeResultList(LicenseProjection.class));
         } finally {
@@ -307,7 +411,27 @@ class CelPolicyQueryManager implements AutoCloseable {
         }
     }
 
-    List<VulnerabilityProjection> fetchAllVulnerabilities(final long projectId, final Collection<String> protoFieldNames) {
+    /**
+     * Fetch vulnerabilities of components of a {@link Project} with IDs between {@code firstComponentId}
+     * and {@code lastComponentId} (inclusive).
+     *
+     * @since 5.6.0
+     */
+    List<VulnerabilityProjection> fetchVulnerabilities(final long projectId,
+                                                       final long firstComponentId,
+                                                       final long lastComponentId,
+                                                       final Collection<String> protoFieldNames) {
+        return fetchVulnerabilities(ComponentFilter.ofComponentIdRange(projectId, firstComponentId, lastComponentId), protoFieldNames);
+    }
+
+    /**
+     * @since 5.6.0
+     */
+    List<VulnerabilityProjection> fetchComponentVulnerabilities(final long componentId, final Collection<String> protoFieldNames) {
+        return fetchVulnerabilities(ComponentFilter.ofComponent(componentId), protoFieldNames);
+    }
+
+    private List<VulnerabilityProjection> fetchVulnerabilities(final ComponentFilter filter, final Collection<String> protoFieldNames) {
         String sqlSelectColumns = Stream.concat(
                         Stream.of(VulnerabilityProjection.ID_FIELD_MAPPING),
                         getFieldMappings(VulnerabilityProjection.class).stream()
@@ -361,13 +485,12 @@ class CelPolicyQueryManager implements AutoCloseable {
                 ) AS "aliases" ON :shouldFetchAliases
                 LEFT JOIN "EPSS" AS "EP" ON "V"."VULNID" = "EP"."CVE" AND :shouldFetchEpss
                 WHERE
-                  "C"."PROJECT_ID" = :projectId
-                """.formatted(sqlSelectColumns));
-        query.setNamedParameters(Map.of(
+                  %s
+                """.formatted(sqlSelectColumns, filter.sqlCondition()));
+        query.setNamedParameters(filter.parametersWith(Map.of(
                 "shouldFetchAliases", protoFieldNames.contains("aliases"),
-                "projectId", projectId,
                 "shouldFetchEpss", protoFieldNames.contains("epss_score") || protoFieldNames.contains("epss_percentile")
-        ));
+        )));
         try {
             return List.copyOf(query.executeResultList(VulnerabilityProjection.class));
         } finally {
@@ -376,6 +499,57 @@ class CelPolicyQueryManager implements AutoCloseable {
     }
 
     List<Long> reconcileViolations(final long projectId, final MultiValuedMap<Long, PolicyViolation> reportedViolationsByComponentId) {
+        return reconcileViolations(projectId, 0, Long.MAX_VALUE, reportedViolationsByComponentId, Collections.emptySet());
+    }
+
+    /**
+     * Reconcile the {@link PolicyViolation}s of {@link Component}s of a {@link Project},
+     * whose IDs are within a given range.
+     * <p>
+     * Violations of components outside of the range are not touched. This allows for projects
+     * to be reconciled one chunk of components at a time.
+     *
+     * @param projectId                       ID of the {@link Project}
+     * @param afterComponentId                Lower bound (exclusive) of the component ID range
+     * @param lastComponentId                 Upper bound (inclusive) of the component ID range
+     * @param reportedViolationsByComponentId Violations reported by the evaluation, grouped by component ID
+     * @param unchangedComponentIds           IDs of components that were not evaluated, because their inputs
+     *                                        did not change. Their existing violations are retained.
+     * @return IDs of newly created {@link PolicyViolation}s
+     * @since 5.6.0
+     */
+    List<Long> reconcileViolations(final long projectId,
+                                   final long afterComponentId,
+                                   final long lastComponentId,
+                                   final MultiValuedMap<Long, PolicyViolation> reportedViolationsByComponentId,
+                                   final Set<Long> unchangedComponentIds) {
+        return reconcileViolations(ViolationScope.ofComponentIdRange(projectId, afterComponentId, lastComponentId),
+                projectId, reportedViolationsByComponentId, unchangedComponentIds);
+    }
+
+    /**
+     * Reconcile the {@link PolicyViolation}s of a single {@link Component}.
+     * <p>
+     * Violations of other components of the same {@link Project} are not touched.
+     *
+     * @param projectId          ID of the {@link Project} the {@link Component} belongs to
+     * @param componentId        ID of the {@link Component}
+     * @param reportedViolations Violations reported by the evaluation
+     * @return IDs of newly created {@link PolicyViolation}s
+     * @since 5.6.0
+     */
+    List<Long> reconcileComponentViolations(final long projectId,
+                                            final long componentId,
+                                            final Collection<PolicyViolation> reportedViolations) {
+        final var reportedViolationsByComponentId = new HashSetValuedHashMap<Long, PolicyViolation>();
+        reportedViolationsByComponentId.putAll(componentId, reportedViolations);
+        return reconcileViolations(ViolationScope.ofComponent(componentId), projectId, reportedViolationsByComponentId, Collections.emptySet());
+    }
+
+    private List<Long> reconcileViolations(final ViolationScope scope,
+                                           final long projectId,
+                                           final MultiValuedMap<Long, PolicyViolation> reportedViolationsByComponentId,
+                                           final Set<Long> unchangedComponentIds) {
         // We want to send notifications for newly identified policy violations,
         // so need to keep track of which violations we created.
         final var newViolationIds = new ArrayList<Long>();
@@ -395,7 +569,7 @@ class CelPolicyQueryManager implements AutoCloseable {
             nativeConnection.setAutoCommit(false);
             nativeConnection.setTransactionIsolation(TRANSACTION_READ_COMMITTED);
 
-            // First, query for all existing policy violations of the project, grouping them by component ID.
+            // First, query for all existing policy violations in scope, grouping them by component ID.
             final var existingViolationsByComponentId = new HashSetValuedHashMap<Long, PolicyViolationProjection>();
             try (final PreparedStatement ps = nativeConnection.prepareStatement("""
                     SELECT
@@ -405,9 +579,11 @@ class CelPolicyQueryManager implements AutoCloseable {
                     FROM
                       "POLICYVIOLATION"
                     WHERE
-                      "PROJECT_ID" = ?
-                    """)) {
-                ps.setLong(1, projectId);
+                      %s
+                    """.formatted(scope.sqlCondition()))) {
+                for (int i = 0; i < scope.parameters().size(); i++) {
+                    ps.setLong(i + 1, scope.parameters().get(i));
+                }
 
                 final ResultSet rs = ps.executeQuery();
                 while (rs.next()) {
@@ -433,6 +609,10 @@ class CelPolicyQueryManager implements AutoCloseable {
             final var violationIdsToDelete = new ArrayList<Long>();
             final var violationsToCreate = new HashSetValuedHashMap<Long, PolicyViolation>();
             for (final Long componentId : componentIds) {
+                if (unchangedComponentIds.contains(componentId)) {
+                    continue;
+                }
+
                 final Collection<PolicyViolationProjection> existingViolations = existingViolationsByComponentId.get(componentId);
                 final Collection<PolicyViolation> reportedViolations = reportedViolationsByComponentId.get(componentId);
 
@@ -567,85 +747,7 @@ class CelPolicyQueryManager implements AutoCloseable {
     }
 
     List<Policy> getApplicablePolicies(final Project project) {
-        var filter = """
-                (this.projects.isEmpty() && this.tags.isEmpty())
-                    || (this.projects.contains(:project)
-                """;
-        var params = new HashMap<String, Object>();
-        params.put("project", project);
-
-        // To compensate for missing support for recursion of Common Table Expressions (CTEs)
-        // in JDO, we have to fetch the UUIDs of all parent projects upfront. Otherwise, we'll
-        // not be able to evaluate whether the policy is inherited from parent projects.
-        var variables = "";
-        final List<UUID> parentUuids = getParents(project);
-        if (!parentUuids.isEmpty()) {
-            filter += """
-                    || (this.includeChildren
-                        && this.projects.contains(parentVar)
-                        && :parentUuids.contains(parentVar.uuid))
-                    """;
-            variables += "org.dependencytrack.model.Project parentVar";
-            params.put("parentUuids", parentUuids);
-        }
-        filter += ")";
-
-        // DataNucleus generates an invalid SQL query when using the idiomatic solution.
-        // The following works, but it's ugly and likely doesn't perform well if the project
-        // has many tags. Worth trying the idiomatic way again once DN has been updated to > 6.0.4.
-        //
-        // filter += " || (this.tags.contains(commonTag) && :project.tags.contains(commonTag))";
-        // variables += "org.dependencytrack.model.Tag commonTag";
-        if (project.getTags() != null && !project.getTags().isEmpty()) {
-            filter += " || (";
-            for (int i = 0; i < project.getTags().size(); i++) {
-                filter += "this.tags.contains(:tag" + i + ")";
-                params.put("tag" + i, project.getTags().get(i));
-                if (i < (project.getTags().size() - 1)) {
-                    filter += " || ";
-                }
-            }
-            filter += ")";
-        }
-
-        final List<Policy> policies;
-        final Query<Policy> query = pm.newQuery(Policy.class);
-        try {
-            query.setFilter(filter);
-            query.setNamedParameters(params);
-            if (!variables.isEmpty()) {
-                query.declareVariables(variables);
-            }
-            policies = List.copyOf(query.executeList());
-        } finally {
-            query.closeAll();
-        }
-
-        return policies;
-    }
-
-    List<UUID> getParents(final Project project) {
-        return getParents(project.getUuid(), new ArrayList<>());
-    }
-
-    List<UUID> getParents(final UUID uuid, final List<UUID> parents) {
-        final UUID parentUuid;
-        final Query<Project> query = pm.newQuery(Project.class);
-        try {
-            query.setFilter("uuid == :uuid && parent != null");
-            query.setParameters(uuid);
-            query.setResult("parent.uuid");
-            parentUuid = query.executeResultUnique(UUID.class);
-        } finally {
-            query.closeAll();
-        }
-
-        if (parentUuid == null) {
-            return parents;
-        }
-
-        parents.add(parentUuid);
-        return getParents(parentUuid, parents);
+        return qm.getApplicablePolicies(project);
     }
 
     boolean isDirectDependency(final org.dependencytrack.proto.policy.v1.Component component) {
@@ -25,22 +25,57 @@ import org.projectnessie.cel.common.types.Err;
 import org.projectnessie.cel.common.types.ref.Val;
 import org.projectnessie.cel.tools.ScriptExecutionException;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 
 public class CelPolicyScript {
 
+    /**
+     * Characteristics of a script that affect how it can be evaluated.
+     *
+     * @since 5.6.0
+     */
+    enum Feature {
+
+        /**
+         * The script uses functions that inspect the dependency graph of the project,
+         * e.g. {@code depends_on} or {@code is_dependency_of}. Its result may change
+         * when other components of the project change.
+         */
+        DEPENDENCY_GRAPH,
+
+        /**
+         * The script depends on the current time, e.g. via the {@code now} variable
+         * or the {@code compare_age} function. Its result may change over time,
+         * even if none of its inputs do.
+         */
+        TIME
+
+    }
+
     private final Program program;
     private final MultiValuedMap<Type, String> requirements;
+    private final Set<Feature> features;
 
     CelPolicyScript(final Program program, final MultiValuedMap<Type, String> requirements) {
+        this(program, requirements, Collections.emptySet());
+    }
+
+    CelPolicyScript(final Program program, final MultiValuedMap<Type, String> requirements, final Set<Feature> features) {
         this.program = program;
         this.requirements = requirements;
+        this.features = features;
     }
 
     MultiValuedMap<Type, String> getRequirements() {
         return requirements;
     }
 
+    Set<Feature> getFeatures() {
+        return features;
+    }
+
     boolean execute(final Map<String, Object> arguments) throws ScriptExecutionException {
         final Val result = program.eval(arguments).getVal();
 
@@ -26,6 +26,7 @@ import com.google.api.expr.v1alpha1.Type;
 import com.google.common.util.concurrent.Striped;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.collections4.MultiValuedMap;
+import org.dependencytrack.policy.cel.CelPolicyScript.Feature;
 import org.dependencytrack.policy.cel.CelPolicyScriptVersValidationVisitor.VersValidationError;
 import org.dependencytrack.policy.cel.CelPolicyScriptVisitor.FunctionSignature;
 import org.projectnessie.cel.Ast;
@@ -42,7 +43,9 @@ import org.projectnessie.cel.common.types.pb.ProtoTypeRegistry;
 import org.projectnessie.cel.tools.ScriptCreateException;
 
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.Lock;
 
@@ -133,10 +136,13 @@ public class CelPolicyScriptHost {
             final Ast ast = astIssuesTuple.getAst();
             final Program program = environment.program(ast);
             final var expr = CEL.astToCheckedExpr(ast);
-            final MultiValuedMap<Type, String> requirements = analyzeRequirements(expr);
+            final var visitor = new CelPolicyScriptVisitor(expr.getTypeMapMap());
+            visitor.visit(expr.getExpr());
+            final MultiValuedMap<Type, String> requirements = analyzeRequirements(visitor);
+            final Set<Feature> features = analyzeFeatures(visitor);
             validateVersRanges(expr, source);
 
-            script = new CelPolicyScript(program, requirements);
+            script = new CelPolicyScript(program, requirements, features);
             if (cacheMode == CacheMode.CACHE) {
                 cacheManager.put(scriptDigest, script);
             }
@@ -146,10 +152,7 @@ public class CelPolicyScriptHost {
         }
     }
 
-    private static MultiValuedMap<Type, String> analyzeRequirements(final CheckedExpr expr) {
-        final var visitor = new CelPolicyScriptVisitor(expr.getTypeMapMap());
-        visitor.visit(expr.getExpr());
-
+    private static MultiValuedMap<Type, String> analyzeRequirements(final CelPolicyScriptVisitor visitor) {
         // Fields that are accessed directly are always a requirement.
         final MultiValuedMap<Type, String> requirements = visitor.getAccessedFieldsByType();
 
@@ -197,6 +200,27 @@ public class CelPolicyScriptHost {
         return requirements;
     }
 
+    private static Set<Feature> analyzeFeatures(final CelPolicyScriptVisitor visitor) {
+        final Set<Feature> features = EnumSet.noneOf(Feature.class);
+
+        if (visitor.getUsedIdentifiers().contains(CelPolicyVariable.NOW.variableName())) {
+            features.add(Feature.TIME);
+        }
+
+        for (final FunctionSignature functionSignature : visitor.getUsedFunctionSignatures()) {
+            switch (functionSignature.function()) {
+                case FUNC_DEPENDS_ON, FUNC_IS_DEPENDENCY_OF, FUNC_IS_EXCLUSIVE_DEPENDENCY_OF ->
+                        features.add(Feature.DEPENDENCY_GRAPH);
+                // Version distance is only evaluated for direct dependencies,
+                // which requires inspection of the dependency graph.
+                case FUNC_COMPARE_VERSION_DISTANCE -> features.add(Feature.DEPENDENCY_GRAPH);
+                case FUNC_COMPARE_AGE -> features.add(Feature.TIME);
+            }
+        }
+
+        return Collections.unmodifiableSet(features);
+    }
+
     private static void validateVersRanges(final CheckedExpr expr, final Source source) throws ScriptCreateException {
         final var visitor = new CelPolicyScriptVersValidationVisitor(expr.getSourceInfo().getPositionsMap());
         visitor.visit(expr.getExpr());
@@ -41,6 +41,7 @@ class CelPolicyScriptVisitor {
     private final Map<Long, Type> types;
     private final MultiValuedMap<Type, String> accessedFieldsByType;
     private final Set<FunctionSignature> usedFunctionSignatures;
+    private final Set<String> usedIdentifiers;
     private final Deque<String> callFunctionStack;
     private final Deque<String> selectFieldStack;
     private final Deque<Type> selectOperandTypeStack;
@@ -49,6 +50,7 @@ class CelPolicyScriptVisitor {
         this.types = types;
         this.accessedFieldsByType = new HashSetValuedHashMap<>();
         this.usedFunctionSignatures = new HashSet<>();
+        this.usedIdentifiers = new HashSet<>();
         this.callFunctionStack = new ArrayDeque<>();
         this.selectFieldStack = new ArrayDeque<>();
         this.selectOperandTypeStack = new ArrayDeque<>();
@@ -103,6 +105,7 @@ class CelPolicyScriptVisitor {
 
     private void visitIdent(final Expr expr) {
         logExpr(expr);
+        usedIdentifiers.add(expr.getIdentExpr().getName());
         selectOperandTypeStack.push(types.get(expr.getId()));
     }
 
@@ -141,4 +144,8 @@ class CelPolicyScriptVisitor {
         return this.usedFunctionSignatures;
     }
 
+    Set<String> getUsedIdentifiers() {
+        return this.usedIdentifiers;
+    }
+
 }
@@ -0,0 +1,119 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.policy.cel.persistence;
+
+import org.jdbi.v3.core.mapper.reflect.ColumnName;
+import org.jdbi.v3.sqlobject.config.RegisterConstructorMapper;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlBatch;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Tracks fingerprints of the inputs that components were last evaluated against by the policy engine.
+ * <p>
+ * A fingerprint covers all data a component's evaluation depends on, as well as the version of the
+ * policy set it was evaluated against. Components whose fingerprint did not change since their last
+ * evaluation do not need to be evaluated again.
+ *
+ * @since 5.6.0
+ */
+public interface PolicyEvaluationFingerprintDao {
+
+    record ComponentFingerprint(
+            @ColumnName("COMPONENT_ID") long componentId,
+            @ColumnName("FINGERPRINT") String fingerprint) {
+    }
+
+    @SqlQuery("""
+            SELECT "PEF"."COMPONENT_ID"
+                 , "PEF"."FINGERPRINT"
+              FROM "POLICY_EVALUATION_FINGERPRINT" AS "PEF"
+             INNER JOIN "COMPONENT" AS "C"
+                ON "C"."ID" = "PEF"."COMPONENT_ID"
+             WHERE "C"."PROJECT_ID" = :projectId
+            """)
+    @RegisterConstructorMapper(ComponentFingerprint.class)
+    List<ComponentFingerprint> getFingerprintsForProject(@Bind long projectId);
+
+    default Map<Long, String> getFingerprintsByComponentId(final long projectId) {
+        return getFingerprintsForProject(projectId).stream()
+                .collect(Collectors.toMap(ComponentFingerprint::componentId, ComponentFingerprint::fingerprint));
+    }
+
+    @SqlQuery("""
+            SELECT "PEF"."COMPONENT_ID"
+                 , "PEF"."FINGERPRINT"
+              FROM "POLICY_EVALUATION_FINGERPRINT" AS "PEF"
+             INNER JOIN "COMPONENT" AS "C"
+                ON "C"."ID" = "PEF"."COMPONENT_ID"
+             WHERE "C"."PROJECT_ID" = :projectId
+               AND "PEF"."COMPONENT_ID" BETWEEN :firstComponentId AND :lastComponentId
+            """)
+    @RegisterConstructorMapper(ComponentFingerprint.class)
+    List<ComponentFingerprint> getFingerprintsForComponentIdRange(
+            @Bind long projectId,
+            @Bind long firstComponentId,
+            @Bind long lastComponentId);
+
+    default Map<Long, String> getFingerprintsByComponentId(final long projectId,
+                                                           final long firstComponentId,
+                                                           final long lastComponentId) {
+        return getFingerprintsForComponentIdRange(projectId, firstComponentId, lastComponentId).stream()
+                .collect(Collectors.toMap(ComponentFingerprint::componentId, ComponentFingerprint::fingerprint));
+    }
+
+    @SqlQuery("""
+            SELECT "FINGERPRINT"
+              FROM "POLICY_EVALUATION_FINGERPRINT"
+             WHERE "COMPONENT_ID" = :componentId
+            """)
+    String getFingerprint(@Bind long componentId);
+
+    @SqlBatch("""
+            INSERT INTO "POLICY_EVALUATION_FINGERPRINT"
+              ("COMPONENT_ID", "FINGERPRINT")
+            VALUES
+              (:componentId, :fingerprint)
+            ON CONFLICT ("COMPONENT_ID") DO UPDATE
+            SET "FINGERPRINT" = EXCLUDED."FINGERPRINT"
+            """)
+    void upsertAll(@Bind("componentId") List<Long> componentIds, @Bind("fingerprint") List<String> fingerprints);
+
+    @SqlUpdate("""
+            DELETE
+              FROM "POLICY_EVALUATION_FINGERPRINT" AS "PEF"
+             USING "COMPONENT" AS "C"
+             WHERE "C"."ID" = "PEF"."COMPONENT_ID"
+               AND "C"."PROJECT_ID" = :projectId
+            """)
+    int deleteAllForProject(@Bind long projectId);
+
+    @SqlUpdate("""
+            DELETE
+              FROM "POLICY_EVALUATION_FINGERPRINT"
+             WHERE "COMPONENT_ID" = :componentId
+            """)
+    int deleteForComponent(@Bind long componentId);
+
+}
@@ -0,0 +1,166 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.policy.vulnerability;
+
+import jakarta.annotation.Nullable;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Conservative approximation of the findings a {@link VulnerabilityPolicy} could match,
+ * derived from literal comparisons in its conditions.
+ * <p>
+ * Conditions of a policy must all match, so a single condition that compares {@code vuln.id},
+ * the ID of an alias, or {@code project.name} / {@code project.uuid} against literals is sufficient
+ * to bound the policy. Conditions that contain disjunctions, negations, or ternaries are never used
+ * for narrowing, as the literals they contain do not necessarily have to match.
+ * <p>
+ * A {@code null} set denotes that the respective dimension is not bounded.
+ *
+ * @param vulnIds      IDs of vulnerabilities, or any of their aliases, the policy could match
+ * @param projectNames Names of projects the policy could match
+ * @param projectUuids UUIDs of projects the policy could match
+ * @since 5.6.0
+ */
+public record VulnerabilityPolicyScope(
+        @Nullable Set<String> vulnIds,
+        @Nullable Set<String> projectNames,
+        @Nullable Set<String> projectUuids) {
+
+    private static final String LITERAL = "\"([^\"\\\\]+)\"";
+    private static final Pattern UNSAFE_OPERATOR_PATTERN = Pattern.compile("\\|\\||!(?!=)|\\?");
+    private static final Pattern VULN_ID_PATTERN = Pattern.compile(
+            "\\bvuln\\.id\\s*==\\s*%1$s|%1$s\\s*==\\s*vuln\\.id\\b".formatted(LITERAL));
+    private static final Pattern VULN_ID_IN_PATTERN = Pattern.compile("\\bvuln\\.id\\s+in\\s+\\[([^\\]]*)\\]");
+    private static final Pattern ALIAS_ID_PATTERN = Pattern.compile(
+            "\\bvuln\\.aliases\\.exists\\(\\s*(\\w+)\\s*,\\s*\\1\\.id\\s*==\\s*%s\\s*\\)".formatted(LITERAL));
+    private static final Pattern PROJECT_NAME_PATTERN = Pattern.compile("\\bproject\\.name\\s*==\\s*%s".formatted(LITERAL));
+    private static final Pattern PROJECT_UUID_PATTERN = Pattern.compile("\\bproject\\.uuid\\s*==\\s*%s".formatted(LITERAL));
+    private static final Pattern LITERAL_PATTERN = Pattern.compile(LITERAL);
+
+    /**
+     * A {@link VulnerabilityPolicyScope} that is not bounded in any dimension.
+     */
+    public static final VulnerabilityPolicyScope UNBOUNDED = new VulnerabilityPolicyScope(null, null, null);
+
+    /**
+     * Determine the {@link VulnerabilityPolicyScope} of a given {@link VulnerabilityPolicy}.
+     *
+     * @param policy The {@link VulnerabilityPolicy} to determine the scope of
+     * @return The {@link VulnerabilityPolicyScope}
+     */
+    public static VulnerabilityPolicyScope of(final VulnerabilityPolicy policy) {
+        if (policy.getConditions() == null) {
+            return UNBOUNDED;
+        }
+
+        Set<String> vulnIds = null;
+        Set<String> projectNames = null;
+        Set<String> projectUuids = null;
+        for (final String condition : policy.getConditions()) {
+            if (condition == null || UNSAFE_OPERATOR_PATTERN.matcher(condition).find()) {
+                continue;
+            }
+
+            final var conditionVulnIds = new HashSet<String>();
+            collectGroup(VULN_ID_PATTERN.matcher(condition), conditionVulnIds);
+            collectGroup(ALIAS_ID_PATTERN.matcher(condition), conditionVulnIds);
+            final Matcher vulnIdInMatcher = VULN_ID_IN_PATTERN.matcher(condition);
+            while (vulnIdInMatcher.find()) {
+                collectGroup(LITERAL_PATTERN.matcher(vulnIdInMatcher.group(1)), conditionVulnIds);
+            }
+            if (!conditionVulnIds.isEmpty()) {
+                vulnIds = union(vulnIds, conditionVulnIds);
+            }
+
+            final var conditionProjectNames = new HashSet<String>();
+            final var conditionProjectUuids = new HashSet<String>();
+            collectGroup(PROJECT_NAME_PATTERN.matcher(condition), conditionProjectNames);
+            collectGroup(PROJECT_UUID_PATTERN.matcher(condition), conditionProjectUuids);
+            if (!conditionProjectNames.isEmpty() || !conditionProjectUuids.isEmpty()) {
+                projectNames = union(projectNames, conditionProjectNames);
+                projectUuids = union(projectUuids, conditionProjectUuids);
+            }
+        }
+
+        return new VulnerabilityPolicyScope(vulnIds, projectNames, projectUuids);
+    }
+
+    /**
+     * Merge multiple {@link VulnerabilityPolicyScope}s into one that covers all of them.
+     * <p>
+     * Dimensions are merged independently, so the result may cover more findings
+     * than the individual scopes combined.
+     *
+     * @param scopes The {@link VulnerabilityPolicyScope}s to merge
+     * @return The merged {@link VulnerabilityPolicyScope}
+     */
+    public static VulnerabilityPolicyScope merge(final Collection<VulnerabilityPolicyScope> scopes) {
+        if (scopes.isEmpty()) {
+            return UNBOUNDED;
+        }
+
+        Set<String> vulnIds = new HashSet<>();
+        Set<String> projectNames = new HashSet<>();
+        Set<String> projectUuids = new HashSet<>();
+        for (final VulnerabilityPolicyScope scope : scopes) {
+            vulnIds = scope.vulnIds() != null && vulnIds != null ? union(vulnIds, scope.vulnIds()) : null;
+            if (scope.isProjectBounded() && projectNames != null) {
+                projectNames = union(projectNames, scope.projectNames());
+                projectUuids = union(projectUuids, scope.projectUuids());
+            } else {
+                projectNames = null;
+                projectUuids = null;
+            }
+        }
+
+        return new VulnerabilityPolicyScope(vulnIds, projectNames, projectUuids);
+    }
+
+    public boolean isProjectBounded() {
+        return projectNames != null || projectUuids != null;
+    }
+
+    private static void collectGroup(final Matcher matcher, final Set<String> values) {
+        while (matcher.find()) {
+            for (int i = matcher.groupCount(); i > 0; i--) {
+                if (matcher.group(i) != null) {
+                    values.add(matcher.group(i));
+                    break;
+                }
+            }
+        }
+    }
+
+    private static Set<String> union(@Nullable final Set<String> lhs, @Nullable final Set<String> rhs) {
+        final var result = new HashSet<String>();
+        if (lhs != null) {
+            result.addAll(lhs);
+        }
+        if (rhs != null) {
+            result.addAll(rhs);
+        }
+        return result;
+    }
+
+}
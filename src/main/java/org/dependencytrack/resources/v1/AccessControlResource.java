@@ -128,7 +128,7 @@ public class AccessControlResource extends AlpineResource {
         );
         try (QueryManager qm = new QueryManager()) {
             final Team team = qm.getObjectByUuid(Team.class, request.getTeam());
-            final Project project = qm.getObjectByUuid(Project.class, request.getProject());
+            final Project project = qm.getProjectByUuid(request.getProject());
             if (team != null && project != null) {
                 for (final Team t : project.getAccessTeams()) {
                     if (t.getUuid() == team.getUuid()) {
@@ -164,7 +164,7 @@ public class AccessControlResource extends AlpineResource {
             @PathParam("projectUuid") @ValidUuid String projectUuid) {
         try (QueryManager qm = new QueryManager()) {
             final Team team = qm.getObjectByUuid(Team.class, teamUuid);
-            final Project project = qm.getObjectByUuid(Project.class, projectUuid);
+            final Project project = qm.getProjectByUuid(projectUuid);
             if (team != null && project != null) {
                 final List<Team> teams = new ArrayList<>();
                 for (final Team t : project.getAccessTeams()) {
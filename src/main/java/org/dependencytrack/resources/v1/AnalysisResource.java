@@ -23,7 +23,10 @@ import alpine.common.validation.ValidationTask;
 import alpine.model.ApiKey;
 import alpine.model.Team;
 import alpine.model.UserPrincipal;
+import alpine.notification.NotificationLevel;
 import alpine.server.auth.PermissionRequired;
+import com.google.protobuf.Any;
+import com.google.protobuf.util.Timestamps;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -35,15 +38,27 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirements;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.apache.commons.lang3.StringUtils;
 import org.dependencytrack.auth.Permissions;
+import org.dependencytrack.event.kafka.KafkaEventDispatcher;
 import org.dependencytrack.model.Analysis;
+import org.dependencytrack.model.AnalysisJustification;
+import org.dependencytrack.model.AnalysisResponse;
 import org.dependencytrack.model.AnalysisState;
 import org.dependencytrack.model.Component;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.model.Vulnerability;
 import org.dependencytrack.model.validation.ValidUuid;
+import org.dependencytrack.notification.NotificationGroup;
+import org.dependencytrack.notification.NotificationRuleIndex;
+import org.dependencytrack.notification.NotificationScope;
 import org.dependencytrack.persistence.QueryManager;
+import org.dependencytrack.persistence.jdbi.AnalysisDao;
+import org.dependencytrack.persistence.jdbi.AnalysisDao.FindingAnalysisRow;
+import org.dependencytrack.persistence.jdbi.AnalysisDao.UpsertedAnalysisRow;
+import org.dependencytrack.persistence.jdbi.NotificationSubjectDao;
+import org.dependencytrack.proto.notification.v1.VulnerabilityAnalysisDecisionChangeSubject;
 import org.dependencytrack.resources.v1.problems.ProblemDetails;
 import org.dependencytrack.resources.v1.vo.AnalysisRequest;
+import org.dependencytrack.resources.v1.vo.BulkAnalysisRequest;
 import org.dependencytrack.util.AnalysisCommentFormatter.AnalysisCommentField;
 import org.dependencytrack.util.AnalysisCommentUtil;
 import org.dependencytrack.util.NotificationUtil;
@@ -58,9 +73,20 @@ import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.inJdbiTransaction;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+import static org.dependencytrack.proto.notification.v1.Group.GROUP_PROJECT_AUDIT_CHANGE;
+import static org.dependencytrack.proto.notification.v1.Level.LEVEL_INFORMATIONAL;
+import static org.dependencytrack.proto.notification.v1.Scope.SCOPE_PORTFOLIO;
 import static org.dependencytrack.util.AnalysisCommentFormatter.formatComment;
+import static org.dependencytrack.util.NotificationUtil.generateTitle;
 
 /**
  * JAX-RS resources for processing analysis decisions.
@@ -109,7 +135,7 @@ public class AnalysisResource extends AbstractApiResource {
         );
         try (QueryManager qm = new QueryManager()) {
             if (StringUtils.trimToNull(projectUuid) != null) {
-                final Project project = qm.getObjectByUuid(Project.class, projectUuid);
+                final Project project = qm.getProjectByUuid(projectUuid);
                 if (project == null) {
                     return Response.status(Response.Status.NOT_FOUND).entity("The project could not be found.").build();
                 }
@@ -165,7 +191,7 @@ public class AnalysisResource extends AbstractApiResource {
                 validator.validateProperty(request, "comment")
         );
         try (QueryManager qm = new QueryManager()) {
-            final Project project = qm.getObjectByUuid(Project.class, request.getProject());
+            final Project project = qm.getProjectByUuid(request.getProject());
             if (project == null) {
                 return Response.status(Response.Status.NOT_FOUND).entity("The project could not be found.").build();
             }
@@ -179,15 +205,7 @@ public class AnalysisResource extends AbstractApiResource {
                 return Response.status(Response.Status.NOT_FOUND).entity("The vulnerability could not be found.").build();
             }
 
-            String commenter = null;
-            if (getPrincipal() instanceof UserPrincipal principal) {
-                commenter = principal.getUsername();
-            } else if (getPrincipal() instanceof ApiKey apiKey) {
-                List<Team> teams = apiKey.getTeams();
-                List<String> teamNames = new ArrayList<>();
-                teams.forEach(team -> teamNames.add(team.getName()));
-                commenter = String.join(", ", teamNames);
-            }
+            final String commenter = getCommenter();
 
             boolean analysisStateChange = false;
             boolean suppressionChange = false;
@@ -215,4 +233,183 @@ public class AnalysisResource extends AbstractApiResource {
         }
     }
 
+    @PUT
+    @Path("/bulk")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(
+            summary = "Records the same analysis decision for multiple findings",
+            description = """
+                    <p>All findings are updated in a single transaction. If any of the given components or vulnerabilities \
+                    does not exist, or is not accessible, no analysis is recorded at all.</p>
+                    <p>Requires permission <strong>VULNERABILITY_ANALYSIS</strong> or <strong>VULNERABILITY_ANALYSIS_UPDATE</strong></p>"""
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "The number of recorded analyses",
+                    content = @Content(schema = @Schema(implementation = BulkAnalysisResponse.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "Bad Request"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "404", description = "One or more components or vulnerabilities could not be found")
+    })
+    @PermissionRequired({Permissions.Constants.VULNERABILITY_ANALYSIS, Permissions.Constants.VULNERABILITY_ANALYSIS_UPDATE})
+    public Response updateAnalyses(final BulkAnalysisRequest request) {
+        final Validator validator = getValidator();
+        failOnValidationError(validator.validate(request));
+
+        final List<BulkAnalysisRequest.Finding> findings = request.findings().stream().distinct().toList();
+        final String commenter = getCommenter();
+        final String comment = StringUtils.trimToNull(request.comment());
+
+        final Map<Long, AuditChange> auditChangeByAnalysisId = inJdbiTransaction(getAlpineRequest(), handle -> {
+            final var dao = handle.attach(AnalysisDao.class);
+
+            final List<FindingAnalysisRow> rows = dao.getFindingAnalyses(
+                    findings.stream().map(BulkAnalysisRequest.Finding::component).toList(),
+                    findings.stream().map(BulkAnalysisRequest.Finding::vulnerability).toList());
+            if (rows.size() != findings.size()) {
+                return null;
+            }
+
+            final List<UpsertedAnalysisRow> upsertedRows = dao.upsertAnalyses(
+                    rows.stream().map(FindingAnalysisRow::componentId).toList(),
+                    rows.stream().map(FindingAnalysisRow::projectId).toList(),
+                    rows.stream().map(FindingAnalysisRow::vulnId).toList(),
+                    request.analysisState(),
+                    request.analysisJustification(),
+                    request.analysisResponse(),
+                    request.analysisDetails(),
+                    request.suppressed());
+            final Map<Map.Entry<Long, Long>, Long> analysisIdByFinding = upsertedRows.stream()
+                    .collect(Collectors.toMap(row -> Map.entry(row.componentId(), row.vulnId()), UpsertedAnalysisRow::id));
+
+            final var commentAnalysisIds = new ArrayList<Long>();
+            final var comments = new ArrayList<String>();
+            final var auditChanges = new HashMap<Long, AuditChange>();
+            for (final FindingAnalysisRow row : rows) {
+                final long analysisId = analysisIdByFinding.get(Map.entry(row.componentId(), row.vulnId()));
+                final AuditChange auditChange = collectComments(row, request, comments);
+                if (auditChange.analysisStateChange() || auditChange.suppressionChange()) {
+                    auditChanges.put(analysisId, auditChange);
+                }
+                if (comment != null) {
+                    comments.add(comment);
+                }
+                while (commentAnalysisIds.size() < comments.size()) {
+                    commentAnalysisIds.add(analysisId);
+                }
+            }
+            if (!comments.isEmpty()) {
+                dao.createComments(commentAnalysisIds, commenter, comments);
+            }
+
+            return auditChanges;
+        });
+        if (auditChangeByAnalysisId == null) {
+            return Response.status(Response.Status.NOT_FOUND).entity("One or more components or vulnerabilities could not be found.").build();
+        }
+
+        dispatchAuditChangeNotifications(auditChangeByAnalysisId);
+        return Response.ok(new BulkAnalysisResponse(findings.size())).build();
+    }
+
+    /**
+     * @since 5.6.0
+     */
+    public record BulkAnalysisResponse(int analyses) {
+    }
+
+    private record AuditChange(UUID componentUuid, UUID vulnUuid, boolean analysisStateChange, boolean suppressionChange) {
+    }
+
+    /**
+     * Collect trail comments for applying the decision in {@code request} to the analysis in {@code row},
+     * in the same way {@link #updateAnalysis(AnalysisRequest)} records them for individual analyses.
+     */
+    private static AuditChange collectComments(final FindingAnalysisRow row, final BulkAnalysisRequest request, final List<String> comments) {
+        if (row.analysisId() == null) {
+            if (AnalysisState.NOT_SET != request.analysisState()) {
+                comments.add(formatComment(AnalysisCommentField.STATE, AnalysisState.NOT_SET, request.analysisState()));
+            }
+
+            // This is a new analysis, so the state changed because it was previously null.
+            return new AuditChange(row.componentUuid(), row.vulnUuid(), true, false);
+        }
+
+        boolean analysisStateChange = false;
+        if (request.analysisState() != row.state()) {
+            comments.add(formatComment(AnalysisCommentField.STATE, row.state(), request.analysisState()));
+            analysisStateChange = true;
+        }
+        if (row.justification() == null && AnalysisJustification.NOT_SET != request.analysisJustification()) {
+            comments.add(formatComment(AnalysisCommentField.JUSTIFICATION, AnalysisJustification.NOT_SET, request.analysisJustification()));
+        } else if (row.justification() != null && request.analysisJustification() != row.justification()) {
+            comments.add(formatComment(AnalysisCommentField.JUSTIFICATION, row.justification(), request.analysisJustification()));
+        }
+        if (row.response() == null) {
+            comments.add(formatComment(AnalysisCommentField.RESPONSE, AnalysisResponse.NOT_SET, request.analysisResponse()));
+        } else if (request.analysisResponse() != row.response()) {
+            comments.add(formatComment(AnalysisCommentField.RESPONSE, row.response(), request.analysisResponse()));
+        }
+        if (request.analysisDetails() != null && !request.analysisDetails().equals(row.details())) {
+            comments.add(formatComment(AnalysisCommentField.DETAILS, row.details(), request.analysisDetails()));
+        }
+        boolean suppressionChange = false;
+        final boolean currentlySuppressed = Boolean.TRUE.equals(row.suppressed());
+        if (request.suppressed() != null && currentlySuppressed != request.suppressed()) {
+            comments.add(formatComment(AnalysisCommentField.SUPPRESSED, currentlySuppressed, request.suppressed()));
+            suppressionChange = true;
+        }
+
+        return new AuditChange(row.componentUuid(), row.vulnUuid(), analysisStateChange, suppressionChange);
+    }
+
+    private static void dispatchAuditChangeNotifications(final Map<Long, AuditChange> auditChangeByAnalysisId) {
+        if (auditChangeByAnalysisId.isEmpty()
+                || !NotificationRuleIndex.getInstance().isSubscribed(NotificationScope.PORTFOLIO,
+                NotificationGroup.PROJECT_AUDIT_CHANGE, NotificationLevel.INFORMATIONAL)) {
+            return;
+        }
+
+        // Subjects do not carry analysis IDs, so correlate them via component and vulnerability instead.
+        final Map<Map.Entry<String, String>, AuditChange> auditChangeByFinding = auditChangeByAnalysisId.values().stream()
+                .collect(Collectors.toMap(
+                        auditChange -> Map.entry(auditChange.componentUuid().toString(), auditChange.vulnUuid().toString()),
+                        Function.identity()));
+        final List<VulnerabilityAnalysisDecisionChangeSubject> subjects = withJdbiHandle(handle ->
+                handle.attach(NotificationSubjectDao.class).getForProjectAuditChanges(auditChangeByAnalysisId.keySet()));
+
+        final var notifications = new ArrayList<org.dependencytrack.proto.notification.v1.Notification>(subjects.size());
+        for (final VulnerabilityAnalysisDecisionChangeSubject subject : subjects) {
+            final AuditChange auditChange = auditChangeByFinding.get(
+                    Map.entry(subject.getComponent().getUuid(), subject.getVulnerability().getUuid()));
+            notifications.add(org.dependencytrack.proto.notification.v1.Notification.newBuilder()
+                    .setScope(SCOPE_PORTFOLIO)
+                    .setGroup(GROUP_PROJECT_AUDIT_CHANGE)
+                    .setLevel(LEVEL_INFORMATIONAL)
+                    .setTimestamp(Timestamps.now())
+                    .setTitle(generateTitle(AnalysisState.valueOf(subject.getAnalysis().getState()),
+                            subject.getAnalysis().getSuppressed(), auditChange.analysisStateChange(), auditChange.suppressionChange()))
+                    .setContent("An analysis decision was made to a finding affecting a project")
+                    .setSubject(Any.pack(subject))
+                    .build());
+        }
+
+        new KafkaEventDispatcher().dispatchAllNotificationProtos(notifications);
+    }
+
+    private String getCommenter() {
+        if (getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getUsername();
+        } else if (getPrincipal() instanceof ApiKey apiKey) {
+            List<Team> teams = apiKey.getTeams();
+            List<String> teamNames = new ArrayList<>();
+            teams.forEach(team -> teamNames.add(team.getName()));
+            return String.join(", ", teamNames);
+        }
+        return null;
+    }
+
 }
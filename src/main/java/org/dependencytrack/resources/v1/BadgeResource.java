@@ -192,7 +192,7 @@ public class BadgeResource extends AbstractApiResource {
             if (!shouldBypassAuth && !passesAuthorization(qm)) {
                 return Response.status(Response.Status.FORBIDDEN).build();
             }
-            final Project project = qm.getObjectByUuid(Project.class, uuid);
+            final Project project = qm.getProjectByUuid(uuid);
             if (project != null) {
                 if (!shouldBypassAuth) {
                     requireAccess(qm, project);
@@ -286,7 +286,7 @@ public class BadgeResource extends AbstractApiResource {
             if (!shouldBypassAuth && !passesAuthorization(qm)) {
                 return Response.status(Response.Status.FORBIDDEN).build();
             }
-            final Project project = qm.getObjectByUuid(Project.class, uuid);
+            final Project project = qm.getProjectByUuid(uuid);
             if (project != null) {
                 if (!shouldBypassAuth) {
                     requireAccess(qm, project);
@@ -144,7 +144,7 @@ public class BomResource extends AbstractApiResource {
             @Parameter(description = "Force the resulting BOM to be downloaded as a file (defaults to 'false')")
             @QueryParam("download") boolean download) {
         try (QueryManager qm = new QueryManager()) {
-            final Project project = qm.getObjectByUuid(Project.class, uuid);
+            final Project project = qm.getProjectByUuid(uuid);
             if (project == null) {
                 return Response.status(Response.Status.NOT_FOUND).entity("The project could not be found.").build();
             }
@@ -297,7 +297,7 @@ public class BomResource extends AbstractApiResource {
                     validator.validateProperty(request, "bom")
             );
             try (QueryManager qm = new QueryManager()) {
-                final Project project = qm.getObjectByUuid(Project.class, request.getProject());
+                final Project project = qm.getProjectByUuid(request.getProject());
                 return process(qm, project, request.getBom());
             }
         } else { // additional behavior added in v3.1.0
@@ -314,7 +314,7 @@ public class BomResource extends AbstractApiResource {
                         if (request.getParentUUID() != null || request.getParentName() != null) {
                             if (request.getParentUUID() != null) {
                                 failOnValidationError(validator.validateProperty(request, "parentUUID"));
-                                parent = qm.getObjectByUuid(Project.class, request.getParentUUID());
+                                parent = qm.getProjectByUuid(request.getParentUUID());
                             } else {
                                 failOnValidationError(
                                         validator.validateProperty(request, "parentName"),
@@ -411,7 +411,7 @@ public class BomResource extends AbstractApiResource {
     ) {
         if (projectUuid != null) { // behavior in v3.0.0
             try (QueryManager qm = new QueryManager()) {
-                final Project project = qm.getObjectByUuid(Project.class, projectUuid);
+                final Project project = qm.getProjectByUuid(projectUuid);
                 return process(qm, project, artifactParts);
             }
         } else { // additional behavior added in v3.1.0
@@ -425,7 +425,7 @@ public class BomResource extends AbstractApiResource {
                         if (parentUUID != null || parentName != null) {
                             if (parentUUID != null) {
 
-                                parent = qm.getObjectByUuid(Project.class, parentUUID);
+                                parent = qm.getProjectByUuid(parentUUID);
                             } else {
                                 final String trimmedParentName = StringUtils.trimToNull(parentName);
                                 final String trimmedParentVersion = StringUtils.trimToNull(parentVersion);
@@ -133,7 +133,7 @@ public class ComponentResource extends AbstractApiResource {
             @Parameter(description = "Optionally exclude transitive dependencies so only direct dependencies are returned")
             @QueryParam("onlyDirect") boolean onlyDirect) {
         try (QueryManager qm = new QueryManager(getAlpineRequest())) {
-            final Project project = qm.getObjectByUuid(Project.class, uuid);
+            final Project project = qm.getProjectByUuid(uuid);
             if (project != null) {
                 requireAccess(qm, project);
                 final PaginatedResult result = qm.getComponents(project, true, onlyOutdated, onlyDirect);
@@ -320,7 +320,7 @@ public class ComponentResource extends AbstractApiResource {
         try (QueryManager qm = new QueryManager(getAlpineRequest())) {
             Project project = null;
             if (projectUuid != null) {
-                project = qm.getObjectByUuid(Project.class, projectUuid);
+                project = qm.getProjectByUuid(projectUuid);
                 if (project == null) {
                     return Response.status(Response.Status.NOT_FOUND).entity("The project could not be found.").build();
                 }
@@ -431,7 +431,7 @@ public class ComponentResource extends AbstractApiResource {
             if (jsonComponent.getParent() != null && jsonComponent.getParent().getUuid() != null) {
                 parent = qm.getObjectByUuid(Component.class, jsonComponent.getParent().getUuid());
             }
-            final Project project = qm.getObjectByUuid(Project.class, uuid);
+            final Project project = qm.getProjectByUuid(uuid);
             if (project == null) {
                 return Response.status(Response.Status.NOT_FOUND).entity("The project could not be found.").build();
             }
@@ -712,7 +712,7 @@ public class ComponentResource extends AbstractApiResource {
             @Parameter(description = "List of UUIDs of the components (separated by |) to get the expanded dependency graph for", required = true)
             @PathParam("componentUuids") @ValidUuid String componentUuids) {
         try (QueryManager qm = new QueryManager()) {
-            final Project project = qm.getObjectByUuid(Project.class, projectUuid);
+            final Project project = qm.getProjectByUuid(projectUuid);
             if (project == null) {
                 return Response.status(Response.Status.NOT_FOUND).entity("The UUID of the project could not be found.").build();
             }
@@ -96,7 +96,7 @@ public class DependencyGraphResource extends AbstractApiResource {
     @PermissionRequired(Permissions.Constants.VIEW_PORTFOLIO)
     public Response getComponentsAndServicesByProjectUuid(@Parameter(description = "The UUID of the project", schema = @Schema(type = "string", format = "uuid"), required = true) final @PathParam("uuid") @ValidUuid String uuid) {
         try (QueryManager qm = new QueryManager()) {
-            final Project project = qm.getObjectByUuid(Project.class, uuid);
+            final Project project = qm.getProjectByUuid(uuid);
 
             if (project == null) {
                 return Response.status(Response.Status.NOT_FOUND).entity("The component could not be found.").build();
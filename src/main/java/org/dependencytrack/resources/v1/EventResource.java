@@ -29,17 +29,33 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.security.SecurityRequirements;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.CompletionCallback;
+import jakarta.ws.rs.container.Suspended;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.GenericType;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
+import org.dependencytrack.event.WorkflowTokenWatcher;
+import org.dependencytrack.model.WorkflowState;
 import org.dependencytrack.model.validation.ValidUuid;
 import org.dependencytrack.persistence.jdbi.WorkflowDao;
 import org.dependencytrack.resources.v1.vo.IsTokenBeingProcessedResponse;
 
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
 
@@ -57,6 +73,8 @@ import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
 })
 public class EventResource extends AlpineResource {
 
+    private static final long MAX_WAIT_SECONDS = 300;
+
     @GET
     @Path("/token/{uuid}")
     @Produces(MediaType.APPLICATION_JSON)
@@ -72,6 +90,11 @@ public class EventResource extends AlpineResource {
                       </ul>
                       However, a value of <code>false</code> also does not confirm the token is valid,
                       only that no processing is associated with the specified token.
+                    </p>
+                    <p>
+                      When <code>waitSeconds</code> is provided, and processing is occurring, the response is delayed
+                      until either processing completed, or the given number of seconds elapsed, whichever happens first.
+                      This should be preferred over frequent polling.
                     </p>"""
     )
     @ApiResponses(value = {
@@ -82,9 +105,12 @@ public class EventResource extends AlpineResource {
             ),
             @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
-    public Response isTokenBeingProcessed(
+    public void isTokenBeingProcessed(
             @Parameter(description = "The UUID of the token to query", schema = @Schema(type = "string", format = "uuid"), required = true)
-            @PathParam("uuid") @ValidUuid String uuid) {
+            @PathParam("uuid") @ValidUuid String uuid,
+            @Parameter(description = "Maximum number of seconds to wait for processing to complete")
+            @QueryParam("waitSeconds") @Min(0) @Max(MAX_WAIT_SECONDS) int waitSeconds,
+            @Suspended final AsyncResponse asyncResponse) {
         final UUID token = UUID.fromString(uuid);
 
         final boolean isProcessing;
@@ -95,8 +121,101 @@ public class EventResource extends AlpineResource {
                     handle.attach(WorkflowDao.class).existsWithNonTerminalStatus(token));
         }
 
+        if (!isProcessing || waitSeconds == 0) {
+            asyncResponse.resume(createIsTokenBeingProcessedResponse(isProcessing));
+            return;
+        }
+
+        final CompletableFuture<Void> completionFuture = WorkflowTokenWatcher.getInstance().awaitCompletion(token);
+        asyncResponse.setTimeout(waitSeconds, TimeUnit.SECONDS);
+        asyncResponse.setTimeoutHandler(response -> {
+            completionFuture.cancel(false);
+            response.resume(createIsTokenBeingProcessedResponse(true));
+        });
+        asyncResponse.register((CompletionCallback) throwable -> completionFuture.cancel(false));
+        completionFuture.thenRun(() -> asyncResponse.resume(createIsTokenBeingProcessedResponse(false)));
+    }
+
+    @GET
+    @Path("/token/{uuid}/stream")
+    @Produces(MediaType.SERVER_SENT_EVENTS)
+    @Operation(
+            summary = "Streams workflow state transitions of the token as server-sent events.",
+            description = """
+                    <p>
+                      Emits a <code>state</code> event with all workflow states of the token
+                      upon connection, and whenever any of the states changes.
+                      Emits a <code>completed</code> event, and closes the stream,
+                      once no more processing is occurring for the token.
+                    </p>"""
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "A stream of workflow state transitions"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public void streamTokenStates(
+            @Parameter(description = "The UUID of the token to stream states of", schema = @Schema(type = "string", format = "uuid"), required = true)
+            @PathParam("uuid") @ValidUuid String uuid,
+            @Context final SseEventSink eventSink,
+            @Context final Sse sse) {
+        final UUID token = UUID.fromString(uuid);
+
+        final var unwatchHolder = new Runnable[1];
+        final var listener = new WorkflowTokenWatcher.Listener() {
+
+            @Override
+            public void onStatesChanged(final UUID token, final List<WorkflowState> states) {
+                send(sse.newEventBuilder()
+                        .name("state")
+                        .mediaType(MediaType.APPLICATION_JSON_TYPE)
+                        .data(new GenericType<List<WorkflowState>>() {
+                        }, states)
+                        .build());
+            }
+
+            @Override
+            public void onProcessingCompleted(final UUID token) {
+                send(sse.newEventBuilder()
+                        .name("completed")
+                        .data(token.toString())
+                        .build());
+                eventSink.close();
+            }
+
+            private void send(final OutboundSseEvent event) {
+                if (eventSink.isClosed()) {
+                    unwatch();
+                    return;
+                }
+
+                eventSink.send(event).whenComplete((ignored, throwable) -> {
+                    if (throwable != null) {
+                        // Client most likely disconnected.
+                        unwatch();
+                        eventSink.close();
+                    }
+                });
+            }
+
+            private void unwatch() {
+                synchronized (unwatchHolder) {
+                    if (unwatchHolder[0] != null) {
+                        unwatchHolder[0].run();
+                    }
+                }
+            }
+
+        };
+
+        synchronized (unwatchHolder) {
+            unwatchHolder[0] = WorkflowTokenWatcher.getInstance().watch(token, listener);
+        }
+    }
+
+    private static IsTokenBeingProcessedResponse createIsTokenBeingProcessedResponse(final boolean isProcessing) {
         final var response = new IsTokenBeingProcessedResponse();
         response.setProcessing(isProcessing);
-        return Response.ok(response).build();
+        return response;
     }
-}
\ No newline at end of file
+
+}
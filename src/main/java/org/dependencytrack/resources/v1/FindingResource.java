@@ -43,11 +43,14 @@ import org.dependencytrack.event.PortfolioVulnerabilityAnalysisEvent;
 import org.dependencytrack.event.ProjectRepositoryMetaAnalysisEvent;
 import org.dependencytrack.event.ProjectVulnerabilityAnalysisEvent;
 import org.dependencytrack.integrations.FindingPackagingFormat;
+import org.dependencytrack.model.AnalysisState;
 import org.dependencytrack.model.Finding;
 import org.dependencytrack.model.Project;
+import org.dependencytrack.model.Severity;
 import org.dependencytrack.model.Vulnerability;
 import org.dependencytrack.model.validation.ValidUuid;
 import org.dependencytrack.persistence.QueryManager;
+import org.dependencytrack.resources.v1.openapi.PaginatedApi;
 import org.dependencytrack.resources.v1.problems.ProblemDetails;
 import org.dependencytrack.resources.v1.vo.BomUploadResponse;
 
@@ -111,6 +114,7 @@ public class FindingResource extends AbstractApiResource {
                     content = @Content(schema = @Schema(implementation = ProblemDetails.class), mediaType = ProblemDetails.MEDIA_TYPE_JSON)),
             @ApiResponse(responseCode = "404", description = "The project could not be found")
     })
+    @PaginatedApi
     @PermissionRequired(Permissions.Constants.VIEW_VULNERABILITY)
     public Response getFindingsByProject(@Parameter(description = "The UUID of the project", schema = @Schema(type = "string", format = "uuid"), required = true)
                                          @PathParam("uuid") @ValidUuid String uuid,
@@ -118,13 +122,17 @@ public class FindingResource extends AbstractApiResource {
                                          @QueryParam("suppressed") boolean suppressed,
                                          @Parameter(description = "Optionally limit findings to specific sources of vulnerability intelligence")
                                          @QueryParam("source") Vulnerability.Source source,
+                                         @Parameter(description = "Optionally limit findings to specific severities")
+                                         @QueryParam("severity") List<Severity> severities,
+                                         @Parameter(description = "Optionally limit findings to specific analysis states")
+                                         @QueryParam("analysisState") List<AnalysisState> analysisStates,
                                          @HeaderParam("accept") String acceptHeader) {
         try (QueryManager qm = new QueryManager(getAlpineRequest())) {
-            final Project project = qm.getObjectByUuid(Project.class, uuid);
+            final Project project = qm.getProjectByUuid(uuid);
             if (project != null) {
                 requireAccess(qm, project);
-                final List<Finding> findings = qm.getFindings(project, suppressed);
                 if (acceptHeader != null && acceptHeader.contains(MEDIA_TYPE_SARIF_JSON)) {
+                    final List<Finding> findings = qm.getFindings(project, suppressed);
                     try {
                         return Response.ok(generateSARIF(findings), MEDIA_TYPE_SARIF_JSON)
                                 .header("content-disposition", "attachment; filename=\"findings-" + uuid + ".sarif\"")
@@ -134,12 +142,8 @@ public class FindingResource extends AbstractApiResource {
                         return Response.status(Response.Status.INTERNAL_SERVER_ERROR).entity("An error occurred while generating SARIF file").build();
                     }
                 }
-                if (source != null) {
-                    final List<Finding> filteredList = findings.stream().filter(finding -> source.name().equals(finding.getVulnerability().get("source"))).collect(Collectors.toList());
-                    return Response.ok(filteredList).header(TOTAL_COUNT_HEADER, filteredList.size()).build();
-                } else {
-                    return Response.ok(findings).header(TOTAL_COUNT_HEADER, findings.size()).build();
-                }
+                final PaginatedResult result = qm.getFindingsPage(project, suppressed, source, severities, analysisStates);
+                return Response.ok(result.getObjects()).header(TOTAL_COUNT_HEADER, result.getTotal()).build();
             } else {
                 return Response.status(Response.Status.NOT_FOUND).entity("The project could not be found.").build();
             }
@@ -170,7 +174,7 @@ public class FindingResource extends AbstractApiResource {
     public Response exportFindingsByProject(@Parameter(description = "The UUID of the project", schema = @Schema(type = "string", format = "uuid"), required = true)
                                             @PathParam("uuid") @ValidUuid String uuid) {
         try (QueryManager qm = new QueryManager(getAlpineRequest())) {
-            final Project project = qm.getObjectByUuid(Project.class, uuid);
+            final Project project = qm.getProjectByUuid(uuid);
             if (project != null) {
                 requireAccess(qm, project);
                 final List<Finding> findings = qm.getFindings(project);
@@ -232,7 +236,7 @@ public class FindingResource extends AbstractApiResource {
             @Parameter(description = "The UUID of the project to analyze", schema = @Schema(type = "string", format = "uuid"), required = true)
             @PathParam("uuid") @ValidUuid String uuid) {
         try (QueryManager qm = new QueryManager()) {
-            final Project project = qm.getObjectByUuid(Project.class, uuid);
+            final Project project = qm.getProjectByUuid(uuid);
             if (project != null) {
                 requireAccess(qm, project);
                 LOGGER.info("Analysis of project " + project.getUuid() + " requested by " + super.getPrincipal().getName());
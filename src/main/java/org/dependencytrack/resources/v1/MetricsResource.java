@@ -43,6 +43,8 @@ import org.dependencytrack.model.ProjectMetrics;
 import org.dependencytrack.model.VulnerabilityMetrics;
 import org.dependencytrack.model.validation.ValidUuid;
 import org.dependencytrack.persistence.QueryManager;
+import org.dependencytrack.persistence.jdbi.MetricsDao;
+import org.dependencytrack.persistence.jdbi.MetricsDao.HistoryBucket;
 import org.dependencytrack.resources.v1.problems.ProblemDetails;
 import org.dependencytrack.util.DateUtil;
 
@@ -50,10 +52,14 @@ import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import java.util.Date;
 import java.util.List;
+import java.util.Locale;
+
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
 
 /**
  * JAX-RS resources for processing metrics.
@@ -134,16 +140,15 @@ public class MetricsResource extends AbstractApiResource {
     @PermissionRequired(Permissions.Constants.VIEW_PORTFOLIO)
     public Response getPortfolioMetricsSince(
             @Parameter(description = "The start date to retrieve metrics for", required = true)
-            @PathParam("date") String date) {
+            @PathParam("date") String date,
+            @Parameter(description = "Optionally downsample metrics to the last value recorded per hour, day, or week", schema = @Schema(allowableValues = {"hour", "day", "week"}))
+            @QueryParam("bucket") String bucket) {
 
         final Date since = DateUtil.parseShortDate(date);
         if (since == null) {
             return Response.status(Response.Status.BAD_REQUEST).entity("The specified date format is incorrect.").build();
         }
-        try (QueryManager qm = new QueryManager()) {
-            final List<PortfolioMetrics> metrics = qm.getPortfolioMetricsSince(since);
-            return Response.ok(metrics).build();
-        }
+        return getPortfolioMetrics(since, bucket);
     }
 
     @GET
@@ -164,13 +169,12 @@ public class MetricsResource extends AbstractApiResource {
     @PermissionRequired(Permissions.Constants.VIEW_PORTFOLIO)
     public Response getPortfolioMetricsXDays(
             @Parameter(description = "The number of days back to retrieve metrics for", required = true)
-            @PathParam("days") int days) {
+            @PathParam("days") int days,
+            @Parameter(description = "Optionally downsample metrics to the last value recorded per hour, day, or week", schema = @Schema(allowableValues = {"hour", "day", "week"}))
+            @QueryParam("bucket") String bucket) {
 
         final Date since = DateUtils.addDays(new Date(), -days);
-        try (QueryManager qm = new QueryManager()) {
-            final List<PortfolioMetrics> metrics = qm.getPortfolioMetricsSince(since);
-            return Response.ok(metrics).build();
-        }
+        return getPortfolioMetrics(since, bucket);
     }
 
     @GET
@@ -215,7 +219,7 @@ public class MetricsResource extends AbstractApiResource {
             @Parameter(description = "The UUID of the project to retrieve metrics for", schema = @Schema(type = "string", format = "uuid"), required = true)
             @PathParam("uuid") @ValidUuid String uuid) {
         try (QueryManager qm = new QueryManager(getAlpineRequest())) {
-            final Project project = qm.getObjectByUuid(Project.class, uuid);
+            final Project project = qm.getProjectByUuid(uuid);
             if (project != null) {
                 requireAccess(qm, project);
                 final ProjectMetrics metrics = qm.getMostRecentProjectMetrics(project);
@@ -253,10 +257,15 @@ public class MetricsResource extends AbstractApiResource {
             @Parameter(description = "The UUID of the project to retrieve metrics for", schema = @Schema(type = "string", format = "uuid"), required = true)
             @PathParam("uuid") @ValidUuid String uuid,
             @Parameter(description = "The start date to retrieve metrics for", required = true)
-            @PathParam("date") String date) {
+            @PathParam("date") String date,
+            @Parameter(description = "Optionally downsample metrics to the last value recorded per hour, day, or week", schema = @Schema(allowableValues = {"hour", "day", "week"}))
+            @QueryParam("bucket") String bucket) {
 
         final Date since = DateUtil.parseShortDate(date);
-        return getProjectMetrics(uuid, since);
+        if (since == null) {
+            return Response.status(Response.Status.BAD_REQUEST).entity("The specified date format is incorrect.").build();
+        }
+        return getProjectMetrics(uuid, since, bucket);
     }
 
     @GET
@@ -284,10 +293,12 @@ public class MetricsResource extends AbstractApiResource {
             @Parameter(description = "The UUID of the project to retrieve metrics for", schema = @Schema(type = "string", format = "uuid"), required = true)
             @PathParam("uuid") @ValidUuid String uuid,
             @Parameter(description = "The number of days back to retrieve metrics for", required = true)
-            @PathParam("days") int days) {
+            @PathParam("days") int days,
+            @Parameter(description = "Optionally downsample metrics to the last value recorded per hour, day, or week", schema = @Schema(allowableValues = {"hour", "day", "week"}))
+            @QueryParam("bucket") String bucket) {
 
         final Date since = DateUtils.addDays(new Date(), -days);
-        return getProjectMetrics(uuid, since);
+        return getProjectMetrics(uuid, since, bucket);
     }
 
     @GET
@@ -311,7 +322,7 @@ public class MetricsResource extends AbstractApiResource {
             @Parameter(description = "The UUID of the project to refresh metrics on", schema = @Schema(type = "string", format = "uuid"), required = true)
             @PathParam("uuid") @ValidUuid String uuid) {
         try (QueryManager qm = new QueryManager(getAlpineRequest())) {
-            final Project project = qm.getObjectByUuid(Project.class, uuid);
+            final Project project = qm.getProjectByUuid(uuid);
             if (project != null) {
                 requireAccess(qm, project);
                 Event.dispatch(new ProjectMetricsUpdateEvent(project.getUuid()));
@@ -457,19 +468,57 @@ public class MetricsResource extends AbstractApiResource {
         }
     }
 
+    /**
+     * Private method common to retrieving portfolio metrics based on a time period.
+     *
+     * @param since      the Date to start retrieving metrics from
+     * @param bucketName the name of the {@link HistoryBucket} to downsample to, or {@code null} to not downsample
+     * @return a Response object
+     */
+    private Response getPortfolioMetrics(Date since, String bucketName) {
+        final HistoryBucket bucket;
+        try {
+            bucket = parseHistoryBucket(bucketName);
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST).entity("The specified bucket is invalid.").build();
+        }
+
+        if (bucket != null) {
+            final List<PortfolioMetrics> metrics = withJdbiHandle(getAlpineRequest(), handle ->
+                    handle.attach(MetricsDao.class).getPortfolioMetricsSince(bucket, since.toInstant()));
+            return Response.ok(metrics).build();
+        }
+
+        try (QueryManager qm = new QueryManager()) {
+            final List<PortfolioMetrics> metrics = qm.getPortfolioMetricsSince(since);
+            return Response.ok(metrics).build();
+        }
+    }
+
     /**
      * Private method common to retrieving project metrics based on a time period.
      *
-     * @param uuid  the UUID of the project
-     * @param since the Date to start retrieving metrics from
+     * @param uuid       the UUID of the project
+     * @param since      the Date to start retrieving metrics from
+     * @param bucketName the name of the {@link HistoryBucket} to downsample to, or {@code null} to not downsample
      * @return a Response object
      */
-    private Response getProjectMetrics(String uuid, Date since) {
+    private Response getProjectMetrics(String uuid, Date since, String bucketName) {
+        final HistoryBucket bucket;
+        try {
+            bucket = parseHistoryBucket(bucketName);
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST).entity("The specified bucket is invalid.").build();
+        }
+
         try (QueryManager qm = new QueryManager(getAlpineRequest())) {
-            final Project project = qm.getObjectByUuid(Project.class, uuid);
+            final Project project = qm.getProjectByUuid(uuid);
             if (project != null) {
                 requireAccess(qm, project);
-                final List<ProjectMetrics> metrics = qm.getProjectMetricsSince(project, since);
+                final List<ProjectMetrics> metrics = bucket != null
+                        ? withJdbiHandle(getAlpineRequest(), handle -> handle.attach(MetricsDao.class)
+                                .getProjectMetricsSince(project.getId(), bucket, since.toInstant()))
+                        : qm.getProjectMetricsSince(project, since);
                 return Response.ok(metrics).build();
             } else {
                 return Response.status(Response.Status.NOT_FOUND).entity("The project could not be found.").build();
@@ -497,4 +546,12 @@ public class MetricsResource extends AbstractApiResource {
         }
     }
 
+    private static HistoryBucket parseHistoryBucket(final String bucketName) {
+        if (bucketName == null || bucketName.isBlank()) {
+            return null;
+        }
+
+        return HistoryBucket.valueOf(bucketName.trim().toUpperCase(Locale.ROOT));
+    }
+
 }
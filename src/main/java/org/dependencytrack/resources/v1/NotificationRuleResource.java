@@ -38,6 +38,7 @@ import org.dependencytrack.model.NotificationPublisher;
 import org.dependencytrack.model.NotificationRule;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.model.validation.ValidUuid;
+import org.dependencytrack.notification.NotificationRuleIndex;
 import org.dependencytrack.notification.NotificationScope;
 import org.dependencytrack.persistence.QueryManager;
 import org.dependencytrack.resources.v1.openapi.PaginatedApi;
@@ -187,6 +188,7 @@ public class NotificationRuleResource extends AbstractApiResource {
             final NotificationRule rule = qm.getObjectByUuid(NotificationRule.class, jsonRule.getUuid());
             if (rule != null) {
                 qm.delete(rule);
+                NotificationRuleIndex.getInstance().invalidate();
                 return Response.status(Response.Status.NO_CONTENT).build();
             } else {
                 return Response.status(Response.Status.NOT_FOUND).entity("The UUID of the notification rule could not be found.").build();
@@ -229,7 +231,7 @@ public class NotificationRuleResource extends AbstractApiResource {
             if (rule.getScope() != NotificationScope.PORTFOLIO) {
                 return Response.status(Response.Status.NOT_ACCEPTABLE).entity("Project limitations are only possible on notification rules with PORTFOLIO scope.").build();
             }
-            final Project project = qm.getObjectByUuid(Project.class, projectUuid);
+            final Project project = qm.getProjectByUuid(projectUuid);
             if (project == null) {
                 return Response.status(Response.Status.NOT_FOUND).entity("The project could not be found.").build();
             }
@@ -238,6 +240,7 @@ public class NotificationRuleResource extends AbstractApiResource {
             if (projects != null && !projects.contains(project)) {
                 rule.getProjects().add(project);
                 qm.persist(rule);
+                NotificationRuleIndex.getInstance().invalidate();
                 return Response.ok(rule).build();
             }
             return Response.status(Response.Status.NOT_MODIFIED).build();
@@ -279,7 +282,7 @@ public class NotificationRuleResource extends AbstractApiResource {
             if (rule.getScope() != NotificationScope.PORTFOLIO) {
                 return Response.status(Response.Status.NOT_ACCEPTABLE).entity("Project limitations are only possible on notification rules with PORTFOLIO scope.").build();
             }
-            final Project project = qm.getObjectByUuid(Project.class, projectUuid);
+            final Project project = qm.getProjectByUuid(projectUuid);
             if (project == null) {
                 return Response.status(Response.Status.NOT_FOUND).entity("The project could not be found.").build();
             }
@@ -288,6 +291,7 @@ public class NotificationRuleResource extends AbstractApiResource {
             if (projects != null && projects.contains(project)) {
                 rule.getProjects().remove(project);
                 qm.persist(rule);
+                NotificationRuleIndex.getInstance().invalidate();
                 return Response.ok(rule).build();
             }
             return Response.status(Response.Status.NOT_MODIFIED).build();
@@ -263,7 +263,7 @@ public class PolicyResource extends AbstractApiResource {
             if (policy == null) {
                 return Response.status(Response.Status.NOT_FOUND).entity("The policy could not be found.").build();
             }
-            final Project project = qm.getObjectByUuid(Project.class, projectUuid);
+            final Project project = qm.getProjectByUuid(projectUuid);
             if (project == null) {
                 return Response.status(Response.Status.NOT_FOUND).entity("The project could not be found.").build();
             }
@@ -311,7 +311,7 @@ public class PolicyResource extends AbstractApiResource {
             if (policy == null) {
                 return Response.status(Response.Status.NOT_FOUND).entity("The policy could not be found.").build();
             }
-            final Project project = qm.getObjectByUuid(Project.class, projectUuid);
+            final Project project = qm.getProjectByUuid(projectUuid);
             if (project == null) {
                 return Response.status(Response.Status.NOT_FOUND).entity("The project could not be found.").build();
             }
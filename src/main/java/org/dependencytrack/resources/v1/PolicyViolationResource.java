@@ -149,7 +149,7 @@ public class PolicyViolationResource extends AbstractApiResource {
                                            @Parameter(description = "Optionally includes suppressed violations")
                                            @QueryParam("suppressed") boolean suppressed) {
         try (QueryManager qm = new QueryManager(getAlpineRequest())) {
-            final Project project = qm.getObjectByUuid(Project.class, uuid);
+            final Project project = qm.getProjectByUuid(uuid);
             if (project != null) {
                 requireAccess(qm, project);
                 final PaginatedResult result = qm.getPolicyViolations(project, suppressed);
@@ -88,7 +88,7 @@ public class ProjectPropertyResource extends AbstractConfigPropertyResource {
             @Parameter(description = "The UUID of the project to retrieve properties for", schema = @Schema(type = "string", format = "uuid"), required = true)
             @PathParam("uuid") @ValidUuid String uuid) {
         try (QueryManager qm = new QueryManager(getAlpineRequest())) {
-            final Project project = qm.getObjectByUuid(Project.class, uuid);
+            final Project project = qm.getProjectByUuid(uuid);
             if (project != null) {
                 requireAccess(qm, project);
                 final List<ProjectProperty> properties = qm.getProjectProperties(project);
@@ -143,7 +143,7 @@ public class ProjectPropertyResource extends AbstractConfigPropertyResource {
                 validator.validateProperty(json, "propertyType")
         );
         try (QueryManager qm = new QueryManager()) {
-            final Project project = qm.getObjectByUuid(Project.class, uuid);
+            final Project project = qm.getProjectByUuid(uuid);
             if (project != null) {
                 requireAccess(qm, project);
                 final ProjectProperty existing = qm.getProjectProperty(project,
@@ -202,7 +202,7 @@ public class ProjectPropertyResource extends AbstractConfigPropertyResource {
                 validator.validateProperty(json, "propertyValue")
         );
         try (QueryManager qm = new QueryManager()) {
-            final Project project = qm.getObjectByUuid(Project.class, uuid);
+            final Project project = qm.getProjectByUuid(uuid);
             if (project != null) {
                 requireAccess(qm, project);
                 final ProjectProperty property = qm.getProjectProperty(project, json.getGroupName(), json.getPropertyName());
@@ -244,7 +244,7 @@ public class ProjectPropertyResource extends AbstractConfigPropertyResource {
                 validator.validateProperty(json, "propertyName")
         );
         try (QueryManager qm = new QueryManager()) {
-            final Project project = qm.getObjectByUuid(Project.class, uuid);
+            final Project project = qm.getProjectByUuid(uuid);
             if (project != null) {
                 requireAccess(qm, project);
                 final ProjectProperty property = qm.getProjectProperty(project, json.getGroupName(), json.getPropertyName());
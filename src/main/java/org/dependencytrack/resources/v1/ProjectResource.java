@@ -39,6 +39,7 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirements;
 import org.apache.commons.lang3.StringUtils;
 import org.dependencytrack.auth.Permissions;
 import org.dependencytrack.event.CloneProjectEvent;
+import org.dependencytrack.event.ProjectDeletionEvent;
 import org.dependencytrack.model.Classifier;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.model.Tag;
@@ -466,7 +467,7 @@ public class ProjectResource extends AbstractApiResource {
             }
             final Project createdProject = qm.callInTransaction(() -> {
                 if (jsonProject.getParent() != null && jsonProject.getParent().getUuid() != null) {
-                    Project parent = qm.getObjectByUuid(Project.class, jsonProject.getParent().getUuid());
+                    Project parent = qm.getProjectByUuid(jsonProject.getParent().getUuid());
                     if (parent == null) {
                         throw new NoSuchElementException("Parent project could not be found");
                     }
@@ -611,7 +612,7 @@ public class ProjectResource extends AbstractApiResource {
         }
         try (final var qm = new QueryManager()) {
             final Project updatedProject = qm.callInTransaction(() -> {
-                Project project = qm.getObjectByUuid(Project.class, jsonProject.getUuid());
+                Project project = qm.getProjectByUuid(jsonProject.getUuid());
                 if (project == null) {
                     throw new ClientErrorException(Response
                             .status(Response.Status.NOT_FOUND)
@@ -621,7 +622,7 @@ public class ProjectResource extends AbstractApiResource {
                 requireAccess(qm, project);
 
                 if (jsonProject.getParent() != null && jsonProject.getParent().getUuid() != null) {
-                    Project parent = qm.getObjectByUuid(Project.class, jsonProject.getParent().getUuid());
+                    Project parent = qm.getProjectByUuid(jsonProject.getParent().getUuid());
                     if (parent == null) {
                         throw new NoSuchElementException("Parent project could not be found");
                     }
@@ -719,7 +720,7 @@ public class ProjectResource extends AbstractApiResource {
 
         try (final var qm = new QueryManager()) {
             final Project updatedProject = qm.callInTransaction(() -> {
-                Project project = qm.getObjectByUuid(Project.class, uuid);
+                Project project = qm.getProjectByUuid(uuid);
                 if (project == null) {
                     throw new ClientErrorException(Response
                             .status(Response.Status.NOT_FOUND)
@@ -753,7 +754,7 @@ public class ProjectResource extends AbstractApiResource {
                 modified |= setIfDifferent(jsonProject, project, Project::isLatest, Project::setIsLatest);
                 modified |= setIfDifferent(jsonProject, project, Project::isActive, Project::setActive);
                 if (jsonProject.getParent() != null && jsonProject.getParent().getUuid() != null) {
-                    final Project parent = qm.getObjectByUuid(Project.class, jsonProject.getParent().getUuid());
+                    final Project parent = qm.getProjectByUuid(jsonProject.getParent().getUuid());
                     if (parent == null) {
                         throw new ClientErrorException(Response
                                 .status(Response.Status.NOT_FOUND)
@@ -848,7 +849,11 @@ public class ProjectResource extends AbstractApiResource {
             description = "<p>Requires permission <strong>PORTFOLIO_MANAGEMENT</strong> or <strong>PORTFOLIO_MANAGEMENT_DELETE</strong></p>"
     )
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "204", description = "Project removed successfully"),
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Token to be used for checking deletion progress",
+                    content = @Content(schema = @Schema(implementation = BomUploadResponse.class))
+            ),
             @ApiResponse(responseCode = "401", description = "Unauthorized"),
             @ApiResponse(
                     responseCode = "403",
@@ -862,8 +867,8 @@ public class ProjectResource extends AbstractApiResource {
             @Parameter(description = "The UUID of the project to delete", schema = @Schema(type = "string", format = "uuid"), required = true)
             @PathParam("uuid") @ValidUuid String uuid) {
         try (final var qm = new QueryManager()) {
-            qm.runInTransaction(() -> {
-                final Project project = qm.getObjectByUuid(Project.class, uuid, Project.FetchGroup.ALL.name());
+            final ProjectDeletionEvent deletionEvent = qm.callInTransaction(() -> {
+                final Project project = qm.getProjectByUuid(uuid, Project.FetchGroup.ALL.name());
                 if (project == null) {
                     throw new ClientErrorException(Response
                             .status(Response.Status.NOT_FOUND)
@@ -874,17 +879,31 @@ public class ProjectResource extends AbstractApiResource {
 
                 LOGGER.info("Project " + project + " deletion request by " + super.getPrincipal().getName());
 
+                // Only mark the project (and its descendants) for deletion here. Actually deleting
+                // all associated data can take a long time for large projects, so it's done
+                // asynchronously, and in batches, by ProjectDeletionTask.
                 try (final Handle jdbiHandle = createLocalJdbi(qm).open()) {
                     final var projectDao = jdbiHandle.attach(ProjectDao.class);
-                    projectDao.deleteProject(project.getUuid());
+                    projectDao.markForDeletion(project.getUuid());
                 } catch (RuntimeException e) {
-                    LOGGER.error("Failed to delete project", e);
+                    LOGGER.error("Failed to mark project for deletion", e);
                     throw new ServerErrorException(Response.Status.INTERNAL_SERVER_ERROR);
                 }
+
+                final var event = new ProjectDeletionEvent(project.getUuid());
+                final var workflowState = new WorkflowState();
+                workflowState.setStep(WorkflowStep.PROJECT_DELETION);
+                workflowState.setStatus(WorkflowStatus.PENDING);
+                workflowState.setToken(event.getChainIdentifier());
+                workflowState.setUpdatedAt(new Date());
+                qm.persist(workflowState);
+
+                return event;
             });
-        }
 
-        return Response.status(Response.Status.NO_CONTENT).build();
+            Event.dispatch(deletionEvent);
+            return Response.accepted(Map.of("token", deletionEvent.getChainIdentifier())).build();
+        }
     }
 
     @PUT
@@ -917,7 +936,7 @@ public class ProjectResource extends AbstractApiResource {
         );
         try (final var qm = new QueryManager()) {
             final CloneProjectEvent cloneEvent = qm.callInTransaction(() -> {
-                final Project sourceProject = qm.getObjectByUuid(Project.class, jsonRequest.getProject(), Project.FetchGroup.ALL.name());
+                final Project sourceProject = qm.getProjectByUuid(jsonRequest.getProject(), Project.FetchGroup.ALL.name());
                 if (sourceProject == null) {
                     throw new ClientErrorException(Response
                             .status(Response.Status.NOT_FOUND)
@@ -998,7 +1017,7 @@ public class ProjectResource extends AbstractApiResource {
                                         @Parameter(description = "Optionally excludes inactive projects from being returned", required = false)
                                         @QueryParam("excludeInactive") boolean excludeInactive) {
         try (QueryManager qm = new QueryManager(getAlpineRequest())) {
-            final Project project = qm.getObjectByUuid(Project.class, uuid);
+            final Project project = qm.getProjectByUuid(uuid);
             if (project != null) {
                 requireAccess(qm, project);
                 final PaginatedResult result = qm.getChildrenProjects(project.getUuid(), true, excludeInactive);
@@ -1040,7 +1059,7 @@ public class ProjectResource extends AbstractApiResource {
             @Parameter(description = "Optionally excludes inactive projects from being returned", required = false)
             @QueryParam("excludeInactive") boolean excludeInactive) {
         try (QueryManager qm = new QueryManager(getAlpineRequest())) {
-            final Project project = qm.getObjectByUuid(Project.class, uuid);
+            final Project project = qm.getProjectByUuid(uuid);
             if (project != null) {
                 requireAccess(qm, project);
                 final Classifier classifier = Classifier.valueOf(classifierString);
@@ -1083,7 +1102,7 @@ public class ProjectResource extends AbstractApiResource {
             @Parameter(description = "Optionally excludes inactive projects from being returned", required = false)
             @QueryParam("excludeInactive") boolean excludeInactive) {
         try (QueryManager qm = new QueryManager(getAlpineRequest())) {
-            final Project project = qm.getObjectByUuid(Project.class, uuid);
+            final Project project = qm.getProjectByUuid(uuid);
             if (project != null) {
                 requireAccess(qm, project);
                 final Tag tag = qm.getTagByName(tagString);
@@ -1126,7 +1145,7 @@ public class ProjectResource extends AbstractApiResource {
             @Parameter(description = "Optionally excludes inactive projects from being returned", required = false)
             @QueryParam("excludeInactive") boolean excludeInactive) {
         try (QueryManager qm = new QueryManager(getAlpineRequest())) {
-            final Project project = qm.getObjectByUuid(Project.class, uuid);
+            final Project project = qm.getProjectByUuid(uuid);
             if (project != null) {
                 requireAccess(qm, project);
                 final PaginatedResult result = (name != null) ? qm.getProjectsWithoutDescendantsOf(name, excludeInactive, project) : qm.getProjectsWithoutDescendantsOf(excludeInactive, project);
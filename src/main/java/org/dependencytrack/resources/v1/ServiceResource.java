@@ -97,7 +97,7 @@ class ServiceResource extends AbstractApiResource {
     public Response getAllServices(@Parameter(description = "The UUID of the project", schema = @Schema(type = "string", format = "uuid"), required = true)
                                    @PathParam("uuid") @ValidUuid String uuid) {
         try (QueryManager qm = new QueryManager(getAlpineRequest())) {
-            final Project project = qm.getObjectByUuid(Project.class, uuid);
+            final Project project = qm.getProjectByUuid(uuid);
             if (project != null) {
                 requireAccess(qm, project);
                 final PaginatedResult result = qm.getServiceComponents(project, true);
@@ -181,7 +181,7 @@ class ServiceResource extends AbstractApiResource {
             if (jsonService.getParent() != null && jsonService.getParent().getUuid() != null) {
                 parent = qm.getObjectByUuid(ServiceComponent.class, jsonService.getParent().getUuid());
             }
-            final Project project = qm.getObjectByUuid(Project.class, uuid);
+            final Project project = qm.getProjectByUuid(uuid);
             if (project == null) {
                 return Response.status(Response.Status.NOT_FOUND).entity("The project could not be found.").build();
             }
@@ -109,7 +109,7 @@ public class VexResource extends AbstractApiResource {
             @Parameter(description = "Force the resulting VEX to be downloaded as a file (defaults to 'false')")
             @QueryParam("download") boolean download) {
         try (QueryManager qm = new QueryManager()) {
-            final Project project = qm.getObjectByUuid(Project.class, uuid);
+            final Project project = qm.getProjectByUuid(uuid);
             if (project == null) {
                 return Response.status(Response.Status.NOT_FOUND).entity("The project could not be found.").build();
             }
@@ -184,7 +184,7 @@ public class VexResource extends AbstractApiResource {
                     validator.validateProperty(request, "vex")
             );
             try (QueryManager qm = new QueryManager()) {
-                final Project project = qm.getObjectByUuid(Project.class, request.getProject());
+                final Project project = qm.getProjectByUuid(request.getProject());
                 return process(qm, project, request.getVex());
             }
         } else {
@@ -245,7 +245,7 @@ public class VexResource extends AbstractApiResource {
                               @Parameter(schema = @Schema(type = "string")) @FormDataParam("vex") final List<FormDataBodyPart> artifactParts) {
         if (projectUuid != null) {
             try (QueryManager qm = new QueryManager()) {
-                final Project project = qm.getObjectByUuid(Project.class, projectUuid);
+                final Project project = qm.getProjectByUuid(projectUuid);
                 return process(qm, project, artifactParts);
             }
         } else {
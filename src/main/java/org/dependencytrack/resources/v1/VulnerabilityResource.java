@@ -155,7 +155,7 @@ public class VulnerabilityResource extends AbstractApiResource {
                                                 @Parameter(description = "Optionally includes suppressed vulnerabilities")
                                                 @QueryParam("suppressed") boolean suppressed) {
         try (QueryManager qm = new QueryManager(getAlpineRequest())) {
-            final Project project = qm.getObjectByUuid(Project.class, uuid);
+            final Project project = qm.getProjectByUuid(uuid);
             if (project != null) {
                 requireAccess(qm, project);
 
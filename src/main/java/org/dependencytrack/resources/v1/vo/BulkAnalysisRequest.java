@@ -0,0 +1,76 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.resources.v1.vo;
+
+import alpine.common.validation.RegexSequence;
+import alpine.server.json.TrimmedStringDeserializer;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.swagger.v3.oas.annotations.Parameter;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import org.dependencytrack.model.AnalysisJustification;
+import org.dependencytrack.model.AnalysisResponse;
+import org.dependencytrack.model.AnalysisState;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Defines a request object used when applying a single analysis decision to multiple findings.
+ *
+ * @since 5.6.0
+ */
+public record BulkAnalysisRequest(
+        @Parameter(description = "The findings to apply the analysis decision to", required = true)
+        @NotNull @Size(min = 1, max = 10_000) List<@NotNull @Valid Finding> findings,
+        AnalysisState analysisState,
+        AnalysisJustification analysisJustification,
+        AnalysisResponse analysisResponse,
+        @JsonDeserialize(using = TrimmedStringDeserializer.class)
+        @Pattern(regexp = RegexSequence.Definition.PRINTABLE_CHARS_PLUS, message = "The analysis details may only contain printable characters")
+        String analysisDetails,
+        @JsonDeserialize(using = TrimmedStringDeserializer.class)
+        @Pattern(regexp = RegexSequence.Definition.PRINTABLE_CHARS_PLUS, message = "The comment may only contain printable characters")
+        String comment,
+        @JsonProperty("isSuppressed") Boolean suppressed) {
+
+    public record Finding(
+            @Parameter(description = "The UUID of the component", required = true) @NotNull UUID component,
+            @Parameter(description = "The UUID of the vulnerability", required = true) @NotNull UUID vulnerability) {
+    }
+
+    @Override
+    public AnalysisState analysisState() {
+        return analysisState != null ? analysisState : AnalysisState.NOT_SET;
+    }
+
+    @Override
+    public AnalysisJustification analysisJustification() {
+        return analysisJustification != null ? analysisJustification : AnalysisJustification.NOT_SET;
+    }
+
+    @Override
+    public AnalysisResponse analysisResponse() {
+        return analysisResponse != null ? analysisResponse : AnalysisResponse.NOT_SET;
+    }
+
+}
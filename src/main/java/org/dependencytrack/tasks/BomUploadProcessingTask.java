@@ -60,6 +60,8 @@ import org.dependencytrack.notification.NotificationGroup;
 import org.dependencytrack.notification.NotificationScope;
 import org.dependencytrack.notification.vo.BomConsumedOrProcessed;
 import org.dependencytrack.notification.vo.BomProcessingFailed;
+import org.dependencytrack.observability.ProcessingStageTimer;
+import org.dependencytrack.observability.ProcessingStageTimer.Outcome;
 import org.dependencytrack.persistence.QueryManager;
 import org.dependencytrack.persistence.jdbi.WorkflowDao;
 import org.dependencytrack.util.InternalComponentIdentifier;
@@ -87,6 +89,7 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -157,6 +160,14 @@ public class BomUploadProcessingTask implements Subscriber {
     }
 
     private static final Logger LOGGER = Logger.getLogger(BomUploadProcessingTask.class);
+    private static final ProcessingStageTimer STAGE_TIMER = new ProcessingStageTimer("bom_upload");
+    private static final String STAGE_BOM_PARSING = "bom_parsing";
+    private static final String STAGE_LOCK_WAITING = "lock_waiting";
+    private static final String STAGE_PROJECT_RECONCILIATION = "project_reconciliation";
+    private static final String STAGE_COMPONENT_RECONCILIATION = "component_reconciliation";
+    private static final String STAGE_SERVICE_RECONCILIATION = "service_reconciliation";
+    private static final String STAGE_DEPENDENCY_GRAPH_STORAGE = "dependency_graph_storage";
+    private static final String STAGE_KAFKA_DISPATCH = "kafka_dispatch";
 
     private final KafkaEventDispatcher kafkaEventDispatcher;
     private final boolean delayBomProcessedNotification;
@@ -194,6 +205,7 @@ public class BomUploadProcessingTask implements Subscriber {
         });
         final ConsumedBom consumedBom;
 
+        final long parsingStartTimeNs = System.nanoTime();
         try (final var bomFileInputStream = Files.newInputStream(event.getFile().toPath(), StandardOpenOption.DELETE_ON_CLOSE)) {
             final byte[] cdxBomBytes = bomFileInputStream.readAllBytes();
 
@@ -222,7 +234,9 @@ public class BomUploadProcessingTask implements Subscriber {
                 ctx.bomVersion = cdxBom.getVersion();
                 consumedBom = consumeBom(cdxBom);
             }
+            STAGE_TIMER.record(STAGE_BOM_PARSING, Outcome.SUCCESS, System.nanoTime() - parsingStartTimeNs);
         } catch (IOException | ParseException | RuntimeException e) {
+            STAGE_TIMER.record(STAGE_BOM_PARSING, Outcome.FAILURE, System.nanoTime() - parsingStartTimeNs);
             LOGGER.error("Failed to consume BOM", e);
             failWorkflowStepAndCancelDescendants(ctx, WorkflowStep.BOM_CONSUMPTION, e);
             dispatchBomProcessingFailedNotification(ctx, e);
@@ -238,6 +252,8 @@ public class BomUploadProcessingTask implements Subscriber {
         dispatchBomConsumedNotification(ctx);
 
         final ProcessedBom processedBom;
+        final var isLockAcquired = new AtomicBoolean(false);
+        final long lockWaitingStartTimeNs = System.nanoTime();
         try (var ignoredMdcBomFormat = MDC.putCloseable(MDC_BOM_FORMAT, ctx.bomFormat.getFormatShortName());
              var ignoredMdcBomSpecVersion = MDC.putCloseable(MDC_BOM_SPEC_VERSION, ctx.bomSpecVersion);
              var ignoredMdcBomSerialNumber = MDC.putCloseable(MDC_BOM_SERIAL_NUMBER, ctx.bomSerialNumber);
@@ -245,8 +261,15 @@ public class BomUploadProcessingTask implements Subscriber {
             // Prevent BOMs for the same project to be processed concurrently.
             // Note that this is an edge case, we're not expecting any lock waits under normal circumstances.
             final WaitingLockConfiguration lockConfiguration = createLockConfiguration(ctx);
-            processedBom = executeWithLockWaiting(lockConfiguration, () -> processBom(ctx, consumedBom));
+            processedBom = executeWithLockWaiting(lockConfiguration, () -> {
+                isLockAcquired.set(true);
+                STAGE_TIMER.record(STAGE_LOCK_WAITING, Outcome.SUCCESS, System.nanoTime() - lockWaitingStartTimeNs);
+                return processBom(ctx, consumedBom);
+            });
         } catch (Throwable e) {
+            if (!isLockAcquired.get()) {
+                STAGE_TIMER.record(STAGE_LOCK_WAITING, Outcome.FAILURE, System.nanoTime() - lockWaitingStartTimeNs);
+            }
             LOGGER.error("Failed to process BOM", e);
             failWorkflowStepAndCancelDescendants(ctx, WorkflowStep.BOM_PROCESSING, e);
             dispatchBomProcessingFailedNotification(ctx, e);
@@ -270,7 +293,7 @@ public class BomUploadProcessingTask implements Subscriber {
         final var dispatchedEvents = new ArrayList<CompletableFuture<?>>(vulnAnalysisEvents.size() + repoMetaAnalysisEvents.size());
         dispatchedEvents.addAll(initiateVulnerabilityAnalysis(ctx, vulnAnalysisEvents));
         dispatchedEvents.addAll(initiateRepoMetaAnalysis(repoMetaAnalysisEvents));
-        CompletableFuture.allOf(dispatchedEvents.toArray(new CompletableFuture[0])).join();
+        STAGE_TIMER.run(STAGE_KAFKA_DISPATCH, () -> CompletableFuture.allOf(dispatchedEvents.toArray(new CompletableFuture[0])).join());
     }
 
     private org.cyclonedx.proto.v1_6.Bom parseBomProtobuf(byte[] cdxBomBytes) {
@@ -443,18 +466,20 @@ public class BomUploadProcessingTask implements Subscriber {
             qm.getPersistenceManager().setProperty(PROPERTY_RETAIN_VALUES, "true");
 
             return qm.callInTransaction(() -> {
-                final Project persistentProject = processProject(ctx, qm, bom.project(), bom.projectMetadata());
+                final Project persistentProject = STAGE_TIMER.time(STAGE_PROJECT_RECONCILIATION,
+                        () -> processProject(ctx, qm, bom.project(), bom.projectMetadata()));
 
                 LOGGER.info("Processing %d components".formatted(bom.components().size()));
-                final Map<ComponentIdentity, Component> persistentComponentsByIdentity =
-                        processComponents(qm, persistentProject, bom.components(), bom.identitiesByBomRef(), bom.bomRefsByIdentity());
+                final Map<ComponentIdentity, Component> persistentComponentsByIdentity = STAGE_TIMER.time(STAGE_COMPONENT_RECONCILIATION,
+                        () -> processComponents(qm, persistentProject, bom.components(), bom.identitiesByBomRef(), bom.bomRefsByIdentity()));
 
                 LOGGER.info("Processing %d services".formatted(bom.services().size()));
-                final Map<ComponentIdentity, ServiceComponent> persistentServicesByIdentity =
-                        processServices(qm, persistentProject, bom.services(), bom.identitiesByBomRef(), bom.bomRefsByIdentity());
+                final Map<ComponentIdentity, ServiceComponent> persistentServicesByIdentity = STAGE_TIMER.time(STAGE_SERVICE_RECONCILIATION,
+                        () -> processServices(qm, persistentProject, bom.services(), bom.identitiesByBomRef(), bom.bomRefsByIdentity()));
 
                 LOGGER.info("Processing %d dependency graph entries".formatted(bom.dependencyGraph().asMap().size()));
-                processDependencyGraph(qm, persistentProject, bom.dependencyGraph(), persistentComponentsByIdentity, bom.identitiesByBomRef());
+                STAGE_TIMER.run(STAGE_DEPENDENCY_GRAPH_STORAGE,
+                        () -> processDependencyGraph(qm, persistentProject, bom.dependencyGraph(), persistentComponentsByIdentity, bom.identitiesByBomRef()));
 
                 recordBomImport(ctx, qm, persistentProject);
 
@@ -34,7 +34,7 @@ public class DefectDojoUploadTask extends VulnerabilityManagementUploadTask {
         if (e instanceof DefectDojoUploadEventAbstract) {
             final DefectDojoUploadEventAbstract event = (DefectDojoUploadEventAbstract) e;
             LOGGER.debug("Starting DefectDojo upload task");
-            super.inform(event, new DefectDojoUploader());
+            super.inform(event, DefectDojoUploader::new);
             LOGGER.debug("DefectDojo upload complete");
         }
     }
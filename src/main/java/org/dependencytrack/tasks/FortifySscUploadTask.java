@@ -34,7 +34,7 @@ public class FortifySscUploadTask extends VulnerabilityManagementUploadTask {
         if (e instanceof FortifySscUploadEventAbstract) {
             final FortifySscUploadEventAbstract event = (FortifySscUploadEventAbstract) e;
             LOGGER.debug("Starting Fortify Software Security Center upload task");
-            super.inform(event, new FortifySscUploader());
+            super.inform(event, FortifySscUploader::new);
             LOGGER.debug("Fortify Software Security Center upload complete");
         }
     }
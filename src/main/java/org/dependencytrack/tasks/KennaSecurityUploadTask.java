@@ -34,7 +34,7 @@ public class KennaSecurityUploadTask extends VulnerabilityManagementUploadTask {
         if (e instanceof KennaSecurityUploadEventAbstract) {
             final KennaSecurityUploadEventAbstract event = (KennaSecurityUploadEventAbstract) e;
             LOGGER.debug("Starting Kenna Security upload task");
-            super.inform(event, new KennaSecurityUploader());
+            super.inform(event, KennaSecurityUploader::new);
             LOGGER.debug("Kenna Security upload complete");
         }
     }
@@ -0,0 +1,151 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.tasks;
+
+import alpine.Config;
+import alpine.common.logging.Logger;
+import alpine.event.framework.Event;
+import alpine.event.framework.Subscriber;
+import org.dependencytrack.common.ConfigKey;
+import org.dependencytrack.event.ProjectDeletionEvent;
+import org.dependencytrack.model.WorkflowState;
+import org.dependencytrack.persistence.QueryManager;
+import org.dependencytrack.persistence.jdbi.ProjectDao;
+import org.slf4j.MDC;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.dependencytrack.common.MdcKeys.MDC_EVENT_TOKEN;
+import static org.dependencytrack.common.MdcKeys.MDC_PROJECT_UUID;
+import static org.dependencytrack.model.WorkflowStatus.PENDING;
+import static org.dependencytrack.model.WorkflowStep.PROJECT_DELETION;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.inJdbiTransaction;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+
+/**
+ * Deletes projects that have been marked for deletion, including all of their descendants.
+ * <p>
+ * Rather than relying on a single cascading delete of the project, which holds locks
+ * on all dependent rows for the duration of the transaction, dependent rows are deleted
+ * in batches of bounded size, each in its own transaction.
+ *
+ * @since 5.6.0
+ */
+public class ProjectDeletionTask implements Subscriber {
+
+    private static final Logger LOGGER = Logger.getLogger(ProjectDeletionTask.class);
+
+    private final int batchSize;
+
+    @SuppressWarnings("unused") // Called by EventService
+    public ProjectDeletionTask() {
+        this(Config.getInstance().getPropertyAsInt(ConfigKey.PROJECT_DELETION_BATCH_SIZE));
+    }
+
+    ProjectDeletionTask(final int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void inform(final Event e) {
+        if (!(e instanceof final ProjectDeletionEvent event)) {
+            return;
+        }
+
+        final UUID chainIdentifier = event.getChainIdentifier();
+        try (var ignoredMdcProjectUuid = MDC.putCloseable(MDC_PROJECT_UUID, event.getProjectUuid().toString());
+             var ignoredMdcEventToken = MDC.putCloseable(MDC_EVENT_TOKEN, chainIdentifier.toString());
+             final var qm = new QueryManager()) {
+            WorkflowState workflowState = qm.updateStartTimeIfWorkflowStateExists(chainIdentifier, PROJECT_DELETION);
+            if (workflowState == null) {
+                final var now = new Date();
+                workflowState = new WorkflowState();
+                workflowState.setStep(PROJECT_DELETION);
+                workflowState.setStatus(PENDING);
+                workflowState.setToken(chainIdentifier);
+                workflowState.setStartedAt(now);
+                workflowState.setUpdatedAt(now);
+                qm.persist(workflowState);
+            }
+
+            try {
+                final long startTimeNs = System.nanoTime();
+                final int numDeletedProjects = deleteProject(event.getProjectUuid());
+                qm.updateWorkflowStateToComplete(workflowState);
+                LOGGER.info("Deleted %d project(s) in %s".formatted(
+                        numDeletedProjects, Duration.ofNanos(System.nanoTime() - startTimeNs)));
+            } catch (RuntimeException ex) {
+                LOGGER.error("Failed to delete project", ex);
+                qm.updateWorkflowStateToFailed(workflowState, ex.getMessage());
+            }
+        }
+    }
+
+    private int deleteProject(final UUID projectUuid) {
+        // Descendants come before their ancestors, such that deleting a project
+        // never cascades to a child project and all of its data.
+        final List<Long> projectIds = withJdbiHandle(handle -> {
+            final var projectDao = handle.attach(ProjectDao.class);
+            projectDao.updateDeletionHeartbeat(projectUuid);
+            return projectDao.getIdsOfProjectAndDescendants(projectUuid);
+        });
+
+        for (final long projectId : projectIds) {
+            final int numDeletedComponentMetrics = deleteInBatches(projectUuid, projectId, ProjectDao::deleteComponentMetricsBatch);
+            final int numDeletedComponents = deleteInBatches(projectUuid, projectId, ProjectDao::deleteComponentsBatch);
+            final int numDeletedProjectMetrics = deleteInBatches(projectUuid, projectId, ProjectDao::deleteProjectMetricsBatch);
+            inJdbiTransaction(handle -> handle.attach(ProjectDao.class).deleteProjectById(projectId));
+            LOGGER.debug("Deleted project with ID %d, %d components, %d component metrics, and %d project metrics"
+                    .formatted(projectId, numDeletedComponents, numDeletedComponentMetrics, numDeletedProjectMetrics));
+        }
+
+        return projectIds.size();
+    }
+
+    private int deleteInBatches(final UUID rootProjectUuid, final long projectId, final BatchDeleteFunction deleteFunction) {
+        int numDeletedTotal = 0;
+        int numDeletedLastBatch;
+        do {
+            numDeletedLastBatch = inJdbiTransaction(handle -> {
+                final var projectDao = handle.attach(ProjectDao.class);
+                final int numDeleted = deleteFunction.apply(projectDao, projectId, batchSize);
+                // Signal progress to ProjectMaintenanceTask, which would otherwise consider the deletion stalled.
+                projectDao.updateDeletionHeartbeat(rootProjectUuid);
+                return numDeleted;
+            });
+            numDeletedTotal += numDeletedLastBatch;
+        } while (numDeletedLastBatch > 0);
+
+        return numDeletedTotal;
+    }
+
+    @FunctionalInterface
+    private interface BatchDeleteFunction {
+
+        int apply(ProjectDao projectDao, long projectId, int batchSize);
+
+    }
+
+}
@@ -18,28 +18,40 @@
  */
 package org.dependencytrack.tasks;
 
+import alpine.Config;
 import alpine.common.logging.Logger;
 import alpine.event.framework.Event;
 import alpine.event.framework.Subscriber;
+import com.github.packageurl.MalformedPackageURLException;
+import com.github.packageurl.PackageURL;
 import net.javacrumbs.shedlock.core.LockConfiguration;
 import net.javacrumbs.shedlock.core.LockExtender;
 import net.javacrumbs.shedlock.core.LockingTaskExecutor;
+import org.dependencytrack.common.ConfigKey;
 import org.dependencytrack.event.ComponentRepositoryMetaAnalysisEvent;
 import org.dependencytrack.event.PortfolioRepositoryMetaAnalysisEvent;
 import org.dependencytrack.event.ProjectRepositoryMetaAnalysisEvent;
 import org.dependencytrack.event.kafka.KafkaEventDispatcher;
-import org.dependencytrack.model.Component;
 import org.dependencytrack.model.Project;
+import org.dependencytrack.model.RepositoryType;
 import org.dependencytrack.persistence.QueryManager;
+import org.dependencytrack.persistence.jdbi.ComponentDao;
+import org.dependencytrack.persistence.jdbi.ComponentDao.RepositoryMetaAnalysisCandidateRow;
+import org.dependencytrack.persistence.jdbi.ComponentMetaDao;
+import org.dependencytrack.persistence.jdbi.ComponentMetaDao.PackageRow;
 import org.dependencytrack.proto.repometaanalysis.v1.FetchMeta;
+import org.jdbi.v3.core.Handle;
 
-import javax.jdo.PersistenceManager;
-import javax.jdo.Query;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
 import static org.dependencytrack.util.LockProvider.executeWithLock;
 import static org.dependencytrack.util.LockProvider.isTaskLockToBeExtended;
 import static org.dependencytrack.util.TaskUtil.getLockConfigForTask;
@@ -49,15 +61,37 @@ import static org.dependencytrack.util.TaskUtil.getLockConfigForTask;
  * that submits components of a specific project, or all components in the entire portfolio, for repository meta
  * analysis.
  * <p>
- * As repository metadata analysis is purely based on PURLs, and does not (currently) consider PURL qualifiers,
- * components are submitted by distinct PURL coordinates. As such, there is no 1:1 correlation between total number
- * of components in the portfolio or project, and records submitted for analysis.
+ * As repository metadata is tracked per package, and does not (currently) consider versions or PURL qualifiers,
+ * components are submitted once per distinct repository type, namespace, and name. As such, there is no 1:1
+ * correlation between total number of components in the portfolio or project, and records submitted for analysis.
+ * <p>
+ * For the portfolio, packages whose metadata has been checked within the configured freshness window
+ * are not submitted again.
  */
 public class RepositoryMetaAnalysisTask implements Subscriber {
 
     private static final Logger LOGGER = Logger.getLogger(RepositoryMetaAnalysisTask.class);
+    private static final int DEFAULT_BATCH_SIZE = 1000;
 
     private final KafkaEventDispatcher kafkaEventDispatcher = new KafkaEventDispatcher();
+    private final Duration freshnessWindow;
+    private final int batchSize;
+
+    public RepositoryMetaAnalysisTask() {
+        this(Duration.parse(Config.getInstance().getProperty(ConfigKey.REPO_META_ANALYSIS_FRESHNESS_WINDOW)));
+    }
+
+    RepositoryMetaAnalysisTask(final Duration freshnessWindow) {
+        this(freshnessWindow, DEFAULT_BATCH_SIZE);
+    }
+
+    RepositoryMetaAnalysisTask(final Duration freshnessWindow, final int batchSize) {
+        this.freshnessWindow = freshnessWindow;
+        this.batchSize = batchSize;
+    }
+
+    private record Statistics(long submitted, long skipped) {
+    }
 
     /**
      * {@inheritDoc}
@@ -83,9 +117,10 @@ public class RepositoryMetaAnalysisTask implements Subscriber {
         }
     }
 
-    private void processProject(final UUID projectUuid) throws Exception {
+    private void processProject(final UUID projectUuid) {
         LOGGER.info("Submitting components of project %s for repository meta analysis".formatted(projectUuid));
 
+        final long projectId;
         try (final var qm = new QueryManager()) {
             final Project project = qm.getObjectByUuid(Project.class, projectUuid);
             if (project == null) {
@@ -93,73 +128,126 @@ public class RepositoryMetaAnalysisTask implements Subscriber {
                 return;
             }
 
-            final PersistenceManager pm = qm.getPersistenceManager();
-
-            long offset = 0;
-            List<ComponentProjection> components = fetchNextComponentsPage(pm, project, offset);
-            while (!components.isEmpty()) {
-                //latest version information needs to be fetched for project as either triggered because of fresh bom upload or individual project reanalysis
-                dispatchComponents(components);
-
-                offset += components.size();
-                components = fetchNextComponentsPage(pm, project, offset);
-            }
+            projectId = project.getId();
         }
 
-        LOGGER.info("All components of project %s submitted for repository meta analysis".formatted(projectUuid));
+        // Analysis of individual projects is explicitly requested, so latest version information
+        // is fetched regardless of when it has last been checked.
+        final Statistics statistics = dispatchCandidates(projectId, null, () -> {
+        });
+
+        LOGGER.info("All components of project %s submitted for repository meta analysis (packages: %d)"
+                .formatted(projectUuid, statistics.submitted()));
     }
 
-    private void processPortfolio() throws Exception {
+    private void processPortfolio() {
         LOGGER.info("Submitting all components in portfolio for repository meta analysis");
 
-        LockConfiguration lockConfiguration = getLockConfigForTask(RepositoryMetaAnalysisTask.class);
+        final LockConfiguration lockConfiguration = getLockConfigForTask(RepositoryMetaAnalysisTask.class);
+        final long startTime = System.currentTimeMillis();
 
-        try (final QueryManager qm = new QueryManager()) {
-            final PersistenceManager pm = qm.getPersistenceManager();
+        final Instant checkedAfter = freshnessWindow.isZero() || freshnessWindow.isNegative()
+                ? null
+                : Instant.now().minus(freshnessWindow);
 
-            long offset = 0;
-            long startTime = System.currentTimeMillis();
-            List<ComponentProjection> components = fetchNextComponentsPage(pm, null, offset);
-            while (!components.isEmpty()) {
-                long cumulativeProcessingTime = System.currentTimeMillis() - startTime;
-                if (isTaskLockToBeExtended(cumulativeProcessingTime, RepositoryMetaAnalysisTask.class)) {
-                    LockExtender.extendActiveLock(Duration.ofMinutes(5).plus(lockConfiguration.getLockAtLeastFor()), lockConfiguration.getLockAtLeastFor());
-                }
-                //latest version information does not need to be fetched for project as triggered for portfolio means it is a scheduled event happening
-                dispatchComponents(components);
-
-                offset += components.size();
-                components = fetchNextComponentsPage(pm, null, offset);
+        final Statistics statistics = dispatchCandidates(null, checkedAfter, () -> {
+            long cumulativeProcessingTime = System.currentTimeMillis() - startTime;
+            if (isTaskLockToBeExtended(cumulativeProcessingTime, RepositoryMetaAnalysisTask.class)) {
+                LockExtender.extendActiveLock(Duration.ofMinutes(5).plus(lockConfiguration.getLockAtLeastFor()), lockConfiguration.getLockAtLeastFor());
             }
-        }
+        });
 
-        LOGGER.info("All components in portfolio submitted for repository meta analysis");
+        LOGGER.info("All components in portfolio submitted for repository meta analysis (packages: %d, skipped as fresh: %d)"
+                .formatted(statistics.submitted(), statistics.skipped()));
     }
 
-    private void dispatchComponents(final List<ComponentProjection> components) {
-        for (final var component : components) {
-            kafkaEventDispatcher.dispatchEvent(new ComponentRepositoryMetaAnalysisEvent(null, component.purlCoordinates(), component.internal(), FetchMeta.FETCH_META_LATEST_VERSION));
-        }
+    /**
+     * @param projectId    ID of the project to submit components of, or {@code null} for the entire portfolio
+     * @param checkedAfter Packages checked after this instant are not submitted, or {@code null} to submit all packages
+     * @param onBatch      Callback invoked before each batch is processed
+     */
+    private Statistics dispatchCandidates(final Long projectId, final Instant checkedAfter, final Runnable onBatch) {
+        // Candidates are fetched in pages, each using its own short-lived handle, rather than streamed
+        // within a single transaction. A transaction spanning the entire portfolio would hold back
+        // vacuum for as long as it takes to dispatch all candidates.
+        long submitted = 0;
+        long skipped = 0;
+        RepositoryMetaAnalysisCandidateRow lastCandidate = null;
+        int lastBatchSize;
+        do {
+            onBatch.run();
+
+            final RepositoryMetaAnalysisCandidateRow afterCandidate = lastCandidate;
+            final List<RepositoryMetaAnalysisCandidateRow> batch = withJdbiHandle(handle -> handle
+                    .attach(ComponentDao.class)
+                    .getRepositoryMetaAnalysisCandidates(
+                            projectId,
+                            afterCandidate != null ? afterCandidate.packageCoordinates() : null,
+                            afterCandidate != null ? afterCandidate.internal() : null,
+                            batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            final List<RepositoryMetaAnalysisCandidateRow> staleCandidates = checkedAfter != null
+                    ? withJdbiHandle(handle -> getStaleCandidates(handle, batch, checkedAfter))
+                    : batch;
+
+            for (final RepositoryMetaAnalysisCandidateRow candidate : staleCandidates) {
+                kafkaEventDispatcher.dispatchEvent(new ComponentRepositoryMetaAnalysisEvent(
+                        null, candidate.purlCoordinates(), candidate.internal(), FetchMeta.FETCH_META_LATEST_VERSION));
+            }
+
+            submitted += staleCandidates.size();
+            skipped += batch.size() - staleCandidates.size();
+            lastCandidate = batch.getLast();
+            lastBatchSize = batch.size();
+        } while (lastBatchSize == batchSize);
+
+        return new Statistics(submitted, skipped);
     }
 
-    private List<ComponentProjection> fetchNextComponentsPage(final PersistenceManager pm, final Project project, final long offset) throws Exception {
-        try (final Query<Component> query = pm.newQuery(Component.class)) {
-            var filter = "project.inactiveSince == null && purlCoordinates != null";
-            var params = new HashMap<String, Object>();
-            if (project != null) {
-                filter += " && project == :project";
-                params.put("project", project);
+    private static List<RepositoryMetaAnalysisCandidateRow> getStaleCandidates(
+            final Handle handle,
+            final List<RepositoryMetaAnalysisCandidateRow> candidates,
+            final Instant checkedAfter) {
+        final var packageByCandidate = new HashMap<RepositoryMetaAnalysisCandidateRow, PackageRow>(candidates.size());
+        for (final RepositoryMetaAnalysisCandidateRow candidate : candidates) {
+            final PackageURL purl;
+            try {
+                purl = new PackageURL(candidate.purlCoordinates());
+            } catch (MalformedPackageURLException e) {
+                // Can't be correlated with repository metadata; Leave it to the analyzer.
+                continue;
+            }
+
+            final RepositoryType repositoryType = RepositoryType.resolve(purl);
+            if (repositoryType != RepositoryType.UNSUPPORTED) {
+                packageByCandidate.put(candidate, new PackageRow(repositoryType, purl.getNamespace(), purl.getName()));
             }
-            query.setFilter(filter);
-            query.setNamedParameters(params);
-            query.setOrdering("purlCoordinates ASC"); // Keep the order somewhat consistent
-            query.setRange(offset, offset + 5000);
-            query.setResult("DISTINCT purlCoordinates, internal");
-            return List.copyOf(query.executeResultList(ComponentProjection.class));
         }
-    }
+        if (packageByCandidate.isEmpty()) {
+            return candidates;
+        }
+
+        final var repositoryTypes = new ArrayList<String>(packageByCandidate.size());
+        final var namespaces = new ArrayList<String>(packageByCandidate.size());
+        final var names = new ArrayList<String>(packageByCandidate.size());
+        for (final PackageRow packageRow : packageByCandidate.values()) {
+            repositoryTypes.add(packageRow.repositoryType().name());
+            namespaces.add(packageRow.namespace());
+            names.add(packageRow.name());
+        }
+
+        final Set<PackageRow> freshPackages = new HashSet<>(handle.attach(ComponentMetaDao.class)
+                .getPackagesCheckedAfter(repositoryTypes, namespaces, names, checkedAfter));
+        if (freshPackages.isEmpty()) {
+            return candidates;
+        }
 
-    public record ComponentProjection(String purlCoordinates, Boolean internal) {
+        return candidates.stream()
+                .filter(candidate -> !freshPackages.contains(packageByCandidate.get(candidate)))
+                .toList();
     }
 
 }
@@ -18,37 +18,60 @@
  */
 package org.dependencytrack.tasks;
 
+import alpine.Config;
 import alpine.common.logging.Logger;
 import alpine.event.framework.Event;
 import alpine.event.framework.Subscriber;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.dependencytrack.common.ConfigKey;
 import org.dependencytrack.event.AbstractVulnerabilityManagementUploadEvent;
 import org.dependencytrack.integrations.FindingUploader;
 import org.dependencytrack.integrations.PortfolioFindingUploader;
 import org.dependencytrack.integrations.ProjectFindingUploader;
 import org.dependencytrack.model.Finding;
 import org.dependencytrack.model.Project;
+import org.dependencytrack.model.ProjectProperty;
 import org.dependencytrack.persistence.QueryManager;
+import org.dependencytrack.persistence.jdbi.FindingsUploadDao;
+import org.json.JSONObject;
 
 import java.io.InputStream;
+import java.security.MessageDigest;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiTransaction;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
 
 public abstract class VulnerabilityManagementUploadTask implements Subscriber {
 
     private static final Logger LOGGER = Logger.getLogger(VulnerabilityManagementUploadTask.class);
 
-    protected void inform(final Event e, final FindingUploader findingsUploader) {
+    /**
+     * @param e                The {@link Event} to handle
+     * @param uploaderSupplier {@link Supplier} of {@link FindingUploader}s. For {@link ProjectFindingUploader}s,
+     *                         a separate instance is created for every project, such that projects
+     *                         can be processed concurrently.
+     */
+    protected void inform(final Event e, final Supplier<? extends FindingUploader> uploaderSupplier) {
         if (e instanceof AbstractVulnerabilityManagementUploadEvent) {
             try (QueryManager qm = new QueryManager()) {
+                final FindingUploader findingsUploader = uploaderSupplier.get();
                 findingsUploader.setQueryManager(qm);
                 if (findingsUploader.isEnabled()) {
                     if (findingsUploader instanceof ProjectFindingUploader) {
-                        for (final Project project : qm.getAllProjects()) {
-                            processProjectFindings((ProjectFindingUploader) findingsUploader, qm, project);
+                        processAllProjectFindings(uploaderSupplier);
+                    } else if (findingsUploader instanceof final PortfolioFindingUploader uploader) {
+                        try (final InputStream payload = uploader.process()) {
+                            uploader.upload(payload);
                         }
-                    } else if (findingsUploader instanceof PortfolioFindingUploader) {
-                        final PortfolioFindingUploader uploader = (PortfolioFindingUploader) findingsUploader;
-                        final InputStream payload = uploader.process();
-                        uploader.upload(payload);
                     }
                 }
             } catch (Exception ex) {
@@ -57,13 +80,106 @@ public abstract class VulnerabilityManagementUploadTask implements Subscriber {
         }
     }
 
-    private void processProjectFindings(final ProjectFindingUploader uploader, final QueryManager qm, final Project project) {
-        if (uploader.isProjectConfigured(project)) {
+    private void processAllProjectFindings(final Supplier<? extends FindingUploader> uploaderSupplier) {
+        final List<Long> projectIds = withJdbiHandle(handle -> handle.attach(FindingsUploadDao.class)
+                .getIdsOfUploadableProjects());
+
+        final int concurrency = Config.getInstance().getPropertyAsInt(ConfigKey.INTEGRATIONS_FINDINGS_UPLOAD_CONCURRENCY);
+        final var threadCounter = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            final var thread = new Thread(runnable, "%s-%d".formatted(getClass().getSimpleName(), threadCounter.incrementAndGet()));
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            for (final long projectId : projectIds) {
+                executor.execute(() -> processProjectFindings(uploaderSupplier, projectId));
+            }
+            executor.shutdown();
+            while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                LOGGER.debug("Waiting for findings uploads to complete");
+            }
+        } catch (InterruptedException e) {
+            LOGGER.warn("Interrupted while waiting for findings uploads to complete");
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void processProjectFindings(final Supplier<? extends FindingUploader> uploaderSupplier, final long projectId) {
+        try (final var qm = new QueryManager()) {
+            final var uploader = (ProjectFindingUploader) uploaderSupplier.get();
+            uploader.setQueryManager(qm);
+
+            final Project project = qm.getObjectById(Project.class, projectId);
+            if (project == null || !uploader.isProjectConfigured(project)) {
+                return;
+            }
+
             LOGGER.debug("Initializing integration point: " + uploader.name() + " for project: " + project.getUuid());
             final List<Finding> findings = qm.getFindings(project);
-            final InputStream payload = uploader.process(project, findings);
-            LOGGER.debug("Uploading findings to " + uploader.name() + " for project: " + project.getUuid());
-            uploader.upload(project, payload);
+
+            final String findingsDigest = computeFindingsDigest(project, qm.getProjectProperties(project),
+                    uploader.getUploadConfiguration(), findings);
+            final String lastFindingsDigest = withJdbiHandle(handle -> handle.attach(FindingsUploadDao.class)
+                    .getFindingsDigest(projectId, uploader.name()));
+            if (findingsDigest.equals(lastFindingsDigest)) {
+                LOGGER.debug("Findings of project " + project.getUuid() + " did not change since their last upload to " + uploader.name() + "; Skipping");
+                return;
+            }
+
+            final boolean uploaded;
+            try (final InputStream payload = uploader.process(project, findings)) {
+                LOGGER.debug("Uploading findings to " + uploader.name() + " for project: " + project.getUuid());
+                uploaded = uploader.upload(project, payload);
+            }
+
+            if (uploaded && uploader.getErrorCount() == 0) {
+                useJdbiTransaction(handle -> handle.attach(FindingsUploadDao.class)
+                        .recordUpload(projectId, uploader.name(), findingsDigest));
+            }
+        } catch (Exception e) {
+            LOGGER.error("Failed to upload findings of project with ID " + projectId, e);
+        }
+    }
+
+    /**
+     * Compute a digest of everything that goes into the findings upload of a project.
+     * <p>
+     * Project properties are included, as they hold the integration-specific project configuration.
+     * If it changes (e.g. a different DefectDojo engagement is configured), findings must be uploaded again.
+     * The same goes for the global configuration of the integration, e.g. its URL and credentials.
+     */
+    static String computeFindingsDigest(final Project project, final List<ProjectProperty> properties,
+                                        final List<String> uploadConfiguration, final List<Finding> findings) {
+        final MessageDigest digest = DigestUtils.getSha256Digest();
+        for (final Object value : new Object[]{project.getName(), project.getVersion(),
+                project.getDescription(), project.getPurl(), project.getCpe()}) {
+            DigestUtils.updateDigest(digest, Objects.toString(value, ""));
+            digest.update((byte) 0);
+        }
+
+        properties.stream()
+                .sorted(Comparator.comparing(ProjectProperty::getGroupName).thenComparing(ProjectProperty::getPropertyName))
+                .forEach(property -> {
+                    DigestUtils.updateDigest(digest, property.getGroupName() + "." + property.getPropertyName()
+                            + "=" + Objects.toString(property.getPropertyValue(), ""));
+                    digest.update((byte) 0);
+                });
+
+        for (final String value : uploadConfiguration) {
+            DigestUtils.updateDigest(digest, Objects.toString(value, ""));
+            digest.update((byte) 0);
         }
+
+        findings.stream()
+                .sorted(Comparator.comparing(Finding::getMatrix))
+                .forEach(finding -> {
+                    DigestUtils.updateDigest(digest, new JSONObject(finding).toString());
+                    digest.update((byte) 0);
+                });
+
+        return Hex.encodeHexString(digest.digest());
     }
 }
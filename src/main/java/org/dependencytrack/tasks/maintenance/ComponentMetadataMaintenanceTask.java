@@ -18,9 +18,11 @@
  */
 package org.dependencytrack.tasks.maintenance;
 
+import alpine.Config;
 import alpine.common.logging.Logger;
 import alpine.event.framework.Event;
 import alpine.event.framework.Subscriber;
+import org.dependencytrack.common.ConfigKey;
 import org.dependencytrack.event.maintenance.ComponentMetadataMaintenanceEvent;
 import org.dependencytrack.persistence.jdbi.ComponentMetaDao;
 import org.jdbi.v3.core.Handle;
@@ -39,6 +41,20 @@ public class ComponentMetadataMaintenanceTask implements Subscriber {
 
     private static final Logger LOGGER = Logger.getLogger(ComponentMetadataMaintenanceTask.class);
 
+    private final int orphanDeletionBatchSize;
+    private final Duration orphanDeletionTimeBudget;
+
+    @SuppressWarnings("unused") // Called by EventService
+    public ComponentMetadataMaintenanceTask() {
+        this(Config.getInstance().getPropertyAsInt(ConfigKey.MAINTENANCE_ORPHAN_DELETION_BATCH_SIZE),
+                Duration.parse(Config.getInstance().getProperty(ConfigKey.MAINTENANCE_ORPHAN_DELETION_TIME_BUDGET)));
+    }
+
+    ComponentMetadataMaintenanceTask(final int orphanDeletionBatchSize, final Duration orphanDeletionTimeBudget) {
+        this.orphanDeletionBatchSize = orphanDeletionBatchSize;
+        this.orphanDeletionTimeBudget = orphanDeletionTimeBudget;
+    }
+
     @Override
     public void inform(final Event event) {
         if (!(event instanceof ComponentMetadataMaintenanceEvent)) {
@@ -65,19 +81,21 @@ public class ComponentMetadataMaintenanceTask implements Subscriber {
     }
 
     private record Statistics(
-            int deletedIntegrityMetadata,
+            OrphanCleanup.Result integrityMetadataOrphans,
             int deletedRepositoryMetadata) {
     }
 
     private Statistics informLocked(final Handle jdbiHandle) {
         assertLocked();
 
-        final var dao = jdbiHandle.attach(ComponentMetaDao.class);
+        final OrphanCleanup.Result integrityMetaResult =
+                new OrphanCleanup("INTEGRITY_META_COMPONENT", orphanDeletionBatchSize, orphanDeletionTimeBudget)
+                        .run(jdbiHandle, (handle, afterId, batchSize) -> handle.attach(ComponentMetaDao.class)
+                                .deleteOrphanIntegrityMetaComponentsBatch(afterId, batchSize));
 
-        final int numDeletedIntegrityMeta = dao.deleteOrphanIntegrityMetaComponents();
-        final int numDeletedRepoMeta = dao.deleteOrphanRepositoryMetaComponents();
+        final int numDeletedRepoMeta = jdbiHandle.attach(ComponentMetaDao.class).deleteOrphanRepositoryMetaComponents();
 
-        return new Statistics(numDeletedIntegrityMeta, numDeletedRepoMeta);
+        return new Statistics(integrityMetaResult, numDeletedRepoMeta);
     }
 
 }
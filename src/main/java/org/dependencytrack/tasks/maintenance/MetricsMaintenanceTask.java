@@ -27,19 +27,34 @@ import org.dependencytrack.persistence.jdbi.MetricsDao;
 import org.jdbi.v3.core.Handle;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
 
 import static net.javacrumbs.shedlock.core.LockAssert.assertLocked;
 import static org.dependencytrack.model.ConfigPropertyConstants.MAINTENANCE_METRICS_RETENTION_DAYS;
 import static org.dependencytrack.persistence.jdbi.JdbiFactory.openJdbiHandle;
+import static org.dependencytrack.persistence.jdbi.MetricsDao.PARTITIONED_TABLE_NAMES;
+import static org.dependencytrack.persistence.jdbi.MetricsDao.PORTFOLIO_METRICS_TABLE_NAME;
 import static org.dependencytrack.util.LockProvider.executeWithLock;
 import static org.dependencytrack.util.TaskUtil.getLockConfigForTask;
 
 /**
+ * Enforces retention of metrics tables, and manages their monthly partitions.
+ * <p>
+ * Partitions are created ahead of time for the current month and the next
+ * {@value #NUM_FUTURE_PARTITIONS} months. Partitions whose entire range lies before the retention
+ * cut-off are dropped, which is significantly cheaper than deleting their rows one-by-one.
+ * Rows in the remaining partition that straddles the cut-off, or in the default partition,
+ * are deleted individually.
+ *
  * @since 5.6.0
  */
 public class MetricsMaintenanceTask implements Subscriber {
 
     private static final Logger LOGGER = Logger.getLogger(MetricsMaintenanceTask.class);
+    private static final int NUM_FUTURE_PARTITIONS = 2;
 
     @Override
     public void inform(final Event event) {
@@ -68,6 +83,8 @@ public class MetricsMaintenanceTask implements Subscriber {
 
     private record Statistics(
             Duration retentionDuration,
+            int createdPartitions,
+            int droppedPartitions,
             int deletedComponentMetrics,
             int deletedProjectMetrics,
             int deletedPortfolioMetrics) {
@@ -81,12 +98,69 @@ public class MetricsMaintenanceTask implements Subscriber {
 
         final Integer retentionDays = configPropertyDao.getValue(MAINTENANCE_METRICS_RETENTION_DAYS, Integer.class);
         final Duration retentionDuration = Duration.ofDays(retentionDays);
+        final Instant retentionCutOff = Instant.now().minus(retentionDuration);
+
+        int numPartitionsCreated = 0;
+        int numPartitionsDropped = 0;
+        for (final String tableName : PARTITIONED_TABLE_NAMES) {
+            numPartitionsCreated += createFuturePartitions(jdbiHandle, metricsDao, tableName);
+            numPartitionsDropped += dropExpiredPartitions(jdbiHandle, metricsDao, tableName, retentionCutOff);
+        }
 
         final int numDeletedComponent = metricsDao.deleteComponentMetricsForRetentionDuration(retentionDuration);
         final int numDeletedProject = metricsDao.deleteProjectMetricsForRetentionDuration(retentionDuration);
         final int numDeletedPortfolio = metricsDao.deletePortfolioMetricsForRetentionDuration(retentionDuration);
 
-        return new Statistics(retentionDuration, numDeletedComponent, numDeletedProject, numDeletedPortfolio);
+        return new Statistics(
+                retentionDuration,
+                numPartitionsCreated,
+                numPartitionsDropped,
+                numDeletedComponent,
+                numDeletedProject,
+                numDeletedPortfolio);
+    }
+
+    private int createFuturePartitions(final Handle jdbiHandle, final MetricsDao metricsDao, final String tableName) {
+        final List<YearMonth> existingMonths = metricsDao.getPartitionMonths(tableName);
+        final YearMonth currentMonth = YearMonth.now(ZoneOffset.UTC);
+
+        int numPartitionsCreated = 0;
+        for (int i = 0; i <= NUM_FUTURE_PARTITIONS; i++) {
+            final YearMonth month = currentMonth.plusMonths(i);
+            if (existingMonths.contains(month)) {
+                continue;
+            }
+
+            LOGGER.debug("Creating partition of %s for %s".formatted(tableName, month));
+            jdbiHandle.useTransaction(ignored -> metricsDao.createPartition(tableName, month));
+            numPartitionsCreated++;
+        }
+
+        return numPartitionsCreated;
+    }
+
+    private int dropExpiredPartitions(
+            final Handle jdbiHandle,
+            final MetricsDao metricsDao,
+            final String tableName,
+            final Instant retentionCutOff) {
+        // Metrics of inactive projects are exempt from retention.
+        final boolean retainInactiveProjects = !PORTFOLIO_METRICS_TABLE_NAME.equals(tableName);
+
+        int numPartitionsDropped = 0;
+        for (final YearMonth month : metricsDao.getPartitionMonths(tableName)) {
+            final Instant partitionEnd = month.plusMonths(1).atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+            if (partitionEnd.isAfter(retentionCutOff)) {
+                // Partition months are sorted, so all remaining partitions are still (at least partially) retained.
+                break;
+            }
+
+            LOGGER.debug("Dropping partition of %s for %s".formatted(tableName, month));
+            jdbiHandle.useTransaction(ignored -> metricsDao.dropPartition(tableName, month, retainInactiveProjects));
+            numPartitionsDropped++;
+        }
+
+        return numPartitionsDropped;
     }
 
 }
@@ -0,0 +1,137 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.tasks.maintenance;
+
+import alpine.common.logging.Logger;
+import alpine.common.metrics.Metrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.dependencytrack.persistence.jdbi.KeysetDeletionBatch;
+import org.dependencytrack.persistence.jdbi.MaintenanceCursorDao;
+import org.jdbi.v3.core.Handle;
+
+import java.time.Duration;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Deletes orphaned rows of a table in batches of bounded size, each in its own transaction,
+ * until either no rows are left to consider, or the time budget is exhausted.
+ * <p>
+ * Batches are determined by keyset pagination over IDs. The position is recorded in the database
+ * along with every batch, such that when a run exhausts its time budget, the next run resumes where
+ * it left off, regardless of the instance it is executed on. Tables too large to be covered in a
+ * single run are thus still covered eventually.
+ * <p>
+ * Progress is reported via the {@value #DELETED_METER_NAME} and {@value #BATCHES_METER_NAME}
+ * counters, tagged by {@code table}.
+ *
+ * @since 5.6.0
+ */
+final class OrphanCleanup {
+
+    static final String DELETED_METER_NAME = "dtrack_maintenance_orphans_deleted";
+    static final String BATCHES_METER_NAME = "dtrack_maintenance_orphan_batches";
+
+    private static final Logger LOGGER = Logger.getLogger(OrphanCleanup.class);
+
+    @FunctionalInterface
+    interface BatchDeleteFunction {
+
+        KeysetDeletionBatch apply(Handle jdbiHandle, long afterId, int batchSize);
+
+    }
+
+    record Result(int deleted, int batches, boolean completed) {
+    }
+
+    private final String tableName;
+    private final String cursorName;
+    private final int batchSize;
+    private final Duration timeBudget;
+    private final Counter deletedCounter;
+    private final Counter batchesCounter;
+
+    OrphanCleanup(final String tableName, final int batchSize, final Duration timeBudget) {
+        this(Metrics.getRegistry(), tableName, batchSize, timeBudget);
+    }
+
+    OrphanCleanup(
+            final MeterRegistry meterRegistry,
+            final String tableName,
+            final int batchSize,
+            final Duration timeBudget) {
+        this.tableName = requireNonNull(tableName, "tableName must not be null");
+        this.cursorName = "orphan-cleanup:" + tableName;
+        this.batchSize = batchSize;
+        this.timeBudget = requireNonNull(timeBudget, "timeBudget must not be null");
+        this.deletedCounter = Counter.builder(DELETED_METER_NAME)
+                .description("Number of orphaned rows deleted during maintenance")
+                .tag("table", tableName)
+                .register(meterRegistry);
+        this.batchesCounter = Counter.builder(BATCHES_METER_NAME)
+                .description("Number of batches processed while deleting orphaned rows during maintenance")
+                .tag("table", tableName)
+                .register(meterRegistry);
+    }
+
+    Result run(final Handle jdbiHandle, final BatchDeleteFunction deleteFunction) {
+        final long deadlineNs = System.nanoTime() + timeBudget.toNanos();
+
+        final Long resumeAfterId = jdbiHandle.attach(MaintenanceCursorDao.class).getAfterId(cursorName);
+        long afterId = resumeAfterId != null ? resumeAfterId : 0;
+        int numDeleted = 0;
+        int numBatches = 0;
+        while (System.nanoTime() - deadlineNs < 0) {
+            final long batchAfterId = afterId;
+            final KeysetDeletionBatch batch = jdbiHandle.inTransaction(handle -> {
+                final KeysetDeletionBatch deletionBatch = deleteFunction.apply(handle, batchAfterId, batchSize);
+                final var cursorDao = handle.attach(MaintenanceCursorDao.class);
+                if (deletionBatch.lastId() != null) {
+                    cursorDao.upsert(cursorName, deletionBatch.lastId());
+                } else {
+                    cursorDao.delete(cursorName);
+                }
+                return deletionBatch;
+            });
+            numBatches++;
+            batchesCounter.increment();
+
+            if (batch.numDeleted() > 0) {
+                numDeleted += batch.numDeleted();
+                deletedCounter.increment(batch.numDeleted());
+            }
+
+            if (batch.lastId() == null) {
+                return new Result(numDeleted, numBatches, true);
+            }
+
+            afterId = batch.lastId();
+            LOGGER.debug("Deleted %d orphans from %s in %d batches so far; Last considered ID is %d"
+                    .formatted(numDeleted, tableName, numBatches, afterId));
+        }
+
+        LOGGER.warn("""
+                Time budget of %s exhausted after deleting %d orphans from %s in %d batches; \
+                Remaining rows will be considered during the next run""".formatted(
+                timeBudget, numDeleted, tableName, numBatches));
+        return new Result(numDeleted, numBatches, false);
+    }
+
+}
@@ -21,6 +21,7 @@ package org.dependencytrack.tasks.maintenance;
 import alpine.common.logging.Logger;
 import alpine.event.framework.Event;
 import alpine.event.framework.Subscriber;
+import org.dependencytrack.event.ProjectDeletionEvent;
 import org.dependencytrack.event.maintenance.ProjectMaintenanceEvent;
 import org.dependencytrack.persistence.jdbi.ConfigPropertyDao;
 import org.dependencytrack.persistence.jdbi.ProjectDao;
@@ -28,6 +29,7 @@ import org.dependencytrack.persistence.jdbi.ProjectDao;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static net.javacrumbs.shedlock.core.LockAssert.assertLocked;
@@ -42,6 +44,7 @@ import static org.dependencytrack.util.TaskUtil.getLockConfigForTask;
 public class ProjectMaintenanceTask implements Subscriber {
 
     private static final Logger LOGGER = Logger.getLogger(ProjectMaintenanceTask.class);
+    private static final Duration STALLED_DELETION_THRESHOLD = Duration.ofHours(1);
 
     @Override
     public void inform(final Event event) {
@@ -68,7 +71,7 @@ public class ProjectMaintenanceTask implements Subscriber {
         }
     }
 
-    private record Statistics(int deletedInactiveProjects) {
+    private record Statistics(int deletedInactiveProjects, int resumedProjectDeletions) {
     }
 
     private Statistics informLocked() {
@@ -120,6 +123,20 @@ public class ProjectMaintenanceTask implements Subscriber {
         } else {
             LOGGER.info("Not deleting inactive projects because it is disabled");
         }
-        return new Statistics(numDeletedTotal.get());
+
+        // Projects are marked for deletion synchronously, but deleted asynchronously.
+        // If an instance was restarted before it could complete a deletion, it would never
+        // be retried, leaving behind projects that are invisible to users.
+        // Deletions refresh their heartbeat with every batch, so only those that
+        // did not make any progress for a while are considered to be stalled.
+        final Instant stalledDeletionCutOff = Instant.now().minus(STALLED_DELETION_THRESHOLD);
+        final List<UUID> stalledDeletionProjectUuids = inJdbiTransaction(handle ->
+                handle.attach(ProjectDao.class).claimStalledProjectDeletions(stalledDeletionCutOff));
+        for (final UUID projectUuid : stalledDeletionProjectUuids) {
+            LOGGER.info("Resuming stalled deletion of project %s".formatted(projectUuid));
+            Event.dispatch(new ProjectDeletionEvent(projectUuid));
+        }
+
+        return new Statistics(numDeletedTotal.get(), stalledDeletionProjectUuids.size());
     }
 }
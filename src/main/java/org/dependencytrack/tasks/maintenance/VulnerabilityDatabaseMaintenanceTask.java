@@ -18,9 +18,11 @@
  */
 package org.dependencytrack.tasks.maintenance;
 
+import alpine.Config;
 import alpine.common.logging.Logger;
 import alpine.event.framework.Event;
 import alpine.event.framework.Subscriber;
+import org.dependencytrack.common.ConfigKey;
 import org.dependencytrack.event.maintenance.VulnerabilityDatabaseMaintenanceEvent;
 import org.dependencytrack.persistence.jdbi.VulnerabilityDao;
 import org.jdbi.v3.core.Handle;
@@ -39,6 +41,20 @@ public class VulnerabilityDatabaseMaintenanceTask implements Subscriber {
 
     private static final Logger LOGGER = Logger.getLogger(VulnerabilityDatabaseMaintenanceTask.class);
 
+    private final int orphanDeletionBatchSize;
+    private final Duration orphanDeletionTimeBudget;
+
+    @SuppressWarnings("unused") // Called by EventService
+    public VulnerabilityDatabaseMaintenanceTask() {
+        this(Config.getInstance().getPropertyAsInt(ConfigKey.MAINTENANCE_ORPHAN_DELETION_BATCH_SIZE),
+                Duration.parse(Config.getInstance().getProperty(ConfigKey.MAINTENANCE_ORPHAN_DELETION_TIME_BUDGET)));
+    }
+
+    VulnerabilityDatabaseMaintenanceTask(final int orphanDeletionBatchSize, final Duration orphanDeletionTimeBudget) {
+        this.orphanDeletionBatchSize = orphanDeletionBatchSize;
+        this.orphanDeletionTimeBudget = orphanDeletionTimeBudget;
+    }
+
     @Override
     public void inform(final Event event) {
         if (!(event instanceof VulnerabilityDatabaseMaintenanceEvent)) {
@@ -64,16 +80,18 @@ public class VulnerabilityDatabaseMaintenanceTask implements Subscriber {
         }
     }
 
-    private record Statistics(int deletedVulnerableSoftwareOrphans) {
+    private record Statistics(OrphanCleanup.Result vulnerableSoftwareOrphans) {
     }
 
     private Statistics informLocked(final Handle jdbiHandle) {
         assertLocked();
 
-        final var dao = jdbiHandle.attach(VulnerabilityDao.class);
-        final int numDeletedVs = dao.deleteOrphanVulnerableSoftware();
+        final OrphanCleanup.Result vsResult =
+                new OrphanCleanup("VULNERABLESOFTWARE", orphanDeletionBatchSize, orphanDeletionTimeBudget)
+                        .run(jdbiHandle, (handle, afterId, batchSize) -> handle.attach(VulnerabilityDao.class)
+                                .deleteOrphanVulnerableSoftwareBatch(afterId, batchSize));
 
-        return new Statistics(numDeletedVs);
+        return new Statistics(vsResult);
     }
 
 }
@@ -44,6 +44,7 @@ import static org.dependencytrack.util.TaskUtil.getLockConfigForTask;
 public class WorkflowMaintenanceTask implements Subscriber {
 
     private static final Logger LOGGER = Logger.getLogger(WorkflowMaintenanceTask.class);
+    private static final int RETENTION_BATCH_SIZE = 1000;
 
     @Override
     public void inform(final Event event) {
@@ -76,6 +77,7 @@ public class WorkflowMaintenanceTask implements Subscriber {
             int stepsTimedOut,
             int stepsFailed,
             int stepsCancelled,
+            int workflowsTerminated,
             int workflowsDeleted) {
     }
 
@@ -118,7 +120,15 @@ public class WorkflowMaintenanceTask implements Subscriber {
             }
         });
 
-        final int numWorkflowsDeleted = workflowDao.deleteAllForRetention(retentionDuration);
+        final int numWorkflowsTerminated = jdbiHandle.inTransaction(ignored -> workflowDao.markAllTerminal());
+
+        int numWorkflowsDeleted = 0;
+        int numDeletedLastBatch;
+        do {
+            numDeletedLastBatch = jdbiHandle.inTransaction(
+                    ignored -> workflowDao.deleteExpiredBatch(retentionDuration, RETENTION_BATCH_SIZE));
+            numWorkflowsDeleted += numDeletedLastBatch;
+        } while (numDeletedLastBatch > 0);
 
         return new Statistics(
                 retentionDuration,
@@ -126,6 +136,7 @@ public class WorkflowMaintenanceTask implements Subscriber {
                 numStepsTimedOut,
                 failedStepsResult.numStepsFailed,
                 failedStepsResult.numStepsCancelled,
+                numWorkflowsTerminated,
                 numWorkflowsDeleted);
     }
 
@@ -23,21 +23,11 @@ import alpine.event.framework.Event;
 import alpine.event.framework.Subscriber;
 import net.javacrumbs.shedlock.core.LockingTaskExecutor;
 import org.dependencytrack.event.VulnerabilityMetricsUpdateEvent;
-import org.dependencytrack.model.VulnerabilityMetrics;
-import org.dependencytrack.persistence.QueryManager;
+import org.dependencytrack.persistence.jdbi.MetricsDao;
 
-import javax.jdo.PersistenceManager;
-import javax.jdo.Query;
 import java.time.Duration;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Date;
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
-import static org.dependencytrack.tasks.metrics.VulnerabilityMetricsUpdateTask.VulnerabilityDateCounters.queryForMetrics;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiTransaction;
 import static org.dependencytrack.util.LockProvider.executeWithLock;
 import static org.dependencytrack.util.TaskUtil.getLockConfigForTask;
 
@@ -52,84 +42,29 @@ public class VulnerabilityMetricsUpdateTask implements Subscriber {
 
     @Override
     public void inform(final Event e) {
-        if (e instanceof VulnerabilityMetricsUpdateEvent) {
+        if (e instanceof final VulnerabilityMetricsUpdateEvent event) {
             try {
                 executeWithLock(
                         getLockConfigForTask(VulnerabilityMetricsUpdateTask.class),
-                        (LockingTaskExecutor.Task) this::updateMetrics);
+                        (LockingTaskExecutor.Task) () -> updateMetrics(event.isIncremental()));
             } catch (Throwable ex) {
                 LOGGER.error("Error in acquiring lock and executing vulnerability metrics update task", ex);
             }
         }
     }
 
-    private void updateMetrics() throws Exception {
-        LOGGER.info("Executing metrics update on vulnerability database");
+    private void updateMetrics(final boolean incremental) {
+        LOGGER.info("Executing %s metrics update on vulnerability database"
+                .formatted(incremental ? "incremental" : "full"));
         final long startTimeNs = System.nanoTime();
-        final var measuredAt = new Date();
 
-        try (final var qm = new QueryManager()) {
-            final PersistenceManager pm = qm.getPersistenceManager();
-            /**
-             *
-             * The created field has priotiy over the published field, which is used as a fallback
-             * However, the created field is always empty (in my instances)
-             * But we leave this mechanism and field juggling in place for backwards compatibility,
-             * and for (future) analyzers/sources that might provide this field.
-             *
-             * BTW the queries to get these vulnerability counts are very fast,
-             * so strictly speaking there is no reason to create this extra table with metrics
-             *
-             */
+        // Counting and reconciliation happen entirely in the database.
+        // In incremental mode, only months affected by vulnerabilities that were created,
+        // modified, or deleted since the last update are recounted.
+        useJdbiTransaction(handle -> handle.attach(MetricsDao.class).updateVulnerabilityMetrics(incremental));
 
-            // Get metrics by published date but only if created field is null
-            Collection<YearMonthMetric> published = queryForMetrics(pm, "published", "created");
-
-            // Get metrics by created date regardless of value of published field
-            Collection<YearMonthMetric> created = queryForMetrics(pm, "created", null);
-
-            // Merge flat lists
-            published.addAll(created);
-
-            // Collect into nested map so we can sum the counts
-            Map<Integer, Map<Integer, Long>> metrics = published.stream()
-                    .filter(ymm -> ymm.year != null)
-                    .collect(Collectors.groupingBy(ymm -> ymm.year,
-                            Collectors.groupingBy(ymm -> ymm.month, Collectors.summingLong(ymm -> ymm.count))));
-
-            // Flatten again, but now into VulnerabilityMetrics that can be persisted
-            Stream<VulnerabilityMetrics> monthlyStream = metrics.entrySet().stream()
-                    .flatMap(e -> e.getValue().entrySet().stream().map(
-                            v -> new VulnerabilityMetrics(e.getKey(), v.getKey(), v.getValue().intValue(), measuredAt)));
-
-            // Flatten another time, for the yearly counts
-            Stream<VulnerabilityMetrics> yearlyStream = metrics.entrySet().stream()
-                    .map(e -> new VulnerabilityMetrics(e.getKey(), null, e.getValue().values().stream().mapToInt(d -> d.intValue()).sum(), measuredAt));
-
-            qm.synchronizeVulnerabilityMetrics(Stream.concat(monthlyStream, yearlyStream).toList());
-
-            LOGGER.info("Completed metrics update on vulnerability database in %s"
-                    .formatted(Duration.ofNanos(System.nanoTime() - startTimeNs)));
-        }
+        LOGGER.info("Completed metrics update on vulnerability database in %s"
+                .formatted(Duration.ofNanos(System.nanoTime() - startTimeNs)));
     }
 
-    static final class VulnerabilityDateCounters {
-
-        static Collection<YearMonthMetric> queryForMetrics(PersistenceManager pm, String dateField, String expectedNullField) throws Exception {
-            // You cannot seem to parametrize fieldnames in JDOQL, so we use String formatting
-            // You cannot seem to use aliases with GROUP BY in JDOQL
-            // You cannot seem to use IF ELSE with GROUP BY in JDOQL
-            // So we end up doing two queries instead of one with an IF ELSE
-            String queryTemplate =
-                    "SELECT %s.getYear() as y, %s.getMonth()+1 as m, count(this) as count " +
-                            "FROM org.dependencytrack.model.Vulnerability " +
-                            "WHERE %s != null && %s == null " +
-                            "GROUP BY %s.getYear(), %s.getMonth() + 1";
-            try (Query query = pm.newQuery("javax.jdo.query.JDOQL", String.format(queryTemplate, dateField, dateField, dateField, expectedNullField, dateField, dateField))) {
-                List<YearMonthMetric> flatMetrics = query.executeResultList(YearMonthMetric.class);
-                // the flatMetrics list is bound to the Query, so we need to copy it to a new array to survive query closure
-                return new ArrayList<>(flatMetrics);
-            }
-        }
-    }
 }
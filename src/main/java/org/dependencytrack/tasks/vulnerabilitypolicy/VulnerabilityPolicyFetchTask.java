@@ -25,6 +25,7 @@ import alpine.event.framework.Subscriber;
 import net.javacrumbs.shedlock.core.LockingTaskExecutor.Task;
 import org.dependencytrack.common.ConfigKey;
 import org.dependencytrack.event.VulnerabilityPolicyFetchEvent;
+import org.dependencytrack.event.VulnerabilityPolicyReapplicationEvent;
 import org.dependencytrack.model.VulnerabilityPolicyBundle;
 import org.dependencytrack.model.WorkflowState;
 import org.dependencytrack.persistence.QueryManager;
@@ -37,6 +38,7 @@ import javax.naming.OperationNotSupportedException;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Date;
+import java.util.Set;
 
 import static org.dependencytrack.event.VulnerabilityPolicyFetchEvent.CHAIN_IDENTIFIER;
 import static org.dependencytrack.model.WorkflowStatus.PENDING;
@@ -101,8 +103,9 @@ public class VulnerabilityPolicyFetchTask implements Subscriber {
             LOGGER.info("It has been verified that file download would be needed from bundle source");
             final VulnerabilityPolicyBundleFile bundleFile = handler.download();
             LOGGER.info("Parsing downloaded policies for saving/ updating");
+            final Set<String> changedPolicyNames;
             try {
-                VulnerabilityPolicyUtil.parseAndSavePolicies(bundleFile);
+                changedPolicyNames = VulnerabilityPolicyUtil.parseAndSavePolicies(bundleFile);
             } finally {
                 final Path bundleFilePath = bundleFile.filePath();
                 final boolean bundleFileDeleted = bundleFilePath.toFile().delete();
@@ -129,6 +132,12 @@ public class VulnerabilityPolicyFetchTask implements Subscriber {
             });
 
             qm.updateWorkflowStateToComplete(workflowState);
+
+            if (!changedPolicyNames.isEmpty()) {
+                // Apply changed policies to existing findings right away,
+                // rather than waiting for them to be analyzed again.
+                Event.dispatch(new VulnerabilityPolicyReapplicationEvent(changedPolicyNames));
+            }
         } catch (IOException | RuntimeException e) {
             qm.updateWorkflowStateToFailed(workflowState, e.getMessage());
             throw e;
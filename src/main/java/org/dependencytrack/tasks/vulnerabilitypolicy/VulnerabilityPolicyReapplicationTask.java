@@ -0,0 +1,201 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.tasks.vulnerabilitypolicy;
+
+import alpine.Config;
+import alpine.common.logging.Logger;
+import alpine.event.framework.Event;
+import alpine.event.framework.Subscriber;
+import org.dependencytrack.event.VulnerabilityPolicyReapplicationEvent;
+import org.dependencytrack.event.kafka.processor.VulnerabilityScanResultProcessor;
+import org.dependencytrack.model.Vulnerability;
+import org.dependencytrack.persistence.jdbi.VulnerabilityPolicyDao;
+import org.dependencytrack.persistence.jdbi.VulnerabilityPolicyDao.ReapplicationCandidate;
+import org.dependencytrack.policy.vulnerability.VulnerabilityPolicy;
+import org.dependencytrack.policy.vulnerability.VulnerabilityPolicyEvaluator;
+import org.dependencytrack.policy.vulnerability.VulnerabilityPolicyScope;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+
+import static org.dependencytrack.common.ConfigKey.VULNERABILITY_POLICY_ANALYSIS_ENABLED;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+
+/**
+ * Applies created or modified {@link VulnerabilityPolicy}s to existing findings,
+ * such that they take effect without having to wait for the next vulnerability analysis.
+ * <p>
+ * Only findings the policies could possibly affect are re-evaluated, namely:
+ * <ul>
+ *     <li>Findings whose analysis is currently assigned to any of the policies, and</li>
+ *     <li>Findings within the {@link VulnerabilityPolicyScope} of the policies</li>
+ * </ul>
+ * Policies without a bounded scope cause all findings of the portfolio to be re-evaluated.
+ *
+ * @since 5.6.0
+ */
+public class VulnerabilityPolicyReapplicationTask implements Subscriber {
+
+    private static final Logger LOGGER = Logger.getLogger(VulnerabilityPolicyReapplicationTask.class);
+    private static final int BATCH_SIZE = 1000;
+
+    public record Statistics(int policies, int findingsEvaluated, int componentsEvaluated, boolean portfolioWide) {
+    }
+
+    private final VulnerabilityScanResultProcessor processor;
+    private final int batchSize;
+
+    @SuppressWarnings("unused") // Called by EventService
+    public VulnerabilityPolicyReapplicationTask() {
+        this(Config.getInstance().getPropertyAsBoolean(VULNERABILITY_POLICY_ANALYSIS_ENABLED)
+                ? ServiceLoader.load(VulnerabilityPolicyEvaluator.class).findFirst().orElseThrow()
+                : null, BATCH_SIZE);
+    }
+
+    VulnerabilityPolicyReapplicationTask(final VulnerabilityPolicyEvaluator vulnPolicyEvaluator, final int batchSize) {
+        this.processor = vulnPolicyEvaluator != null
+                ? new VulnerabilityScanResultProcessor(vulnPolicyEvaluator)
+                : null;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void inform(final Event e) {
+        if (!(e instanceof final VulnerabilityPolicyReapplicationEvent event)) {
+            return;
+        }
+        if (processor == null) {
+            LOGGER.debug("Vulnerability policy analysis is not enabled");
+            return;
+        }
+
+        try {
+            final long startTimeNs = System.nanoTime();
+            final Statistics statistics = reapply(event.getPolicyNames());
+            LOGGER.info("Re-applied vulnerability policies in %s: %s".formatted(
+                    Duration.ofNanos(System.nanoTime() - startTimeNs), statistics));
+        } catch (RuntimeException ex) {
+            LOGGER.error("Failed to re-apply vulnerability policies %s".formatted(event.getPolicyNames()), ex);
+        }
+    }
+
+    Statistics reapply(final Set<String> policyNames) {
+        if (policyNames.isEmpty()) {
+            return new Statistics(0, 0, 0, false);
+        }
+
+        // Disabled policies, or policies that are not valid at this time, can not match.
+        // Findings they are assigned to are covered by the assignment pass below.
+        final List<VulnerabilityPolicy> effectivePolicies = withJdbiHandle(handle -> handle
+                .attach(VulnerabilityPolicyDao.class).getAllEnabledAndValid()).stream()
+                .filter(policy -> policyNames.contains(policy.getName()))
+                .toList();
+
+        // Findings currently assigned to any of the policies may no longer match them.
+        PassResult result = evaluateAll((lastComponentId, lastVulnId) -> withJdbiHandle(handle -> handle
+                .attach(VulnerabilityPolicyDao.class)
+                .getReapplicationCandidatesByAssignment(policyNames, lastComponentId, lastVulnId, batchSize)));
+
+        boolean portfolioWide = false;
+        if (!effectivePolicies.isEmpty()) {
+            final VulnerabilityPolicyScope scope = VulnerabilityPolicyScope.merge(
+                    effectivePolicies.stream().map(VulnerabilityPolicyScope::of).toList());
+            portfolioWide = scope.vulnIds() == null && !scope.isProjectBounded();
+            if (portfolioWide) {
+                LOGGER.warn("""
+                        The scope of at least one of the policies %s could not be narrowed down; \
+                        Re-evaluating all findings of the portfolio""".formatted(policyNames));
+            }
+
+            result = result.plus(evaluateAll((lastComponentId, lastVulnId) -> withJdbiHandle(handle -> handle
+                    .attach(VulnerabilityPolicyDao.class)
+                    .getReapplicationCandidatesByScope(scope.vulnIds(), scope.projectNames(),
+                            scope.projectUuids(), lastComponentId, lastVulnId, batchSize))));
+        }
+
+        return new Statistics(policyNames.size(), result.findings(), result.components(), portfolioWide);
+    }
+
+    private PassResult evaluateAll(final PageFunction pageFunction) {
+        int numFindings = 0;
+        int numComponents = 0;
+        long lastComponentId = 0;
+        long lastVulnId = 0;
+        List<ReapplicationCandidate> candidates;
+        do {
+            candidates = pageFunction.apply(lastComponentId, lastVulnId);
+            if (candidates.isEmpty()) {
+                break;
+            }
+
+            // Candidates are ordered by component, so all findings of a component
+            // in the current page can be evaluated at once.
+            final var vulnsByComponent = new LinkedHashMap<VulnerabilityScanResultProcessor.Component, List<Vulnerability>>();
+            for (final ReapplicationCandidate candidate : candidates) {
+                final var component = new VulnerabilityScanResultProcessor.Component(
+                        candidate.componentId(), candidate.componentUuid(),
+                        candidate.projectId(), candidate.projectUuid(), false);
+
+                final var vuln = new Vulnerability();
+                vuln.setId(candidate.vulnId());
+                vuln.setUuid(candidate.vulnUuid());
+                vuln.setSeverity(candidate.vulnSeverity());
+
+                vulnsByComponent.computeIfAbsent(component, ignored -> new ArrayList<>()).add(vuln);
+            }
+
+            for (final Map.Entry<VulnerabilityScanResultProcessor.Component, List<Vulnerability>> entry : vulnsByComponent.entrySet()) {
+                processor.reapplyPolicies(entry.getKey(), entry.getValue());
+            }
+
+            numFindings += candidates.size();
+            numComponents += vulnsByComponent.size();
+
+            final ReapplicationCandidate lastCandidate = candidates.getLast();
+            lastComponentId = lastCandidate.componentId();
+            lastVulnId = lastCandidate.vulnId();
+        } while (candidates.size() == batchSize && !Thread.currentThread().isInterrupted());
+
+        return new PassResult(numFindings, numComponents);
+    }
+
+    private record PassResult(int findings, int components) {
+
+        private PassResult plus(final PassResult other) {
+            return new PassResult(findings + other.findings(), components + other.components());
+        }
+
+    }
+
+    @FunctionalInterface
+    private interface PageFunction {
+
+        List<ReapplicationCandidate> apply(long lastComponentId, long lastVulnId);
+
+    }
+
+}
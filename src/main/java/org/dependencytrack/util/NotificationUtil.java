@@ -43,6 +43,7 @@ import org.dependencytrack.model.Vulnerability;
 import org.dependencytrack.model.VulnerabilityAnalysisLevel;
 import org.dependencytrack.notification.NotificationConstants;
 import org.dependencytrack.notification.NotificationGroup;
+import org.dependencytrack.notification.NotificationRuleIndex;
 import org.dependencytrack.notification.NotificationScope;
 import org.dependencytrack.notification.publisher.DefaultNotificationPublishers;
 import org.dependencytrack.notification.vo.AnalysisDecisionChange;
@@ -83,7 +84,8 @@ public final class NotificationUtil {
 
     public static void analyzeNotificationCriteria(final QueryManager qm, Analysis analysis,
                                                    final boolean analysisStateChange, final boolean suppressionChange) {
-        if (analysisStateChange || suppressionChange) {
+        if ((analysisStateChange || suppressionChange)
+                && isSubscribed(NotificationGroup.PROJECT_AUDIT_CHANGE, analysis.getComponent().getProject())) {
             var notification = generateAnalysisNotification(qm, analysis, analysisStateChange, suppressionChange);
             new KafkaEventDispatcher().dispatchNotification(notification);
         }
@@ -143,7 +145,8 @@ public final class NotificationUtil {
                                                    final boolean analysisStateChange, final boolean suppressionChange) {
         // TODO: Convert data loading to raw SQL to avoid loading unneeded data and excessive queries.
         //   See #analyzeNotificationCriteria(QueryManager, PolicyViolation) for an example.
-        if (analysisStateChange || suppressionChange) {
+        if ((analysisStateChange || suppressionChange)
+                && isSubscribed(NotificationGroup.PROJECT_AUDIT_CHANGE, violationAnalysis.getComponent().getProject())) {
             final NotificationGroup notificationGroup;
             notificationGroup = NotificationGroup.PROJECT_AUDIT_CHANGE;
             String title = null;
@@ -202,6 +205,10 @@ public final class NotificationUtil {
     }
 
     public static void analyzeNotificationCriteria(final QueryManager qm, final Long violationId) {
+        if (!isSubscribed(NotificationGroup.POLICY_VIOLATION, null)) {
+            return;
+        }
+
         final Query<?> query = qm.getPersistenceManager().newQuery(Query.SQL, """
                 SELECT
                   "PV"."UUID"          AS "violationUuid",
@@ -326,6 +333,15 @@ public final class NotificationUtil {
                 .subject(new PolicyViolationIdentified(violation, component, project)));
     }
 
+    /**
+     * Determine whether any notification rule would route a {@link NotificationScope#PORTFOLIO}
+     * notification of a given group, such that constructing its subject can be skipped if not.
+     */
+    private static boolean isSubscribed(final NotificationGroup group, final Project project) {
+        return NotificationRuleIndex.getInstance().isSubscribed(NotificationScope.PORTFOLIO, group,
+                NotificationLevel.INFORMATIONAL, project != null ? project.getUuid() : null);
+    }
+
     public static void loadDefaultNotificationPublishers(QueryManager qm) throws IOException {
         for (final DefaultNotificationPublishers publisher : DefaultNotificationPublishers.values()) {
             File templateFile = new File(URLDecoder.decode(NotificationUtil.class.getResource(publisher.getPublisherTemplateFile()).getFile(), UTF_8.name()));
@@ -44,6 +44,7 @@ import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Enumeration;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.zip.ZipEntry;
@@ -108,7 +109,14 @@ public class VulnerabilityPolicyUtil {
     }
 
 
-    public static void parseAndSavePolicies(final VulnerabilityPolicyBundleFile bundleFile) throws IOException {
+    /**
+     * Parse policies from a given bundle, and synchronize them with the datastore.
+     *
+     * @param bundleFile The {@link VulnerabilityPolicyBundleFile} to parse policies from
+     * @return Names of policies that were created or modified
+     * @throws IOException When reading the bundle failed
+     */
+    public static Set<String> parseAndSavePolicies(final VulnerabilityPolicyBundleFile bundleFile) throws IOException {
         List<VulnerabilityPolicy> createVulnerabilityPolicyList = new ArrayList<>();
         List<VulnerabilityPolicy> updateVulnerabilityPolicyList = new ArrayList<>();
         try (final var zipFile = new ZipFile(bundleFile.filePath().toFile())) {
@@ -140,7 +148,7 @@ public class VulnerabilityPolicyUtil {
                         Policy bundles can only be applied when all policy definitions within them are valid.\
                         """.formatted(numParsingFailures, numTotalPolicies));
             }
-            saveParsedVulnerabilities(createVulnerabilityPolicyList, updateVulnerabilityPolicyList, policyNames);
+            return saveParsedVulnerabilities(createVulnerabilityPolicyList, updateVulnerabilityPolicyList, policyNames);
         }
     }
 
@@ -170,7 +178,7 @@ public class VulnerabilityPolicyUtil {
         }
     }
 
-    public static void saveParsedVulnerabilities(List<VulnerabilityPolicy> createVulnerabilityPolicyList,
+    public static Set<String> saveParsedVulnerabilities(List<VulnerabilityPolicy> createVulnerabilityPolicyList,
                                                  List<VulnerabilityPolicy> updateVulnerabilityPolicyList,
                                                  List<String> policyNames) {
         List<String> receivedPolicyNames = new ArrayList<>();
@@ -183,17 +191,21 @@ public class VulnerabilityPolicyUtil {
         List<String> vulnerabilityPoliciesToBeDeleted = policyNames.stream()
                 .filter(policyName -> !receivedPolicyNames.contains(policyName)).toList();
 
+        final var changedPolicyNames = new HashSet<String>();
         useJdbiTransaction(handle -> {
             final var vulnPolicyDao = handle.attach(VulnerabilityPolicyDao.class);
             for (final VulnerabilityPolicy policy : createVulnerabilityPolicyList) {
                 LOGGER.info("Creating vulnerability policy: %s".formatted(policy.getName()));
                 vulnPolicyDao.create(policy);
+                changedPolicyNames.add(policy.getName());
             }
             for (final VulnerabilityPolicy policy : updateVulnerabilityPolicyList) {
                 LOGGER.info("Updating vulnerability policy: %s".formatted(policy.getName()));
                 final VulnerabilityPolicy updatedPolicy = vulnPolicyDao.update(policy);
                 if (updatedPolicy == null) {
                     LOGGER.info("Vulnerability policy %s has not changed".formatted(policy.getName()));
+                } else {
+                    changedPolicyNames.add(policy.getName());
                 }
             }
             for (final String policyName : vulnerabilityPoliciesToBeDeleted) {
@@ -201,6 +213,8 @@ public class VulnerabilityPolicyUtil {
                 vulnPolicyDao.unassignAndDeleteByName(policyName);
             }
         });
+
+        return changedPolicyNames;
     }
 
 }
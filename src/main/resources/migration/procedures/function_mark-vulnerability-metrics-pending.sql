@@ -0,0 +1,57 @@
+-- Records months whose vulnerability counts may have changed in "VULNERABILITYMETRICS_PENDING",
+-- such that vulnerability metrics can be updated without recounting all vulnerabilities.
+--
+-- Vulnerabilities are attributed to the month of their "CREATED" date, falling back to their
+-- "PUBLISHED" date. Updates only affect counts when either of those changes.
+--
+-- Months that are already pending have their "GENERATION" bumped. This locks their row until
+-- the triggering transaction completes, and prevents concurrent recounts, which may not see
+-- the changes of this transaction yet, from removing them.
+--
+-- Intended to be used by statement-level triggers, which expose affected rows
+-- via the transition tables "OLD_ROWS" (DELETE, UPDATE) and "NEW_ROWS" (INSERT, UPDATE).
+-- Transition tables are only referenced in branches that apply to the triggering operation.
+CREATE OR REPLACE FUNCTION MARK_VULNERABILITY_METRICS_PENDING() RETURNS TRIGGER
+  LANGUAGE "plpgsql"
+AS
+$$
+BEGIN
+  IF TG_OP = 'INSERT' THEN
+    INSERT INTO "VULNERABILITYMETRICS_PENDING" ("YEAR", "MONTH")
+    SELECT DISTINCT EXTRACT(YEAR FROM COALESCE("CREATED", "PUBLISHED"))::INT
+                  , EXTRACT(MONTH FROM COALESCE("CREATED", "PUBLISHED"))::INT
+      FROM "NEW_ROWS"
+     WHERE COALESCE("CREATED", "PUBLISHED") IS NOT NULL
+     -- Lock pending rows in a consistent order to prevent deadlocks between concurrent mirrors.
+     ORDER BY 1, 2
+    ON CONFLICT ("YEAR", "MONTH") DO UPDATE
+    SET "GENERATION" = "VULNERABILITYMETRICS_PENDING"."GENERATION" + 1;
+  ELSIF TG_OP = 'UPDATE' THEN
+    INSERT INTO "VULNERABILITYMETRICS_PENDING" ("YEAR", "MONTH")
+    SELECT DISTINCT EXTRACT(YEAR FROM "DATES"."DATE")::INT
+                  , EXTRACT(MONTH FROM "DATES"."DATE")::INT
+      FROM "OLD_ROWS"
+     INNER JOIN "NEW_ROWS"
+        ON "NEW_ROWS"."ID" = "OLD_ROWS"."ID"
+     CROSS JOIN LATERAL (VALUES (COALESCE("OLD_ROWS"."CREATED", "OLD_ROWS"."PUBLISHED"))
+                              , (COALESCE("NEW_ROWS"."CREATED", "NEW_ROWS"."PUBLISHED"))) AS "DATES"("DATE")
+     WHERE COALESCE("OLD_ROWS"."CREATED", "OLD_ROWS"."PUBLISHED")
+             IS DISTINCT FROM COALESCE("NEW_ROWS"."CREATED", "NEW_ROWS"."PUBLISHED")
+       AND "DATES"."DATE" IS NOT NULL
+     ORDER BY 1, 2
+    ON CONFLICT ("YEAR", "MONTH") DO UPDATE
+    SET "GENERATION" = "VULNERABILITYMETRICS_PENDING"."GENERATION" + 1;
+  ELSIF TG_OP = 'DELETE' THEN
+    INSERT INTO "VULNERABILITYMETRICS_PENDING" ("YEAR", "MONTH")
+    SELECT DISTINCT EXTRACT(YEAR FROM COALESCE("CREATED", "PUBLISHED"))::INT
+                  , EXTRACT(MONTH FROM COALESCE("CREATED", "PUBLISHED"))::INT
+      FROM "OLD_ROWS"
+     WHERE COALESCE("CREATED", "PUBLISHED") IS NOT NULL
+     ORDER BY 1, 2
+    ON CONFLICT ("YEAR", "MONTH") DO UPDATE
+    SET "GENERATION" = "VULNERABILITYMETRICS_PENDING"."GENERATION" + 1;
+  END IF;
+
+  RETURN NULL;
+END;
+$$;
@@ -0,0 +1,83 @@
+-- Maintains "VULNERABILITY_ROLLUP" for changes to "FINDINGATTRIBUTION".
+--
+-- Intended to be used by statement-level triggers, which expose affected rows
+-- via the transition tables "OLD_ROWS" (DELETE, UPDATE) and "NEW_ROWS" (INSERT, UPDATE).
+-- Transition tables are only referenced in branches that apply to the triggering operation.
+CREATE OR REPLACE FUNCTION UPDATE_VULNERABILITY_ROLLUP() RETURNS TRIGGER
+  LANGUAGE "plpgsql"
+AS
+$$
+BEGIN
+  IF TG_OP IN ('DELETE', 'UPDATE') THEN
+    WITH "CHANGES" AS (
+      SELECT "VULNERABILITY_ID"
+           , "PROJECT_ID"
+           , "ANALYZERIDENTITY"
+           , COUNT(*) AS "FINDINGS"
+           , MIN("ATTRIBUTED_ON") AS "FIRST_ATTRIBUTED_ON"
+           , MAX("ATTRIBUTED_ON") AS "LAST_ATTRIBUTED_ON"
+        FROM "OLD_ROWS"
+       GROUP BY "VULNERABILITY_ID", "PROJECT_ID", "ANALYZERIDENTITY"
+    )
+    UPDATE "VULNERABILITY_ROLLUP" AS "ROLLUP"
+       SET "FINDINGS" = "ROLLUP"."FINDINGS" - "CHANGES"."FINDINGS"
+         -- Boundaries that may have been removed are recomputed below.
+         , "FIRST_ATTRIBUTED_ON" = CASE WHEN "CHANGES"."FIRST_ATTRIBUTED_ON" <= "ROLLUP"."FIRST_ATTRIBUTED_ON"
+                                        THEN NULL
+                                        ELSE "ROLLUP"."FIRST_ATTRIBUTED_ON"
+                                   END
+         , "LAST_ATTRIBUTED_ON" = CASE WHEN "CHANGES"."LAST_ATTRIBUTED_ON" >= "ROLLUP"."LAST_ATTRIBUTED_ON"
+                                       THEN NULL
+                                       ELSE "ROLLUP"."LAST_ATTRIBUTED_ON"
+                                  END
+      FROM "CHANGES"
+     WHERE "ROLLUP"."VULNERABILITY_ID" = "CHANGES"."VULNERABILITY_ID"
+       AND "ROLLUP"."PROJECT_ID" = "CHANGES"."PROJECT_ID"
+       AND "ROLLUP"."ANALYZERIDENTITY" = "CHANGES"."ANALYZERIDENTITY";
+
+    DELETE
+      FROM "VULNERABILITY_ROLLUP"
+     WHERE "FINDINGS" <= 0
+       AND ("VULNERABILITY_ID", "PROJECT_ID", "ANALYZERIDENTITY") IN (
+             SELECT "VULNERABILITY_ID", "PROJECT_ID", "ANALYZERIDENTITY" FROM "OLD_ROWS");
+
+    UPDATE "VULNERABILITY_ROLLUP" AS "ROLLUP"
+       SET "FIRST_ATTRIBUTED_ON" = "ATTRIBUTIONS"."FIRST_ATTRIBUTED_ON"
+         , "LAST_ATTRIBUTED_ON" = "ATTRIBUTIONS"."LAST_ATTRIBUTED_ON"
+      FROM (SELECT "FA"."VULNERABILITY_ID"
+                 , "FA"."PROJECT_ID"
+                 , "FA"."ANALYZERIDENTITY"
+                 , MIN("FA"."ATTRIBUTED_ON") AS "FIRST_ATTRIBUTED_ON"
+                 , MAX("FA"."ATTRIBUTED_ON") AS "LAST_ATTRIBUTED_ON"
+              FROM "FINDINGATTRIBUTION" AS "FA"
+             WHERE ("FA"."VULNERABILITY_ID", "FA"."PROJECT_ID", "FA"."ANALYZERIDENTITY") IN (
+                     SELECT "VULNERABILITY_ID", "PROJECT_ID", "ANALYZERIDENTITY" FROM "OLD_ROWS")
+             GROUP BY "FA"."VULNERABILITY_ID", "FA"."PROJECT_ID", "FA"."ANALYZERIDENTITY") AS "ATTRIBUTIONS"
+     WHERE "ROLLUP"."VULNERABILITY_ID" = "ATTRIBUTIONS"."VULNERABILITY_ID"
+       AND "ROLLUP"."PROJECT_ID" = "ATTRIBUTIONS"."PROJECT_ID"
+       AND "ROLLUP"."ANALYZERIDENTITY" = "ATTRIBUTIONS"."ANALYZERIDENTITY"
+       AND ("ROLLUP"."FIRST_ATTRIBUTED_ON" IS NULL OR "ROLLUP"."LAST_ATTRIBUTED_ON" IS NULL);
+  END IF;
+
+  IF TG_OP IN ('INSERT', 'UPDATE') THEN
+    INSERT INTO "VULNERABILITY_ROLLUP" AS "ROLLUP"
+      ("VULNERABILITY_ID", "PROJECT_ID", "ANALYZERIDENTITY", "FINDINGS", "FIRST_ATTRIBUTED_ON", "LAST_ATTRIBUTED_ON")
+    SELECT "VULNERABILITY_ID"
+         , "PROJECT_ID"
+         , "ANALYZERIDENTITY"
+         , COUNT(*)
+         , MIN("ATTRIBUTED_ON")
+         , MAX("ATTRIBUTED_ON")
+      FROM "NEW_ROWS"
+     GROUP BY "VULNERABILITY_ID", "PROJECT_ID", "ANALYZERIDENTITY"
+     -- Lock rollup rows in a consistent order to prevent deadlocks between concurrent scans.
+     ORDER BY "VULNERABILITY_ID", "PROJECT_ID", "ANALYZERIDENTITY"
+    ON CONFLICT ("VULNERABILITY_ID", "PROJECT_ID", "ANALYZERIDENTITY") DO UPDATE
+    SET "FINDINGS" = "ROLLUP"."FINDINGS" + EXCLUDED."FINDINGS"
+      , "FIRST_ATTRIBUTED_ON" = LEAST("ROLLUP"."FIRST_ATTRIBUTED_ON", EXCLUDED."FIRST_ATTRIBUTED_ON")
+      , "LAST_ATTRIBUTED_ON" = GREATEST("ROLLUP"."LAST_ATTRIBUTED_ON", EXCLUDED."LAST_ATTRIBUTED_ON");
+  END IF;
+
+  RETURN NULL;
+END;
+$$;
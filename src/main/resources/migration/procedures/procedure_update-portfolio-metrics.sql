@@ -71,6 +71,7 @@ BEGIN
         FROM "PROJECTMETRICS" AS "PM"
                INNER JOIN "PROJECT" AS "P" ON "P"."ID" = "PM"."PROJECT_ID"
         WHERE "P"."INACTIVE_SINCE" IS NULL  -- Only consider active projects
+          AND "P"."DELETION_REQUESTED_AT" IS NULL  -- Ignore projects pending deletion
         ORDER BY "PM"."PROJECT_ID", "PM"."LAST_OCCURRENCE" DESC) AS "LATEST_PROJECT_METRICS"
   INTO
     "v_projects",
@@ -6,7 +6,6 @@ AS
 $$
 DECLARE
   "v_project_id"                              BIGINT;
-  "v_component_uuid"                          UUID;
   "v_components"                              INT; -- Total number of components in the project
   "v_vulnerable_components"                   INT; -- Number of vulnerable components in the project
   "v_vulnerabilities"                         INT; -- Total number of vulnerabilities
@@ -42,10 +41,301 @@ BEGIN
     RAISE EXCEPTION 'Project with UUID % does not exist', "project_uuid";
   END IF;
 
-  FOR "v_component_uuid" IN SELECT "UUID" FROM "COMPONENT" WHERE "PROJECT_ID" = "v_project_id"
-  LOOP
-    CALL "UPDATE_COMPONENT_METRICS"("v_component_uuid");
-  END LOOP;
+  -- Calculate metrics of all components in the project at once, rather than calling
+  -- UPDATE_COMPONENT_METRICS for every single component. The calculation is equivalent,
+  -- except for the de-duplication of vulnerabilities via aliases: A vulnerability is not
+  -- counted when another vulnerability of the same component, with a lower ID, shares an
+  -- alias with it, regardless of whether that other vulnerability is counted itself.
+  --
+  -- This differs for chains of aliases. Given vulnerabilities V0, V1, and V2 (in ascending
+  -- order of their IDs), where V0 aliases V1, and V1 aliases V2, but V0 does not alias V2,
+  -- only V0 is counted. UPDATE_COMPONENT_METRICS only skips aliases of vulnerabilities it
+  -- counted before, in undefined order. It counts either V0 and V2, or only V1.
+  WITH "CTE_FINDING" AS (
+    SELECT "CV"."COMPONENT_ID"
+         , "V"."ID" AS "VULNERABILITY_ID"
+         , "V"."SOURCE"
+         , "V"."VULNID"
+         , COALESCE("A"."SEVERITY", "V"."SEVERITY") AS "SEVERITY"
+      FROM "COMPONENT" AS "C"
+     INNER JOIN "COMPONENTS_VULNERABILITIES" AS "CV"
+        ON "CV"."COMPONENT_ID" = "C"."ID"
+     INNER JOIN "VULNERABILITY" AS "V"
+        ON "V"."ID" = "CV"."VULNERABILITY_ID"
+      LEFT JOIN "ANALYSIS" AS "A"
+        ON "A"."COMPONENT_ID" = "CV"."COMPONENT_ID"
+       AND "A"."VULNERABILITY_ID" = "CV"."VULNERABILITY_ID"
+     WHERE "C"."PROJECT_ID" = "v_project_id"
+       AND ("A"."SUPPRESSED" IS NULL OR NOT "A"."SUPPRESSED")),
+  "CTE_FINDING_ALIAS" AS (
+    SELECT "F"."COMPONENT_ID"
+         , "F"."VULNERABILITY_ID"
+         , "VA"."ID" AS "ALIAS_ID"
+      FROM "CTE_FINDING" AS "F"
+     INNER JOIN "VULNERABILITYALIAS" AS "VA"
+        ON ("F"."SOURCE" = 'GITHUB' AND "VA"."GHSA_ID" = "F"."VULNID")
+        OR ("F"."SOURCE" = 'INTERNAL' AND "VA"."INTERNAL_ID" = "F"."VULNID")
+        OR ("F"."SOURCE" = 'NVD' AND "VA"."CVE_ID" = "F"."VULNID")
+        OR ("F"."SOURCE" = 'OSSINDEX' AND "VA"."SONATYPE_ID" = "F"."VULNID")
+        OR ("F"."SOURCE" = 'OSV' AND "VA"."OSV_ID" = "F"."VULNID")
+        OR ("F"."SOURCE" = 'SNYK' AND "VA"."SNYK_ID" = "F"."VULNID")
+        OR ("F"."SOURCE" = 'VULNDB' AND "VA"."VULNDB_ID" = "F"."VULNID")),
+  "CTE_VULNERABILITY_METRICS" AS (
+    SELECT "F"."COMPONENT_ID"
+         , COUNT(*)::INT AS "VULNERABILITIES"
+         , (COUNT(*) FILTER (WHERE "F"."SEVERITY" = 'CRITICAL'))::INT AS "CRITICAL"
+         , (COUNT(*) FILTER (WHERE "F"."SEVERITY" = 'HIGH'))::INT AS "HIGH"
+         , (COUNT(*) FILTER (WHERE "F"."SEVERITY" = 'MEDIUM'))::INT AS "MEDIUM"
+         , (COUNT(*) FILTER (WHERE "F"."SEVERITY" = 'LOW'))::INT AS "LOW"
+         , (COUNT(*) FILTER (WHERE "F"."SEVERITY" IS NULL
+                                OR "F"."SEVERITY" NOT IN ('CRITICAL', 'HIGH', 'MEDIUM', 'LOW')))::INT AS "UNASSIGNED_SEVERITY"
+      FROM "CTE_FINDING" AS "F"
+     WHERE NOT EXISTS(
+             SELECT 1
+               FROM "CTE_FINDING_ALIAS" AS "FA"
+              INNER JOIN "CTE_FINDING_ALIAS" AS "OTHER_FA"
+                 ON "OTHER_FA"."COMPONENT_ID" = "FA"."COMPONENT_ID"
+                AND "OTHER_FA"."ALIAS_ID" = "FA"."ALIAS_ID"
+                AND "OTHER_FA"."VULNERABILITY_ID" < "FA"."VULNERABILITY_ID"
+              WHERE "FA"."COMPONENT_ID" = "F"."COMPONENT_ID"
+                AND "FA"."VULNERABILITY_ID" = "F"."VULNERABILITY_ID")
+     GROUP BY "F"."COMPONENT_ID"),
+  "CTE_ANALYSIS_METRICS" AS (
+    SELECT "A"."COMPONENT_ID"
+         , (COUNT(*) FILTER (WHERE NOT "A"."SUPPRESSED"
+                               AND "A"."STATE" != 'NOT_SET'
+                               AND "A"."STATE" != 'IN_TRIAGE'))::INT AS "FINDINGS_AUDITED"
+         , (COUNT(*) FILTER (WHERE "A"."SUPPRESSED"))::INT AS "SUPPRESSED"
+      FROM "COMPONENT" AS "C"
+     INNER JOIN "ANALYSIS" AS "A"
+        ON "A"."COMPONENT_ID" = "C"."ID"
+     WHERE "C"."PROJECT_ID" = "v_project_id"
+     GROUP BY "A"."COMPONENT_ID"),
+  "CTE_VIOLATION_METRICS" AS (
+    SELECT "PV"."COMPONENT_ID"
+         , COUNT(*)::INT AS "POLICYVIOLATIONS_TOTAL"
+         , (COUNT(*) FILTER (WHERE "P"."VIOLATIONSTATE" = 'FAIL'))::INT AS "POLICYVIOLATIONS_FAIL"
+         , (COUNT(*) FILTER (WHERE "P"."VIOLATIONSTATE" = 'WARN'))::INT AS "POLICYVIOLATIONS_WARN"
+         , (COUNT(*) FILTER (WHERE "P"."VIOLATIONSTATE" = 'INFO'))::INT AS "POLICYVIOLATIONS_INFO"
+         , (COUNT(*) FILTER (WHERE "PV"."TYPE" = 'LICENSE'))::INT AS "POLICYVIOLATIONS_LICENSE_TOTAL"
+         , (COUNT(*) FILTER (WHERE "PV"."TYPE" = 'LICENSE'
+                               AND "VA"."STATE" != 'NOT_SET'))::INT AS "POLICYVIOLATIONS_LICENSE_AUDITED"
+         , (COUNT(*) FILTER (WHERE "PV"."TYPE" = 'OPERATIONAL'))::INT AS "POLICYVIOLATIONS_OPERATIONAL_TOTAL"
+         , (COUNT(*) FILTER (WHERE "PV"."TYPE" = 'OPERATIONAL'
+                               AND "VA"."STATE" != 'NOT_SET'))::INT AS "POLICYVIOLATIONS_OPERATIONAL_AUDITED"
+         , (COUNT(*) FILTER (WHERE "PV"."TYPE" = 'SECURITY'))::INT AS "POLICYVIOLATIONS_SECURITY_TOTAL"
+         , (COUNT(*) FILTER (WHERE "PV"."TYPE" = 'SECURITY'
+                               AND "VA"."STATE" != 'NOT_SET'))::INT AS "POLICYVIOLATIONS_SECURITY_AUDITED"
+      FROM "COMPONENT" AS "C"
+     INNER JOIN "POLICYVIOLATION" AS "PV"
+        ON "PV"."COMPONENT_ID" = "C"."ID"
+     INNER JOIN "POLICYCONDITION" AS "PC"
+        ON "PC"."ID" = "PV"."POLICYCONDITION_ID"
+     INNER JOIN "POLICY" AS "P"
+        ON "P"."ID" = "PC"."POLICY_ID"
+      LEFT JOIN "VIOLATIONANALYSIS" AS "VA"
+        ON "VA"."COMPONENT_ID" = "PV"."COMPONENT_ID"
+       AND "VA"."POLICYVIOLATION_ID" = "PV"."ID"
+     WHERE "C"."PROJECT_ID" = "v_project_id"
+       AND ("VA"."ID" IS NULL OR NOT "VA"."SUPPRESSED")
+     GROUP BY "PV"."COMPONENT_ID"),
+  "CTE_COUNTS" AS (
+    SELECT "C"."ID" AS "COMPONENT_ID"
+         , COALESCE("VM"."VULNERABILITIES", 0) AS "VULNERABILITIES"
+         , COALESCE("VM"."CRITICAL", 0) AS "CRITICAL"
+         , COALESCE("VM"."HIGH", 0) AS "HIGH"
+         , COALESCE("VM"."MEDIUM", 0) AS "MEDIUM"
+         , COALESCE("VM"."LOW", 0) AS "LOW"
+         , COALESCE("VM"."UNASSIGNED_SEVERITY", 0) AS "UNASSIGNED_SEVERITY"
+         , COALESCE("AM"."FINDINGS_AUDITED", 0) AS "FINDINGS_AUDITED"
+         , COALESCE("AM"."SUPPRESSED", 0) AS "SUPPRESSED"
+         , COALESCE("PM"."POLICYVIOLATIONS_TOTAL", 0) AS "POLICYVIOLATIONS_TOTAL"
+         , COALESCE("PM"."POLICYVIOLATIONS_FAIL", 0) AS "POLICYVIOLATIONS_FAIL"
+         , COALESCE("PM"."POLICYVIOLATIONS_WARN", 0) AS "POLICYVIOLATIONS_WARN"
+         , COALESCE("PM"."POLICYVIOLATIONS_INFO", 0) AS "POLICYVIOLATIONS_INFO"
+         , COALESCE("PM"."POLICYVIOLATIONS_LICENSE_TOTAL", 0) AS "POLICYVIOLATIONS_LICENSE_TOTAL"
+         , COALESCE("PM"."POLICYVIOLATIONS_LICENSE_AUDITED", 0) AS "POLICYVIOLATIONS_LICENSE_AUDITED"
+         , COALESCE("PM"."POLICYVIOLATIONS_OPERATIONAL_TOTAL", 0) AS "POLICYVIOLATIONS_OPERATIONAL_TOTAL"
+         , COALESCE("PM"."POLICYVIOLATIONS_OPERATIONAL_AUDITED", 0) AS "POLICYVIOLATIONS_OPERATIONAL_AUDITED"
+         , COALESCE("PM"."POLICYVIOLATIONS_SECURITY_TOTAL", 0) AS "POLICYVIOLATIONS_SECURITY_TOTAL"
+         , COALESCE("PM"."POLICYVIOLATIONS_SECURITY_AUDITED", 0) AS "POLICYVIOLATIONS_SECURITY_AUDITED"
+      FROM "COMPONENT" AS "C"
+      LEFT JOIN "CTE_VULNERABILITY_METRICS" AS "VM"
+        ON "VM"."COMPONENT_ID" = "C"."ID"
+      LEFT JOIN "CTE_ANALYSIS_METRICS" AS "AM"
+        ON "AM"."COMPONENT_ID" = "C"."ID"
+      LEFT JOIN "CTE_VIOLATION_METRICS" AS "PM"
+        ON "PM"."COMPONENT_ID" = "C"."ID"
+     WHERE "C"."PROJECT_ID" = "v_project_id"),
+  "CTE_METRICS" AS (
+    SELECT "COMPONENT_ID"
+         , "VULNERABILITIES"
+         , "CRITICAL"
+         , "HIGH"
+         , "MEDIUM"
+         , "LOW"
+         , "UNASSIGNED_SEVERITY"
+         , "CALC_RISK_SCORE"("CRITICAL", "HIGH", "MEDIUM", "LOW", "UNASSIGNED_SEVERITY") AS "RISKSCORE"
+         , "VULNERABILITIES" AS "FINDINGS_TOTAL"
+         , "FINDINGS_AUDITED"
+         , "VULNERABILITIES" - "FINDINGS_AUDITED" AS "FINDINGS_UNAUDITED"
+         , "SUPPRESSED"
+         , "POLICYVIOLATIONS_TOTAL"
+         , "POLICYVIOLATIONS_FAIL"
+         , "POLICYVIOLATIONS_WARN"
+         , "POLICYVIOLATIONS_INFO"
+         , "POLICYVIOLATIONS_LICENSE_AUDITED"
+             + "POLICYVIOLATIONS_OPERATIONAL_AUDITED"
+             + "POLICYVIOLATIONS_SECURITY_AUDITED" AS "POLICYVIOLATIONS_AUDITED"
+         , "POLICYVIOLATIONS_TOTAL"
+             - "POLICYVIOLATIONS_LICENSE_AUDITED"
+             - "POLICYVIOLATIONS_OPERATIONAL_AUDITED"
+             - "POLICYVIOLATIONS_SECURITY_AUDITED" AS "POLICYVIOLATIONS_UNAUDITED"
+         , "POLICYVIOLATIONS_LICENSE_TOTAL"
+         , "POLICYVIOLATIONS_LICENSE_AUDITED"
+         , "POLICYVIOLATIONS_LICENSE_TOTAL" - "POLICYVIOLATIONS_LICENSE_AUDITED" AS "POLICYVIOLATIONS_LICENSE_UNAUDITED"
+         , "POLICYVIOLATIONS_OPERATIONAL_TOTAL"
+         , "POLICYVIOLATIONS_OPERATIONAL_AUDITED"
+         , "POLICYVIOLATIONS_OPERATIONAL_TOTAL" - "POLICYVIOLATIONS_OPERATIONAL_AUDITED" AS "POLICYVIOLATIONS_OPERATIONAL_UNAUDITED"
+         , "POLICYVIOLATIONS_SECURITY_TOTAL"
+         , "POLICYVIOLATIONS_SECURITY_AUDITED"
+         , "POLICYVIOLATIONS_SECURITY_TOTAL" - "POLICYVIOLATIONS_SECURITY_AUDITED" AS "POLICYVIOLATIONS_SECURITY_UNAUDITED"
+      FROM "CTE_COUNTS"),
+  "CTE_LATEST_METRICS" AS (
+    SELECT DISTINCT ON ("DM"."COMPONENT_ID") *
+      FROM "DEPENDENCYMETRICS" AS "DM"
+     WHERE "DM"."PROJECT_ID" = "v_project_id"
+     ORDER BY "DM"."COMPONENT_ID", "DM"."LAST_OCCURRENCE" DESC),
+  "CTE_UNCHANGED" AS (
+    SELECT "LM"."ID"
+         , "LM"."COMPONENT_ID"
+      FROM "CTE_METRICS" AS "M"
+     INNER JOIN "CTE_LATEST_METRICS" AS "LM"
+        ON "LM"."COMPONENT_ID" = "M"."COMPONENT_ID"
+     WHERE ("LM"."VULNERABILITIES"
+            , "LM"."CRITICAL"
+            , "LM"."HIGH"
+            , "LM"."MEDIUM"
+            , "LM"."LOW"
+            , "LM"."UNASSIGNED_SEVERITY"
+            , "LM"."RISKSCORE"
+            , "LM"."FINDINGS_TOTAL"
+            , "LM"."FINDINGS_AUDITED"
+            , "LM"."FINDINGS_UNAUDITED"
+            , "LM"."SUPPRESSED"
+            , "LM"."POLICYVIOLATIONS_TOTAL"
+            , "LM"."POLICYVIOLATIONS_FAIL"
+            , "LM"."POLICYVIOLATIONS_WARN"
+            , "LM"."POLICYVIOLATIONS_INFO"
+            , "LM"."POLICYVIOLATIONS_AUDITED"
+            , "LM"."POLICYVIOLATIONS_UNAUDITED"
+            , "LM"."POLICYVIOLATIONS_LICENSE_TOTAL"
+            , "LM"."POLICYVIOLATIONS_LICENSE_AUDITED"
+            , "LM"."POLICYVIOLATIONS_LICENSE_UNAUDITED"
+            , "LM"."POLICYVIOLATIONS_OPERATIONAL_TOTAL"
+            , "LM"."POLICYVIOLATIONS_OPERATIONAL_AUDITED"
+            , "LM"."POLICYVIOLATIONS_OPERATIONAL_UNAUDITED"
+            , "LM"."POLICYVIOLATIONS_SECURITY_TOTAL"
+            , "LM"."POLICYVIOLATIONS_SECURITY_AUDITED"
+            , "LM"."POLICYVIOLATIONS_SECURITY_UNAUDITED")
+         = ("M"."VULNERABILITIES"
+            , "M"."CRITICAL"
+            , "M"."HIGH"
+            , "M"."MEDIUM"
+            , "M"."LOW"
+            , "M"."UNASSIGNED_SEVERITY"
+            , "M"."RISKSCORE"
+            , "M"."FINDINGS_TOTAL"
+            , "M"."FINDINGS_AUDITED"
+            , "M"."FINDINGS_UNAUDITED"
+            , "M"."SUPPRESSED"
+            , "M"."POLICYVIOLATIONS_TOTAL"
+            , "M"."POLICYVIOLATIONS_FAIL"
+            , "M"."POLICYVIOLATIONS_WARN"
+            , "M"."POLICYVIOLATIONS_INFO"
+            , "M"."POLICYVIOLATIONS_AUDITED"
+            , "M"."POLICYVIOLATIONS_UNAUDITED"
+            , "M"."POLICYVIOLATIONS_LICENSE_TOTAL"
+            , "M"."POLICYVIOLATIONS_LICENSE_AUDITED"
+            , "M"."POLICYVIOLATIONS_LICENSE_UNAUDITED"
+            , "M"."POLICYVIOLATIONS_OPERATIONAL_TOTAL"
+            , "M"."POLICYVIOLATIONS_OPERATIONAL_AUDITED"
+            , "M"."POLICYVIOLATIONS_OPERATIONAL_UNAUDITED"
+            , "M"."POLICYVIOLATIONS_SECURITY_TOTAL"
+            , "M"."POLICYVIOLATIONS_SECURITY_AUDITED"
+            , "M"."POLICYVIOLATIONS_SECURITY_UNAUDITED")),
+  "CTE_TOUCHED" AS (
+    UPDATE "DEPENDENCYMETRICS"
+       SET "LAST_OCCURRENCE" = NOW()
+     WHERE "ID" IN (SELECT "ID" FROM "CTE_UNCHANGED")),
+  "CTE_INSERTED" AS (
+    INSERT INTO "DEPENDENCYMETRICS" ("COMPONENT_ID"
+                                   , "PROJECT_ID"
+                                   , "VULNERABILITIES"
+                                   , "CRITICAL"
+                                   , "HIGH"
+                                   , "MEDIUM"
+                                   , "LOW"
+                                   , "UNASSIGNED_SEVERITY"
+                                   , "RISKSCORE"
+                                   , "FINDINGS_TOTAL"
+                                   , "FINDINGS_AUDITED"
+                                   , "FINDINGS_UNAUDITED"
+                                   , "SUPPRESSED"
+                                   , "POLICYVIOLATIONS_TOTAL"
+                                   , "POLICYVIOLATIONS_FAIL"
+                                   , "POLICYVIOLATIONS_WARN"
+                                   , "POLICYVIOLATIONS_INFO"
+                                   , "POLICYVIOLATIONS_AUDITED"
+                                   , "POLICYVIOLATIONS_UNAUDITED"
+                                   , "POLICYVIOLATIONS_LICENSE_TOTAL"
+                                   , "POLICYVIOLATIONS_LICENSE_AUDITED"
+                                   , "POLICYVIOLATIONS_LICENSE_UNAUDITED"
+                                   , "POLICYVIOLATIONS_OPERATIONAL_TOTAL"
+                                   , "POLICYVIOLATIONS_OPERATIONAL_AUDITED"
+                                   , "POLICYVIOLATIONS_OPERATIONAL_UNAUDITED"
+                                   , "POLICYVIOLATIONS_SECURITY_TOTAL"
+                                   , "POLICYVIOLATIONS_SECURITY_AUDITED"
+                                   , "POLICYVIOLATIONS_SECURITY_UNAUDITED"
+                                   , "FIRST_OCCURRENCE"
+                                   , "LAST_OCCURRENCE")
+    SELECT "M"."COMPONENT_ID"
+         , "v_project_id"
+         , "M"."VULNERABILITIES"
+         , "M"."CRITICAL"
+         , "M"."HIGH"
+         , "M"."MEDIUM"
+         , "M"."LOW"
+         , "M"."UNASSIGNED_SEVERITY"
+         , "M"."RISKSCORE"
+         , "M"."FINDINGS_TOTAL"
+         , "M"."FINDINGS_AUDITED"
+         , "M"."FINDINGS_UNAUDITED"
+         , "M"."SUPPRESSED"
+         , "M"."POLICYVIOLATIONS_TOTAL"
+         , "M"."POLICYVIOLATIONS_FAIL"
+         , "M"."POLICYVIOLATIONS_WARN"
+         , "M"."POLICYVIOLATIONS_INFO"
+         , "M"."POLICYVIOLATIONS_AUDITED"
+         , "M"."POLICYVIOLATIONS_UNAUDITED"
+         , "M"."POLICYVIOLATIONS_LICENSE_TOTAL"
+         , "M"."POLICYVIOLATIONS_LICENSE_AUDITED"
+         , "M"."POLICYVIOLATIONS_LICENSE_UNAUDITED"
+         , "M"."POLICYVIOLATIONS_OPERATIONAL_TOTAL"
+         , "M"."POLICYVIOLATIONS_OPERATIONAL_AUDITED"
+         , "M"."POLICYVIOLATIONS_OPERATIONAL_UNAUDITED"
+         , "M"."POLICYVIOLATIONS_SECURITY_TOTAL"
+         , "M"."POLICYVIOLATIONS_SECURITY_AUDITED"
+         , "M"."POLICYVIOLATIONS_SECURITY_UNAUDITED"
+         , NOW()
+         , NOW()
+      FROM "CTE_METRICS" AS "M"
+     WHERE "M"."COMPONENT_ID" NOT IN (SELECT "COMPONENT_ID" FROM "CTE_UNCHANGED")
+    RETURNING "COMPONENT_ID", "RISKSCORE")
+  UPDATE "COMPONENT"
+     SET "LAST_RISKSCORE" = "CTE_INSERTED"."RISKSCORE"
+    FROM "CTE_INSERTED"
+   WHERE "COMPONENT"."ID" = "CTE_INSERTED"."COMPONENT_ID";
 
   -- Aggregate over all most recent DEPENDENCYMETRICS.
   -- NOTE: SUM returns NULL when no rows match the query, but COUNT returns 0.
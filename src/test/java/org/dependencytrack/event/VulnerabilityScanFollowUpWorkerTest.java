@@ -0,0 +1,116 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event;
+
+import org.dependencytrack.PersistenceCapableTest;
+import org.dependencytrack.model.Project;
+import org.dependencytrack.model.VulnerabilityScan.TargetType;
+import org.dependencytrack.model.WorkflowState;
+import org.dependencytrack.model.WorkflowStatus;
+import org.dependencytrack.model.WorkflowStep;
+import org.dependencytrack.persistence.jdbi.VulnerabilityScanFollowUpDao;
+import org.dependencytrack.persistence.jdbi.VulnerabilityScanFollowUpDao.FollowUp;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.inJdbiTransaction;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiTransaction;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+
+public class VulnerabilityScanFollowUpWorkerTest extends PersistenceCapableTest {
+
+    @Test
+    public void testPollWithDeduplicatedFollowUps() {
+        final var project = new Project();
+        project.setName("acme-app");
+        qm.persist(project);
+
+        final UUID workflowTokenA = UUID.randomUUID();
+        final UUID workflowTokenB = UUID.randomUUID();
+        qm.createWorkflowSteps(workflowTokenA);
+        qm.createWorkflowSteps(workflowTokenB);
+
+        useJdbiTransaction(handle -> handle.attach(VulnerabilityScanFollowUpDao.class)
+                .enqueueAll(List.of(TargetType.PROJECT), List.of(project.getUuid()), List.of(workflowTokenA)));
+        useJdbiTransaction(handle -> handle.attach(VulnerabilityScanFollowUpDao.class)
+                .enqueueAll(List.of(TargetType.PROJECT), List.of(project.getUuid()), List.of(workflowTokenB)));
+
+        final var worker = new VulnerabilityScanFollowUpWorker(Duration.ofSeconds(5), Duration.ofMinutes(5), 10);
+        assertThat(worker.poll()).isEqualTo(1);
+
+        for (final UUID workflowToken : List.of(workflowTokenA, workflowTokenB)) {
+            for (final WorkflowStep step : List.of(WorkflowStep.POLICY_EVALUATION, WorkflowStep.METRICS_UPDATE)) {
+                final WorkflowState state = qm.getWorkflowStateByTokenAndStep(workflowToken, step);
+                qm.getPersistenceManager().refresh(state);
+                assertThat(state.getStartedAt()).isNotNull();
+                assertThat(state.getStatus()).isEqualTo(WorkflowStatus.COMPLETED);
+            }
+        }
+
+        assertThat(worker.poll()).isZero();
+    }
+
+    @Test
+    public void testReleaseWhenModifiedDuringProcessing() {
+        final var project = new Project();
+        project.setName("acme-app");
+        qm.persist(project);
+
+        final UUID workflowTokenA = UUID.randomUUID();
+        final UUID workflowTokenB = UUID.randomUUID();
+
+        useJdbiTransaction(handle -> handle.attach(VulnerabilityScanFollowUpDao.class)
+                .enqueueAll(List.of(TargetType.PROJECT), List.of(project.getUuid()), List.of(workflowTokenA)));
+
+        final List<FollowUp> claimedFollowUps = inJdbiTransaction(handle -> handle
+                .attach(VulnerabilityScanFollowUpDao.class).claim(Duration.ofMinutes(5), 10));
+        assertThat(claimedFollowUps).satisfiesExactly(followUp -> {
+            assertThat(followUp.workflowTokens()).containsExactly(workflowTokenA);
+            assertThat(followUp.attempts()).isEqualTo(1);
+        });
+
+        // Claimed follow-ups must not be claimed again.
+        assertThat(inJdbiTransaction(handle -> handle
+                .attach(VulnerabilityScanFollowUpDao.class).claim(Duration.ofMinutes(5), 10))).isEmpty();
+
+        // Another scan completes while the follow-up is being processed.
+        useJdbiTransaction(handle -> handle.attach(VulnerabilityScanFollowUpDao.class)
+                .enqueueAll(List.of(TargetType.PROJECT), List.of(project.getUuid()), List.of(workflowTokenB)));
+
+        final FollowUp claimedFollowUp = claimedFollowUps.getFirst();
+        final boolean completed = withJdbiHandle(handle -> handle.attach(VulnerabilityScanFollowUpDao.class)
+                .complete(claimedFollowUp.id(), claimedFollowUp.revision()));
+        assertThat(completed).isFalse();
+
+        useJdbiTransaction(handle -> handle.attach(VulnerabilityScanFollowUpDao.class)
+                .release(claimedFollowUp.id(), claimedFollowUp.workflowTokens()));
+
+        assertThat(inJdbiTransaction(handle -> handle
+                .attach(VulnerabilityScanFollowUpDao.class).claim(Duration.ofMinutes(5), 10))).satisfiesExactly(followUp -> {
+            assertThat(followUp.id()).isEqualTo(claimedFollowUp.id());
+            assertThat(followUp.workflowTokens()).containsExactly(workflowTokenB);
+            assertThat(followUp.revision()).isEqualTo(2);
+        });
+    }
+
+}
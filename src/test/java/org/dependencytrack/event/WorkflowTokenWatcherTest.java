@@ -0,0 +1,95 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event;
+
+import org.dependencytrack.PersistenceCapableTest;
+import org.dependencytrack.model.WorkflowState;
+import org.junit.After;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.dependencytrack.assertion.Assertions.assertConditionWithTimeout;
+import static org.dependencytrack.model.WorkflowStatus.PENDING;
+import static org.dependencytrack.model.WorkflowStep.BOM_PROCESSING;
+
+public class WorkflowTokenWatcherTest extends PersistenceCapableTest {
+
+    private final WorkflowTokenWatcher watcher = new WorkflowTokenWatcher(Duration.ofMillis(50));
+
+    @After
+    @Override
+    public void after() {
+        watcher.shutdown();
+        super.after();
+    }
+
+    @Test
+    public void testMultipleListenersForSameToken() throws Exception {
+        final var token = UUID.randomUUID();
+
+        final var workflowState = new WorkflowState();
+        workflowState.setStep(BOM_PROCESSING);
+        workflowState.setStatus(PENDING);
+        workflowState.setToken(token);
+        workflowState.setUpdatedAt(new Date());
+        qm.persist(workflowState);
+
+        final var listenerA = new RecordingListener();
+        watcher.watch(token, listenerA);
+        assertConditionWithTimeout(() -> listenerA.statesChanged.size() == 1, Duration.ofSeconds(5));
+
+        // Registering another listener for a token that is already watched
+        // must still yield an initial notification for the new listener.
+        final var listenerB = new RecordingListener();
+        watcher.watch(token, listenerB);
+        assertConditionWithTimeout(() -> listenerB.statesChanged.size() == 1, Duration.ofSeconds(5));
+        assertThat(listenerA.statesChanged).hasSize(1);
+
+        qm.updateWorkflowStateToComplete(workflowState);
+
+        assertConditionWithTimeout(() -> listenerA.processingCompleted.size() == 1
+                && listenerB.processingCompleted.size() == 1, Duration.ofSeconds(5));
+        assertThat(listenerA.statesChanged).hasSize(2);
+        assertThat(listenerB.statesChanged).hasSize(2);
+    }
+
+    private static final class RecordingListener implements WorkflowTokenWatcher.Listener {
+
+        private final List<List<WorkflowState>> statesChanged = new CopyOnWriteArrayList<>();
+        private final List<UUID> processingCompleted = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onStatesChanged(final UUID token, final List<WorkflowState> states) {
+            statesChanged.add(states);
+        }
+
+        @Override
+        public void onProcessingCompleted(final UUID token) {
+            processingCompleted.add(token);
+        }
+
+    }
+
+}
@@ -18,13 +18,6 @@
  */
 package org.dependencytrack.event.kafka.processor;
 
-import alpine.event.framework.Event;
-import alpine.event.framework.EventService;
-import alpine.event.framework.Subscriber;
-import org.dependencytrack.event.ComponentMetricsUpdateEvent;
-import org.dependencytrack.event.ComponentPolicyEvaluationEvent;
-import org.dependencytrack.event.ProjectMetricsUpdateEvent;
-import org.dependencytrack.event.ProjectPolicyEvaluationEvent;
 import org.dependencytrack.event.kafka.KafkaTopics;
 import org.dependencytrack.model.Component;
 import org.dependencytrack.model.Project;
@@ -32,25 +25,22 @@ import org.dependencytrack.model.VulnerabilityScan;
 import org.dependencytrack.model.WorkflowState;
 import org.dependencytrack.model.WorkflowStatus;
 import org.dependencytrack.model.WorkflowStep;
+import org.dependencytrack.persistence.jdbi.VulnerabilityScanFollowUpDao.FollowUp;
 import org.dependencytrack.persistence.jdbi.WorkflowDao;
 import org.dependencytrack.proto.notification.v1.BomConsumedOrProcessedSubject;
 import org.dependencytrack.proto.notification.v1.Notification;
 import org.dependencytrack.proto.notification.v1.ProjectVulnAnalysisCompleteSubject;
 import org.dependencytrack.proto.vulnanalysis.v1.ScanResult;
 import org.dependencytrack.proto.vulnanalysis.v1.ScannerResult;
-import org.junit.After;
-import org.junit.Before;
+import org.jdbi.v3.core.mapper.reflect.ConstructorMapper;
 import org.junit.Test;
 
-import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentLinkedQueue;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.awaitility.Awaitility.await;
 import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
 import static org.dependencytrack.proto.notification.v1.Group.GROUP_BOM_PROCESSED;
 import static org.dependencytrack.proto.notification.v1.Group.GROUP_PROJECT_VULN_ANALYSIS_COMPLETE;
@@ -68,26 +58,6 @@ import static org.dependencytrack.util.KafkaTestUtil.deserializeValue;
 
 public class ProcessedVulnerabilityScanResultProcessorTest extends AbstractProcessorTest {
 
-    @Before
-    @Override
-    public void before() throws Exception {
-        super.before();
-
-        EventService.getInstance().subscribe(ComponentMetricsUpdateEvent.class, EventSubscriber.class);
-        EventService.getInstance().subscribe(ProjectMetricsUpdateEvent.class, EventSubscriber.class);
-        EventService.getInstance().subscribe(ComponentPolicyEvaluationEvent.class, EventSubscriber.class);
-        EventService.getInstance().subscribe(ProjectPolicyEvaluationEvent.class, EventSubscriber.class);
-    }
-
-    @After
-    @Override
-    public void after() {
-        EventService.getInstance().unsubscribe(EventSubscriber.class);
-        EVENTS.clear();
-
-        super.after();
-    }
-
     @Test
     public void testProcessWithFailureThresholdExceeded() throws Exception {
         final var project = new Project();
@@ -171,7 +141,7 @@ public class ProcessedVulnerabilityScanResultProcessorTest extends AbstractProce
             assertThat(subject.getFindingsCount()).isZero();
         });
 
-        assertThat(EVENTS).isEmpty();
+        assertThat(getFollowUps()).isEmpty();
     }
 
     @Test
@@ -242,22 +212,11 @@ public class ProcessedVulnerabilityScanResultProcessorTest extends AbstractProce
             assertThat(subject.getFindingsCount()).isZero();
         });
 
-        await("Internal event publish")
-                .atMost(Duration.ofSeconds(1))
-                .untilAsserted(() -> assertThat(EVENTS).satisfiesExactly(
-                        event -> {
-                            assertThat(event).isInstanceOf(ProjectPolicyEvaluationEvent.class);
-                            final var policyEvalEvent = (ProjectPolicyEvaluationEvent) event;
-                            assertThat(policyEvalEvent.getUuid()).isEqualTo(project.getUuid());
-                            assertThat(policyEvalEvent.getChainIdentifier()).isEqualTo(workflowToken);
-                        },
-                        event -> {
-                            assertThat(event).isInstanceOf(ProjectMetricsUpdateEvent.class);
-                            final var metricsUpdateEvent = (ProjectMetricsUpdateEvent) event;
-                            assertThat(metricsUpdateEvent.getUuid()).isEqualTo(project.getUuid());
-                            assertThat(metricsUpdateEvent.getChainIdentifier()).isEqualTo(workflowToken);
-                        }
-                ));
+        assertThat(getFollowUps()).satisfiesExactly(followUp -> {
+            assertThat(followUp.targetType()).isEqualTo(VulnerabilityScan.TargetType.PROJECT);
+            assertThat(followUp.targetIdentifier()).isEqualTo(project.getUuid());
+            assertThat(followUp.workflowTokens()).containsExactly(workflowToken);
+        });
     }
 
     @Test
@@ -314,12 +273,10 @@ public class ProcessedVulnerabilityScanResultProcessorTest extends AbstractProce
                 }
         );
 
-        await("Internal event publish")
-                .atMost(Duration.ofSeconds(1))
-                .untilAsserted(() -> assertThat(EVENTS).satisfiesExactly(
-                        event -> assertThat(event).isInstanceOf(ProjectPolicyEvaluationEvent.class),
-                        event -> assertThat(event).isInstanceOf(ProjectMetricsUpdateEvent.class)
-                ));
+        assertThat(getFollowUps()).satisfiesExactly(followUp -> {
+            assertThat(followUp.targetType()).isEqualTo(VulnerabilityScan.TargetType.PROJECT);
+            assertThat(followUp.targetIdentifier()).isEqualTo(project.getUuid());
+        });
     }
 
     @Test
@@ -377,7 +334,7 @@ public class ProcessedVulnerabilityScanResultProcessorTest extends AbstractProce
                 }
         );
 
-        assertThat(EVENTS).isEmpty();
+        assertThat(getFollowUps()).isEmpty();
     }
 
     @Test
@@ -414,12 +371,10 @@ public class ProcessedVulnerabilityScanResultProcessorTest extends AbstractProce
         assertThat(kafkaMockProducer.history()).satisfiesExactly(record ->
                 assertThat(record.topic()).isEqualTo(KafkaTopics.NOTIFICATION_PROJECT_VULN_ANALYSIS_COMPLETE.name()));
 
-        await("Internal event publish")
-                .atMost(Duration.ofSeconds(1))
-                .untilAsserted(() -> assertThat(EVENTS).satisfiesExactly(
-                        event -> assertThat(event).isInstanceOf(ProjectPolicyEvaluationEvent.class),
-                        event -> assertThat(event).isInstanceOf(ProjectMetricsUpdateEvent.class)
-                ));
+        assertThat(getFollowUps()).satisfiesExactly(followUp -> {
+            assertThat(followUp.targetType()).isEqualTo(VulnerabilityScan.TargetType.PROJECT);
+            assertThat(followUp.targetIdentifier()).isEqualTo(project.getUuid());
+        });
     }
 
     @Test
@@ -469,33 +424,22 @@ public class ProcessedVulnerabilityScanResultProcessorTest extends AbstractProce
 
         assertThat(kafkaMockProducer.history()).isEmpty();
 
-        await("Internal event publish")
-                .atMost(Duration.ofSeconds(1))
-                .untilAsserted(() -> assertThat(EVENTS).satisfiesExactly(
-                        event -> {
-                            assertThat(event).isInstanceOf(ComponentPolicyEvaluationEvent.class);
-                            final var policyEvalEvent = (ComponentPolicyEvaluationEvent) event;
-                            assertThat(policyEvalEvent.getUuid()).isEqualTo(component.getUuid());
-                            assertThat(policyEvalEvent.getChainIdentifier()).isEqualTo(workflowToken);
-                        },
-                        event -> {
-                            assertThat(event).isInstanceOf(ComponentMetricsUpdateEvent.class);
-                            final var metricsUpdateEvent = (ComponentMetricsUpdateEvent) event;
-                            assertThat(metricsUpdateEvent.getUuid()).isEqualTo(component.getUuid());
-                            assertThat(metricsUpdateEvent.getChainIdentifier()).isEqualTo(workflowToken);
-                        }
-                ));
+        assertThat(getFollowUps()).satisfiesExactly(followUp -> {
+            assertThat(followUp.targetType()).isEqualTo(VulnerabilityScan.TargetType.COMPONENT);
+            assertThat(followUp.targetIdentifier()).isEqualTo(component.getUuid());
+            assertThat(followUp.workflowTokens()).containsExactly(workflowToken);
+        });
     }
 
-    private static final ConcurrentLinkedQueue<Event> EVENTS = new ConcurrentLinkedQueue<>();
-
-    public static class EventSubscriber implements Subscriber {
-
-        @Override
-        public void inform(final Event event) {
-            EVENTS.add(event);
-        }
-
+    private static List<FollowUp> getFollowUps() {
+        return withJdbiHandle(handle -> handle.createQuery("""
+                        SELECT *
+                          FROM "VULNERABILITYSCAN_FOLLOWUP"
+                         ORDER BY "ID"
+                        """)
+                .registerRowMapper(ConstructorMapper.factory(FollowUp.class))
+                .mapTo(FollowUp.class)
+                .list());
     }
 
 }
\ No newline at end of file
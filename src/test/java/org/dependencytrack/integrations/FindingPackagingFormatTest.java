@@ -32,6 +32,7 @@ import org.json.JSONObject;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.StringWriter;
 import java.math.BigDecimal;
 import java.util.Collections;
 import java.util.Date;
@@ -139,4 +140,27 @@ public class FindingPackagingFormatTest extends PersistenceCapableTest {
         Assert.assertFalse(finalJsonOutput.contains("allBySource"));
     }
 
+    @Test
+    public void testWriteMatchesDocument() {
+        Project project = qm.createProject(
+                "Test", "Sample project", "1.0", null, null, null, null, false);
+
+        Finding finding = new Finding(project.getUuid(), "component-uuid-1", "component-name-1", "component-group",
+                "component-version", "component-purl", "component-cpe", "vuln-uuid", Vulnerability.Source.GITHUB, "vuln-vulnId-1", "vuln-title",
+                "vuln-subtitle", "vuln-description", "vuln-recommendation", Severity.CRITICAL, BigDecimal.valueOf(7.2), BigDecimal.valueOf(8.4), "cvssV2-vector", "cvssV3-vector", BigDecimal.valueOf(1.25), BigDecimal.valueOf(1.75), BigDecimal.valueOf(1.3),
+                "owasp-vector", BigDecimal.valueOf(0.5), BigDecimal.valueOf(0.9), null, AnalyzerIdentity.OSSINDEX_ANALYZER, new Date(), null, null, AnalysisState.NOT_AFFECTED, true);
+        var alias = new VulnerabilityAlias();
+        alias.setCveId("someCveId");
+        finding.addVulnerabilityAliases(List.of(alias));
+
+        FindingPackagingFormat fpf = new FindingPackagingFormat(project.getUuid(), List.of(finding));
+
+        StringWriter writer = new StringWriter();
+        fpf.write(writer);
+
+        JSONObject written = new JSONObject(writer.toString());
+        Assert.assertEquals(1, written.getJSONArray("findings").length());
+        Assert.assertTrue(written.similar(new JSONObject(fpf.getDocument().toString())));
+    }
+
 }
@@ -91,7 +91,7 @@ public class FortifySscClientTest {
         FortifySscUploader uploader = new FortifySscUploader();
         FortifySscClient client = new FortifySscClient(uploader, new URL(wireMockRule.baseUrl() + "/ssc"));
         InputStream stream = new ByteArrayInputStream("test input".getBytes());
-        client.uploadDependencyTrackFindings(token, applicationVersion, stream);
+        Assert.assertTrue(client.uploadDependencyTrackFindings(token, applicationVersion, stream));
 
         WireMock.verify(WireMock.postRequestedFor(WireMock.urlPathEqualTo("/ssc/upload/resultFileUpload.html"))
                 .withQueryParam("engineType", new EqualToPattern("DEPENDENCY_TRACK"))
@@ -114,7 +114,7 @@ public class FortifySscClientTest {
         FortifySscUploader uploader = new FortifySscUploader();
         FortifySscClient client = new FortifySscClient(uploader, new URL(wireMockRule.baseUrl() + "/ssc"));
         InputStream stream = new ByteArrayInputStream("test input".getBytes());
-        client.uploadDependencyTrackFindings(token, applicationVersion, stream);
+        Assert.assertFalse(client.uploadDependencyTrackFindings(token, applicationVersion, stream));
 
         WireMock.verify(WireMock.postRequestedFor(WireMock.urlPathEqualTo("/ssc/upload/resultFileUpload.html"))
                 .withQueryParam("engineType", new EqualToPattern("DEPENDENCY_TRACK"))
@@ -28,9 +28,11 @@ import java.util.Map;
 
 public class GroupedFindingTest extends PersistenceCapableTest {
     private Date published = new Date();
+    private Date firstAttributedOn = new Date(published.getTime() - 1000);
+    private Date lastAttributedOn = new Date(published.getTime() + 1000);
 
     private GroupedFinding groupedFinding = new GroupedFinding("vuln-source", "vuln-vulnId", "vuln-title",
-            Severity.HIGH, BigDecimal.valueOf(8.5), BigDecimal.valueOf(8.4), null, null, null, AnalyzerIdentity.INTERNAL_ANALYZER, published, null, 3);
+            Severity.HIGH, BigDecimal.valueOf(8.5), BigDecimal.valueOf(8.4), null, null, null, AnalyzerIdentity.INTERNAL_ANALYZER, published, null, 3, firstAttributedOn, lastAttributedOn, 1);
 
 
     @Test
@@ -50,5 +52,7 @@ public class GroupedFindingTest extends PersistenceCapableTest {
     public void testAttribution() {
         Map map = groupedFinding.getAttribution();
         Assert.assertEquals(AnalyzerIdentity.INTERNAL_ANALYZER, map.get("analyzerIdentity"));
+        Assert.assertEquals(firstAttributedOn, map.get("firstAttributedOn"));
+        Assert.assertEquals(lastAttributedOn, map.get("lastAttributedOn"));
     }
 }
\ No newline at end of file
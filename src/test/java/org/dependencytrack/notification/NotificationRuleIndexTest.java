@@ -0,0 +1,111 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.notification;
+
+import alpine.notification.NotificationLevel;
+import org.dependencytrack.persistence.jdbi.NotificationRuleDao.SubscriptionRow;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NotificationRuleIndexTest {
+
+    @Test
+    public void testIsSubscribedWithoutRules() {
+        final var index = new NotificationRuleIndex(true, Duration.ofMinutes(5), List::of);
+        assertThat(index.isSubscribed(NotificationScope.PORTFOLIO, NotificationGroup.NEW_VULNERABILITY, NotificationLevel.INFORMATIONAL)).isFalse();
+    }
+
+    @Test
+    public void testIsSubscribedWhenDisabled() {
+        final var index = new NotificationRuleIndex(false, Duration.ofMinutes(5), List::of);
+        assertThat(index.isSubscribed(NotificationScope.PORTFOLIO, NotificationGroup.NEW_VULNERABILITY, NotificationLevel.INFORMATIONAL)).isTrue();
+    }
+
+    @Test
+    public void testIsSubscribedWhenLoadingFails() {
+        final var index = new NotificationRuleIndex(true, Duration.ofMinutes(5), () -> {
+            throw new IllegalStateException("boom");
+        });
+        assertThat(index.isSubscribed(NotificationScope.PORTFOLIO, NotificationGroup.NEW_VULNERABILITY, NotificationLevel.INFORMATIONAL)).isTrue();
+    }
+
+    @Test
+    public void testIsSubscribedByScopeGroupAndLevel() {
+        final var index = new NotificationRuleIndex(true, Duration.ofMinutes(5), () -> List.of(
+                new SubscriptionRow("PORTFOLIO", "INFORMATIONAL", "NEW_VULNERABILITY,BOM_PROCESSED", null, false, false),
+                new SubscriptionRow("SYSTEM", "ERROR", "ANALYZER", null, false, false)));
+
+        assertThat(index.isSubscribed(NotificationScope.PORTFOLIO, NotificationGroup.NEW_VULNERABILITY, NotificationLevel.INFORMATIONAL)).isTrue();
+        assertThat(index.isSubscribed(NotificationScope.PORTFOLIO, NotificationGroup.BOM_PROCESSED, NotificationLevel.INFORMATIONAL)).isTrue();
+        assertThat(index.isSubscribed(NotificationScope.PORTFOLIO, NotificationGroup.POLICY_VIOLATION, NotificationLevel.INFORMATIONAL)).isFalse();
+        assertThat(index.isSubscribed(NotificationScope.SYSTEM, NotificationGroup.NEW_VULNERABILITY, NotificationLevel.INFORMATIONAL)).isFalse();
+
+        // Rules match notifications of their own level, or of higher severity.
+        assertThat(index.isSubscribed(NotificationScope.SYSTEM, NotificationGroup.ANALYZER, NotificationLevel.ERROR)).isTrue();
+        assertThat(index.isSubscribed(NotificationScope.SYSTEM, NotificationGroup.ANALYZER, NotificationLevel.WARNING)).isFalse();
+        assertThat(index.isSubscribed(NotificationScope.SYSTEM, NotificationGroup.ANALYZER, NotificationLevel.INFORMATIONAL)).isFalse();
+    }
+
+    @Test
+    public void testIsSubscribedByProject() {
+        final UUID projectUuidA = UUID.randomUUID();
+        final UUID projectUuidB = UUID.randomUUID();
+
+        final var index = new NotificationRuleIndex(true, Duration.ofMinutes(5), () -> List.of(
+                new SubscriptionRow("PORTFOLIO", "INFORMATIONAL", "NEW_VULNERABILITY", List.of(projectUuidA), false, false),
+                new SubscriptionRow("PORTFOLIO", "INFORMATIONAL", "POLICY_VIOLATION", List.of(projectUuidA), true, false),
+                new SubscriptionRow("PORTFOLIO", "INFORMATIONAL", "BOM_PROCESSED", List.of(projectUuidA), false, true)));
+
+        assertThat(index.isSubscribed(NotificationScope.PORTFOLIO, NotificationGroup.NEW_VULNERABILITY, NotificationLevel.INFORMATIONAL, projectUuidA)).isTrue();
+        assertThat(index.isSubscribed(NotificationScope.PORTFOLIO, NotificationGroup.NEW_VULNERABILITY, NotificationLevel.INFORMATIONAL, projectUuidB)).isFalse();
+        assertThat(index.isSubscribed(NotificationScope.PORTFOLIO, NotificationGroup.NEW_VULNERABILITY, NotificationLevel.INFORMATIONAL, null)).isTrue();
+
+        // Rules limited to tags, or to projects and their children, are assumed to match all projects.
+        assertThat(index.isSubscribed(NotificationScope.PORTFOLIO, NotificationGroup.POLICY_VIOLATION, NotificationLevel.INFORMATIONAL, projectUuidB)).isTrue();
+        assertThat(index.isSubscribed(NotificationScope.PORTFOLIO, NotificationGroup.BOM_PROCESSED, NotificationLevel.INFORMATIONAL, projectUuidB)).isTrue();
+    }
+
+    @Test
+    public void testInvalidate() {
+        final var rows = new ArrayList<SubscriptionRow>();
+        final var loadCount = new AtomicInteger();
+        final var index = new NotificationRuleIndex(true, Duration.ofMinutes(5), () -> {
+            loadCount.incrementAndGet();
+            return List.copyOf(rows);
+        });
+
+        assertThat(index.isSubscribed(NotificationScope.PORTFOLIO, NotificationGroup.NEW_VULNERABILITY, NotificationLevel.INFORMATIONAL)).isFalse();
+
+        rows.add(new SubscriptionRow("PORTFOLIO", "INFORMATIONAL", "NEW_VULNERABILITY", null, false, false));
+        assertThat(index.isSubscribed(NotificationScope.PORTFOLIO, NotificationGroup.NEW_VULNERABILITY, NotificationLevel.INFORMATIONAL)).isFalse();
+        assertThat(loadCount).hasValue(1);
+
+        index.invalidate();
+        assertThat(index.isSubscribed(NotificationScope.PORTFOLIO, NotificationGroup.NEW_VULNERABILITY, NotificationLevel.INFORMATIONAL)).isTrue();
+        assertThat(loadCount).hasValue(2);
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.observability;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class ProcessingStageTimerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProcessingStageTimer stageTimer;
+
+    @Before
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        stageTimer = new ProcessingStageTimer(meterRegistry, "test");
+    }
+
+    @Test
+    public void testTimeWithSuccess() {
+        final String result = stageTimer.time("foo", () -> "bar");
+        assertThat(result).isEqualTo("bar");
+
+        stageTimer.run("foo", () -> {
+        });
+
+        final Timer timer = meterRegistry.find(ProcessingStageTimer.METER_NAME)
+                .tag("process", "test")
+                .tag("stage", "foo")
+                .tag("outcome", "success")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(2);
+    }
+
+    @Test
+    public void testTimeWithFailure() {
+        assertThatExceptionOfType(IOException.class)
+                .isThrownBy(() -> stageTimer.run("foo", () -> {
+                    throw new IOException("boom");
+                }));
+
+        assertThat(meterRegistry.find(ProcessingStageTimer.METER_NAME)
+                .tag("stage", "foo")
+                .tag("outcome", "success")
+                .timer()).isNull();
+
+        final Timer timer = meterRegistry.find(ProcessingStageTimer.METER_NAME)
+                .tag("stage", "foo")
+                .tag("outcome", "failure")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+}
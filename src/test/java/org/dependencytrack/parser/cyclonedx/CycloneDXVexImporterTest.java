@@ -19,10 +19,12 @@
 package org.dependencytrack.parser.cyclonedx;
 
 import org.assertj.core.api.Assertions;
+import org.cyclonedx.model.Bom;
 import org.cyclonedx.parsers.BomParserFactory;
 import org.dependencytrack.PersistenceCapableTest;
 import org.dependencytrack.model.Analysis;
 import org.dependencytrack.model.AnalysisJustification;
+import org.dependencytrack.model.AnalysisResponse;
 import org.dependencytrack.model.AnalysisState;
 import org.dependencytrack.model.AnalyzerIdentity;
 import org.dependencytrack.model.Component;
@@ -142,4 +144,76 @@ public class CycloneDXVexImporterTest extends PersistenceCapableTest {
         });
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldAuditVulnerabilityOfIndividualComponentUsingVex() {
+        var project = qm.createProject("Acme Example", null, "1.0", null, null, null, null, false);
+
+        var componentA = new Component();
+        componentA.setProject(project);
+        componentA.setName("acme-lib-a");
+        componentA.setVersion("1.0");
+        componentA.setPurl("pkg:maven/com.acme/acme-lib-a@1.0");
+        componentA = qm.createComponent(componentA, false);
+
+        var componentB = new Component();
+        componentB.setProject(project);
+        componentB.setName("acme-lib-b");
+        componentB.setVersion("1.0");
+        componentB = qm.createComponent(componentB, false);
+
+        var vulnerability = new Vulnerability();
+        vulnerability.setVulnId("INT-001");
+        vulnerability.setSource(Vulnerability.Source.INTERNAL);
+        vulnerability.setSeverity(Severity.HIGH);
+        vulnerability = qm.createVulnerability(vulnerability, false);
+        qm.addVulnerability(vulnerability, componentA, AnalyzerIdentity.NONE);
+        qm.addVulnerability(vulnerability, componentB, AnalyzerIdentity.NONE);
+
+        qm.makeAnalysis(componentA, vulnerability, AnalysisState.IN_TRIAGE, null, null, null, false);
+
+        final var cdxComponent = new org.cyclonedx.model.Component();
+        cdxComponent.setBomRef("acme-lib-a");
+        cdxComponent.setName("acme-lib-a");
+        cdxComponent.setVersion("1.0");
+        cdxComponent.setPurl("pkg:maven/com.acme/acme-lib-a@1.0");
+
+        final var cdxAnalysis = new org.cyclonedx.model.vulnerability.Vulnerability.Analysis();
+        cdxAnalysis.setState(org.cyclonedx.model.vulnerability.Vulnerability.Analysis.State.NOT_AFFECTED);
+        cdxAnalysis.setResponses(List.of(org.cyclonedx.model.vulnerability.Vulnerability.Analysis.Response.WILL_NOT_FIX));
+
+        final var cdxVulnSource = new org.cyclonedx.model.vulnerability.Vulnerability.Source();
+        cdxVulnSource.setName("INTERNAL");
+
+        final var cdxAffect = new org.cyclonedx.model.vulnerability.Vulnerability.Affect();
+        cdxAffect.setRef("acme-lib-a");
+
+        final var cdxVuln = new org.cyclonedx.model.vulnerability.Vulnerability();
+        cdxVuln.setId("INT-001");
+        cdxVuln.setSource(cdxVulnSource);
+        cdxVuln.setAnalysis(cdxAnalysis);
+        cdxVuln.setAffects(List.of(cdxAffect));
+
+        final var vex = new Bom();
+        vex.setComponents(List.of(cdxComponent));
+        vex.setVulnerabilities(List.of(cdxVuln));
+
+        vexImporter.applyVex(qm, vex, project);
+
+        qm.getPersistenceManager().evictAll();
+        Assertions.assertThat(qm.getAnalysis(componentB, vulnerability)).isNull();
+
+        final Analysis analysis = qm.getAnalysis(componentA, vulnerability);
+        Assertions.assertThat(analysis).isNotNull();
+        Assertions.assertThat(analysis.getAnalysisState()).isEqualTo(AnalysisState.NOT_AFFECTED);
+        Assertions.assertThat(analysis.getAnalysisResponse()).isEqualTo(AnalysisResponse.WILL_NOT_FIX);
+        Assertions.assertThat(analysis.isSuppressed()).isTrue();
+        Assertions.assertThat(analysis.getAnalysisComments()).satisfiesExactlyInAnyOrder(comment -> {
+            Assertions.assertThat(comment.getCommenter()).isEqualTo("CycloneDX VEX");
+            Assertions.assertThat(comment.getComment()).isEqualTo("Analysis: IN_TRIAGE → NOT_AFFECTED");
+        }, comment -> {
+            Assertions.assertThat(comment.getCommenter()).isEqualTo("CycloneDX VEX");
+            Assertions.assertThat(comment.getComment()).isEqualTo("Vendor Response: NOT_SET → WILL_NOT_FIX");
+        });
+    }
+
+}
@@ -95,6 +95,56 @@ public class PolicyQueryManagerTest extends PersistenceCapableTest {
         );
     }
 
+    @Test
+    public void testGetApplicablePoliciesWithMultipleMatchingTagsAndAncestors() {
+        final var grandParentProject = new Project();
+        grandParentProject.setName("grandParent");
+        qm.persist(grandParentProject);
+
+        final var parentProject = new Project();
+        parentProject.setParent(grandParentProject);
+        parentProject.setName("parent");
+        qm.persist(parentProject);
+
+        final var childProject = new Project();
+        childProject.setParent(parentProject);
+        childProject.setName("child");
+        qm.persist(childProject);
+
+        final Tag tagA = qm.createTag("foo");
+        final Tag tagB = qm.createTag("bar");
+        qm.bind(childProject, List.of(tagA, tagB));
+
+        final var tagPolicy = new Policy();
+        tagPolicy.setName("tagPolicy");
+        tagPolicy.setOperator(Policy.Operator.ANY);
+        tagPolicy.setViolationState(Policy.ViolationState.FAIL);
+        qm.persist(tagPolicy);
+        qm.bind(tagPolicy, List.of(tagA, tagB));
+
+        final var inheritedPolicy = new Policy();
+        inheritedPolicy.setName("inheritedPolicy");
+        inheritedPolicy.setOperator(Policy.Operator.ANY);
+        inheritedPolicy.setViolationState(Policy.ViolationState.FAIL);
+        inheritedPolicy.setProjects(List.of(grandParentProject, parentProject));
+        inheritedPolicy.setIncludeChildren(true);
+        qm.persist(inheritedPolicy);
+
+        final var nonInheritedPolicy = new Policy();
+        nonInheritedPolicy.setName("nonInheritedPolicy");
+        nonInheritedPolicy.setOperator(Policy.Operator.ANY);
+        nonInheritedPolicy.setViolationState(Policy.ViolationState.FAIL);
+        nonInheritedPolicy.setProjects(List.of(grandParentProject));
+        nonInheritedPolicy.setIncludeChildren(false);
+        qm.persist(nonInheritedPolicy);
+
+        // Policies matching via multiple tags or ancestors must be reported only once.
+        assertThat(qm.getApplicablePolicies(childProject)).satisfiesExactly(
+                policy -> assertThat(policy.getName()).isEqualTo("tagPolicy"),
+                policy -> assertThat(policy.getName()).isEqualTo("inheritedPolicy")
+        );
+    }
+
     @Test
     public void testRemoveProjectFromPolicies() {
         final Project project = qm.createProject("ACME Example", null, "1.0", null, null, null, null, false);
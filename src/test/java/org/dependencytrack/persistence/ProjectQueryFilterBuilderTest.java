@@ -29,11 +29,11 @@ import static org.junit.Assert.assertTrue;
 public class ProjectQueryFilterBuilderTest {
 
     @Test
-    public void testEmptyBuilderBuildsEmptyFilter() {
+    public void testEmptyBuilderOnlyExcludesProjectsPendingDeletion() {
         var builder = new ProjectQueryFilterBuilder();
         var filter = builder.buildFilter();
         assertNotNull(filter);
-        assertTrue(filter.isEmpty());
+        assertEquals("(deletionRequestedAt == null)", filter);
     }
 
     @Test
@@ -49,7 +49,7 @@ public class ProjectQueryFilterBuilderTest {
         var testName = "test";
         var builder = new ProjectQueryFilterBuilder().withName(testName);
         assertEquals(Map.of("name", testName), builder.getParams());
-        assertEquals("(name == :name)", builder.buildFilter());
+        assertEquals("(deletionRequestedAt == null) && (name == :name)", builder.buildFilter());
     }
 
 }
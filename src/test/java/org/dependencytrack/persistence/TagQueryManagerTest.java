@@ -24,6 +24,11 @@ import org.junit.Test;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -36,6 +41,34 @@ public class TagQueryManagerTest extends PersistenceCapableTest {
         );
     }
 
+    @Test
+    public void testTagIsCreatedConcurrently() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(10);
+        final var countDownLatch = new CountDownLatch(1);
+
+        final var tagIds = new ArrayBlockingQueue<Long>(50);
+        for (int i = 0; i < 50; i++) {
+            executor.submit(() -> {
+                try {
+                    countDownLatch.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+
+                try (final var qm = new QueryManager()) {
+                    tagIds.offer(qm.createTag("test-tag").getId());
+                }
+            });
+        }
+
+        countDownLatch.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(15, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(tagIds).hasSize(50);
+        assertThat(tagIds).containsOnly(qm.getTagByName("test-tag").getId());
+    }
+
     @Test
     public void testShouldGetTagByName() {
         Tag tag = new Tag();
@@ -89,4 +122,20 @@ public class TagQueryManagerTest extends PersistenceCapableTest {
                 tag -> assertThat(tag.getName()).isEqualTo(tag2.getName())
         );
     }
+
+    @Test
+    public void testTagsAreResolvedByNameWithDuplicates() {
+        final Tag existingTag = qm.createTag("foo");
+
+        final List<Tag> resolvedTags = qm.resolveTagsByName(List.of("foo", " Foo ", "bar", "BAR", " "));
+        assertThat(resolvedTags).satisfiesExactlyInAnyOrder(
+                tag -> assertThat(tag.getId()).isEqualTo(existingTag.getId()),
+                tag -> assertThat(tag.getName()).isEqualTo("bar"));
+
+        // Resolving again must not create any new tags.
+        assertThat(qm.resolveTagsByName(List.of("bar", "foo")))
+                .extracting(Tag::getId)
+                .containsExactlyInAnyOrderElementsOf(resolvedTags.stream().map(Tag::getId).toList());
+    }
+
 }
@@ -199,7 +199,7 @@ public class ProjectDaoTest extends PersistenceCapableTest {
         serviceComponent.setProject(project);
         qm.persist(serviceComponent);
 
-        projectDao.deleteProject(project.getUuid());
+        projectDao.deleteProjectById(project.getId());
 
         // Ensure everything has been deleted as expected.
         assertThatExceptionOfType(JDOObjectNotFoundException.class).isThrownBy(() -> qm.getObjectById(Project.class, project.getId()));
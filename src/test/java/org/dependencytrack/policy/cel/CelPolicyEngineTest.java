@@ -48,6 +48,7 @@ import org.dependencytrack.model.ViolationAnalysisState;
 import org.dependencytrack.model.Vulnerability;
 import org.dependencytrack.model.VulnerabilityAlias;
 import org.dependencytrack.persistence.DefaultObjectGenerator;
+import org.dependencytrack.policy.cel.persistence.PolicyEvaluationFingerprintDao;
 import org.dependencytrack.tasks.BomUploadProcessingTask;
 import org.junit.Assert;
 import org.junit.Before;
@@ -70,6 +71,7 @@ import java.util.UUID;
 import static org.apache.commons.io.IOUtils.resourceToURL;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
 
 public class CelPolicyEngineTest extends PersistenceCapableTest {
 
@@ -1738,6 +1740,103 @@ public class CelPolicyEngineTest extends PersistenceCapableTest {
         assertThat(qm.getAllPolicyViolations(componentA)).hasSize(1);
     }
 
+    @Test
+    public void testEvaluateProjectIncrementally() {
+        final var policy = qm.createPolicy("policy", Policy.Operator.ANY, Policy.ViolationState.FAIL);
+        qm.createPolicyCondition(policy, PolicyCondition.Subject.EXPRESSION, PolicyCondition.Operator.MATCHES, """
+                component.name == "acme-lib"
+                """, PolicyViolation.Type.OPERATIONAL);
+
+        final var project = new Project();
+        project.setName("acme-app");
+        qm.persist(project);
+
+        final var componentA = new Component();
+        componentA.setProject(project);
+        componentA.setName("acme-lib");
+        qm.persist(componentA);
+
+        final var componentB = new Component();
+        componentB.setProject(project);
+        componentB.setName("acme-other-lib");
+        qm.persist(componentB);
+
+        new CelPolicyEngine().evaluateProject(project.getUuid());
+        assertThat(qm.getAllPolicyViolations(componentA)).hasSize(1);
+        assertThat(qm.getAllPolicyViolations(componentB)).isEmpty();
+        final long violationIdA = qm.getAllPolicyViolations(componentA).getFirst().getId();
+
+        assertThat(withJdbiHandle(handle -> handle.attach(PolicyEvaluationFingerprintDao.class)
+                .getFingerprintsByComponentId(project.getId()))).containsOnlyKeys(componentA.getId(), componentB.getId());
+
+        componentB.setName("acme-lib");
+        qm.persist(componentB);
+
+        new CelPolicyEngine().evaluateProject(project.getUuid());
+        assertThat(qm.getAllPolicyViolations(componentB)).hasSize(1);
+
+        // Component A did not change, so its violation must have been retained as-is.
+        assertThat(qm.getAllPolicyViolations(componentA)).satisfiesExactly(violation ->
+                assertThat(violation.getId()).isEqualTo(violationIdA));
+    }
+
+    @Test
+    public void testEvaluateProjectInChunks() {
+        final var policy = qm.createPolicy("policy", Policy.Operator.ANY, Policy.ViolationState.FAIL);
+        qm.createPolicyCondition(policy, PolicyCondition.Subject.EXPRESSION, PolicyCondition.Operator.MATCHES, """
+                component.resolved_license.id == "Apache-2.0"
+                  && vulns.exists(vuln, vuln.severity == "CRITICAL")
+                """, PolicyViolation.Type.OPERATIONAL);
+
+        final var project = new Project();
+        project.setName("acme-app");
+        qm.persist(project);
+
+        final var license = new License();
+        license.setLicenseId("Apache-2.0");
+        license.setName("Apache License 2.0");
+        qm.persist(license);
+
+        final var vuln = new Vulnerability();
+        vuln.setVulnId("INT-001");
+        vuln.setSource(Vulnerability.Source.INTERNAL);
+        vuln.setSeverity(Severity.CRITICAL);
+        qm.persist(vuln);
+
+        // Spread components with and without the shared license and vulnerability across multiple chunks.
+        final var components = new ArrayList<Component>();
+        for (int i = 0; i < 5; i++) {
+            final var component = new Component();
+            component.setProject(project);
+            component.setName("acme-lib-" + i);
+            if (i % 2 == 0) {
+                component.setResolvedLicense(license);
+            }
+            qm.persist(component);
+            if (i != 4) {
+                qm.addVulnerability(vuln, component, AnalyzerIdentity.INTERNAL_ANALYZER);
+            }
+            components.add(component);
+        }
+
+        new CelPolicyEngine(CelPolicyScriptHost.getInstance(CelPolicyType.COMPONENT), 2).evaluateProject(project.getUuid());
+        assertThat(qm.getAllPolicyViolations(components.get(0))).hasSize(1);
+        assertThat(qm.getAllPolicyViolations(components.get(1))).isEmpty();
+        assertThat(qm.getAllPolicyViolations(components.get(2))).hasSize(1);
+        assertThat(qm.getAllPolicyViolations(components.get(3))).isEmpty();
+        assertThat(qm.getAllPolicyViolations(components.get(4))).isEmpty();
+
+        assertThat(withJdbiHandle(handle -> handle.attach(PolicyEvaluationFingerprintDao.class)
+                .getFingerprintsByComponentId(project.getId()))).hasSize(5);
+
+        // Violations are reconciled per chunk, which must not affect violations of other chunks.
+        qm.removeVulnerability(vuln, components.get(0));
+        new CelPolicyEngine(CelPolicyScriptHost.getInstance(CelPolicyType.COMPONENT), 2).evaluateProject(project.getUuid());
+        assertThat(qm.getAllPolicyViolations(components.get(0))).isEmpty();
+        assertThat(qm.getAllPolicyViolations(components.get(2))).hasSize(1);
+        assertThat(qm.getAllPolicyViolations(project)).hasSize(1);
+    }
+
     @Test
     public void testEvaluateProjectWhenProjectDoesNotExist() {
         assertThatNoException().isThrownBy(() -> new CelPolicyEngine().evaluateProject(UUID.randomUUID()));
@@ -1763,6 +1862,37 @@ public class CelPolicyEngineTest extends PersistenceCapableTest {
         assertThat(qm.getAllPolicyViolations(component)).hasSize(1);
     }
 
+    @Test
+    public void testEvaluateComponentDoesNotEvaluateOtherComponents() {
+        final var policy = qm.createPolicy("policy", Policy.Operator.ANY, Policy.ViolationState.FAIL);
+        qm.createPolicyCondition(policy, PolicyCondition.Subject.EXPRESSION, PolicyCondition.Operator.MATCHES, """
+                component.name.startsWith("acme-")
+                """, PolicyViolation.Type.OPERATIONAL);
+
+        final var project = new Project();
+        project.setName("acme-app");
+        qm.persist(project);
+
+        final var componentA = new Component();
+        componentA.setProject(project);
+        componentA.setName("acme-lib-a");
+        qm.persist(componentA);
+
+        final var componentB = new Component();
+        componentB.setProject(project);
+        componentB.setName("acme-lib-b");
+        qm.persist(componentB);
+
+        new CelPolicyEngine().evaluateComponent(componentA.getUuid());
+        assertThat(qm.getAllPolicyViolations(componentA)).hasSize(1);
+        assertThat(qm.getAllPolicyViolations(componentB)).isEmpty();
+
+        // Violations of other components must be retained when evaluating a single component.
+        new CelPolicyEngine().evaluateComponent(componentB.getUuid());
+        assertThat(qm.getAllPolicyViolations(componentA)).hasSize(1);
+        assertThat(qm.getAllPolicyViolations(componentB)).hasSize(1);
+    }
+
     @Test
     public void testEvaluateComponentWhenComponentDoesNotExist() {
         assertThatNoException().isThrownBy(() -> new CelPolicyEngine().evaluateComponent(UUID.randomUUID()));
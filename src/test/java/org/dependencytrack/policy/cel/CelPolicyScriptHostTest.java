@@ -94,6 +94,23 @@ public class CelPolicyScriptHostTest {
                 "severity");
     }
 
+    @Test
+    public void testFeaturesAnalysis() throws Exception {
+        final CelPolicyScriptHost scriptHost = CelPolicyScriptHost.getInstance(CelPolicyType.COMPONENT);
+
+        assertThat(scriptHost.compile("""
+                component.name == "foo" && vulns.exists(vuln, vuln.severity == "HIGH")
+                """, CacheMode.NO_CACHE).getFeatures()).isEmpty();
+
+        assertThat(scriptHost.compile("""
+                project.depends_on(v1.Component{name: "foo"})
+                """, CacheMode.NO_CACHE).getFeatures()).containsOnly(CelPolicyScript.Feature.DEPENDENCY_GRAPH);
+
+        assertThat(scriptHost.compile("""
+                component.published_at < now
+                """, CacheMode.NO_CACHE).getFeatures()).containsOnly(CelPolicyScript.Feature.TIME);
+    }
+
     @Test
     public void testVisitVersRangeCheck() {
         var exception = assertThrows(ScriptCreateException.class, () -> CelPolicyScriptHost.getInstance(CelPolicyType.COMPONENT).compile("""
@@ -0,0 +1,74 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.policy.vulnerability;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VulnerabilityPolicyScopeTest {
+
+    @Test
+    public void testOfWithVulnIdsAndAliases() {
+        final VulnerabilityPolicyScope scope = VulnerabilityPolicyScope.of(createPolicy(
+                "vuln.id in [\"CVE-1\", \"GHSA-2\"] && component.name == \"acme-lib\"",
+                "vuln.aliases.exists(alias, alias.id == \"CVE-3\")"));
+        assertThat(scope.vulnIds()).containsExactlyInAnyOrder("CVE-1", "GHSA-2", "CVE-3");
+        assertThat(scope.isProjectBounded()).isFalse();
+    }
+
+    @Test
+    public void testOfWithProject() {
+        final VulnerabilityPolicyScope scope = VulnerabilityPolicyScope.of(createPolicy(
+                "project.name == \"acme-app\"", "vuln.severity == \"HIGH\""));
+        assertThat(scope.vulnIds()).isNull();
+        assertThat(scope.isProjectBounded()).isTrue();
+        assertThat(scope.projectNames()).containsOnly("acme-app");
+        assertThat(scope.projectUuids()).isEmpty();
+    }
+
+    @Test
+    public void testOfWithUnsafeOperators() {
+        assertThat(VulnerabilityPolicyScope.of(createPolicy("vuln.id == \"CVE-1\" || vuln.id == \"CVE-2\"")))
+                .isEqualTo(VulnerabilityPolicyScope.UNBOUNDED);
+        assertThat(VulnerabilityPolicyScope.of(createPolicy("!(vuln.id == \"CVE-1\")")))
+                .isEqualTo(VulnerabilityPolicyScope.UNBOUNDED);
+        assertThat(VulnerabilityPolicyScope.of(createPolicy("vuln.id != \"CVE-1\"")))
+                .isEqualTo(VulnerabilityPolicyScope.UNBOUNDED);
+    }
+
+    @Test
+    public void testMerge() {
+        final VulnerabilityPolicyScope scope = VulnerabilityPolicyScope.merge(List.of(
+                VulnerabilityPolicyScope.of(createPolicy("vuln.id == \"CVE-1\" && project.name == \"acme-app\"")),
+                VulnerabilityPolicyScope.of(createPolicy("vuln.id == \"CVE-2\""))));
+        assertThat(scope.vulnIds()).containsExactlyInAnyOrder("CVE-1", "CVE-2");
+        assertThat(scope.isProjectBounded()).isFalse();
+    }
+
+    private static VulnerabilityPolicy createPolicy(final String... conditions) {
+        final var policy = new VulnerabilityPolicy();
+        policy.setName("foo");
+        policy.setConditions(List.of(conditions));
+        return policy;
+    }
+
+}
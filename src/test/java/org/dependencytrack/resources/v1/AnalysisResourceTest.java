@@ -999,4 +999,153 @@ public class AnalysisResourceTest extends ResourceTest {
         assertThat(response.getStatus()).isEqualTo(200);
     }
 
+    @Test
+    public void updateAnalysesTest() {
+        initializeWithPermissions(Permissions.VULNERABILITY_ANALYSIS);
+
+        final Project project = qm.createProject("Acme Example", null, "1.0", null, null, null, null, false);
+
+        var componentA = new Component();
+        componentA.setProject(project);
+        componentA.setName("Acme Component A");
+        componentA = qm.createComponent(componentA, false);
+
+        var componentB = new Component();
+        componentB.setProject(project);
+        componentB.setName("Acme Component B");
+        componentB = qm.createComponent(componentB, false);
+
+        var vulnerability = new Vulnerability();
+        vulnerability.setVulnId("INT-001");
+        vulnerability.setSource(Vulnerability.Source.INTERNAL);
+        vulnerability.setSeverity(Severity.HIGH);
+        vulnerability.setComponents(List.of(componentA, componentB));
+        vulnerability = qm.createVulnerability(vulnerability, false);
+
+        final Analysis existingAnalysis = qm.makeAnalysis(componentB, vulnerability, AnalysisState.IN_TRIAGE,
+                null, null, null, true);
+
+        final Response response = jersey.target(V1_ANALYSIS + "/bulk")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .put(Entity.entity(/* language=JSON */ """
+                        {
+                          "findings": [
+                            {"component": "%s", "vulnerability": "%s"},
+                            {"component": "%s", "vulnerability": "%s"},
+                            {"component": "%s", "vulnerability": "%s"}
+                          ],
+                          "analysisState": "NOT_AFFECTED",
+                          "analysisJustification": "CODE_NOT_REACHABLE",
+                          "analysisDetails": "Analysis details here",
+                          "comment": "  Analysis comment here  ",
+                          "isSuppressed": false
+                        }
+                        """.formatted(
+                        componentA.getUuid(), vulnerability.getUuid(),
+                        componentB.getUuid(), vulnerability.getUuid(),
+                        componentA.getUuid(), vulnerability.getUuid()), MediaType.APPLICATION_JSON));
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThatJson(getPlainTextBody(response)).isEqualTo(/* language=JSON */ """
+                {
+                  "analyses": 2
+                }
+                """);
+
+        qm.getPersistenceManager().evictAll();
+
+        final Analysis analysisA = qm.getAnalysis(componentA, vulnerability);
+        assertThat(analysisA).isNotNull();
+        assertThat(analysisA.getAnalysisState()).isEqualTo(AnalysisState.NOT_AFFECTED);
+        assertThat(analysisA.getAnalysisJustification()).isEqualTo(AnalysisJustification.CODE_NOT_REACHABLE);
+        assertThat(analysisA.getAnalysisResponse()).isEqualTo(AnalysisResponse.NOT_SET);
+        assertThat(analysisA.getAnalysisDetails()).isEqualTo("Analysis details here");
+        assertThat(analysisA.isSuppressed()).isFalse();
+        assertThat(analysisA.getAnalysisComments()).satisfiesExactlyInAnyOrder(
+                comment -> assertThat(comment.getComment()).isEqualTo("Analysis: NOT_SET → NOT_AFFECTED"),
+                comment -> assertThat(comment.getComment()).isEqualTo("Analysis comment here"));
+
+        final Analysis analysisB = qm.getAnalysis(componentB, vulnerability);
+        assertThat(analysisB).isNotNull();
+        assertThat(analysisB.getId()).isEqualTo(existingAnalysis.getId());
+        assertThat(analysisB.getAnalysisState()).isEqualTo(AnalysisState.NOT_AFFECTED);
+        assertThat(analysisB.getAnalysisJustification()).isEqualTo(AnalysisJustification.CODE_NOT_REACHABLE);
+        assertThat(analysisB.getAnalysisResponse()).isEqualTo(AnalysisResponse.NOT_SET);
+        assertThat(analysisB.getAnalysisDetails()).isEqualTo("Analysis details here");
+        assertThat(analysisB.isSuppressed()).isFalse();
+        assertThat(analysisB.getAnalysisComments()).extracting(comment -> comment.getComment())
+                .containsExactlyInAnyOrder(
+                        "Analysis: IN_TRIAGE → NOT_AFFECTED",
+                        "Justification: NOT_SET → CODE_NOT_REACHABLE",
+                        "Vendor Response: NOT_SET → NOT_SET",
+                        "Details: Analysis details here",
+                        "Unsuppressed",
+                        "Analysis comment here");
+        assertThat(analysisB.getAnalysisComments()).allSatisfy(
+                comment -> assertThat(comment.getCommenter()).isEqualTo("Test Users"));
+
+        assertConditionWithTimeout(() -> kafkaMockProducer.history().size() == 3, Duration.ofSeconds(5));
+        assertThat(deserializeValue(KafkaTopics.NOTIFICATION_PROJECT_CREATED, kafkaMockProducer.history().get(0))).isNotNull();
+        for (int i = 1; i < 3; i++) {
+            final Notification notification = deserializeValue(KafkaTopics.NOTIFICATION_PROJECT_AUDIT_CHANGE, kafkaMockProducer.history().get(i));
+            assertThat(notification).isNotNull();
+            assertThat(notification.getScope()).isEqualTo(SCOPE_PORTFOLIO);
+            assertThat(notification.getGroup()).isEqualTo(GROUP_PROJECT_AUDIT_CHANGE);
+            assertThat(notification.getLevel()).isEqualTo(LEVEL_INFORMATIONAL);
+            assertThat(notification.getContent()).isEqualTo("An analysis decision was made to a finding affecting a project");
+        }
+    }
+
+    @Test
+    public void updateAnalysesWithComponentNotFoundTest() {
+        initializeWithPermissions(Permissions.VULNERABILITY_ANALYSIS);
+
+        final Project project = qm.createProject("Acme Example", null, "1.0", null, null, null, null, false);
+
+        var component = new Component();
+        component.setProject(project);
+        component.setName("Acme Component");
+        component = qm.createComponent(component, false);
+
+        var vulnerability = new Vulnerability();
+        vulnerability.setVulnId("INT-001");
+        vulnerability.setSource(Vulnerability.Source.INTERNAL);
+        vulnerability = qm.createVulnerability(vulnerability, false);
+
+        final Response response = jersey.target(V1_ANALYSIS + "/bulk")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .put(Entity.entity(/* language=JSON */ """
+                        {
+                          "findings": [
+                            {"component": "%s", "vulnerability": "%s"},
+                            {"component": "%s", "vulnerability": "%s"}
+                          ],
+                          "analysisState": "NOT_AFFECTED"
+                        }
+                        """.formatted(
+                        component.getUuid(), vulnerability.getUuid(),
+                        UUID.randomUUID(), vulnerability.getUuid()), MediaType.APPLICATION_JSON));
+        assertThat(response.getStatus()).isEqualTo(404);
+        assertThat(getPlainTextBody(response)).isEqualTo("One or more components or vulnerabilities could not be found.");
+
+        assertThat(qm.getAnalysis(component, vulnerability)).isNull();
+    }
+
+    @Test
+    public void updateAnalysesWithoutFindingsTest() {
+        initializeWithPermissions(Permissions.VULNERABILITY_ANALYSIS);
+
+        final Response response = jersey.target(V1_ANALYSIS + "/bulk")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .put(Entity.entity(/* language=JSON */ """
+                        {
+                          "findings": [],
+                          "analysisState": "NOT_AFFECTED"
+                        }
+                        """, MediaType.APPLICATION_JSON));
+        assertThat(response.getStatus()).isEqualTo(400);
+    }
+
 }
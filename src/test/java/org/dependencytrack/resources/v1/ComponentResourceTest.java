@@ -570,6 +570,40 @@ public class ComponentResourceTest extends ResourceTest {
         assertThat(jsonComponent.getString("uuid")).isEqualTo(componentB.getUuid().toString());
     }
 
+    @Test
+    public void getComponentByIdentityWithWildcardCharactersTest() {
+        final Project project = qm.createProject("acme-app", null, "1.0", null, null, null, null, false);
+        var componentA = new Component();
+        componentA.setProject(project);
+        componentA.setName("acme-lib");
+        qm.createComponent(componentA, false);
+
+        var componentB = new Component();
+        componentB.setProject(project);
+        componentB.setName("ACME_LIB");
+        componentB = qm.createComponent(componentB, false);
+
+        // Neither "_" nor "%" must be interpreted as wildcards.
+        Response response = jersey.target(V1_COMPONENT + "/identity")
+                .queryParam("name", "acme_lib")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get(Response.class);
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.SC_OK);
+        assertThat(response.getHeaderString(TOTAL_COUNT_HEADER)).isEqualTo("1");
+        final JsonArray json = parseJsonArray(response);
+        assertThat(json).hasSize(1);
+        assertThat(json.getJsonObject(0).getString("uuid")).isEqualTo(componentB.getUuid().toString());
+
+        response = jersey.target(V1_COMPONENT + "/identity")
+                .queryParam("name", "acme%")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get(Response.class);
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.SC_OK);
+        assertThat(response.getHeaderString(TOTAL_COUNT_HEADER)).isEqualTo("0");
+    }
+
     @Test
     public void getComponentByIdentityWithCpeTest() {
         final Project projectA = qm.createProject("projectA", null, "1.0", null, null, null, null, false);
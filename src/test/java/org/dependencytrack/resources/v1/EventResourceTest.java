@@ -31,6 +31,8 @@ import org.junit.Test;
 
 import java.util.Date;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -122,4 +124,90 @@ public class EventResourceTest extends ResourceTest {
                         """);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void isTokenBeingProcessedWithWaitTimeoutTest() {
+        final UUID uuid = UUID.randomUUID();
+        final var workflowState = new WorkflowState();
+        workflowState.setStep(BOM_CONSUMPTION);
+        workflowState.setStatus(PENDING);
+        workflowState.setToken(uuid);
+        workflowState.setUpdatedAt(new Date());
+        qm.persist(workflowState);
+
+        final Response response = jersey.target(V1_EVENT + "/token/" + uuid)
+                .queryParam("waitSeconds", 1)
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get(Response.class);
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.SC_OK);
+        assertThatJson(getPlainTextBody(response)).isEqualTo("""
+                {
+                    "processing": true
+                }
+                """);
+    }
+
+    @Test
+    public void isTokenBeingProcessedWithWaitCompletedTest() throws Exception {
+        final UUID uuid = UUID.randomUUID();
+        final var workflowState = new WorkflowState();
+        workflowState.setStep(BOM_CONSUMPTION);
+        workflowState.setStatus(PENDING);
+        workflowState.setToken(uuid);
+        workflowState.setUpdatedAt(new Date());
+        qm.persist(workflowState);
+
+        final CompletableFuture<Response> responseFuture = CompletableFuture.supplyAsync(
+                () -> jersey.target(V1_EVENT + "/token/" + uuid)
+                        .queryParam("waitSeconds", 30)
+                        .request()
+                        .header(X_API_KEY, apiKey)
+                        .get(Response.class));
+
+        qm.runInTransaction(() -> {
+            workflowState.setStatus(COMPLETED);
+            workflowState.setUpdatedAt(new Date());
+        });
+
+        final Response response = responseFuture.get(15, TimeUnit.SECONDS);
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.SC_OK);
+        assertThatJson(getPlainTextBody(response)).isEqualTo("""
+                {
+                    "processing": false
+                }
+                """);
+    }
+
+    @Test
+    public void isTokenBeingProcessedWithInvalidWaitTest() {
+        final Response response = jersey.target(V1_EVENT + "/token/" + UUID.randomUUID())
+                .queryParam("waitSeconds", 301)
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get(Response.class);
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.SC_BAD_REQUEST);
+    }
+
+    @Test
+    public void streamTokenStatesTest() {
+        final UUID uuid = UUID.randomUUID();
+        final var workflowState = new WorkflowState();
+        workflowState.setStep(BOM_CONSUMPTION);
+        workflowState.setStatus(COMPLETED);
+        workflowState.setToken(uuid);
+        workflowState.setUpdatedAt(new Date());
+        qm.persist(workflowState);
+
+        final Response response = jersey.target(V1_EVENT + "/token/" + uuid + "/stream")
+                .request(jakarta.ws.rs.core.MediaType.SERVER_SENT_EVENTS)
+                .header(X_API_KEY, apiKey)
+                .get(Response.class);
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.SC_OK);
+        assertThat(getPlainTextBody(response))
+                .contains("event: state")
+                .contains("\"step\":\"BOM_CONSUMPTION\"")
+                .contains("\"status\":\"COMPLETED\"")
+                .contains("event: completed");
+    }
+
+}
@@ -31,6 +31,7 @@ import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.Response;
 import org.dependencytrack.JerseyTestRule;
 import org.dependencytrack.ResourceTest;
+import org.dependencytrack.model.AnalysisState;
 import org.dependencytrack.model.AnalyzerIdentity;
 import org.dependencytrack.model.Component;
 import org.dependencytrack.model.ConfigPropertyConstants;
@@ -137,6 +138,91 @@ public class FindingResourceTest extends ResourceTest {
         );
     }
 
+    @Test
+    public void getFindingsByProjectPaginatedTest() {
+        Project project = qm.createProject("Acme Example", null, "1.0", null, null, null, null, false);
+        Component c1 = createComponent(project, "Component A", "1.0");
+        Component c2 = createComponent(project, "Component B", "1.0");
+        Vulnerability v1 = createVulnerability("Vuln-1", Severity.CRITICAL);
+        Vulnerability v2 = createVulnerability("Vuln-2", Severity.HIGH);
+        Vulnerability v3 = createVulnerability("Vuln-3", Severity.MEDIUM);
+        Vulnerability v4 = createVulnerability("Vuln-4", Severity.LOW);
+        qm.addVulnerability(v1, c1, AnalyzerIdentity.NONE);
+        qm.addVulnerability(v2, c1, AnalyzerIdentity.NONE);
+        qm.addVulnerability(v3, c2, AnalyzerIdentity.NONE);
+        qm.addVulnerability(v4, c2, AnalyzerIdentity.NONE);
+
+        Response response = jersey.target(V1_FINDING + "/project/" + project.getUuid())
+                .queryParam("pageNumber", "2")
+                .queryParam("pageSize", "2")
+                .queryParam("sortName", "vulnerability.severity")
+                .queryParam("sortOrder", "desc")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeaderString(TOTAL_COUNT_HEADER)).isEqualTo("4");
+        assertThat(parseJsonArray(response)).satisfiesExactly(
+                jsonValue -> assertThat(jsonValue.asJsonObject().getJsonObject("vulnerability").getString("vulnId")).isEqualTo("Vuln-3"),
+                jsonValue -> assertThat(jsonValue.asJsonObject().getJsonObject("vulnerability").getString("vulnId")).isEqualTo("Vuln-4"));
+
+        qm.makeAnalysis(c1, v2, AnalysisState.EXPLOITABLE, null, null, null, false);
+
+        response = jersey.target(V1_FINDING + "/project/" + project.getUuid())
+                .queryParam("severity", "HIGH")
+                .queryParam("severity", "MEDIUM")
+                .queryParam("analysisState", "NOT_SET")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeaderString(TOTAL_COUNT_HEADER)).isEqualTo("1");
+        assertThat(parseJsonArray(response)).satisfiesExactly(
+                jsonValue -> assertThat(jsonValue.asJsonObject().getJsonObject("vulnerability").getString("vulnId")).isEqualTo("Vuln-3"));
+
+        // Pages beyond the last one must still report the total.
+        response = jersey.target(V1_FINDING + "/project/" + project.getUuid())
+                .queryParam("pageNumber", "3")
+                .queryParam("pageSize", "2")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeaderString(TOTAL_COUNT_HEADER)).isEqualTo("4");
+        assertThat(getPlainTextBody(response)).isEqualTo("[]");
+    }
+
+    @Test
+    public void getFindingsByProjectSortedBySeverityWithCvssFallbackTest() {
+        Project project = qm.createProject("Acme Example", null, "1.0", null, null, null, null, false);
+        Component component = createComponent(project, "Component A", "1.0");
+        Vulnerability v1 = createVulnerability("Vuln-1", Severity.CRITICAL);
+        Vulnerability v2 = createVulnerability("Vuln-2", Severity.HIGH);
+        Vulnerability v3 = new Vulnerability();
+        v3.setVulnId("Vuln-3");
+        v3.setSource(Vulnerability.Source.INTERNAL);
+        v3.setCvssV3BaseScore(BigDecimal.valueOf(9.8));
+        v3 = qm.createVulnerability(v3, false);
+        qm.addVulnerability(v1, component, AnalyzerIdentity.NONE);
+        qm.addVulnerability(v2, component, AnalyzerIdentity.NONE);
+        qm.addVulnerability(v3, component, AnalyzerIdentity.NONE);
+
+        final Response response = jersey.target(V1_FINDING + "/project/" + project.getUuid())
+                .queryParam("pageNumber", "1")
+                .queryParam("pageSize", "10")
+                .queryParam("sortName", "vulnerability.severity")
+                .queryParam("sortOrder", "desc")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeaderString(TOTAL_COUNT_HEADER)).isEqualTo("3");
+        assertThat(parseJsonArray(response)).satisfiesExactly(
+                jsonValue -> assertThat(jsonValue.asJsonObject().getJsonObject("vulnerability").getString("vulnId")).isEqualTo("Vuln-1"),
+                jsonValue -> assertThat(jsonValue.asJsonObject().getJsonObject("vulnerability").getString("vulnId")).isEqualTo("Vuln-3"),
+                jsonValue -> assertThat(jsonValue.asJsonObject().getJsonObject("vulnerability").getString("vulnId")).isEqualTo("Vuln-2"));
+    }
+
     @Test
     public void getFindingsByProjectEmptyTest() {
         final var metaComponent = new RepositoryMetaComponent();
@@ -171,6 +257,41 @@ public class FindingResourceTest extends ResourceTest {
         assertEquals("The project could not be found.", body);
     }
 
+    @Test
+    public void getFindingsByProjectPendingDeletionTest() {
+        final Project project = qm.createProject("Acme Example", null, "1.0", null, null, null, null, false);
+        final Project otherProject = qm.createProject("Acme Example", null, "2.0", null, null, null, null, false);
+        qm.addVulnerability(createVulnerability("Vuln-1", Severity.CRITICAL),
+                createComponent(project, "Component A", "1.0"), AnalyzerIdentity.NONE);
+        qm.addVulnerability(createVulnerability("Vuln-2", Severity.HIGH),
+                createComponent(otherProject, "Component B", "1.0"), AnalyzerIdentity.NONE);
+
+        // Projects pending deletion must be treated as if they were already deleted.
+        qm.runInTransaction(() -> project.setDeletionRequestedAt(new Date()));
+
+        Response response = jersey.target(V1_FINDING + "/project/" + project.getUuid())
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(404);
+
+        response = jersey.target(V1_FINDING)
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeaderString(TOTAL_COUNT_HEADER)).isEqualTo("1");
+
+        response = jersey.target(V1_FINDING + "/grouped")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeaderString(TOTAL_COUNT_HEADER)).isEqualTo("1");
+        assertThat(parseJsonArray(response)).satisfiesExactly(
+                jsonValue -> assertThat(jsonValue.asJsonObject().getJsonObject("vulnerability").getString("vulnId")).isEqualTo("Vuln-2"));
+    }
+
     @Test
     public void getFindingsByProjectAclTest() {
         enablePortfolioAccessControl();
@@ -706,6 +827,84 @@ public class FindingResourceTest extends ResourceTest {
         Assert.assertEquals(1, json.getJsonObject(3).getJsonObject("vulnerability").getInt("affectedProjectCount"));
     }
 
+    @Test
+    public void getAllFindingsGroupedByVulnerabilityPaginatedTest() {
+        Project p1 = qm.createProject("Acme Example", null, "1.0", null, null, null, null, false);
+        Project p2 = qm.createProject("Acme Example", null, "2.0", null, null, null, null, false);
+        Component c1 = createComponent(p1, "Component A", "1.0");
+        Component c2 = createComponent(p1, "Component B", "1.0");
+        Component c3 = createComponent(p2, "Component C", "1.0");
+        Vulnerability v1 = createVulnerability("Vuln-1", Severity.CRITICAL);
+        Vulnerability v2 = createVulnerability("Vuln-2", Severity.HIGH);
+        Vulnerability v3 = createVulnerability("Vuln-3", Severity.MEDIUM);
+        qm.addVulnerability(v1, c1, AnalyzerIdentity.NONE);
+        qm.addVulnerability(v2, c1, AnalyzerIdentity.NONE);
+        qm.addVulnerability(v2, c2, AnalyzerIdentity.NONE);
+        qm.addVulnerability(v2, c3, AnalyzerIdentity.NONE);
+        qm.addVulnerability(v3, c3, AnalyzerIdentity.NONE);
+
+        Response response = jersey.target(V1_FINDING + "/grouped")
+                .queryParam("pageNumber", "1")
+                .queryParam("pageSize", "2")
+                .queryParam("sortName", "vulnerability.affectedProjectCount")
+                .queryParam("sortOrder", "desc")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeaderString(TOTAL_COUNT_HEADER)).isEqualTo("3");
+        assertThat(parseJsonArray(response)).satisfiesExactly(
+                jsonValue -> {
+                    final JsonObject vuln = jsonValue.asJsonObject().getJsonObject("vulnerability");
+                    assertThat(vuln.getString("vulnId")).isEqualTo("Vuln-2");
+                    assertThat(vuln.getInt("affectedProjectCount")).isEqualTo(2);
+                    assertThat(jsonValue.asJsonObject().getJsonObject("attribution").getJsonNumber("firstAttributedOn")).isNotNull();
+                    assertThat(jsonValue.asJsonObject().getJsonObject("attribution").getJsonNumber("lastAttributedOn")).isNotNull();
+                },
+                jsonValue -> assertThat(jsonValue.asJsonObject().getJsonObject("vulnerability").getString("vulnId")).isEqualTo("Vuln-1"));
+
+        // Removing findings must be reflected in the rollup.
+        qm.removeVulnerability(v2, c3);
+        qm.removeVulnerability(v3, c3);
+
+        response = jersey.target(V1_FINDING + "/grouped")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeaderString(TOTAL_COUNT_HEADER)).isEqualTo("2");
+        assertThat(parseJsonArray(response)).satisfiesExactly(
+                jsonValue -> assertThat(jsonValue.asJsonObject().getJsonObject("vulnerability").getString("vulnId")).isEqualTo("Vuln-1"),
+                jsonValue -> {
+                    final JsonObject vuln = jsonValue.asJsonObject().getJsonObject("vulnerability");
+                    assertThat(vuln.getString("vulnId")).isEqualTo("Vuln-2");
+                    assertThat(vuln.getInt("affectedProjectCount")).isEqualTo(1);
+                });
+
+        // Filters on components can not be served from the rollup.
+        response = jersey.target(V1_FINDING + "/grouped")
+                .queryParam("textSearchField", "COMPONENT_NAME")
+                .queryParam("textSearchInput", "Component B")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeaderString(TOTAL_COUNT_HEADER)).isEqualTo("1");
+        assertThat(parseJsonArray(response)).satisfiesExactly(
+                jsonValue -> assertThat(jsonValue.asJsonObject().getJsonObject("vulnerability").getString("vulnId")).isEqualTo("Vuln-2"));
+
+        // Pages beyond the last one must still report the total.
+        response = jersey.target(V1_FINDING + "/grouped")
+                .queryParam("pageNumber", "3")
+                .queryParam("pageSize", "2")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeaderString(TOTAL_COUNT_HEADER)).isEqualTo("2");
+        assertThat(parseJsonArray(response)).isEmpty();
+    }
+
     @Test
     public void getAllFindingsGroupedByVulnerabilityWithAclEnabled() {
         Project p1 = qm.createProject("Acme Example", null, "1.0", null, null, null, null, false);
@@ -25,12 +25,17 @@ import org.dependencytrack.JerseyTestRule;
 import org.dependencytrack.ResourceTest;
 import org.dependencytrack.auth.Permissions;
 import org.dependencytrack.model.Component;
+import org.dependencytrack.model.PortfolioMetrics;
 import org.dependencytrack.model.Project;
+import org.dependencytrack.model.ProjectMetrics;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.junit.ClassRule;
 import org.junit.Test;
 
 import jakarta.ws.rs.core.Response;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
 import java.util.function.Supplier;
 
 import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
@@ -313,4 +318,92 @@ public class MetricsResourceTest extends ResourceTest {
         assertThat(response.getStatus()).isEqualTo(200);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void getPortfolioMetricsXDaysWithBucketTest() {
+        initializeWithPermissions(Permissions.VIEW_PORTFOLIO);
+
+        final Instant today = Instant.now().truncatedTo(ChronoUnit.DAYS).plus(12, ChronoUnit.HOURS);
+        createPortfolioMetrics(today.minus(2, ChronoUnit.DAYS).minus(1, ChronoUnit.HOURS), 1);
+        createPortfolioMetrics(today.minus(2, ChronoUnit.DAYS).plus(1, ChronoUnit.HOURS), 2);
+        createPortfolioMetrics(today.minus(1, ChronoUnit.DAYS), 3);
+
+        Response response = jersey.target(V1_METRICS + "/portfolio/5/days")
+                .queryParam("bucket", "day")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThatJson(getPlainTextBody(response))
+                .inPath("$[*].critical")
+                .isEqualTo("[2, 3]");
+
+        response = jersey.target(V1_METRICS + "/portfolio/5/days")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThatJson(getPlainTextBody(response))
+                .inPath("$[*].critical")
+                .isEqualTo("[1, 2, 3]");
+    }
+
+    @Test
+    public void getProjectMetricsXDaysWithBucketTest() {
+        initializeWithPermissions(Permissions.VIEW_PORTFOLIO);
+
+        final var project = new Project();
+        project.setName("acme-app");
+        qm.persist(project);
+
+        final var otherProject = new Project();
+        otherProject.setName("acme-lib");
+        qm.persist(otherProject);
+
+        final Instant today = Instant.now().truncatedTo(ChronoUnit.DAYS).plus(12, ChronoUnit.HOURS);
+        createProjectMetrics(project, today.minus(2, ChronoUnit.DAYS).minus(1, ChronoUnit.HOURS), 1);
+        createProjectMetrics(project, today.minus(2, ChronoUnit.DAYS).plus(1, ChronoUnit.HOURS), 2);
+        createProjectMetrics(project, today.minus(1, ChronoUnit.DAYS), 3);
+        createProjectMetrics(otherProject, today.minus(1, ChronoUnit.DAYS).plus(1, ChronoUnit.HOURS), 4);
+
+        final Response response = jersey.target(V1_METRICS + "/project/" + project.getUuid() + "/days/5")
+                .queryParam("bucket", "day")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThatJson(getPlainTextBody(response))
+                .inPath("$[*].critical")
+                .isEqualTo("[2, 3]");
+    }
+
+    @Test
+    public void getPortfolioMetricsXDaysWithInvalidBucketTest() {
+        initializeWithPermissions(Permissions.VIEW_PORTFOLIO);
+
+        final Response response = jersey.target(V1_METRICS + "/portfolio/5/days")
+                .queryParam("bucket", "fortnight")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(getPlainTextBody(response)).isEqualTo("The specified bucket is invalid.");
+    }
+
+    private void createPortfolioMetrics(final Instant occurrence, final int critical) {
+        final var metrics = new PortfolioMetrics();
+        metrics.setCritical(critical);
+        metrics.setFirstOccurrence(Date.from(occurrence));
+        metrics.setLastOccurrence(Date.from(occurrence));
+        qm.persist(metrics);
+    }
+
+    private void createProjectMetrics(final Project project, final Instant occurrence, final int critical) {
+        final var metrics = new ProjectMetrics();
+        metrics.setProject(project);
+        metrics.setCritical(critical);
+        metrics.setFirstOccurrence(Date.from(occurrence));
+        metrics.setLastOccurrence(Date.from(occurrence));
+        qm.persist(metrics);
+    }
+
+}
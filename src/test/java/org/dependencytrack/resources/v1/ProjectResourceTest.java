@@ -1899,11 +1899,87 @@ public class ProjectResourceTest extends ResourceTest {
     @Test
     public void deleteProjectTest() {
         Project project = qm.createProject("ABC", null, "1.0", null, null, null, null, false);
+        Project childProject = qm.createProject("DEF", null, "1.0", null, project, null, null, false);
         Response response = jersey.target(V1_PROJECT + "/" + project.getUuid().toString())
                 .request()
                 .header(X_API_KEY, apiKey)
                 .delete();
-        Assert.assertEquals(204, response.getStatus(), 0);
+        Assert.assertEquals(202, response.getStatus(), 0);
+        assertThatJson(getPlainTextBody(response)).isEqualTo(/* language=JSON */ """
+                {
+                  "token": "${json-unit.any-string}"
+                }
+                """);
+
+        // Deletion happens asynchronously, but the project and its children must be hidden right away.
+        qm.getPersistenceManager().refreshAll(project, childProject);
+        assertThat(project.getDeletionRequestedAt()).isNotNull();
+        assertThat(childProject.getDeletionRequestedAt()).isNotNull();
+
+        response = jersey.target(V1_PROJECT + "/" + project.getUuid().toString())
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(404);
+
+        response = jersey.target(V1_PROJECT)
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeaderString(TOTAL_COUNT_HEADER)).isEqualTo("0");
+
+        // Deleting a project that is already pending deletion must not be possible.
+        response = jersey.target(V1_PROJECT + "/" + project.getUuid().toString())
+                .request()
+                .header(X_API_KEY, apiKey)
+                .delete();
+        assertThat(response.getStatus()).isEqualTo(404);
+    }
+
+    @Test
+    public void deleteProjectAndRecreateTest() {
+        final var project = new Project();
+        project.setName("acme-app");
+        project.setVersion("1.0.0");
+
+        Response response = jersey.target(V1_PROJECT)
+                .request()
+                .header(X_API_KEY, apiKey)
+                .put(Entity.entity(project, MediaType.APPLICATION_JSON));
+        assertThat(response.getStatus()).isEqualTo(201);
+        final String projectUuid = parseJsonObject(response).getString("uuid");
+
+        response = jersey.target(V1_PROJECT + "/" + projectUuid)
+                .request()
+                .header(X_API_KEY, apiKey)
+                .delete();
+        assertThat(response.getStatus()).isEqualTo(202);
+
+        // The deletion has not completed yet, but the name and version must be available again.
+        response = jersey.target(V1_PROJECT)
+                .request()
+                .header(X_API_KEY, apiKey)
+                .put(Entity.entity(project, MediaType.APPLICATION_JSON));
+        assertThat(response.getStatus()).isEqualTo(201);
+        final String recreatedProjectUuid = parseJsonObject(response).getString("uuid");
+        assertThat(recreatedProjectUuid).isNotEqualTo(projectUuid);
+
+        response = jersey.target(V1_PROJECT + "/lookup")
+                .queryParam("name", "acme-app")
+                .queryParam("version", "1.0.0")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(parseJsonObject(response).getString("uuid")).isEqualTo(recreatedProjectUuid);
+
+        // Re-creating it a second time must still be rejected.
+        response = jersey.target(V1_PROJECT)
+                .request()
+                .header(X_API_KEY, apiKey)
+                .put(Entity.entity(project, MediaType.APPLICATION_JSON));
+        assertThat(response.getStatus()).isEqualTo(409);
     }
 
     @Test
@@ -1943,7 +2019,7 @@ public class ProjectResourceTest extends ResourceTest {
         project.addAccessTeam(super.team);
 
         response = responseSupplier.get();
-        assertThat(response.getStatus()).isEqualTo(204);
+        assertThat(response.getStatus()).isEqualTo(202);
     }
 
     @Test
@@ -0,0 +1,105 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.tasks;
+
+import org.dependencytrack.PersistenceCapableTest;
+import org.dependencytrack.event.ProjectDeletionEvent;
+import org.dependencytrack.model.Component;
+import org.dependencytrack.model.DependencyMetrics;
+import org.dependencytrack.model.Project;
+import org.dependencytrack.model.ProjectMetrics;
+import org.dependencytrack.persistence.jdbi.ProjectDao;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.dependencytrack.model.WorkflowStatus.COMPLETED;
+import static org.dependencytrack.model.WorkflowStep.PROJECT_DELETION;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiHandle;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+
+public class ProjectDeletionTaskTest extends PersistenceCapableTest {
+
+    @Test
+    public void testDeleteProjectInBatches() {
+        final var project = new Project();
+        project.setName("acme-app");
+        qm.persist(project);
+
+        final var childProject = new Project();
+        childProject.setName("acme-app-child");
+        childProject.setParent(project);
+        qm.persist(childProject);
+
+        final var otherProject = new Project();
+        otherProject.setName("other-app");
+        qm.persist(otherProject);
+
+        final Instant now = Instant.now();
+        for (final Project proj : new Project[]{project, childProject, otherProject}) {
+            for (int i = 0; i < 5; i++) {
+                final var component = new Component();
+                component.setProject(proj);
+                component.setName("acme-lib-" + i);
+                qm.persist(component);
+
+                final var componentMetrics = new DependencyMetrics();
+                componentMetrics.setProject(proj);
+                componentMetrics.setComponent(component);
+                componentMetrics.setFirstOccurrence(Date.from(now));
+                componentMetrics.setLastOccurrence(Date.from(now));
+                qm.persist(componentMetrics);
+
+                final var projectMetrics = new ProjectMetrics();
+                projectMetrics.setProject(proj);
+                projectMetrics.setFirstOccurrence(Date.from(now.minus(i, ChronoUnit.DAYS)));
+                projectMetrics.setLastOccurrence(Date.from(now.minus(i, ChronoUnit.DAYS)));
+                qm.persist(projectMetrics);
+            }
+        }
+
+        useJdbiHandle(handle -> assertThat(handle.attach(ProjectDao.class).markForDeletion(project.getUuid())).isEqualTo(2));
+
+        final var event = new ProjectDeletionEvent(project.getUuid());
+        new ProjectDeletionTask(2).inform(event);
+
+        assertThat(withJdbiHandle(handle -> handle.createQuery("""
+                SELECT "NAME" FROM "PROJECT"
+                """).mapTo(String.class).list())).containsOnly("other-app");
+        assertThat(withJdbiHandle(handle -> handle.createQuery("""
+                SELECT COUNT(*) FROM "COMPONENT"
+                """).mapTo(Long.class).one())).isEqualTo(5);
+        assertThat(withJdbiHandle(handle -> handle.createQuery("""
+                SELECT COUNT(*) FROM "DEPENDENCYMETRICS"
+                """).mapTo(Long.class).one())).isEqualTo(5);
+        assertThat(withJdbiHandle(handle -> handle.createQuery("""
+                SELECT COUNT(*) FROM "PROJECTMETRICS"
+                """).mapTo(Long.class).one())).isEqualTo(5);
+
+        assertThat(qm.getAllWorkflowStatesForAToken(event.getChainIdentifier())).satisfiesExactly(state -> {
+            assertThat(state.getStep()).isEqualTo(PROJECT_DELETION);
+            assertThat(state.getStatus()).isEqualTo(COMPLETED);
+            assertThat(state.getStartedAt()).isNotNull();
+        });
+    }
+
+}
@@ -23,13 +23,19 @@ import org.dependencytrack.event.PortfolioRepositoryMetaAnalysisEvent;
 import org.dependencytrack.event.ProjectRepositoryMetaAnalysisEvent;
 import org.dependencytrack.event.kafka.KafkaTopics;
 import org.dependencytrack.model.Component;
+import org.dependencytrack.model.RepositoryMetaComponent;
+import org.dependencytrack.model.RepositoryType;
 import org.junit.Test;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.dependencytrack.util.KafkaTestUtil.deserializeValue;
 
 public class RepositoryMetaAnalysisTaskTest extends PersistenceCapableTest {
@@ -207,4 +213,159 @@ public class RepositoryMetaAnalysisTaskTest extends PersistenceCapableTest {
                 .isThrownBy(() -> new RepositoryMetaAnalysisTask().inform(new ProjectRepositoryMetaAnalysisEvent(UUID.randomUUID())));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testPortfolioRepositoryMetaAnalysisWithMultipleVersionsOfSamePackage() {
+        final var projectA = qm.createProject("acme-app-a", null, "1.0.0", null, null, null, null, false);
+        final var componentProjectA = new Component();
+        componentProjectA.setProject(projectA);
+        componentProjectA.setName("acme-lib-a");
+        componentProjectA.setVersion("1.0.1");
+        componentProjectA.setPurl("pkg:maven/acme/acme-lib-a@1.0.1");
+        componentProjectA.setPurlCoordinates("pkg:maven/acme/acme-lib-a@1.0.1");
+        qm.persist(componentProjectA);
+
+        final var projectB = qm.createProject("acme-app-b", null, "2.0.0", null, null, null, null, false);
+        final var componentProjectB = new Component();
+        componentProjectB.setProject(projectB);
+        componentProjectB.setName("acme-lib-a");
+        componentProjectB.setVersion("2.0.1");
+        componentProjectB.setPurl("pkg:maven/acme/acme-lib-a@2.0.1");
+        componentProjectB.setPurlCoordinates("pkg:maven/acme/acme-lib-a@2.0.1");
+        qm.persist(componentProjectB);
+
+        new RepositoryMetaAnalysisTask().inform(new PortfolioRepositoryMetaAnalysisEvent());
+
+        assertThat(kafkaMockProducer.history()).satisfiesExactlyInAnyOrder(
+                record -> assertThat(record.topic()).isEqualTo(KafkaTopics.NOTIFICATION_PROJECT_CREATED.name()), // projectA
+                record -> assertThat(record.topic()).isEqualTo(KafkaTopics.NOTIFICATION_PROJECT_CREATED.name()), // projectB
+                record -> {
+                    // Repository metadata is tracked per package, so only one version is submitted.
+                    assertThat(record.topic()).isEqualTo(KafkaTopics.REPO_META_ANALYSIS_COMMAND.name());
+                    final var command = deserializeValue(KafkaTopics.REPO_META_ANALYSIS_COMMAND, record);
+                    assertThat(command.getComponent().getPurl()).startsWith("pkg:maven/acme/acme-lib-a@");
+                }
+        );
+    }
+
+    @Test
+    public void testPortfolioRepositoryMetaAnalysisWithMultiplePages() {
+        final var project = qm.createProject("acme-app", null, "1.0.0", null, null, null, null, false);
+        for (final String purlCoordinates : List.of(
+                "pkg:maven/acme/acme-lib-a@1.0.0",
+                "pkg:maven/acme/acme-lib-a@2.0.0",
+                "pkg:maven/acme/acme-lib-b@1.0.0",
+                "pkg:maven/acme/acme-lib-c@1.0.0",
+                "pkg:maven/acme/acme-lib-d@1.0.0")) {
+            final var component = new Component();
+            component.setProject(project);
+            component.setName("acme-lib");
+            component.setPurl(purlCoordinates);
+            component.setPurlCoordinates(purlCoordinates);
+            qm.persist(component);
+        }
+
+        // An internal component is a distinct candidate, even if it shares its coordinates with another one.
+        final var internalComponent = new Component();
+        internalComponent.setProject(project);
+        internalComponent.setName("acme-lib");
+        internalComponent.setPurl("pkg:maven/acme/acme-lib-b@2.0.0");
+        internalComponent.setPurlCoordinates("pkg:maven/acme/acme-lib-b@2.0.0");
+        internalComponent.setInternal(true);
+        qm.persist(internalComponent);
+
+        new RepositoryMetaAnalysisTask(Duration.ZERO, 2).inform(new PortfolioRepositoryMetaAnalysisEvent());
+
+        assertThat(kafkaMockProducer.history())
+                .filteredOn(record -> record.topic().equals(KafkaTopics.REPO_META_ANALYSIS_COMMAND.name()))
+                .map(record -> deserializeValue(KafkaTopics.REPO_META_ANALYSIS_COMMAND, record).getComponent())
+                .extracting(component -> component.getPurl().replaceAll("@.*$", ""), component -> component.getInternal())
+                .containsExactlyInAnyOrder(
+                        tuple("pkg:maven/acme/acme-lib-a", false),
+                        tuple("pkg:maven/acme/acme-lib-b", false),
+                        tuple("pkg:maven/acme/acme-lib-b", true),
+                        tuple("pkg:maven/acme/acme-lib-c", false),
+                        tuple("pkg:maven/acme/acme-lib-d", false));
+    }
+
+    @Test
+    public void testPortfolioRepositoryMetaAnalysisWithFreshPackage() {
+        final var project = qm.createProject("acme-app", null, "1.0.0", null, null, null, null, false);
+        final var componentA = new Component();
+        componentA.setProject(project);
+        componentA.setName("acme-lib-a");
+        componentA.setVersion("1.0.1");
+        componentA.setPurl("pkg:maven/acme/acme-lib-a@1.0.1");
+        componentA.setPurlCoordinates("pkg:maven/acme/acme-lib-a@1.0.1");
+        qm.persist(componentA);
+        final var componentB = new Component();
+        componentB.setProject(project);
+        componentB.setName("acme-lib-b");
+        componentB.setVersion("2.0.1");
+        componentB.setPurl("pkg:maven/acme/acme-lib-b@2.0.1");
+        componentB.setPurlCoordinates("pkg:maven/acme/acme-lib-b@2.0.1");
+        qm.persist(componentB);
+
+        // Metadata of acme-lib-a has been checked recently.
+        final var metaComponentA = new RepositoryMetaComponent();
+        metaComponentA.setRepositoryType(RepositoryType.MAVEN);
+        metaComponentA.setNamespace("acme");
+        metaComponentA.setName("acme-lib-a");
+        metaComponentA.setLatestVersion("1.0.2");
+        metaComponentA.setLastCheck(Date.from(Instant.now().minus(Duration.ofHours(1))));
+        qm.persist(metaComponentA);
+
+        // Metadata of acme-lib-b has been checked outside the freshness window.
+        final var metaComponentB = new RepositoryMetaComponent();
+        metaComponentB.setRepositoryType(RepositoryType.MAVEN);
+        metaComponentB.setNamespace("acme");
+        metaComponentB.setName("acme-lib-b");
+        metaComponentB.setLatestVersion("2.0.2");
+        metaComponentB.setLastCheck(Date.from(Instant.now().minus(Duration.ofDays(2))));
+        qm.persist(metaComponentB);
+
+        new RepositoryMetaAnalysisTask(Duration.ofHours(12)).inform(new PortfolioRepositoryMetaAnalysisEvent());
+
+        assertThat(kafkaMockProducer.history()).satisfiesExactly(
+                record -> assertThat(record.topic()).isEqualTo(KafkaTopics.NOTIFICATION_PROJECT_CREATED.name()),
+                record -> {
+                    assertThat(record.topic()).isEqualTo(KafkaTopics.REPO_META_ANALYSIS_COMMAND.name());
+                    final var command = deserializeValue(KafkaTopics.REPO_META_ANALYSIS_COMMAND, record);
+                    assertThat(command.getComponent().getPurl()).isEqualTo("pkg:maven/acme/acme-lib-b@2.0.1");
+                }
+                // acme-lib-a must not have been submitted, because its metadata is still fresh
+        );
+    }
+
+    @Test
+    public void testProjectRepositoryMetaAnalysisWithFreshPackage() {
+        final var project = qm.createProject("acme-app", null, "1.0.0", null, null, null, null, false);
+        final var component = new Component();
+        component.setProject(project);
+        component.setName("acme-lib-a");
+        component.setVersion("1.0.1");
+        component.setPurl("pkg:maven/acme/acme-lib-a@1.0.1");
+        component.setPurlCoordinates("pkg:maven/acme/acme-lib-a@1.0.1");
+        qm.persist(component);
+
+        final var metaComponent = new RepositoryMetaComponent();
+        metaComponent.setRepositoryType(RepositoryType.MAVEN);
+        metaComponent.setNamespace("acme");
+        metaComponent.setName("acme-lib-a");
+        metaComponent.setLatestVersion("1.0.2");
+        metaComponent.setLastCheck(new Date());
+        qm.persist(metaComponent);
+
+        new RepositoryMetaAnalysisTask(Duration.ofHours(12)).inform(new ProjectRepositoryMetaAnalysisEvent(project.getUuid()));
+
+        assertThat(kafkaMockProducer.history()).satisfiesExactly(
+                record -> assertThat(record.topic()).isEqualTo(KafkaTopics.NOTIFICATION_PROJECT_CREATED.name()),
+                record -> {
+                    // Analysis of individual projects is explicitly requested, and ignores the freshness window.
+                    assertThat(record.topic()).isEqualTo(KafkaTopics.REPO_META_ANALYSIS_COMMAND.name());
+                    final var command = deserializeValue(KafkaTopics.REPO_META_ANALYSIS_COMMAND, record);
+                    assertThat(command.getComponent().getPurl()).isEqualTo("pkg:maven/acme/acme-lib-a@1.0.1");
+                }
+        );
+    }
+
+}
@@ -0,0 +1,265 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.tasks;
+
+import alpine.event.framework.Event;
+import org.dependencytrack.PersistenceCapableTest;
+import org.dependencytrack.event.DefectDojoUploadEventAbstract;
+import org.dependencytrack.integrations.ProjectFindingUploader;
+import org.dependencytrack.model.Finding;
+import org.dependencytrack.model.Project;
+import org.dependencytrack.persistence.QueryManager;
+import org.dependencytrack.persistence.jdbi.FindingsUploadDao;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+
+public class VulnerabilityManagementUploadTaskTest extends PersistenceCapableTest {
+
+    private record UploaderBehavior(Set<String> failingProjectNames,
+                                    Set<String> erroneousProjectNames,
+                                    Set<String> abortedProjectNames,
+                                    CountDownLatch concurrentUploadsLatch,
+                                    String uploadConfiguration) {
+
+        private static UploaderBehavior successful() {
+            return new UploaderBehavior(Set.of(), Set.of(), Set.of(), null, "https://example.com");
+        }
+
+    }
+
+    private static final class RecordingUploader implements ProjectFindingUploader {
+
+        private final List<String> uploadedProjectNames;
+        private final UploaderBehavior behavior;
+        private int errorCount;
+
+        private RecordingUploader(final List<String> uploadedProjectNames, final UploaderBehavior behavior) {
+            this.uploadedProjectNames = uploadedProjectNames;
+            this.behavior = behavior;
+        }
+
+        @Override
+        public String name() {
+            return "test";
+        }
+
+        @Override
+        public String description() {
+            return "Test uploader";
+        }
+
+        @Override
+        public void setQueryManager(final QueryManager qm) {
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return true;
+        }
+
+        @Override
+        public boolean isProjectConfigured(final Project project) {
+            return true;
+        }
+
+        @Override
+        public InputStream process(final Project project, final List<Finding> findings) {
+            return new ByteArrayInputStream(new byte[0]);
+        }
+
+        @Override
+        public boolean upload(final Project project, final InputStream payload) {
+            final CountDownLatch concurrentUploadsLatch = behavior.concurrentUploadsLatch();
+            if (concurrentUploadsLatch != null) {
+                concurrentUploadsLatch.countDown();
+                try {
+                    if (!concurrentUploadsLatch.await(5, TimeUnit.SECONDS)) {
+                        throw new IllegalStateException("Uploads were not performed concurrently");
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                }
+            }
+
+            if (behavior.failingProjectNames().contains(project.getName())) {
+                throw new IllegalStateException("Upload of " + project.getName() + " failed");
+            }
+            if (behavior.abortedProjectNames().contains(project.getName())) {
+                return false;
+            }
+            if (behavior.erroneousProjectNames().contains(project.getName())) {
+                errorCount++;
+            }
+
+            uploadedProjectNames.add(project.getName());
+            return true;
+        }
+
+        @Override
+        public List<String> getUploadConfiguration() {
+            return List.of(behavior.uploadConfiguration());
+        }
+
+        @Override
+        public int getErrorCount() {
+            return errorCount;
+        }
+
+    }
+
+    @Test
+    public void testSkipsUploadOfUnchangedProjects() {
+        final var projectA = new Project();
+        projectA.setName("acme-app-a");
+        final var projectB = new Project();
+        projectB.setName("acme-app-b");
+        qm.persist(projectA, projectB);
+
+        final var uploadedProjectNames = new CopyOnWriteArrayList<String>();
+        final var task = createTask(uploadedProjectNames, UploaderBehavior.successful());
+
+        task.inform(new DefectDojoUploadEventAbstract());
+        assertThat(uploadedProjectNames).containsExactlyInAnyOrder("acme-app-a", "acme-app-b");
+
+        // Nothing changed, so nothing must be uploaded again.
+        uploadedProjectNames.clear();
+        task.inform(new DefectDojoUploadEventAbstract());
+        assertThat(uploadedProjectNames).isEmpty();
+
+        // Only the changed project must be uploaded again.
+        qm.runInTransaction(() -> projectB.setDescription("changed"));
+        task.inform(new DefectDojoUploadEventAbstract());
+        assertThat(uploadedProjectNames).containsExactly("acme-app-b");
+    }
+
+    @Test
+    public void testUploadsAgainWhenUploadConfigurationChanged() {
+        final var project = new Project();
+        project.setName("acme-app");
+        qm.persist(project);
+
+        final var uploadedProjectNames = new CopyOnWriteArrayList<String>();
+        createTask(uploadedProjectNames, UploaderBehavior.successful()).inform(new DefectDojoUploadEventAbstract());
+        assertThat(uploadedProjectNames).containsExactly("acme-app");
+
+        // The integration now points to a different server, which does not have the findings yet.
+        uploadedProjectNames.clear();
+        createTask(uploadedProjectNames, new UploaderBehavior(Set.of(), Set.of(), Set.of(), null, "https://other.example.com"))
+                .inform(new DefectDojoUploadEventAbstract());
+        assertThat(uploadedProjectNames).containsExactly("acme-app");
+    }
+
+    @Test
+    public void testDoesNotRecordAbortedUpload() {
+        final var project = new Project();
+        project.setName("acme-app");
+        qm.persist(project);
+
+        // Uploaders may abort without raising an error, e.g. when credentials are not configured.
+        final var uploadedProjectNames = new CopyOnWriteArrayList<String>();
+        createTask(uploadedProjectNames, new UploaderBehavior(Set.of(), Set.of(), Set.of("acme-app"), null, "https://example.com"))
+                .inform(new DefectDojoUploadEventAbstract());
+        assertThat(uploadedProjectNames).isEmpty();
+        assertThat(getFindingsDigest(project)).isNull();
+
+        createTask(uploadedProjectNames, UploaderBehavior.successful()).inform(new DefectDojoUploadEventAbstract());
+        assertThat(uploadedProjectNames).containsExactly("acme-app");
+        assertThat(getFindingsDigest(project)).isNotNull();
+    }
+
+    @Test
+    public void testSkipsInactiveProjectsAndProjectsPendingDeletion() {
+        final var activeProject = new Project();
+        activeProject.setName("acme-app-active");
+        final var inactiveProject = new Project();
+        inactiveProject.setName("acme-app-inactive");
+        inactiveProject.setInactiveSince(new Date());
+        final var deletedProject = new Project();
+        deletedProject.setName("acme-app-deleted");
+        deletedProject.setDeletionRequestedAt(new Date());
+        qm.persist(activeProject, inactiveProject, deletedProject);
+
+        final var uploadedProjectNames = new CopyOnWriteArrayList<String>();
+        createTask(uploadedProjectNames, UploaderBehavior.successful()).inform(new DefectDojoUploadEventAbstract());
+        assertThat(uploadedProjectNames).containsExactly("acme-app-active");
+    }
+
+    @Test
+    public void testConcurrentUploadsWithFailures() {
+        final var projectA = new Project();
+        projectA.setName("acme-app-a");
+        final var projectB = new Project();
+        projectB.setName("acme-app-b");
+        final var projectC = new Project();
+        projectC.setName("acme-app-c");
+        final var projectD = new Project();
+        projectD.setName("acme-app-d");
+        qm.persist(projectA, projectB, projectC, projectD);
+
+        // All uploads wait for each other, which only succeeds when they are performed concurrently.
+        final var uploadedProjectNames = new CopyOnWriteArrayList<String>();
+        final var task = createTask(uploadedProjectNames, new UploaderBehavior(
+                Set.of("acme-app-b"), Set.of("acme-app-c"), Set.of(), new CountDownLatch(4), "https://example.com"));
+
+        task.inform(new DefectDojoUploadEventAbstract());
+
+        // A failure for one project must not prevent uploads for others.
+        assertThat(uploadedProjectNames).containsExactlyInAnyOrder("acme-app-a", "acme-app-c", "acme-app-d");
+
+        // Only successful uploads must be recorded, such that failed ones are retried.
+        assertThat(getFindingsDigest(projectA)).isNotNull();
+        assertThat(getFindingsDigest(projectB)).isNull();
+        assertThat(getFindingsDigest(projectC)).isNull();
+        assertThat(getFindingsDigest(projectD)).isNotNull();
+
+        uploadedProjectNames.clear();
+        createTask(uploadedProjectNames, UploaderBehavior.successful()).inform(new DefectDojoUploadEventAbstract());
+        assertThat(uploadedProjectNames).containsExactlyInAnyOrder("acme-app-b", "acme-app-c");
+    }
+
+    private static VulnerabilityManagementUploadTask createTask(final List<String> uploadedProjectNames,
+                                                                final UploaderBehavior behavior) {
+        return new VulnerabilityManagementUploadTask() {
+
+            @Override
+            public void inform(final Event e) {
+                inform(e, () -> new RecordingUploader(uploadedProjectNames, behavior));
+            }
+
+        };
+    }
+
+    private static String getFindingsDigest(final Project project) {
+        return withJdbiHandle(handle -> handle.attach(FindingsUploadDao.class)
+                .getFindingsDigest(project.getId(), "test"));
+    }
+
+}
@@ -25,9 +25,12 @@ import org.dependencytrack.model.DependencyMetrics;
 import org.dependencytrack.model.PortfolioMetrics;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.model.ProjectMetrics;
+import org.dependencytrack.persistence.jdbi.MetricsDao;
 import org.junit.Test;
 
 import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
 import java.util.function.BiConsumer;
@@ -35,6 +38,12 @@ import java.util.function.BiConsumer;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.dependencytrack.model.ConfigPropertyConstants.MAINTENANCE_METRICS_RETENTION_DAYS;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiTransaction;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+import static org.dependencytrack.persistence.jdbi.MetricsDao.DEPENDENCY_METRICS_TABLE_NAME;
+import static org.dependencytrack.persistence.jdbi.MetricsDao.PARTITIONED_TABLE_NAMES;
+import static org.dependencytrack.persistence.jdbi.MetricsDao.PORTFOLIO_METRICS_TABLE_NAME;
+import static org.dependencytrack.persistence.jdbi.MetricsDao.PROJECT_METRICS_TABLE_NAME;
 
 public class MetricsMaintenanceTaskTest extends PersistenceCapableTest {
 
@@ -189,4 +198,84 @@ public class MetricsMaintenanceTaskTest extends PersistenceCapableTest {
                 metrics -> assertThat(metrics.getVulnerabilities()).isEqualTo(89));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testWithExpiredPartitions() {
+        qm.createConfigProperty(
+                MAINTENANCE_METRICS_RETENTION_DAYS.getGroupName(),
+                MAINTENANCE_METRICS_RETENTION_DAYS.getPropertyName(),
+                MAINTENANCE_METRICS_RETENTION_DAYS.getDefaultPropertyValue(),
+                MAINTENANCE_METRICS_RETENTION_DAYS.getPropertyType(),
+                MAINTENANCE_METRICS_RETENTION_DAYS.getDescription()
+        );
+
+        final YearMonth expiredMonth = YearMonth.now(ZoneOffset.UTC).minusMonths(6);
+        useJdbiTransaction(handle -> {
+            final var metricsDao = handle.attach(MetricsDao.class);
+            for (final String tableName : PARTITIONED_TABLE_NAMES) {
+                if (!metricsDao.getPartitionMonths(tableName).contains(expiredMonth)) {
+                    metricsDao.createPartition(tableName, expiredMonth);
+                }
+            }
+        });
+
+        final var activeProject = new Project();
+        activeProject.setName("acme-app-active");
+        qm.persist(activeProject);
+
+        final var inactiveProject = new Project();
+        inactiveProject.setName("acme-app-inactive");
+        inactiveProject.setInactiveSince(new Date());
+        qm.persist(inactiveProject);
+
+        final Date lastOccurrence = Date.from(expiredMonth.atDay(15).atStartOfDay(ZoneOffset.UTC).toInstant());
+
+        for (final Project project : new Project[]{activeProject, inactiveProject}) {
+            final var component = new Component();
+            component.setProject(project);
+            component.setName("acme-lib");
+            qm.persist(component);
+
+            final var componentMetrics = new DependencyMetrics();
+            componentMetrics.setProject(project);
+            componentMetrics.setComponent(component);
+            componentMetrics.setFirstOccurrence(lastOccurrence);
+            componentMetrics.setLastOccurrence(lastOccurrence);
+            qm.persist(componentMetrics);
+
+            final var projectMetrics = new ProjectMetrics();
+            projectMetrics.setProject(project);
+            projectMetrics.setFirstOccurrence(lastOccurrence);
+            projectMetrics.setLastOccurrence(lastOccurrence);
+            qm.persist(projectMetrics);
+        }
+
+        final var portfolioMetrics = new PortfolioMetrics();
+        portfolioMetrics.setFirstOccurrence(lastOccurrence);
+        portfolioMetrics.setLastOccurrence(lastOccurrence);
+        qm.persist(portfolioMetrics);
+
+        final var task = new MetricsMaintenanceTask();
+        assertThatNoException().isThrownBy(() -> task.inform(new MetricsMaintenanceEvent()));
+
+        final YearMonth currentMonth = YearMonth.now(ZoneOffset.UTC);
+        for (final String tableName : PARTITIONED_TABLE_NAMES) {
+            assertThat(withJdbiHandle(handle -> handle.attach(MetricsDao.class).getPartitionMonths(tableName)))
+                    .doesNotContain(expiredMonth)
+                    .contains(currentMonth, currentMonth.plusMonths(1), currentMonth.plusMonths(2));
+        }
+
+        // Metrics of the inactive project must have been moved to the default partition.
+        assertThat(getRowCount(DEPENDENCY_METRICS_TABLE_NAME)).isEqualTo(1);
+        assertThat(getRowCount(PROJECT_METRICS_TABLE_NAME)).isEqualTo(1);
+        assertThat(getRowCount(PORTFOLIO_METRICS_TABLE_NAME)).isZero();
+        assertThat(qm.getProjectMetrics(inactiveProject).getList(ProjectMetrics.class)).hasSize(1);
+        assertThat(qm.getProjectMetrics(activeProject).getList(ProjectMetrics.class)).isEmpty();
+    }
+
+    private static long getRowCount(final String tableName) {
+        return withJdbiHandle(handle -> handle.createQuery("SELECT COUNT(*) FROM \"%s\"".formatted(tableName))
+                .mapTo(Long.class)
+                .one());
+    }
+
+}
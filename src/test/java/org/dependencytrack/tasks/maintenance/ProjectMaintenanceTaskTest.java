@@ -33,6 +33,8 @@ import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.dependencytrack.model.ConfigPropertyConstants.MAINTENANCE_PROJECTS_RETENTION_DAYS;
 import static org.dependencytrack.model.ConfigPropertyConstants.MAINTENANCE_PROJECTS_RETENTION_TYPE;
 import static org.dependencytrack.model.ConfigPropertyConstants.MAINTENANCE_PROJECTS_RETENTION_VERSIONS;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiHandle;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
 
 public class ProjectMaintenanceTaskTest extends PersistenceCapableTest {
 
@@ -230,4 +232,44 @@ public class ProjectMaintenanceTaskTest extends PersistenceCapableTest {
         assertThatNoException().isThrownBy(() -> task.inform(new ProjectMaintenanceEvent()));
         assertThat(qm.getProjects()).isNotNull();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testResumesOnlyStalledProjectDeletions() {
+        final var stalledProject = new Project();
+        stalledProject.setName("acme-app-stalled");
+        final var progressingProject = new Project();
+        progressingProject.setName("acme-app-progressing");
+        qm.persist(stalledProject, progressingProject);
+
+        // Both deletions were requested long ago, but only one of them made progress recently.
+        useJdbiHandle(handle -> handle.createUpdate("""
+                        UPDATE "PROJECT"
+                           SET "DELETION_REQUESTED_AT" = NOW() - INTERVAL '3 hours'
+                             , "DELETION_HEARTBEAT_AT" = CASE WHEN "NAME" = 'acme-app-stalled'
+                                                              THEN NOW() - INTERVAL '2 hours'
+                                                              ELSE NOW() - INTERVAL '10 minutes'
+                                                         END
+                        """)
+                .execute());
+
+        final var task = new ProjectMaintenanceTask();
+        assertThatNoException().isThrownBy(() -> task.inform(new ProjectMaintenanceEvent()));
+
+        // Resumed deletions are claimed by refreshing their heartbeat,
+        // such that subsequent runs do not resume them again.
+        final Instant recentCutOff = Instant.now().minus(Duration.ofMinutes(5));
+        assertThat(getDeletionHeartbeat(stalledProject)).isAfter(recentCutOff);
+        assertThat(getDeletionHeartbeat(progressingProject)).isBefore(recentCutOff);
+    }
+
+    private static Instant getDeletionHeartbeat(final Project project) {
+        return withJdbiHandle(handle -> handle.createQuery("""
+                        SELECT "DELETION_HEARTBEAT_AT"
+                          FROM "PROJECT"
+                         WHERE "ID" = :id
+                        """)
+                .bind("id", project.getId())
+                .mapTo(Instant.class)
+                .one());
+    }
+}
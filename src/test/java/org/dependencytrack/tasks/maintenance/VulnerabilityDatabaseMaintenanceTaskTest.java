@@ -25,10 +25,13 @@ import org.dependencytrack.model.VulnerableSoftware;
 import org.junit.Test;
 
 import javax.jdo.JDOObjectNotFoundException;
+import java.time.Duration;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
 
 public class VulnerabilityDatabaseMaintenanceTaskTest extends PersistenceCapableTest {
 
@@ -55,4 +58,46 @@ public class VulnerabilityDatabaseMaintenanceTaskTest extends PersistenceCapable
                 .isThrownBy(() -> qm.getObjectById(VulnerableSoftware.class, vsOrphaned.getId()));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testWithMultipleBatches() {
+        final var vuln = new Vulnerability();
+        vuln.setVulnId("CVE-123");
+        vuln.setSource(Vulnerability.Source.NVD);
+        qm.persist(vuln);
+
+        final var vs = new VulnerableSoftware();
+        vs.setVulnerabilities(List.of(vuln));
+        qm.persist(vs);
+
+        for (int i = 0; i < 5; i++) {
+            qm.persist(new VulnerableSoftware());
+        }
+
+        final var task = new VulnerabilityDatabaseMaintenanceTask(2, Duration.ofMinutes(1));
+        assertThatNoException().isThrownBy(() -> task.inform(new VulnerabilityDatabaseMaintenanceEvent()));
+
+        assertThat(getVulnerableSoftwareCount()).isEqualTo(1);
+        assertThatNoException()
+                .isThrownBy(() -> qm.getObjectById(VulnerableSoftware.class, vs.getId()));
+    }
+
+    @Test
+    public void testWithExhaustedTimeBudget() {
+        qm.persist(new VulnerableSoftware());
+
+        new VulnerabilityDatabaseMaintenanceTask(100, Duration.ZERO)
+                .inform(new VulnerabilityDatabaseMaintenanceEvent());
+        assertThat(getVulnerableSoftwareCount()).isEqualTo(1);
+
+        new VulnerabilityDatabaseMaintenanceTask(100, Duration.ofMinutes(1))
+                .inform(new VulnerabilityDatabaseMaintenanceEvent());
+        assertThat(getVulnerableSoftwareCount()).isZero();
+    }
+
+    private static long getVulnerableSoftwareCount() {
+        return withJdbiHandle(handle -> handle.createQuery("SELECT COUNT(*) FROM \"VULNERABLESOFTWARE\"")
+                .mapTo(Long.class)
+                .one());
+    }
+
+}
@@ -18,6 +18,7 @@
  */
 package org.dependencytrack.tasks.maintenance;
 
+import alpine.model.ConfigProperty;
 import org.dependencytrack.PersistenceCapableTest;
 import org.dependencytrack.event.maintenance.WorkflowMaintenanceEvent;
 import org.dependencytrack.model.WorkflowState;
@@ -29,6 +30,7 @@ import javax.jdo.JDOObjectNotFoundException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -36,6 +38,7 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.dependencytrack.model.ConfigPropertyConstants.MAINTENANCE_WORKFLOW_RETENTION_HOURS;
 import static org.dependencytrack.model.ConfigPropertyConstants.MAINTENANCE_WORKFLOW_STEP_TIMEOUT_MINUTES;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
 
 public class WorkflowMaintenanceTaskTest extends PersistenceCapableTest {
 
@@ -227,4 +230,110 @@ public class WorkflowMaintenanceTaskTest extends PersistenceCapableTest {
         assertThatNoException().isThrownBy(() -> qm.getObjectById(WorkflowState.class, parentStateC.getId()));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testWithTerminalTimestamp() {
+        final ConfigProperty retentionProperty = qm.createConfigProperty(
+                MAINTENANCE_WORKFLOW_RETENTION_HOURS.getGroupName(),
+                MAINTENANCE_WORKFLOW_RETENTION_HOURS.getPropertyName(),
+                "666",
+                MAINTENANCE_WORKFLOW_RETENTION_HOURS.getPropertyType(),
+                MAINTENANCE_WORKFLOW_RETENTION_HOURS.getDescription()
+        );
+
+        qm.createConfigProperty(
+                MAINTENANCE_WORKFLOW_STEP_TIMEOUT_MINUTES.getGroupName(),
+                MAINTENANCE_WORKFLOW_STEP_TIMEOUT_MINUTES.getPropertyName(),
+                "39960", // 666 hours; Not relevant for this test.
+                MAINTENANCE_WORKFLOW_STEP_TIMEOUT_MINUTES.getPropertyType(),
+                MAINTENANCE_WORKFLOW_STEP_TIMEOUT_MINUTES.getDescription()
+        );
+
+        final Instant updatedAt = Instant.now().minus(12, ChronoUnit.HOURS).truncatedTo(ChronoUnit.MILLIS);
+
+        final var token = UUID.randomUUID();
+        final var parentState = new WorkflowState();
+        parentState.setStep(WorkflowStep.BOM_CONSUMPTION);
+        parentState.setStatus(WorkflowStatus.COMPLETED);
+        parentState.setToken(token);
+        parentState.setUpdatedAt(Date.from(updatedAt.minus(1, ChronoUnit.HOURS)));
+        qm.persist(parentState);
+        final var childState = new WorkflowState();
+        childState.setParent(parentState);
+        childState.setStep(WorkflowStep.BOM_PROCESSING);
+        childState.setStatus(WorkflowStatus.COMPLETED);
+        childState.setToken(token);
+        childState.setUpdatedAt(Date.from(updatedAt));
+        qm.persist(childState);
+
+        new WorkflowMaintenanceTask().inform(new WorkflowMaintenanceEvent());
+
+        // Workflow is not yet expired, but must have been recorded as terminal.
+        assertThat(getTerminalTimestamps(token)).containsOnly(updatedAt);
+
+        // A non-terminal step being added must reset the terminal timestamp.
+        final var pendingState = new WorkflowState();
+        pendingState.setParent(parentState);
+        pendingState.setStep(WorkflowStep.VULN_ANALYSIS);
+        pendingState.setStatus(WorkflowStatus.PENDING);
+        pendingState.setToken(token);
+        pendingState.setUpdatedAt(Date.from(updatedAt));
+        qm.persist(pendingState);
+
+        retentionProperty.setPropertyValue("6");
+        qm.persist(retentionProperty);
+
+        new WorkflowMaintenanceTask().inform(new WorkflowMaintenanceEvent());
+        assertThat(getTerminalTimestamps(token)).containsOnly((Instant) null);
+
+        qm.getPersistenceManager().refresh(pendingState);
+        pendingState.setStatus(WorkflowStatus.COMPLETED);
+        qm.persist(pendingState);
+
+        new WorkflowMaintenanceTask().inform(new WorkflowMaintenanceEvent());
+        assertThat(getTerminalTimestamps(token)).isEmpty();
+
+        // A step that is added and completed between two maintenance runs must
+        // move the terminal timestamp of all steps of the workflow forward.
+        retentionProperty.setPropertyValue("666");
+        qm.persist(retentionProperty);
+
+        final var otherToken = UUID.randomUUID();
+        final var otherParentState = new WorkflowState();
+        otherParentState.setStep(WorkflowStep.BOM_CONSUMPTION);
+        otherParentState.setStatus(WorkflowStatus.COMPLETED);
+        otherParentState.setToken(otherToken);
+        otherParentState.setUpdatedAt(Date.from(updatedAt));
+        qm.persist(otherParentState);
+
+        new WorkflowMaintenanceTask().inform(new WorkflowMaintenanceEvent());
+        assertThat(getTerminalTimestamps(otherToken)).containsOnly(updatedAt);
+
+        final Instant lateUpdatedAt = Instant.now().minus(1, ChronoUnit.HOURS).truncatedTo(ChronoUnit.MILLIS);
+        final var lateState = new WorkflowState();
+        lateState.setParent(otherParentState);
+        lateState.setStep(WorkflowStep.BOM_PROCESSING);
+        lateState.setStatus(WorkflowStatus.COMPLETED);
+        lateState.setToken(otherToken);
+        lateState.setUpdatedAt(Date.from(lateUpdatedAt));
+        qm.persist(lateState);
+
+        retentionProperty.setPropertyValue("6");
+        qm.persist(retentionProperty);
+
+        // The workflow must not be deleted based on the terminal timestamp of its older step.
+        new WorkflowMaintenanceTask().inform(new WorkflowMaintenanceEvent());
+        assertThat(getTerminalTimestamps(otherToken)).hasSize(2).containsOnly(lateUpdatedAt);
+    }
+
+    private static List<Instant> getTerminalTimestamps(final UUID token) {
+        return withJdbiHandle(handle -> handle.createQuery("""
+                        SELECT "TERMINAL_AT"
+                          FROM "WORKFLOW_STATE"
+                         WHERE "TOKEN" = :token
+                        """)
+                .bind("token", token.toString())
+                .mapTo(Instant.class)
+                .list());
+    }
+
+}
@@ -30,6 +30,7 @@ import org.dependencytrack.model.ProjectMetrics;
 import org.dependencytrack.model.Severity;
 import org.dependencytrack.model.ViolationAnalysisState;
 import org.dependencytrack.model.Vulnerability;
+import org.dependencytrack.model.VulnerabilityAlias;
 import org.junit.Test;
 
 import java.time.Instant;
@@ -321,4 +322,145 @@ public class ProjectMetricsUpdateTaskTest extends AbstractMetricsUpdateTaskTest
         assertThat(componentSuppressed.getLastInheritedRiskScore()).isZero();
     }
 
+    @Test
+    public void testUpdateMetricsWithChainedAliases() {
+        var project = new Project();
+        project.setName("acme-app");
+        project = qm.createProject(project, List.of(), false);
+
+        // Create risk score configproperties
+        createTestConfigProperties();
+
+        var vulnA = new Vulnerability();
+        vulnA.setVulnId("INTERNAL-001");
+        vulnA.setSource(Vulnerability.Source.INTERNAL);
+        vulnA.setSeverity(Severity.HIGH);
+        vulnA = qm.createVulnerability(vulnA, false);
+
+        var vulnB = new Vulnerability();
+        vulnB.setVulnId("SONATYPE-002");
+        vulnB.setSource(Vulnerability.Source.OSSINDEX);
+        vulnB.setSeverity(Severity.MEDIUM);
+        vulnB = qm.createVulnerability(vulnB, false);
+
+        var vulnC = new Vulnerability();
+        vulnC.setVulnId("GHSA-003");
+        vulnC.setSource(Vulnerability.Source.GITHUB);
+        vulnC.setSeverity(Severity.LOW);
+        vulnC = qm.createVulnerability(vulnC, false);
+
+        // Make A an alias of B, and B an alias of C. A and C are not aliases of each other.
+        final var aliasAtoB = new VulnerabilityAlias();
+        aliasAtoB.setInternalId(vulnA.getVulnId());
+        aliasAtoB.setSonatypeId(vulnB.getVulnId());
+        qm.persist(aliasAtoB);
+
+        final var aliasBtoC = new VulnerabilityAlias();
+        aliasBtoC.setSonatypeId(vulnB.getVulnId());
+        aliasBtoC.setGhsaId(vulnC.getVulnId());
+        qm.persist(aliasBtoC);
+
+        var component = new Component();
+        component.setProject(project);
+        component.setName("acme-lib-a");
+        component = qm.createComponent(component, false);
+        qm.addVulnerability(vulnA, component, AnalyzerIdentity.NONE);
+        qm.addVulnerability(vulnB, component, AnalyzerIdentity.NONE);
+        qm.addVulnerability(vulnC, component, AnalyzerIdentity.NONE);
+
+        new ProjectMetricsUpdateTask().inform(new ProjectMetricsUpdateEvent(project.getUuid()));
+
+        // B is not counted, because it aliases A. C is not counted either, because it aliases B,
+        // even though B itself is not counted.
+        final DependencyMetrics componentMetrics = qm.getMostRecentDependencyMetrics(component);
+        assertThat(componentMetrics.getVulnerabilities()).isEqualTo(1);
+        assertThat(componentMetrics.getHigh()).isEqualTo(1); // INTERNAL-001
+        assertThat(componentMetrics.getMedium()).isZero();
+        assertThat(componentMetrics.getLow()).isZero();
+    }
+
+    @Test
+    public void testUpdateMetricsWithDuplicateAliases() {
+        var project = new Project();
+        project.setName("acme-app");
+        project = qm.createProject(project, List.of(), false);
+
+        // Create risk score configproperties
+        createTestConfigProperties();
+
+        var vulnA = new Vulnerability();
+        vulnA.setVulnId("INTERNAL-001");
+        vulnA.setSource(Vulnerability.Source.INTERNAL);
+        vulnA.setSeverity(Severity.HIGH);
+        vulnA = qm.createVulnerability(vulnA, false);
+
+        var vulnB = new Vulnerability();
+        vulnB.setVulnId("SONATYPE-002");
+        vulnB.setSource(Vulnerability.Source.OSSINDEX);
+        vulnB.setSeverity(Severity.MEDIUM);
+        vulnB = qm.createVulnerability(vulnB, false);
+
+        // Make A an alias of B
+        final var aliasAtoB = new VulnerabilityAlias();
+        aliasAtoB.setInternalId(vulnA.getVulnId());
+        aliasAtoB.setSonatypeId(vulnB.getVulnId());
+        qm.persist(aliasAtoB);
+
+        // Create a component that is affected by both A and B.
+        // B must not be considered, because it aliases A.
+        var componentWithAliases = new Component();
+        componentWithAliases.setProject(project);
+        componentWithAliases.setName("acme-lib-a");
+        componentWithAliases = qm.createComponent(componentWithAliases, false);
+        qm.addVulnerability(vulnA, componentWithAliases, AnalyzerIdentity.NONE);
+        qm.addVulnerability(vulnB, componentWithAliases, AnalyzerIdentity.NONE);
+
+        // Create a component that is only affected by B.
+        // Aliases of vulnerabilities that affect other components must not be considered.
+        var componentWithoutAliases = new Component();
+        componentWithoutAliases.setProject(project);
+        componentWithoutAliases.setName("acme-lib-b");
+        componentWithoutAliases = qm.createComponent(componentWithoutAliases, false);
+        qm.addVulnerability(vulnB, componentWithoutAliases, AnalyzerIdentity.NONE);
+
+        // Create a component without any vulnerabilities.
+        var componentWithoutVulns = new Component();
+        componentWithoutVulns.setProject(project);
+        componentWithoutVulns.setName("acme-lib-c");
+        componentWithoutVulns = qm.createComponent(componentWithoutVulns, false);
+
+        new ProjectMetricsUpdateTask().inform(new ProjectMetricsUpdateEvent(project.getUuid()));
+
+        final DependencyMetrics componentWithAliasesMetrics = qm.getMostRecentDependencyMetrics(componentWithAliases);
+        assertThat(componentWithAliasesMetrics.getVulnerabilities()).isEqualTo(1);
+        assertThat(componentWithAliasesMetrics.getHigh()).isEqualTo(1); // INTERNAL-001
+        assertThat(componentWithAliasesMetrics.getMedium()).isZero();
+        assertThat(componentWithAliasesMetrics.getFindingsUnaudited()).isEqualTo(1);
+
+        final DependencyMetrics componentWithoutAliasesMetrics = qm.getMostRecentDependencyMetrics(componentWithoutAliases);
+        assertThat(componentWithoutAliasesMetrics.getVulnerabilities()).isEqualTo(1);
+        assertThat(componentWithoutAliasesMetrics.getHigh()).isZero();
+        assertThat(componentWithoutAliasesMetrics.getMedium()).isEqualTo(1); // SONATYPE-002
+        assertThat(componentWithoutAliasesMetrics.getFindingsUnaudited()).isEqualTo(1);
+
+        final DependencyMetrics componentWithoutVulnsMetrics = qm.getMostRecentDependencyMetrics(componentWithoutVulns);
+        assertThat(componentWithoutVulnsMetrics).isNotNull();
+        assertThat(componentWithoutVulnsMetrics.getVulnerabilities()).isZero();
+        assertThat(componentWithoutVulnsMetrics.getInheritedRiskScore()).isZero();
+
+        final ProjectMetrics metrics = qm.getMostRecentProjectMetrics(project);
+        assertThat(metrics.getComponents()).isEqualTo(3);
+        assertThat(metrics.getVulnerableComponents()).isEqualTo(2);
+        assertThat(metrics.getVulnerabilities()).isEqualTo(2);
+        assertThat(metrics.getHigh()).isEqualTo(1);
+        assertThat(metrics.getMedium()).isEqualTo(1);
+        assertThat(metrics.getInheritedRiskScore()).isEqualTo(8.0);
+
+        qm.getPersistenceManager().refreshAll(project, componentWithAliases, componentWithoutAliases, componentWithoutVulns);
+        assertThat(project.getLastInheritedRiskScore()).isEqualTo(8.0);
+        assertThat(componentWithAliases.getLastInheritedRiskScore()).isEqualTo(5.0);
+        assertThat(componentWithoutAliases.getLastInheritedRiskScore()).isEqualTo(3.0);
+        assertThat(componentWithoutVulns.getLastInheritedRiskScore()).isZero();
+    }
+
 }
\ No newline at end of file
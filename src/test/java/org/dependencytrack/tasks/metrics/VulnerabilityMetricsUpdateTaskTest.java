@@ -23,14 +23,23 @@ import org.dependencytrack.model.Severity;
 import org.dependencytrack.model.Vulnerability;
 import org.dependencytrack.model.VulnerabilityMetrics;
 import org.dependencytrack.persistence.QueryManager;
+import org.jdbi.v3.core.Handle;
 import org.junit.Test;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.Date;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.dependencytrack.assertion.Assertions.assertConditionWithTimeout;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.openJdbiHandle;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiHandle;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
 
 public class VulnerabilityMetricsUpdateTaskTest extends AbstractMetricsUpdateTaskTest {
 
@@ -152,4 +161,176 @@ public class VulnerabilityMetricsUpdateTaskTest extends AbstractMetricsUpdateTas
             );
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testUpdateMetricsIncremental() {
+        final long vulnIdA;
+        final long vulnIdB;
+        try (final var qm = new QueryManager()) {
+            var vulnA = new Vulnerability();
+            vulnA.setVulnId("INTERNAL-001");
+            vulnA.setSource(Vulnerability.Source.INTERNAL);
+            vulnA.setCreated(Date.from(LocalDateTime.of(2020, 10, 1, 6, 6, 6).toInstant(ZoneOffset.UTC)));
+            vulnA = qm.createVulnerability(vulnA, false);
+            vulnIdA = vulnA.getId();
+
+            var vulnB = new Vulnerability();
+            vulnB.setVulnId("INTERNAL-002");
+            vulnB.setSource(Vulnerability.Source.INTERNAL);
+            vulnB.setCreated(Date.from(LocalDateTime.of(2020, 10, 1, 6, 6, 6).toInstant(ZoneOffset.UTC)));
+            vulnB = qm.createVulnerability(vulnB, false);
+            vulnIdB = vulnB.getId();
+
+            final var vulnC = new Vulnerability();
+            vulnC.setVulnId("INTERNAL-003");
+            vulnC.setSource(Vulnerability.Source.INTERNAL);
+            vulnC.setPublished(Date.from(LocalDateTime.of(2021, 3, 1, 6, 6, 6).toInstant(ZoneOffset.UTC)));
+            qm.createVulnerability(vulnC, false);
+        }
+
+        new VulnerabilityMetricsUpdateTask().inform(new VulnerabilityMetricsUpdateEvent());
+
+        try (final var qm = new QueryManager()) {
+            assertThat(qm.getVulnerabilityMetrics()).satisfiesExactlyInAnyOrder(
+                    vm -> assertMetrics(vm, 2020, null, 2),
+                    vm -> assertMetrics(vm, 2020, 10, 2),
+                    vm -> assertMetrics(vm, 2021, null, 1),
+                    vm -> assertMetrics(vm, 2021, 3, 1));
+        }
+
+        // Move vulnerability A from October 2020 to March 2021.
+        useJdbiHandle(handle -> handle.createUpdate("""
+                        UPDATE "VULNERABILITY"
+                           SET "CREATED" = '2021-03-15T00:00:00Z'
+                         WHERE "ID" = :id
+                        """)
+                .bind("id", vulnIdA)
+                .execute());
+
+        new VulnerabilityMetricsUpdateTask().inform(new VulnerabilityMetricsUpdateEvent());
+
+        try (final var qm = new QueryManager()) {
+            assertThat(qm.getVulnerabilityMetrics()).satisfiesExactlyInAnyOrder(
+                    vm -> assertMetrics(vm, 2020, null, 1),
+                    vm -> assertMetrics(vm, 2020, 10, 1),
+                    vm -> assertMetrics(vm, 2021, null, 2),
+                    vm -> assertMetrics(vm, 2021, 3, 2));
+        }
+
+        // Delete the last remaining vulnerability of 2020.
+        useJdbiHandle(handle -> handle.createUpdate("""
+                        DELETE
+                          FROM "VULNERABILITY"
+                         WHERE "ID" = :id
+                        """)
+                .bind("id", vulnIdB)
+                .execute());
+
+        new VulnerabilityMetricsUpdateTask().inform(new VulnerabilityMetricsUpdateEvent());
+
+        try (final var qm = new QueryManager()) {
+            assertThat(qm.getVulnerabilityMetrics()).satisfiesExactlyInAnyOrder(
+                    vm -> assertMetrics(vm, 2021, null, 2),
+                    vm -> assertMetrics(vm, 2021, 3, 2));
+        }
+
+        assertThat(withJdbiHandle(handle -> handle.createQuery("""
+                        SELECT COUNT(*)
+                          FROM "VULNERABILITYMETRICS_PENDING"
+                        """)
+                .mapTo(Long.class)
+                .one())).isZero();
+    }
+
+    @Test
+    public void testUpdateMetricsIncrementalWithConcurrentlyMarkedMonth() throws Exception {
+        try (final var qm = new QueryManager()) {
+            final var vuln = new Vulnerability();
+            vuln.setVulnId("INTERNAL-001");
+            vuln.setSource(Vulnerability.Source.INTERNAL);
+            vuln.setCreated(Date.from(LocalDateTime.of(2020, 10, 1, 6, 6, 6).toInstant(ZoneOffset.UTC)));
+            qm.createVulnerability(vuln, false);
+        }
+
+        // Simulate a mirror that creates a vulnerability in an already pending month,
+        // but only commits after the recount has started.
+        try (final Handle mirrorHandle = openJdbiHandle()) {
+            mirrorHandle.begin();
+            mirrorHandle.createUpdate("""
+                            INSERT INTO "VULNERABILITY" ("UUID", "VULNID", "SOURCE", "CREATED")
+                            VALUES (:uuid, 'INTERNAL-002', 'INTERNAL', '2020-10-15T00:00:00Z')
+                            """)
+                    .bind("uuid", UUID.randomUUID().toString())
+                    .execute();
+
+            final CompletableFuture<Void> updateFuture = CompletableFuture.runAsync(
+                    () -> new VulnerabilityMetricsUpdateTask().inform(new VulnerabilityMetricsUpdateEvent()));
+
+            // The recount must wait for the mirror to release the pending month.
+            assertConditionWithTimeout(() -> withJdbiHandle(handle -> handle.createQuery("""
+                            SELECT EXISTS(
+                              SELECT 1
+                                FROM PG_STAT_ACTIVITY
+                               WHERE "wait_event_type" = 'Lock'
+                                 AND "query" LIKE '%VULNERABILITYMETRICS_PENDING%')
+                            """)
+                    .mapTo(Boolean.class)
+                    .one()), Duration.ofSeconds(5));
+
+            mirrorHandle.commit();
+            updateFuture.get(5, TimeUnit.SECONDS);
+        }
+
+        // The recount did not see the mirrored vulnerability, so the month must still be pending.
+        try (final var qm = new QueryManager()) {
+            assertThat(qm.getVulnerabilityMetrics()).satisfiesExactlyInAnyOrder(
+                    vm -> assertMetrics(vm, 2020, null, 1),
+                    vm -> assertMetrics(vm, 2020, 10, 1));
+        }
+
+        new VulnerabilityMetricsUpdateTask().inform(new VulnerabilityMetricsUpdateEvent());
+
+        try (final var qm = new QueryManager()) {
+            assertThat(qm.getVulnerabilityMetrics()).satisfiesExactlyInAnyOrder(
+                    vm -> assertMetrics(vm, 2020, null, 2),
+                    vm -> assertMetrics(vm, 2020, 10, 2));
+        }
+    }
+
+    @Test
+    public void testUpdateMetricsFull() {
+        try (final var qm = new QueryManager()) {
+            final var vuln = new Vulnerability();
+            vuln.setVulnId("INTERNAL-001");
+            vuln.setSource(Vulnerability.Source.INTERNAL);
+            vuln.setCreated(Date.from(LocalDateTime.of(2020, 10, 1, 6, 6, 6).toInstant(ZoneOffset.UTC)));
+            qm.createVulnerability(vuln, false);
+
+            // Create stale metrics that are not backed by any vulnerability,
+            // and that are not tracked as pending either.
+            qm.persist(new VulnerabilityMetrics(2019, 5, 666, new Date()));
+            qm.persist(new VulnerabilityMetrics(2019, null, 666, new Date()));
+        }
+
+        useJdbiHandle(handle -> handle.createUpdate("""
+                        DELETE
+                          FROM "VULNERABILITYMETRICS_PENDING"
+                        """)
+                .execute());
+
+        new VulnerabilityMetricsUpdateTask().inform(new VulnerabilityMetricsUpdateEvent(false));
+
+        try (final var qm = new QueryManager()) {
+            assertThat(qm.getVulnerabilityMetrics()).satisfiesExactlyInAnyOrder(
+                    vm -> assertMetrics(vm, 2020, null, 1),
+                    vm -> assertMetrics(vm, 2020, 10, 1));
+        }
+    }
+
+    private static void assertMetrics(final VulnerabilityMetrics metrics, final int year, final Integer month, final int count) {
+        assertThat(metrics.getYear()).isEqualTo(year);
+        assertThat(metrics.getMonth()).isEqualTo(month);
+        assertThat(metrics.getCount()).isEqualTo(count);
+    }
+
+}
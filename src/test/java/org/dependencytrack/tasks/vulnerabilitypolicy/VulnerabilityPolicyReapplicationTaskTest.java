@@ -0,0 +1,183 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.tasks.vulnerabilitypolicy;
+
+import org.dependencytrack.PersistenceCapableTest;
+import org.dependencytrack.TestCacheManager;
+import org.dependencytrack.model.Analysis;
+import org.dependencytrack.model.AnalysisState;
+import org.dependencytrack.model.AnalyzerIdentity;
+import org.dependencytrack.model.Component;
+import org.dependencytrack.model.Project;
+import org.dependencytrack.model.Severity;
+import org.dependencytrack.model.Vulnerability;
+import org.dependencytrack.persistence.jdbi.VulnerabilityPolicyDao;
+import org.dependencytrack.policy.cel.CelPolicyScriptHost;
+import org.dependencytrack.policy.cel.CelPolicyType;
+import org.dependencytrack.policy.cel.CelVulnerabilityPolicyEvaluator;
+import org.dependencytrack.policy.vulnerability.DatabaseVulnerabilityPolicyProvider;
+import org.dependencytrack.policy.vulnerability.VulnerabilityPolicy;
+import org.dependencytrack.policy.vulnerability.VulnerabilityPolicyAnalysis;
+import org.dependencytrack.policy.vulnerability.VulnerabilityPolicyOperation;
+import org.dependencytrack.tasks.vulnerabilitypolicy.VulnerabilityPolicyReapplicationTask.Statistics;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiHandle;
+
+public class VulnerabilityPolicyReapplicationTaskTest extends PersistenceCapableTest {
+
+    private VulnerabilityPolicyReapplicationTask task;
+
+    @Before
+    @Override
+    public void before() throws Exception {
+        super.before();
+
+        final var cacheManager = new TestCacheManager(5, TimeUnit.MINUTES, 100);
+        final var scriptHost = new CelPolicyScriptHost(cacheManager, CelPolicyType.VULNERABILITY);
+        final var policyProvider = new DatabaseVulnerabilityPolicyProvider();
+        final var policyEvaluator = new CelVulnerabilityPolicyEvaluator(policyProvider, scriptHost, cacheManager);
+
+        task = new VulnerabilityPolicyReapplicationTask(policyEvaluator, 1);
+    }
+
+    @Test
+    public void testReapplyWithScopedPolicy() {
+        final var project = new Project();
+        project.setName("acme-app");
+        qm.persist(project);
+
+        final var component = new Component();
+        component.setProject(project);
+        component.setName("acme-lib");
+        qm.persist(component);
+
+        final Vulnerability vulnA = createVuln("CVE-100");
+        final Vulnerability vulnB = createVuln("CVE-200");
+        qm.addVulnerability(vulnA, component, AnalyzerIdentity.INTERNAL_ANALYZER);
+        qm.addVulnerability(vulnB, component, AnalyzerIdentity.INTERNAL_ANALYZER);
+
+        final VulnerabilityPolicy policy = createPolicy("foo", "vuln.id == \"CVE-100\"");
+        useJdbiHandle(handle -> handle.attach(VulnerabilityPolicyDao.class).create(policy));
+
+        final Statistics statistics = task.reapply(Set.of("foo"));
+        assertThat(statistics.findingsEvaluated()).isEqualTo(1);
+        assertThat(statistics.componentsEvaluated()).isEqualTo(1);
+        assertThat(statistics.portfolioWide()).isFalse();
+
+        qm.getPersistenceManager().evictAll();
+        assertThat(qm.getAnalysis(component, vulnA)).satisfies(analysis -> {
+            assertThat(analysis.getAnalysisState()).isEqualTo(AnalysisState.NOT_AFFECTED);
+            assertThat(analysis.getVulnerabilityPolicyId()).isNotNull();
+        });
+        assertThat(qm.getAnalysis(component, vulnB)).isNull();
+    }
+
+    @Test
+    public void testReapplyWithModifiedPolicy() {
+        final var project = new Project();
+        project.setName("acme-app");
+        qm.persist(project);
+
+        final var component = new Component();
+        component.setProject(project);
+        component.setName("acme-lib");
+        qm.persist(component);
+
+        final Vulnerability vulnA = createVuln("CVE-100");
+        final Vulnerability vulnB = createVuln("CVE-200");
+        final Vulnerability vulnC = createVuln("CVE-300");
+        qm.addVulnerability(vulnA, component, AnalyzerIdentity.INTERNAL_ANALYZER);
+        qm.addVulnerability(vulnB, component, AnalyzerIdentity.INTERNAL_ANALYZER);
+        qm.addVulnerability(vulnC, component, AnalyzerIdentity.INTERNAL_ANALYZER);
+
+        final VulnerabilityPolicy policy = createPolicy("foo", "vuln.id == \"CVE-100\"");
+        useJdbiHandle(handle -> handle.attach(VulnerabilityPolicyDao.class).create(policy));
+        task.reapply(Set.of("foo"));
+
+        // Policy no longer matches CVE-100, but matches CVE-200 instead.
+        policy.setConditions(List.of("vuln.id in [\"CVE-200\"]"));
+        useJdbiHandle(handle -> handle.attach(VulnerabilityPolicyDao.class).update(policy));
+
+        final Statistics statistics = task.reapply(Set.of("foo"));
+        assertThat(statistics.findingsEvaluated()).isEqualTo(2);
+
+        qm.getPersistenceManager().evictAll();
+        assertThat(qm.getAnalysis(component, vulnA)).satisfies(analysis -> {
+            assertThat(analysis.getAnalysisState()).isEqualTo(AnalysisState.NOT_SET);
+            assertThat(analysis.getVulnerabilityPolicyId()).isNull();
+        });
+        assertThat(qm.getAnalysis(component, vulnB)).extracting(Analysis::getAnalysisState).isEqualTo(AnalysisState.NOT_AFFECTED);
+        assertThat(qm.getAnalysis(component, vulnC)).isNull();
+    }
+
+    @Test
+    public void testReapplyWithUnscopedPolicy() {
+        final var project = new Project();
+        project.setName("acme-app");
+        qm.persist(project);
+
+        final var component = new Component();
+        component.setProject(project);
+        component.setName("acme-lib");
+        qm.persist(component);
+
+        final Vulnerability vulnA = createVuln("CVE-100");
+        final Vulnerability vulnB = createVuln("CVE-200");
+        qm.addVulnerability(vulnA, component, AnalyzerIdentity.INTERNAL_ANALYZER);
+        qm.addVulnerability(vulnB, component, AnalyzerIdentity.INTERNAL_ANALYZER);
+
+        final VulnerabilityPolicy policy = createPolicy("foo", "vuln.severity == \"CRITICAL\"");
+        useJdbiHandle(handle -> handle.attach(VulnerabilityPolicyDao.class).create(policy));
+
+        final Statistics statistics = task.reapply(Set.of("foo"));
+        assertThat(statistics.findingsEvaluated()).isEqualTo(2);
+        assertThat(statistics.portfolioWide()).isTrue();
+
+        qm.getPersistenceManager().evictAll();
+        assertThat(qm.getAnalysis(component, vulnA)).extracting(Analysis::getAnalysisState).isEqualTo(AnalysisState.NOT_AFFECTED);
+        assertThat(qm.getAnalysis(component, vulnB)).extracting(Analysis::getAnalysisState).isEqualTo(AnalysisState.NOT_AFFECTED);
+    }
+
+    private Vulnerability createVuln(final String vulnId) {
+        final var vuln = new Vulnerability();
+        vuln.setVulnId(vulnId);
+        vuln.setSource(Vulnerability.Source.NVD);
+        vuln.setSeverity(Severity.CRITICAL);
+        return qm.createVulnerability(vuln, false);
+    }
+
+    private static VulnerabilityPolicy createPolicy(final String name, final String condition) {
+        final var policyAnalysis = new VulnerabilityPolicyAnalysis();
+        policyAnalysis.setState(VulnerabilityPolicyAnalysis.State.NOT_AFFECTED);
+        final var policy = new VulnerabilityPolicy();
+        policy.setName(name);
+        policy.setConditions(List.of(condition));
+        policy.setAnalysis(policyAnalysis);
+        policy.setOperationMode(VulnerabilityPolicyOperation.APPLY);
+        return policy;
+    }
+
+}